@@ -0,0 +1,67 @@
+package io.life.samplefactory.gateway.bff;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the aggregation (BFF) routes: where the parts are fetched from and how long
+ * each part may take.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.bff")
+public class BffProperties {
+
+    private String orderServiceUri = "http://order-processing-service:8015";
+
+    private String inventoryServiceUri = "http://inventory-service:8014";
+
+    /**
+     * Parts that take longer are left out of the payload and reported in its errors.
+     */
+    private Duration partTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeouts per part name, e.g. gateway.bff.part-timeouts.lowStockAlerts=500ms.
+     */
+    private Map<String, Duration> partTimeouts = new HashMap<>();
+
+    public String getOrderServiceUri() {
+        return orderServiceUri;
+    }
+
+    public void setOrderServiceUri(String orderServiceUri) {
+        this.orderServiceUri = orderServiceUri;
+    }
+
+    public String getInventoryServiceUri() {
+        return inventoryServiceUri;
+    }
+
+    public void setInventoryServiceUri(String inventoryServiceUri) {
+        this.inventoryServiceUri = inventoryServiceUri;
+    }
+
+    public Duration getPartTimeout() {
+        return partTimeout;
+    }
+
+    public void setPartTimeout(Duration partTimeout) {
+        this.partTimeout = partTimeout;
+    }
+
+    public Map<String, Duration> getPartTimeouts() {
+        return partTimeouts;
+    }
+
+    public void setPartTimeouts(Map<String, Duration> partTimeouts) {
+        this.partTimeouts = partTimeouts;
+    }
+
+    Duration timeoutFor(String part) {
+        return partTimeouts.getOrDefault(part, partTimeout);
+    }
+}
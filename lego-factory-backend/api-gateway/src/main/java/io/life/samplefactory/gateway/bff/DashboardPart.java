@@ -0,0 +1,63 @@
+package io.life.samplefactory.gateway.bff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One downstream call of a workstation dashboard; its JSON body becomes the field {@code name}
+ * of the composed payload.
+ */
+record DashboardPart(String name, Service service, String path) {
+
+    enum Service {
+        ORDERS,
+        INVENTORY
+    }
+
+    /**
+     * Order endpoints of each workstation, as used by the frontend (workstationConfig.js).
+     * Stations 1-6 also have control-order endpoints with active and unassigned lists.
+     */
+    private static final Map<Long, String> ORDER_PATHS = Map.of(
+        1L, "/api/injection-molding-orders",
+        2L, "/api/part-preproduction-orders",
+        3L, "/api/part-finishing-orders",
+        4L, "/api/gear-assembly-orders",
+        5L, "/api/motor-assembly-orders",
+        6L, "/api/final-assembly-orders",
+        7L, "/api/customer-orders",
+        8L, "/api/warehouse-orders",
+        9L, "/api/supply-orders");
+
+    private static final Map<Long, String> STATION_PATHS = Map.of(
+        1L, "/api/manufacturing/injection-molding",
+        2L, "/api/manufacturing/parts-pre-production",
+        3L, "/api/manufacturing/part-finishing",
+        4L, "/api/assembly/gear-assembly",
+        5L, "/api/assembly/motor-assembly",
+        6L, "/api/assembly/final-assembly");
+
+    /**
+     * @return the parts of the workstation's dashboard, or an empty list for unknown workstations
+     */
+    static List<DashboardPart> forWorkstation(long workstationId) {
+        String orderPath = ORDER_PATHS.get(workstationId);
+        if (orderPath == null) {
+            return List.of();
+        }
+        List<DashboardPart> parts = new ArrayList<>();
+        parts.add(new DashboardPart("orders", Service.ORDERS, orderPath + "/workstation/" + workstationId));
+        String stationPath = STATION_PATHS.get(workstationId);
+        if (stationPath != null) {
+            parts.add(new DashboardPart("activeOrders", Service.ORDERS,
+                stationPath + "/workstation/" + workstationId + "/active"));
+            parts.add(new DashboardPart("unassignedOrders", Service.ORDERS,
+                stationPath + "/workstation/" + workstationId + "/unassigned"));
+        }
+        parts.add(new DashboardPart("stock", Service.INVENTORY, "/api/stock/workstation/" + workstationId));
+        parts.add(new DashboardPart("lowStockAlerts", Service.INVENTORY,
+            "/api/stock/alerts/low?workstationId=" + workstationId));
+        return parts;
+    }
+}
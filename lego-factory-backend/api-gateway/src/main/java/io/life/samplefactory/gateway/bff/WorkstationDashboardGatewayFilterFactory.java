@@ -0,0 +1,174 @@
+package io.life.samplefactory.gateway.bff;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Route filter {@code WorkstationDashboard}: answers
+ * {@code GET /api/bff/workstation/{workstationId}/dashboard} with everything a workstation screen
+ * shows, in one round trip instead of one request per list.
+ *
+ * The parts ({@link DashboardPart}: orders, active and unassigned control orders, stock and
+ * low-stock alerts) are fetched from order-processing-service and inventory-service in parallel
+ * with the caller's credentials. Each part has its own timeout; a part that fails or times out is
+ * null in the payload and listed under {@code errors}, and {@code partial} is true:
+ *
+ * <pre>
+ * {"workstationId":4,"orders":[...],"activeOrders":[...],"unassignedOrders":[...],
+ *  "stock":[...],"lowStockAlerts":null,"partial":true,"errors":{"lowStockAlerts":"timeout"}}
+ * </pre>
+ *
+ * The route uses {@code no://op}; global filters (JWT verification, rate limiting) run as for any
+ * other route and the request is never proxied.
+ */
+@Component
+public class WorkstationDashboardGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkstationDashboardGatewayFilterFactory.class);
+
+    /** Request headers passed on to every part: the token and the identity set by JwtAuthenticationFilter. */
+    static final List<String> FORWARDED_HEADERS = List.of(
+        HttpHeaders.AUTHORIZATION, "X-Authenticated-User", "X-Authenticated-Role", "X-User-Id");
+
+    private final BffProperties properties;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+
+    public WorkstationDashboardGatewayFilterFactory(BffProperties properties, WebClient.Builder webClientBuilder,
+                                                    ObjectMapper objectMapper) {
+        super(Object.class);
+        this.properties = properties;
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+    }
+
+    private record PartResult(DashboardPart part, JsonNode data, String error) {
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> filter(exchange);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange) {
+        String workstationParam = ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("workstationId");
+        long workstationId = parseId(workstationParam);
+        List<DashboardPart> parts = DashboardPart.forWorkstation(workstationId);
+        if (parts.isEmpty()) {
+            return sendJson(exchange, HttpStatus.NOT_FOUND,
+                "{\"error\":\"Unknown workstation\",\"status\":404}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        HttpHeaders forwarded = forwardedHeaders(exchange.getRequest());
+        return Flux.fromIterable(parts)
+            .flatMapSequential(part -> fetch(part, forwarded))
+            .collectList()
+            .flatMap(results -> {
+                boolean anySucceeded = results.stream().anyMatch(result -> result.error() == null);
+                HttpStatus status = anySucceeded ? HttpStatus.OK : HttpStatus.BAD_GATEWAY;
+                return sendJson(exchange, status, compose(workstationId, results));
+            });
+    }
+
+    private Mono<PartResult> fetch(DashboardPart part, HttpHeaders forwarded) {
+        String baseUri = part.service() == DashboardPart.Service.ORDERS
+            ? properties.getOrderServiceUri()
+            : properties.getInventoryServiceUri();
+        return webClient.get()
+            .uri(baseUri + part.path())
+            .headers(headers -> headers.addAll(forwarded))
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .defaultIfEmpty(NullNode.getInstance())
+            .timeout(properties.timeoutFor(part.name()))
+            .map(data -> new PartResult(part, data, null))
+            .onErrorResume(e -> {
+                String reason = reason(e);
+                logger.warn("Dashboard part {} ({}) failed: {}", part.name(), part.path(), reason);
+                return Mono.just(new PartResult(part, NullNode.getInstance(), reason));
+            });
+    }
+
+    private byte[] compose(long workstationId, List<PartResult> results) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("workstationId", workstationId);
+        ObjectNode errors = objectMapper.createObjectNode();
+        for (PartResult result : results) {
+            payload.set(result.part().name(), result.data());
+            if (result.error() != null) {
+                errors.put(result.part().name(), result.error());
+            }
+        }
+        payload.put("partial", !errors.isEmpty());
+        payload.set("errors", errors);
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize dashboard payload", e);
+        }
+    }
+
+    private static String reason(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return "HTTP " + responseException.getStatusCode().value();
+        }
+        return "unavailable";
+    }
+
+    private static long parseId(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static HttpHeaders forwardedHeaders(ServerHttpRequest request) {
+        HttpHeaders forwarded = new HttpHeaders();
+        for (String name : FORWARDED_HEADERS) {
+            List<String> values = request.getHeaders().get(name);
+            if (values != null) {
+                forwarded.addAll(name, values);
+            }
+        }
+        return forwarded;
+    }
+
+    @SuppressWarnings("null")
+    private static Mono<Void> sendJson(ServerWebExchange exchange, HttpStatus status, byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setCacheControl("no-store");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
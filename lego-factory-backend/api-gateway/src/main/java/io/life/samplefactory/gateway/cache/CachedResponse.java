@@ -0,0 +1,49 @@
+package io.life.samplefactory.gateway.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * A cached 200 response: the body, the headers that describe it, and its ETag.
+ *
+ * Only representation headers are kept. Per-request headers such as CORS headers
+ * are added again by the gateway for every request, hits included.
+ */
+record CachedResponse(HttpHeaders headers, byte[] body, String etag, Duration ttl) {
+
+    static final List<String> STORED_HEADERS = List.of(
+        HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.CONTENT_ENCODING,
+        HttpHeaders.CONTENT_LANGUAGE,
+        HttpHeaders.CACHE_CONTROL,
+        HttpHeaders.LAST_MODIFIED);
+
+    static HttpHeaders storedHeaders(HttpHeaders responseHeaders) {
+        HttpHeaders stored = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = responseHeaders.get(name);
+            if (values != null) {
+                stored.put(name, List.copyOf(values));
+            }
+        }
+        return HttpHeaders.readOnlyHttpHeaders(stored);
+    }
+
+    /**
+     * True if the client already holds this representation (If-None-Match, weak comparison).
+     */
+    boolean matches(List<String> ifNoneMatch) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
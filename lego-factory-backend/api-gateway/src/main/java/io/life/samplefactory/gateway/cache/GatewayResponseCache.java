@@ -0,0 +1,129 @@
+package io.life.samplefactory.gateway.cache;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory store behind the {@code ResponseCache} route filter.
+ *
+ * Bounded by total body size (gateway.response-cache.max-size); each entry expires after the
+ * TTL of the route that stored it. Metrics:
+ * - gateway.response.cache.requests{route, result=hit|miss}
+ * - gateway.response.cache.not.modified{route}: 304 answered without sending a body
+ * - gateway.response.cache.invalidations{route}
+ * - gateway.response.cache.size / gateway.response.cache.bytes
+ */
+@Component
+public class GatewayResponseCache {
+
+    /**
+     * Response header telling clients (and tests) whether the gateway answered from the cache.
+     */
+    public static final String CACHE_STATUS_HEADER = "X-Cache-Status";
+
+    private final Cache<CacheKey, CachedResponse> cache;
+    private final long maxEntryBytes;
+    private final MeterRegistry meterRegistry;
+
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maxEntryBytes = properties.getMaxEntrySize().toBytes();
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxSize().toBytes())
+            .weigher((CacheKey key, CachedResponse value) -> value.body().length)
+            .expireAfter(new RouteTtl())
+            .build();
+        Gauge.builder("gateway.response.cache.size", cache, Cache::estimatedSize)
+            .description("Number of cached gateway responses")
+            .register(meterRegistry);
+        Gauge.builder("gateway.response.cache.bytes", cache,
+                c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+            .description("Total size of cached gateway response bodies")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cache key. Role is part of the key so a response rendered for one role is never served to another.
+     */
+    record CacheKey(String routeId, String role, String pathAndQuery) {
+    }
+
+    CachedResponse get(CacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Build the entry for a 200 response and cache it unless it is larger than max-entry-size.
+     * The downstream ETag is kept; otherwise a strong ETag is derived from the body.
+     */
+    CachedResponse store(CacheKey key, Duration ttl, HttpHeaders responseHeaders, byte[] body) {
+        String etag = responseHeaders.getETag();
+        if (etag == null) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+        CachedResponse response = new CachedResponse(CachedResponse.storedHeaders(responseHeaders), body, etag, ttl);
+        if (body.length <= maxEntryBytes) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Drop every cached response of a route, e.g. after a successful write through it.
+     */
+    void invalidateRoute(String routeId) {
+        cache.asMap().keySet().removeIf(key -> key.routeId().equals(routeId));
+        counter("gateway.response.cache.invalidations", routeId).increment();
+    }
+
+    void recordLookup(String routeId, boolean hit) {
+        Counter.builder("gateway.response.cache.requests")
+            .tag("route", routeId)
+            .tag("result", hit ? "hit" : "miss")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    void recordNotModified(String routeId) {
+        counter("gateway.response.cache.not.modified", routeId).increment();
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Counter counter(String name, String routeId) {
+        return Counter.builder(name).tag("route", routeId).register(meterRegistry);
+    }
+
+    private static final class RouteTtl implements Expiry<CacheKey, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(CacheKey key, CachedResponse value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
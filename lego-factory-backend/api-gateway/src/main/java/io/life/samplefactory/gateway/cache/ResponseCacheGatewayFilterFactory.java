@@ -0,0 +1,172 @@
+package io.life.samplefactory.gateway.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.life.samplefactory.gateway.cache.GatewayResponseCache.CacheKey;
+import io.life.samplefactory.gateway.support.EventStreamRequests;
+import io.life.samplefactory.gateway.support.ResponseCaptureFilter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Route filter {@code ResponseCache=<ttl>} (e.g. {@code ResponseCache=10m}).
+ *
+ * GET requests are answered from {@link GatewayResponseCache} while the entry is fresh; the key
+ * contains the route, path, query and the X-Authenticated-Role set by JwtAuthenticationFilter,
+ * which runs before route filters, so protected responses are only shared within a role.
+ * Responses carry an ETag and If-None-Match is answered with 304 on hits and misses alike.
+ * {@code Cache-Control: no-cache} on the request skips the lookup and refreshes the entry.
+ *
+ * A successful write (POST, PUT, PATCH, DELETE) through the route invalidates all its entries.
+ * Writes that bypass the gateway are only picked up when the TTL runs out.
+ *
+ * On a miss the downstream body is handed to the cache by {@link ResponseCaptureFilter}.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    static final String ROLE_HEADER = "X-Authenticated-Role";
+    static final String ANONYMOUS = "anonymous";
+
+    private final GatewayResponseCache responseCache;
+
+    public ResponseCacheGatewayFilterFactory(GatewayResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    public static class Config {
+
+        private Duration ttl = Duration.ofMinutes(1);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> filter(exchange, chain, config.getTtl());
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Duration ttl) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        ServerHttpRequest request = exchange.getRequest();
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        if (isWrite(request.getMethod())) {
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status != null && status.is2xxSuccessful()) {
+                    responseCache.invalidateRoute(route.getId());
+                }
+            }));
+        }
+        if (!HttpMethod.GET.equals(request.getMethod()) || EventStreamRequests.isEventStream(request)) {
+            return chain.filter(exchange);
+        }
+
+        CacheKey key = new CacheKey(route.getId(), role(request), pathAndQuery(request));
+        List<String> ifNoneMatch = ifNoneMatch(request);
+        CachedResponse cached = noCache(request) ? null : responseCache.get(key);
+        responseCache.recordLookup(route.getId(), cached != null);
+        if (cached != null) {
+            return writeCached(exchange, route.getId(), cached, ifNoneMatch);
+        }
+        ResponseCaptureFilter.register(exchange, (response, body) -> store(response, body, key, ttl, ifNoneMatch));
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Cache a 200 response from downstream and tag it with its ETag.
+     *
+     * @return false if the client already has this representation and gets a 304 instead
+     */
+    private boolean store(ServerHttpResponse response, byte[] body, CacheKey key, Duration ttl,
+                          List<String> ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        if (!HttpStatus.OK.equals(response.getStatusCode()) || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return true;
+        }
+        CachedResponse cached = responseCache.store(key, ttl, headers, body);
+        headers.setETag(cached.etag());
+        headers.set(GatewayResponseCache.CACHE_STATUS_HEADER, "MISS");
+        if (cached.matches(ifNoneMatch)) {
+            responseCache.recordNotModified(key.routeId());
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, String routeId, CachedResponse cached,
+                                   List<String> ifNoneMatch) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(GatewayResponseCache.CACHE_STATUS_HEADER, "HIT");
+        if (cached.matches(ifNoneMatch)) {
+            responseCache.recordNotModified(routeId);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean isWrite(HttpMethod method) {
+        return HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+            || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method);
+    }
+
+    private static String role(ServerHttpRequest request) {
+        String role = request.getHeaders().getFirst(ROLE_HEADER);
+        return role != null ? role : ANONYMOUS;
+    }
+
+    private static String pathAndQuery(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().pathWithinApplication().value();
+        return query != null ? path + "?" + query : path;
+    }
+
+    private static boolean noCache(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && cacheControl.contains("no-cache");
+    }
+
+    private static List<String> ifNoneMatch(ServerHttpRequest request) {
+        try {
+            return request.getHeaders().getIfNoneMatch();
+        } catch (IllegalArgumentException ex) {
+            // Malformed If-None-Match: answer with the full response
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.life.samplefactory.gateway.coalesce;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.life.samplefactory.gateway.support.EventStreamRequests;
+import io.life.samplefactory.gateway.support.ResponseCaptureFilter;
+import io.life.samplefactory.gateway.support.ResponseCaptureListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Route filter {@code CoalesceRequests}: single-flight for identical concurrent GETs.
+ *
+ * Dashboards poll the same order and stock lists every few seconds, often in lockstep. While a
+ * GET is in flight, identical GETs (same route, path, query and X-Authenticated-Role) do not go
+ * downstream; they wait for the first one and get a copy of its response, so backend load
+ * follows the number of distinct queries rather than the number of open screens. Only requests
+ * that arrive while the first is in flight are coalesced; nothing is kept afterwards.
+ *
+ * If the first request fails or is cancelled before a response arrives, the waiting requests are
+ * sent downstream on their own. Metrics: gateway.request.coalescing{route, result=upstream|shared}
+ * and gateway.request.coalescing.in.flight.
+ */
+@Component
+public class CoalesceRequestsGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    static final String ROLE_HEADER = "X-Authenticated-Role";
+    static final String COALESCED_HEADER = "X-Coalesced";
+
+    private final Map<FlightKey, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CoalesceRequestsGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Object.class);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.request.coalescing.in.flight", inFlight, Map::size)
+            .description("Distinct GETs currently in flight on coalescing routes")
+            .register(meterRegistry);
+    }
+
+    record FlightKey(String routeId, String role, String pathAndQuery) {
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return this::filter;
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        ServerHttpRequest request = exchange.getRequest();
+        if (route == null || !HttpMethod.GET.equals(request.getMethod())
+                || EventStreamRequests.isEventStream(request)) {
+            return chain.filter(exchange);
+        }
+
+        FlightKey key = new FlightKey(route.getId(), role(request), pathAndQuery(request));
+        Sinks.One<SharedResponse> flight = Sinks.one();
+        Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing.asMono()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> shared.isPresent()
+                    ? writeShared(exchange, route.getId(), shared.get())
+                    : chain.filter(exchange));
+        }
+
+        boolean registered = ResponseCaptureFilter.register(exchange, new ResponseCaptureListener() {
+            @Override
+            public boolean onResponse(ServerHttpResponse response, byte[] body) {
+                inFlight.remove(key, flight);
+                flight.tryEmitValue(SharedResponse.of(response.getStatusCode(), response.getHeaders(), body));
+                return true;
+            }
+
+            @Override
+            public void onComplete() {
+                // No response captured (error, cancel, streaming): waiting requests go downstream themselves
+                inFlight.remove(key, flight);
+                flight.tryEmitEmpty();
+            }
+        });
+        if (!registered) {
+            inFlight.remove(key, flight);
+            flight.tryEmitEmpty();
+        }
+        count(route.getId(), "upstream");
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> writeShared(ServerWebExchange exchange, String routeId, SharedResponse shared) {
+        count(routeId, "shared");
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.status());
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(shared.headers());
+        headers.setContentLength(shared.body().length);
+        headers.set(COALESCED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private void count(String routeId, String result) {
+        Counter.builder("gateway.request.coalescing")
+            .tag("route", routeId)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static String role(ServerHttpRequest request) {
+        String role = request.getHeaders().getFirst(ROLE_HEADER);
+        return role != null ? role : "anonymous";
+    }
+
+    private static String pathAndQuery(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().pathWithinApplication().value();
+        return query != null ? path + "?" + query : path;
+    }
+}
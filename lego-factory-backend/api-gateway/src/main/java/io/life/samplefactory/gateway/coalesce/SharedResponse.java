@@ -0,0 +1,31 @@
+package io.life.samplefactory.gateway.coalesce;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Downstream response of a coalesced request, replayed to every waiting client.
+ *
+ * Per-connection and per-client headers (CORS, Vary, cookies, framing) are not shared;
+ * the gateway adds the CORS headers for each client itself.
+ */
+record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+        "content-length", "transfer-encoding", "connection", "set-cookie", "vary");
+
+    static SharedResponse of(HttpStatusCode status, HttpHeaders responseHeaders, byte[] body) {
+        HttpHeaders shared = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                shared.put(name, List.copyOf(values));
+            }
+        });
+        return new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(shared), body);
+    }
+}
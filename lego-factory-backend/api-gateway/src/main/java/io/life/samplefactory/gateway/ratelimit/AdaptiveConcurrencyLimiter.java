@@ -0,0 +1,151 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adaptive limit on concurrent upstream requests per route, driven by observed latency.
+ *
+ * Uses a gradient algorithm (as in Netflix concurrency-limits' Gradient2): every completed
+ * request compares its latency with the long-term average latency of the route. While the
+ * upstream answers as fast as usual the limit grows by about sqrt(limit); when it slows down
+ * the limit shrinks proportionally (at most halved per estimate), so a struggling
+ * order-processing-service gets fewer concurrent requests instead of more retries.
+ *
+ * Reads beyond the limit are shed; priority requests (workstation writes) are always admitted
+ * but still count as in flight.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final RateLimitProperties.Concurrency settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GradientLimit> limits = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getConcurrency();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Admit a request to the route.
+     *
+     * @return a permit to release when the upstream has answered, or null if the request is shed
+     */
+    Permit tryAcquire(String routeId, boolean priority) {
+        GradientLimit limit = limits.computeIfAbsent(routeId, this::newLimit);
+        int inFlight = limit.tryAcquire(priority);
+        return inFlight < 0 ? null : new Permit(limit, inFlight);
+    }
+
+    int limit(String routeId) {
+        GradientLimit limit = limits.get(routeId);
+        return limit != null ? limit.limit() : settings.getInitialLimit();
+    }
+
+    private GradientLimit newLimit(String routeId) {
+        GradientLimit limit = new GradientLimit(settings);
+        Gauge.builder("gateway.concurrency.limit", limit, GradientLimit::limit)
+            .tag("route", routeId)
+            .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in.flight", limit, GradientLimit::inFlight)
+            .tag("route", routeId)
+            .register(meterRegistry);
+        return limit;
+    }
+
+    /**
+     * One admitted request.
+     */
+    static final class Permit {
+
+        private final GradientLimit limit;
+        private final int inFlightAtStart;
+
+        private Permit(GradientLimit limit, int inFlightAtStart) {
+            this.limit = limit;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The upstream answered after {@code latencyNanos}; use the sample to adjust the limit.
+         */
+        void release(long latencyNanos) {
+            limit.release();
+            limit.onSample(latencyNanos, inFlightAtStart);
+        }
+
+        /**
+         * The request failed or was cancelled; its latency says nothing about the upstream.
+         */
+        void releaseWithoutSample() {
+            limit.release();
+        }
+    }
+
+    private static final class GradientLimit {
+
+        /** Long-term latency is an exponential average over roughly this many samples. */
+        private static final double LONG_WINDOW = 600;
+
+        private final RateLimitProperties.Concurrency settings;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double limit;
+        private double longLatency;
+
+        GradientLimit(RateLimitProperties.Concurrency settings) {
+            this.settings = settings;
+            this.limit = settings.getInitialLimit();
+        }
+
+        int limit() {
+            return (int) limit;
+        }
+
+        int inFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return requests in flight including this one, or -1 if shed
+         */
+        int tryAcquire(boolean priority) {
+            while (true) {
+                int current = inFlight.get();
+                if (!priority && current >= (int) limit) {
+                    return -1;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return current + 1;
+                }
+            }
+        }
+
+        void release() {
+            inFlight.decrementAndGet();
+        }
+
+        synchronized void onSample(long latencyNanos, int inFlightAtStart) {
+            double sample = Math.max(latencyNanos, 1);
+            longLatency = longLatency == 0 ? sample : longLatency + (sample - longLatency) / LONG_WINDOW;
+            if (longLatency / sample > 2) {
+                // Recovering from a slow period: let the baseline come back down faster
+                longLatency *= 0.95;
+            }
+            if (inFlightAtStart < limit / 2) {
+                // Far below the limit, the sample says nothing about how much more the upstream can take
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, settings.getTolerance() * longLatency / sample));
+            double estimate = limit * gradient + Math.sqrt(limit);
+            double smoothed = limit * (1 - settings.getSmoothing()) + estimate * settings.getSmoothing();
+            limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), smoothed));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.life.samplefactory.gateway.ratelimit.AdaptiveConcurrencyLimiter.Permit;
+import io.life.samplefactory.gateway.security.JwtAuthenticationFilter;
+import io.life.samplefactory.gateway.support.EventStreamRequests;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Rate limiting and load shedding in front of every route.
+ *
+ * 1. Requests take a token from the bucket of the user and route
+ *    ({@link TokenBucketRateLimiter}); an empty bucket is answered with 429 and Retry-After.
+ * 2. Requests beyond the route's adaptive concurrency limit ({@link AdaptiveConcurrencyLimiter})
+ *    are answered with 503 and Retry-After instead of queueing on a slow upstream.
+ *
+ * Writes (POST, PUT, PATCH, DELETE) by an authenticated user on a workstation route
+ * ({@link RateLimitProperties#getPriorityWriteRoutes()}) are actions such as confirming or
+ * completing orders. They bypass both checks so polling dashboards cannot starve them, but they
+ * count as in flight and their latency feeds the limit. All other writes, including anonymous
+ * ones like POST /api/auth/login, are limited like reads. Only requests proxied to the upstream
+ * are used as latency samples.
+ *
+ * The user is the subject verified by JwtAuthenticationFilter, which runs first; anonymous
+ * requests (public paths) are keyed by client address.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    /** Directly after JwtAuthenticationFilter (-1). */
+    public static final int ORDER = 0;
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    private final TrustedProxies trustedProxies;
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter,
+                           AdaptiveConcurrencyLimiter concurrencyLimiter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+        this.trustedProxies = new TrustedProxies(properties.getTrustedProxies());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (!properties.isEnabled() || route == null || HttpMethod.OPTIONS.equals(method)) {
+            return chain.filter(exchange);
+        }
+        String routeId = route.getId();
+        boolean priority = isPriorityWrite(exchange, routeId);
+
+        if (!priority) {
+            long waitNanos = rateLimiter.tryAcquire(subject(exchange), routeId);
+            if (waitNanos > 0) {
+                reject(routeId, "rate_limited");
+                return sendJsonError(exchange, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                    "Too many requests, please slow down");
+            }
+        }
+        // An event stream is open for minutes; it is limited by the token bucket when it connects only
+        if (!properties.getConcurrency().isEnabled() || EventStreamRequests.isEventStream(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        Permit permit = concurrencyLimiter.tryAcquire(routeId, priority);
+        if (permit == null) {
+            reject(routeId, "overloaded");
+            return sendJsonError(exchange, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                "Service is busy, please retry shortly");
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            // Cache hits and coalesced requests never reach the upstream and must not skew its latency
+            if (signal == SignalType.ON_COMPLETE && ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                permit.release(System.nanoTime() - start);
+            } else {
+                permit.releaseWithoutSample();
+            }
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean isPriorityWrite(ServerWebExchange exchange, String routeId) {
+        return isWrite(exchange.getRequest().getMethod())
+            && exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ATTR) != null
+            && properties.getPriorityWriteRoutes().contains(routeId);
+    }
+
+    private static boolean isWrite(HttpMethod method) {
+        return HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+            || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method);
+    }
+
+    /**
+     * Verified user, or the client address for anonymous requests. X-Forwarded-For is only
+     * believed when the request comes from a trusted proxy such as the root nginx proxy; the
+     * client is then the last entry that is not itself a trusted proxy.
+     */
+    String subject(ServerWebExchange exchange) {
+        String user = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ATTR);
+        if (user != null) {
+            return "user:" + user;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote != null && trustedProxies.contains(remote.getAddress())) {
+            String forwarded = forwardedClient(request.getHeaders().get("X-Forwarded-For"));
+            if (forwarded != null) {
+                return "ip:" + forwarded;
+            }
+        }
+        return remote != null ? "ip:" + remote.getHostString() : "anonymous";
+    }
+
+    private String forwardedClient(List<String> headerValues) {
+        if (headerValues == null) {
+            return null;
+        }
+        List<String> hops = new ArrayList<>();
+        for (String value : headerValues) {
+            for (String hop : value.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            if (!trustedProxies.contains(hops.get(i))) {
+                return hops.get(i);
+            }
+        }
+        // Every hop is a trusted proxy, so the leftmost one is the client
+        return hops.isEmpty() ? null : hops.get(0);
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, Math.min(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1, 60));
+    }
+
+    private void reject(String routeId, String reason) {
+        Counter.builder("gateway.rate.limit.rejected")
+            .tag("route", routeId)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @SuppressWarnings("null")
+    private Mono<Void> sendJsonError(ServerWebExchange exchange, HttpStatus status, long retryAfterSeconds,
+                                     String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        String json = "{\"error\":\"" + message + "\",\"status\":" + status.value() + "}";
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(json.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,225 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the gateway rate limiter (per user and route) and load shedder (per route).
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Token bucket used for routes without an entry in {@link #routes}.
+     */
+    private Bucket defaults = new Bucket();
+
+    /**
+     * Token buckets per route id, e.g. gateway.rate-limit.routes.customer-orders.burst=40.
+     */
+    private Map<String, Bucket> routes = new HashMap<>();
+
+    /**
+     * Upper bound on the number of user/route buckets kept in memory.
+     */
+    private long maxBuckets = 10_000;
+
+    /**
+     * Buckets unused for this long are dropped (and start full again).
+     */
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Routes whose writes by an authenticated user are workstation actions that bypass the
+     * token bucket and are admitted before reads. Writes on any other route, and anonymous
+     * writes such as POST /api/auth/login, are limited like reads.
+     */
+    private Set<String> priorityWriteRoutes = new LinkedHashSet<>(Set.of(
+        "customer-orders", "warehouse-orders", "final-assembly-orders", "supply-orders",
+        "production-orders", "production-control-orders", "assembly-control-orders",
+        "manufacturing-orders", "gear-assembly-orders", "motor-assembly-orders",
+        "injection-molding-orders", "part-finishing-orders", "part-preproduction-orders",
+        "assembly-workstations"));
+
+    /**
+     * Proxies (IP addresses or CIDR ranges) whose X-Forwarded-For header identifies the client
+     * of an anonymous request. From any other address the header is ignored and the request is
+     * keyed by its remote address, so clients cannot pick their own bucket.
+     */
+    private List<String> trustedProxies = new ArrayList<>(List.of("127.0.0.1", "::1"));
+
+    private Concurrency concurrency = new Concurrency();
+
+    public static class Bucket {
+
+        /**
+         * Tokens added per second, i.e. the sustained request rate.
+         */
+        private double replenishRate = 10;
+
+        /**
+         * Bucket capacity, i.e. how many requests may be sent at once after an idle period.
+         */
+        private int burst = 20;
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * Adaptive concurrency limit per route (gradient algorithm on upstream latency).
+     */
+    public static class Concurrency {
+
+        private boolean enabled = true;
+        private int initialLimit = 50;
+        private int minLimit = 10;
+        private int maxLimit = 500;
+
+        /**
+         * How much slower than the long-term latency a sample may be before the limit shrinks.
+         */
+        private double tolerance = 1.5;
+
+        /**
+         * Weight of each new estimate in the limit (0..1).
+         */
+        private double smoothing = 0.2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Bucket getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Bucket defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Bucket> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Bucket> routes) {
+        this.routes = routes;
+    }
+
+    public long getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(long maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Duration getBucketIdleTimeout() {
+        return bucketIdleTimeout;
+    }
+
+    public void setBucketIdleTimeout(Duration bucketIdleTimeout) {
+        this.bucketIdleTimeout = bucketIdleTimeout;
+    }
+
+    public Set<String> getPriorityWriteRoutes() {
+        return priorityWriteRoutes;
+    }
+
+    public void setPriorityWriteRoutes(Set<String> priorityWriteRoutes) {
+        this.priorityWriteRoutes = priorityWriteRoutes;
+    }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+}
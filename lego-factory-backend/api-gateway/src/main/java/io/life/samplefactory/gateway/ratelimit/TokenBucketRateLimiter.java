@@ -0,0 +1,83 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * In-memory token buckets, one per user and route.
+ *
+ * Each bucket holds up to {@code burst} tokens and refills at {@code replenishRate} tokens per
+ * second; a request takes one token. Refilling is computed lazily on access, so idle buckets cost
+ * nothing and are dropped after gateway.rate-limit.bucket-idle-timeout.
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Ticker ticker;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    TokenBucketRateLimiter(RateLimitProperties properties, Ticker ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxBuckets())
+            .expireAfterAccess(properties.getBucketIdleTimeout())
+            .ticker(ticker)
+            .build();
+    }
+
+    private record BucketKey(String subject, String routeId) {
+    }
+
+    /**
+     * Take a token for this user on this route.
+     *
+     * @return 0 if the request may pass, otherwise the nanoseconds until the next token is available
+     */
+    long tryAcquire(String subject, String routeId) {
+        TokenBucket bucket = buckets.get(new BucketKey(subject, routeId), key -> newBucket(routeId));
+        return bucket.tryAcquire(ticker.read());
+    }
+
+    private TokenBucket newBucket(String routeId) {
+        RateLimitProperties.Bucket spec = properties.getRoutes().getOrDefault(routeId, properties.getDefaults());
+        return new TokenBucket(spec.getBurst(), spec.getReplenishRate(), ticker.read());
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int burst, double replenishRate, long now) {
+            this.capacity = burst;
+            this.tokensPerNano = replenishRate / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = burst;
+            this.lastRefill = now;
+        }
+
+        synchronized long tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return tokensPerNano > 0 ? (long) Math.ceil((1 - tokens) / tokensPerNano) : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Addresses of the proxies in front of the gateway whose X-Forwarded-For header is believed
+ * ({@link RateLimitProperties#getTrustedProxies()}). Entries are IP addresses or CIDR ranges
+ * such as 172.18.0.0/16; host names are not resolved.
+ */
+final class TrustedProxies {
+
+    // Only literals are parsed, so InetAddress.getByName never does a DNS lookup
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f:.]+");
+
+    private final List<Range> ranges = new ArrayList<>();
+
+    TrustedProxies(Collection<String> entries) {
+        for (String entry : entries) {
+            String trimmed = entry.trim();
+            if (!trimmed.isEmpty()) {
+                ranges.add(Range.parse(trimmed));
+            }
+        }
+    }
+
+    boolean contains(InetAddress address) {
+        if (address == null) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        return ranges.stream().anyMatch(range -> range.matches(bytes));
+    }
+
+    /**
+     * Whether a forwarded address is a trusted proxy; anything that is not an IP literal is not.
+     */
+    boolean contains(String address) {
+        InetAddress parsed = parseLiteral(address);
+        return parsed != null && contains(parsed);
+    }
+
+    private static InetAddress parseLiteral(String address) {
+        if (!IP_LITERAL.matcher(address).matches()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException ex) {
+            return null;
+        }
+    }
+
+    private record Range(byte[] network, int prefixLength) {
+
+        static Range parse(String entry) {
+            int slash = entry.indexOf('/');
+            InetAddress address = parseLiteral(slash < 0 ? entry : entry.substring(0, slash));
+            if (address == null) {
+                throw new IllegalArgumentException("Invalid trusted proxy address: " + entry);
+            }
+            int maxLength = address.getAddress().length * 8;
+            int prefixLength = maxLength;
+            if (slash >= 0) {
+                try {
+                    prefixLength = Integer.parseInt(entry.substring(slash + 1));
+                } catch (NumberFormatException ex) {
+                    prefixLength = -1;
+                }
+                if (prefixLength < 0 || prefixLength > maxLength) {
+                    throw new IllegalArgumentException("Invalid trusted proxy range: " + entry);
+                }
+            }
+            return new Range(address.getAddress(), prefixLength);
+        }
+
+        boolean matches(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
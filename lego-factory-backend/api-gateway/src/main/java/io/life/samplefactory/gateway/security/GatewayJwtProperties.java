@@ -12,6 +12,12 @@ public class GatewayJwtProperties {
      */
     private String secret;
 
+    /**
+     * Maximum number of verified tokens kept in memory (0 disables the cache).
+     * Each entry is a few hundred bytes; one entry per active session is enough.
+     */
+    private long tokenCacheSize = 10_000;
+
     public String getSecret() {
         return secret;
     }
@@ -19,4 +25,12 @@ public class GatewayJwtProperties {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    public long getTokenCacheSize() {
+        return tokenCacheSize;
+    }
+
+    public void setTokenCacheSize(long tokenCacheSize) {
+        this.tokenCacheSize = tokenCacheSize;
+    }
 }
@@ -1,8 +1,11 @@
 package io.life.samplefactory.gateway.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Date;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -13,7 +16,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -22,20 +24,33 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.life.samplefactory.gateway.security.VerifiedTokenCache.VerifiedToken;
 import reactor.core.publisher.Mono;
 
 /**
  * Simple gateway-level JWT validation. Requests to public paths are forwarded without checks,
  * while every other route must include a valid {@code Authorization: Bearer <token>} header.
+ *
+ * Both checks run on every request, so their per-request cost is kept low: public paths are
+ * compiled once into a {@link PublicPathMatcher}, and a token is only parsed and verified the
+ * first time it is seen; later requests reuse the identity headers from the {@link VerifiedTokenCache}
+ * until the token expires. See JwtAuthenticationFilterBenchmark in the test sources.
  */
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    /**
+     * Exchange attribute holding the subject of the verified token, for filters that run later
+     * (e.g. per-user rate limiting). Unlike X-Authenticated-User it cannot be supplied by clients.
+     */
+    public static final String AUTHENTICATED_USER_ATTR = JwtAuthenticationFilter.class.getName() + ".user";
+
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtParser jwtParser;
-    
+    private final VerifiedTokenCache tokenCache;
+    private final PublicPathMatcher publicPathMatcher;
+
     /**
      * Public paths that do NOT require authentication.
      * All other endpoints require a valid JWT token.
@@ -46,7 +61,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
      * 
      * UPDATE (Feb 5, 2026): Added masterdata endpoints as public for homepage display.
      */
-    private final List<String> publicPaths = List.of(
+    static final List<String> PUBLIC_PATHS = List.of(
         // Authentication - must be public for login
         "/api/auth/login",
         
@@ -87,22 +102,30 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         // - /api/inventory/**
     );
 
+    @Autowired
     public JwtAuthenticationFilter(GatewayJwtProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    JwtAuthenticationFilter(GatewayJwtProperties properties, Clock clock) {
         if (!StringUtils.hasText(properties.getSecret())) {
             throw new IllegalStateException("JWT secret must be configured for the gateway");
         }
         this.jwtParser = Jwts.parser()
             .verifyWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)))
+            .clock(() -> Date.from(clock.instant()))
             .build();
+        this.tokenCache = new VerifiedTokenCache(properties.getTokenCacheSize(), clock);
+        this.publicPathMatcher = new PublicPathMatcher(PUBLIC_PATHS);
     }
 
     @SuppressWarnings("null")
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String path = request.getURI().getPath();
 
-        if (isPublicPath(path) || HttpMethod.OPTIONS.equals(request.getMethod())) {
+        if (publicPathMatcher.matches(request.getPath().pathWithinApplication())
+                || HttpMethod.OPTIONS.equals(request.getMethod())) {
             return chain.filter(exchange);
         }
 
@@ -115,27 +138,32 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         if (!StringUtils.hasText(token)) {
             return sendJsonError(exchange, HttpStatus.UNAUTHORIZED, "Missing or invalid Authorization header");
         }
+        VerifiedToken verified;
         try {
-            // Use the non-deprecated parseSignedClaims method for jjwt 0.12.x and above
-            io.jsonwebtoken.Jws<io.jsonwebtoken.Claims> jws = jwtParser.parseSignedClaims(token);
-            Claims claims = jws.getPayload();
-            ServerHttpRequest mutated = request.mutate()
-                .header("X-Authenticated-User", claims.getSubject())
-                .headers(headers -> {
-                    Object role = claims.get("role");
-                    if (role != null) {
-                        headers.set("X-Authenticated-Role", role.toString());
-                    }
-                    Object userId = claims.get("userId");
-                    if (userId != null) {
-                        headers.set("X-User-Id", userId.toString());
-                    }
-                })
-                .build();
-            return chain.filter(exchange.mutate().request(mutated).build());
+            verified = tokenCache.get(token, this::verify);
         } catch (JwtException ex) {
             return sendJsonError(exchange, HttpStatus.UNAUTHORIZED, "Invalid or expired JWT token");
         }
+        if (verified.user() != null) {
+            exchange.getAttributes().put(AUTHENTICATED_USER_ATTR, verified.user());
+        }
+        ServerHttpRequest mutated = request.mutate().headers(verified::applyTo).build();
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    /**
+     * Check signature and expiry (throws JwtException) and extract the forwarded identity.
+     */
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Object role = claims.get("role");
+        Object userId = claims.get("userId");
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+            claims.getSubject(),
+            role != null ? role.toString() : null,
+            userId != null ? userId.toString() : null,
+            expiration != null ? expiration.toInstant() : null);
     }
 
     @SuppressWarnings("null")
@@ -147,11 +175,6 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         return response.writeWith(Mono.just(response.bufferFactory().wrap(json.getBytes(StandardCharsets.UTF_8))));
     }
 
-    @SuppressWarnings("null")
-    private boolean isPublicPath(String path) {
-        return publicPaths.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
-    }
-
     @Override
     public int getOrder() {
         return -1;
@@ -0,0 +1,76 @@
+package io.life.samplefactory.gateway.security;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Public-path patterns compiled once at startup.
+ *
+ * Literal patterns (e.g. {@code /api/auth/login}) are looked up in a hash set. Wildcard patterns
+ * are parsed into {@link PathPattern}s and only evaluated when the path starts with the pattern's
+ * literal prefix, so a protected request is usually rejected after a few string comparisons
+ * instead of a full Ant-style match against every pattern.
+ */
+final class PublicPathMatcher {
+
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<CompiledPattern> patterns = new ArrayList<>();
+
+    PublicPathMatcher(List<String> publicPaths) {
+        for (String path : publicPaths) {
+            if (isLiteral(path)) {
+                exactPaths.add(path);
+            } else {
+                patterns.add(new CompiledPattern(literalPrefix(path), PARSER.parse(path)));
+            }
+        }
+    }
+
+    boolean matches(PathContainer path) {
+        String value = path.value();
+        if (exactPaths.contains(value)) {
+            return true;
+        }
+        for (CompiledPattern pattern : patterns) {
+            if (value.startsWith(pattern.prefix()) && pattern.pattern().matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean matches(String path) {
+        return matches(PathContainer.parsePath(path));
+    }
+
+    private static boolean isLiteral(String pattern) {
+        return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0 && pattern.indexOf('{') < 0;
+    }
+
+    /**
+     * Leading path segments before the first wildcard, up to and including the last slash.
+     * A trailing {@code /**} also matches the bare directory, so that slash is dropped.
+     */
+    private static String literalPrefix(String pattern) {
+        int wildcard = pattern.length();
+        for (char c : new char[] {'*', '?', '{'}) {
+            int index = pattern.indexOf(c);
+            if (index >= 0) {
+                wildcard = Math.min(wildcard, index);
+            }
+        }
+        String prefix = pattern.substring(0, pattern.lastIndexOf('/', wildcard) + 1);
+        return pattern.startsWith("/**", prefix.length() - 1) ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+
+    private record CompiledPattern(String prefix, PathPattern pattern) {
+    }
+}
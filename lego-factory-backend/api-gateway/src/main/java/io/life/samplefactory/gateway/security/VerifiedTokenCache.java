@@ -0,0 +1,138 @@
+package io.life.samplefactory.gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of JWTs whose signature and expiry have already been checked.
+ *
+ * The same token is sent with every request of a session, so verifying it once and reusing the
+ * result saves an HMAC computation and a JSON parse per request. Entries are keyed by the SHA-256
+ * digest of the token (the token itself is never stored) and expire at the token's {@code exp}
+ * claim; tokens without an expiry are not cached. A cache hit is re-checked against the clock, so
+ * an expired token is never accepted even before the entry has been evicted.
+ */
+final class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+    private final boolean enabled;
+
+    VerifiedTokenCache(long maximumSize, Clock clock) {
+        this.clock = clock;
+        this.enabled = maximumSize > 0;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(Math.max(maximumSize, 0))
+            .expireAfter(new UntilTokenExpiry(clock))
+            .build();
+    }
+
+    /**
+     * Return the cached verification result for this token, or run the verifier and cache its result.
+     * Exceptions thrown by the verifier (invalid signature, expired token) propagate and nothing is cached.
+     */
+    VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        String key = digest(token);
+        Instant now = clock.instant();
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.isValidAt(now)) {
+            return cached;
+        }
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.isValidAt(now)) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Identity taken from a verified token, with the header values the filter forwards downstream.
+     *
+     * @param user      subject, forwarded as X-Authenticated-User
+     * @param role      role claim, forwarded as X-Authenticated-Role (may be null)
+     * @param userId    userId claim, forwarded as X-User-Id (may be null)
+     * @param expiresAt exp claim, or null if the token does not expire
+     */
+    record VerifiedToken(String user, String role, String userId, Instant expiresAt) {
+
+        static final String USER_HEADER = "X-Authenticated-User";
+        static final String ROLE_HEADER = "X-Authenticated-Role";
+        static final String USER_ID_HEADER = "X-User-Id";
+
+        boolean isValidAt(Instant now) {
+            return expiresAt != null && expiresAt.isAfter(now);
+        }
+
+        /**
+         * Replace the identity headers of the forwarded request. Headers a client sent itself are
+         * always overwritten or removed, so downstream services only see values from the token.
+         */
+        void applyTo(HttpHeaders headers) {
+            setOrRemove(headers, USER_HEADER, user);
+            setOrRemove(headers, ROLE_HEADER, role);
+            setOrRemove(headers, USER_ID_HEADER, userId);
+        }
+
+        private static void setOrRemove(HttpHeaders headers, String name, String value) {
+            if (value != null) {
+                headers.set(name, value);
+            } else {
+                headers.remove(name);
+            }
+        }
+    }
+
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        /** Upper bound so far-future exp claims do not overflow the nanosecond duration. */
+        private static final Duration MAX_DURATION = Duration.ofDays(365);
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(MAX_DURATION) > 0 ? MAX_DURATION.toNanos() : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
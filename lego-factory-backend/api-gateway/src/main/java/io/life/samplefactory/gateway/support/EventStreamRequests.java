@@ -0,0 +1,25 @@
+package io.life.samplefactory.gateway.support;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Server-sent event subscriptions (Accept: text/event-stream) stay open for minutes. Route
+ * filters that hold a request until its response completes (coalescing, caching) or count it
+ * as in flight (concurrency limit) pass them through untouched.
+ */
+public final class EventStreamRequests {
+
+    private EventStreamRequests() {
+    }
+
+    public static boolean isEventStream(ServerHttpRequest request) {
+        try {
+            return request.getHeaders().getAccept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.life.samplefactory.gateway.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands the downstream response body to {@link ResponseCaptureListener}s registered by route filters.
+ *
+ * NettyWriteResponseFilter writes the proxied body to the response it was given, so the response
+ * has to be wrapped by a filter ordered before it (and therefore before authentication). The
+ * wrapper only buffers when a listener is registered; other responses and server-sent events
+ * stream through unchanged. Listeners are called innermost first, like the post phase of filters.
+ */
+@Component
+public class ResponseCaptureFilter implements GlobalFilter, Ordered {
+
+    private static final String LISTENERS_ATTR = ResponseCaptureFilter.class.getName() + ".listeners";
+
+    /**
+     * Register a listener for the response of this exchange.
+     *
+     * @return false if the exchange does not pass through this filter; the listener will never be called
+     */
+    public static boolean register(ServerWebExchange exchange, ResponseCaptureListener listener) {
+        List<ResponseCaptureListener> listeners = exchange.getAttribute(LISTENERS_ATTR);
+        if (listeners == null) {
+            return false;
+        }
+        listeners.add(0, listener);
+        return true;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        List<ResponseCaptureListener> listeners = new ArrayList<>(2);
+        exchange.getAttributes().put(LISTENERS_ATTR, listeners);
+        ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), listeners);
+        return chain.filter(exchange.mutate().response(capturing).build())
+            .doFinally(signal -> listeners.forEach(ResponseCaptureListener::onComplete));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final List<ResponseCaptureListener> listeners;
+        private boolean captured;
+
+        CapturingResponse(ServerHttpResponse delegate, List<ResponseCaptureListener> listeners) {
+            super(delegate);
+            this.listeners = listeners;
+        }
+
+        private boolean shouldCapture() {
+            return !captured && !listeners.isEmpty()
+                && !MediaType.TEXT_EVENT_STREAM.isCompatibleWith(getHeaders().getContentType());
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!shouldCapture()) {
+                return super.writeWith(body);
+            }
+            captured = true;
+            return DataBufferUtils.join(body)
+                .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                .flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+                    boolean writeBody = true;
+                    for (ResponseCaptureListener listener : listeners) {
+                        writeBody &= listener.onResponse(this, bytes);
+                    }
+                    if (!writeBody) {
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        return getDelegate().setComplete();
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (!shouldCapture()) {
+                // Streaming responses keep their per-chunk flushes
+                return super.writeAndFlushWith(body);
+            }
+            return writeWith(Flux.from(body).flatMapSequential(p -> p));
+        }
+    }
+}
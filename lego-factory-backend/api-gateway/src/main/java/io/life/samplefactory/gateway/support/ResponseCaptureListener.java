@@ -0,0 +1,26 @@
+package io.life.samplefactory.gateway.support;
+
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+/**
+ * Callback for route filters that need the complete downstream response body
+ * (response cache, request coalescing). Registered per exchange with
+ * {@link ResponseCaptureFilter#register}.
+ */
+public interface ResponseCaptureListener {
+
+    /**
+     * Called once with the buffered downstream body before it is written to the client.
+     * Status and headers of the response may still be changed.
+     *
+     * @return false to send only status and headers, e.g. for 304 Not Modified
+     */
+    boolean onResponse(ServerHttpResponse response, byte[] body);
+
+    /**
+     * Called when the exchange has finished, whether or not {@link #onResponse} was called
+     * (downstream error, client disconnect, streaming response).
+     */
+    default void onComplete() {
+    }
+}
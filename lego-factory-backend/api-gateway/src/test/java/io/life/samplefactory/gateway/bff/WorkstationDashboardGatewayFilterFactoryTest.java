@@ -0,0 +1,197 @@
+package io.life.samplefactory.gateway.bff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the workstation dashboard aggregation.
+ *
+ * Downstream services are replaced by a stub exchange function that answers by request path.
+ */
+@DisplayName("WorkstationDashboard Filter Tests")
+class WorkstationDashboardGatewayFilterFactoryTest {
+
+    private static final GatewayFilterChain UNREACHABLE = exchange -> {
+        throw new AssertionError("Dashboard requests must not be proxied");
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BffProperties properties;
+    private List<ClientRequest> requests;
+    private Function<ClientRequest, Mono<ClientResponse>> downstream;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BffProperties();
+        properties.setPartTimeout(Duration.ofSeconds(5));
+        requests = new CopyOnWriteArrayList<>();
+        downstream = request -> Mono.just(json(HttpStatus.OK, "[{\"path\":\"" + request.url().getPath() + "\"}]"));
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private MockServerWebExchange send(String workstationId) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request);
+            return downstream.apply(request);
+        });
+        GatewayFilter filter = new WorkstationDashboardGatewayFilterFactory(properties, builder, objectMapper)
+                .apply(new Object());
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/bff/workstation/" + workstationId + "/dashboard")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                        .header("X-Authenticated-Role", "GEAR_ASSEMBLY_WORKSTATION"));
+        ServerWebExchangeUtils.putUriTemplateVariables(exchange, Map.of("workstationId", workstationId));
+        filter.filter(exchange, UNREACHABLE).block(Duration.ofSeconds(10));
+        return exchange;
+    }
+
+    private JsonNode body(MockServerWebExchange exchange) throws Exception {
+        return objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Nested
+    @DisplayName("Composition")
+    class CompositionTests {
+
+        @Test
+        @DisplayName("Should compose all parts of an assembly workstation")
+        void shouldComposeAllParts() throws Exception {
+            MockServerWebExchange exchange = send("4");
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode body = body(exchange);
+            assertThat(body.get("workstationId").asLong()).isEqualTo(4);
+            assertThat(body.get("partial").asBoolean()).isFalse();
+            assertThat(body.get("orders").get(0).get("path").asText())
+                    .isEqualTo("/api/gear-assembly-orders/workstation/4");
+            assertThat(body.get("activeOrders").get(0).get("path").asText())
+                    .isEqualTo("/api/assembly/gear-assembly/workstation/4/active");
+            assertThat(body.get("unassignedOrders").get(0).get("path").asText())
+                    .isEqualTo("/api/assembly/gear-assembly/workstation/4/unassigned");
+            assertThat(body.get("stock").get(0).get("path").asText()).isEqualTo("/api/stock/workstation/4");
+            assertThat(body.get("lowStockAlerts").get(0).get("path").asText()).isEqualTo("/api/stock/alerts/low");
+        }
+
+        @Test
+        @DisplayName("Should forward the caller's token and identity to every part")
+        void shouldForwardCredentials() {
+            send("7");
+
+            assertThat(requests).hasSize(3);
+            assertThat(requests).allSatisfy(request -> {
+                assertThat(request.headers().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+                assertThat(request.headers().getFirst("X-Authenticated-Role")).isEqualTo("GEAR_ASSEMBLY_WORKSTATION");
+            });
+            assertThat(requests).extracting(request -> request.url().toString()).containsExactlyInAnyOrder(
+                    "http://order-processing-service:8015/api/customer-orders/workstation/7",
+                    "http://inventory-service:8014/api/stock/workstation/7",
+                    "http://inventory-service:8014/api/stock/alerts/low?workstationId=7");
+        }
+
+        @Test
+        @DisplayName("Should fetch parts in parallel")
+        void shouldFetchInParallel() throws Exception {
+            // No part answers before all five have been requested
+            Sinks.Empty<Void> allRequested = Sinks.empty();
+            AtomicInteger pending = new AtomicInteger(5);
+            downstream = request -> {
+                if (pending.decrementAndGet() == 0) {
+                    allRequested.tryEmitEmpty();
+                }
+                return allRequested.asMono().then(Mono.just(json(HttpStatus.OK, "[]")));
+            };
+            properties.setPartTimeout(Duration.ofSeconds(2));
+
+            JsonNode body = body(send("1"));
+
+            assertThat(body.get("partial").asBoolean()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should answer 404 for unknown workstations")
+        void shouldRejectUnknownWorkstation() {
+            assertThat(send("42").getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(send("abc").getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(requests).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Partial results")
+    class PartialResultTests {
+
+        @Test
+        @DisplayName("Should leave out a part that times out")
+        void shouldReportTimedOutPart() throws Exception {
+            properties.getPartTimeouts().put("lowStockAlerts", Duration.ofMillis(50));
+            Function<ClientRequest, Mono<ClientResponse>> ok = downstream;
+            downstream = request -> request.url().getPath().endsWith("/alerts/low") ? Mono.never() : ok.apply(request);
+
+            MockServerWebExchange exchange = send("8");
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode body = body(exchange);
+            assertThat(body.get("partial").asBoolean()).isTrue();
+            assertThat(body.get("lowStockAlerts").isNull()).isTrue();
+            assertThat(body.get("errors").get("lowStockAlerts").asText()).isEqualTo("timeout");
+            assertThat(body.get("stock").isArray()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should report downstream error status of a part")
+        void shouldReportFailedPart() throws Exception {
+            Function<ClientRequest, Mono<ClientResponse>> ok = downstream;
+            downstream = request -> request.url().getPath().startsWith("/api/stock/workstation")
+                    ? Mono.just(json(HttpStatus.FORBIDDEN, "{\"error\":\"Forbidden\"}"))
+                    : ok.apply(request);
+
+            JsonNode body = body(send("9"));
+
+            assertThat(body.get("errors").get("stock").asText()).isEqualTo("HTTP 403");
+            assertThat(body.get("orders").isArray()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should answer 502 when every part failed")
+        void shouldFailWhenAllPartsFail() throws Exception {
+            downstream = request -> Mono.error(new IllegalStateException("connection refused"));
+
+            MockServerWebExchange exchange = send("2");
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+            assertThat(body(exchange).get("errors").get("orders").asText()).isEqualTo("unavailable");
+        }
+    }
+}
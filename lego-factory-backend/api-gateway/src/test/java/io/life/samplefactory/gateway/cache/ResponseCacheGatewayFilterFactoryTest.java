@@ -0,0 +1,237 @@
+package io.life.samplefactory.gateway.cache;
+
+import io.life.samplefactory.gateway.support.ResponseCaptureFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the gateway response cache.
+ *
+ * Requests run through ResponseCaptureFilter and the ResponseCache route filter
+ * in gateway order, with a stub downstream that counts how often it is reached.
+ */
+@DisplayName("ResponseCache Filter Tests")
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final Route ROUTE = Route.async()
+            .id("masterdata-service")
+            .uri("http://masterdata-service:8013")
+            .predicate(exchange -> true)
+            .build();
+    private static final String BODY = "[{\"id\":1,\"name\":\"Truck\"}]";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCaptureFilter captureFilter;
+    private GatewayFilter routeFilter;
+    private AtomicInteger downstreamCalls;
+    private HttpStatus downstreamStatus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        GatewayResponseCache responseCache = new GatewayResponseCache(new ResponseCacheProperties(), meterRegistry);
+        captureFilter = new ResponseCaptureFilter();
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(10));
+        routeFilter = new ResponseCacheGatewayFilterFactory(responseCache).apply(config);
+        downstreamCalls = new AtomicInteger();
+        downstreamStatus = HttpStatus.OK;
+    }
+
+    private final GatewayFilterChain downstream = exchange -> {
+        downstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(downstreamStatus);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().setCacheControl("public, max-age=600");
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    };
+
+    private MockServerWebExchange send(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+        captureFilter.filter(exchange, captured -> routeFilter.filter(captured, downstream)).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange get(String role) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/masterdata/products");
+        if (role != null) {
+            request.header(ResponseCacheGatewayFilterFactory.ROLE_HEADER, role);
+        }
+        return send(request.build());
+    }
+
+    private static String cacheStatus(MockServerWebExchange exchange) {
+        return exchange.getResponse().getHeaders().getFirst(GatewayResponseCache.CACHE_STATUS_HEADER);
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should serve the second identical GET from the cache")
+        void shouldServeRepeatedGetFromCache() {
+            MockServerWebExchange first = get(null);
+            MockServerWebExchange second = get(null);
+
+            assertThat(downstreamCalls).hasValue(1);
+            assertThat(cacheStatus(first)).isEqualTo("MISS");
+            assertThat(cacheStatus(second)).isEqualTo("HIT");
+            assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+            assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(second.getResponse().getHeaders().getCacheControl()).isEqualTo("public, max-age=600");
+            assertThat(second.getResponse().getHeaders().getETag())
+                    .isNotNull()
+                    .isEqualTo(first.getResponse().getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("Should keep responses for different roles apart")
+        void shouldKeyByRole() {
+            get("ADMIN");
+            get("PLANT_WAREHOUSE");
+            get("ADMIN");
+
+            assertThat(downstreamCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should keep responses for different query strings apart")
+        void shouldKeyByQuery() {
+            send(MockServerHttpRequest.get("/api/masterdata/products?page=1").build());
+            send(MockServerHttpRequest.get("/api/masterdata/products?page=2").build());
+
+            assertThat(downstreamCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should not cache error responses")
+        void shouldNotCacheErrors() {
+            downstreamStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+            get(null);
+            get(null);
+
+            assertThat(downstreamCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should refresh the entry when the client sends Cache-Control: no-cache")
+        void shouldRefreshOnNoCache() {
+            get(null);
+            send(MockServerHttpRequest.get("/api/masterdata/products")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .build());
+
+            assertThat(downstreamCalls).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional requests")
+    class ConditionalRequestTests {
+
+        @Test
+        @DisplayName("Should answer a matching If-None-Match with 304 and no body")
+        void shouldAnswerNotModified() {
+            String etag = get(null).getResponse().getHeaders().getETag();
+
+            MockServerWebExchange revalidation = send(MockServerHttpRequest.get("/api/masterdata/products")
+                    .ifNoneMatch(etag)
+                    .build());
+
+            assertThat(revalidation.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(revalidation.getResponse().getBodyAsString().block()).isNullOrEmpty();
+            assertThat(revalidation.getResponse().getHeaders().getETag()).isEqualTo(etag);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 on a miss when the downstream body is unchanged")
+        void shouldAnswerNotModifiedOnMiss() {
+            String etag = get(null).getResponse().getHeaders().getETag();
+
+            MockServerWebExchange revalidation = send(MockServerHttpRequest.get("/api/masterdata/products")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .ifNoneMatch(etag)
+                    .build());
+
+            assertThat(downstreamCalls).hasValue(2);
+            assertThat(revalidation.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+
+        @Test
+        @DisplayName("Should send the full body for a stale ETag")
+        void shouldSendBodyForStaleEtag() {
+            get(null);
+
+            MockServerWebExchange exchange = send(MockServerHttpRequest.get("/api/masterdata/products")
+                    .ifNoneMatch("\"outdated\"")
+                    .build());
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation and metrics")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should drop cached responses of a route after a successful write")
+        void shouldInvalidateOnWrite() {
+            get(null);
+            send(MockServerHttpRequest.put("/api/masterdata/products/1").build());
+            MockServerWebExchange afterWrite = get(null);
+
+            assertThat(cacheStatus(afterWrite)).isEqualTo("MISS");
+            assertThat(meterRegistry.counter("gateway.response.cache.invalidations", "route", "masterdata-service")
+                    .count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should keep cached responses after a failed write")
+        void shouldKeepEntriesAfterFailedWrite() {
+            get(null);
+            downstreamStatus = HttpStatus.BAD_REQUEST;
+            send(MockServerHttpRequest.post("/api/masterdata/products").build());
+            downstreamStatus = HttpStatus.OK;
+
+            assertThat(cacheStatus(get(null))).isEqualTo("HIT");
+        }
+
+        @Test
+        @DisplayName("Should count hits and misses per route")
+        void shouldCountHitsAndMisses() {
+            get(null);
+            get(null);
+            get(null);
+
+            assertThat(meterRegistry.counter("gateway.response.cache.requests",
+                    "route", "masterdata-service", "result", "hit").count()).isEqualTo(2.0);
+            assertThat(meterRegistry.counter("gateway.response.cache.requests",
+                    "route", "masterdata-service", "result", "miss").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("gateway.response.cache.size").gauge().value()).isEqualTo(1.0);
+        }
+    }
+}
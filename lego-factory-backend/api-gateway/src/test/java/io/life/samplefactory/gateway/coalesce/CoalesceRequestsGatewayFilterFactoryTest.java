@@ -0,0 +1,179 @@
+package io.life.samplefactory.gateway.coalesce;
+
+import io.life.samplefactory.gateway.support.ResponseCaptureFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CoalesceRequestsGatewayFilterFactory.
+ *
+ * The stub downstream holds every call until the test releases it, so
+ * requests sent before the release are "concurrent".
+ */
+@DisplayName("CoalesceRequests Filter Tests")
+class CoalesceRequestsGatewayFilterFactoryTest {
+
+    private static final Route ROUTE = Route.async()
+            .id("customer-orders")
+            .uri("http://order-processing-service:8015")
+            .predicate(exchange -> true)
+            .build();
+    private static final String BODY = "[{\"id\":1,\"status\":\"PENDING\"}]";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCaptureFilter captureFilter;
+    private GatewayFilter routeFilter;
+    private AtomicInteger downstreamCalls;
+    private Sinks.Empty<Void> release;
+    private boolean failFirstCall;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        captureFilter = new ResponseCaptureFilter();
+        routeFilter = new CoalesceRequestsGatewayFilterFactory(meterRegistry).apply(new Object());
+        downstreamCalls = new AtomicInteger();
+        release = Sinks.empty();
+    }
+
+    private final GatewayFilterChain downstream = exchange -> {
+        int call = downstreamCalls.incrementAndGet();
+        return release.asMono().then(Mono.defer(() -> {
+            if (failFirstCall && call == 1) {
+                return Mono.error(new IllegalStateException("connection refused"));
+            }
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    };
+
+    private Mono<Void> send(MockServerWebExchange exchange) {
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+        return captureFilter.filter(exchange, captured -> routeFilter.filter(captured, downstream));
+    }
+
+    private static MockServerWebExchange get(String role) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/customer-orders?status=PENDING")
+                .header(CoalesceRequestsGatewayFilterFactory.ROLE_HEADER, role));
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should send concurrent identical GETs downstream once and share the response")
+    void shouldShareInFlightResponse() {
+        MockServerWebExchange first = get("PLANT_WAREHOUSE");
+        MockServerWebExchange second = get("PLANT_WAREHOUSE");
+        MockServerWebExchange third = get("PLANT_WAREHOUSE");
+        Mono<Void> all = Mono.when(send(first), send(second), send(third)).cache();
+        all.subscribe();
+
+        release.tryEmitEmpty();
+        all.block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(body(first)).isEqualTo(BODY);
+        assertThat(body(second)).isEqualTo(BODY);
+        assertThat(body(third)).isEqualTo(BODY);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getResponse().getHeaders().getFirst(CoalesceRequestsGatewayFilterFactory.COALESCED_HEADER))
+                .isEqualTo("true");
+        assertThat(meterRegistry.counter("gateway.request.coalescing", "route", "customer-orders", "result", "shared")
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not share responses between roles")
+    void shouldKeyByRole() {
+        Mono<Void> all = Mono.when(send(get("ADMIN")), send(get("PLANT_WAREHOUSE"))).cache();
+        all.subscribe();
+
+        release.tryEmitEmpty();
+        all.block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep responses once the request has completed")
+    void shouldNotCacheCompletedRequests() {
+        release.tryEmitEmpty();
+
+        send(get("ADMIN")).block(Duration.ofSeconds(1));
+        send(get("ADMIN")).block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(2);
+        assertThat(meterRegistry.get("gateway.request.coalescing.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send waiting requests downstream themselves when the first one fails")
+    void shouldFallBackWhenLeaderFails() {
+        failFirstCall = true;
+        MockServerWebExchange first = get("ADMIN");
+        MockServerWebExchange second = get("ADMIN");
+        Mono<Void> leader = send(first).onErrorResume(ex -> Mono.empty()).cache();
+        Mono<Void> follower = send(second).cache();
+        leader.subscribe();
+        follower.subscribe();
+
+        release.tryEmitEmpty();
+        follower.block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(2);
+        assertThat(body(second)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Should never coalesce event stream subscriptions")
+    void shouldPassEventStreamsThrough() {
+        Mono<Void> all = Mono.when(
+                send(MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM))),
+                send(MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM)))).cache();
+        all.subscribe();
+
+        release.tryEmitEmpty();
+        all.block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should never coalesce writes")
+    void shouldPassWritesThrough() {
+        Mono<Void> all = Mono.when(
+                send(MockServerWebExchange.from(MockServerHttpRequest.post("/api/customer-orders"))),
+                send(MockServerWebExchange.from(MockServerHttpRequest.post("/api/customer-orders")))).cache();
+        all.subscribe();
+
+        release.tryEmitEmpty();
+        all.block(Duration.ofSeconds(1));
+
+        assertThat(downstreamCalls).hasValue(2);
+    }
+}
@@ -0,0 +1,281 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import io.life.samplefactory.gateway.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitFilter.
+ */
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private static final Route ROUTE = Route.async()
+            .id("customer-orders")
+            .uri("http://order-processing-service:8015")
+            .predicate(exchange -> true)
+            .build();
+
+    // Trusted by default (gateway.rate-limit.trusted-proxies)
+    private static final InetSocketAddress PROXY = new InetSocketAddress("127.0.0.1", 51000);
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+    private AtomicInteger downstreamCalls;
+
+    private final GatewayFilterChain downstream = exchange -> {
+        downstreamCalls.incrementAndGet();
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getDefaults().setBurst(2);
+        properties.getDefaults().setReplenishRate(0.5);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new TokenBucketRateLimiter(properties),
+                new AdaptiveConcurrencyLimiter(properties, meterRegistry), meterRegistry);
+        downstreamCalls = new AtomicInteger();
+    }
+
+    private static final Route AUTH_ROUTE = Route.async()
+            .id("user-service-auth")
+            .uri("http://user-service:8012")
+            .predicate(exchange -> true)
+            .build();
+
+    private MockServerWebExchange send(MockServerHttpRequest request, String user) {
+        return send(request, user, ROUTE);
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest request, String user, Route route) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        if (user != null) {
+            exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ATTR, user);
+        }
+        filter.filter(exchange, downstream).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange get(String user) {
+        return send(MockServerHttpRequest.get("/api/customer-orders").build(), user);
+    }
+
+    @Nested
+    @DisplayName("Rate limiting")
+    class RateLimitingTests {
+
+        @Test
+        @DisplayName("Should reject reads beyond the burst with 429 and Retry-After")
+        void shouldRejectReadsBeyondBurst() {
+            get("plant-warehouse");
+            get("plant-warehouse");
+            MockServerWebExchange rejected = get("plant-warehouse");
+
+            assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+            assertThat(downstreamCalls.get()).isEqualTo(2);
+            assertThat(meterRegistry.counter("gateway.rate.limit.rejected",
+                    "route", "customer-orders", "reason", "rate_limited").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should limit each user separately")
+        void shouldLimitUsersSeparately() {
+            get("plant-warehouse");
+            get("plant-warehouse");
+
+            assertThat(get("modules-supermarket").getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        @Test
+        @DisplayName("Should let workstation writes through when the read bucket is empty")
+        void shouldLetWritesThrough() {
+            get("plant-warehouse");
+            get("plant-warehouse");
+
+            MockServerWebExchange write = send(
+                    MockServerHttpRequest.put("/api/customer-orders/1/confirm").build(), "plant-warehouse");
+
+            assertThat(write.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(downstreamCalls.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should rate limit anonymous logins per client address")
+        void shouldRateLimitLogins() {
+            for (int i = 0; i < 2; i++) {
+                send(MockServerHttpRequest.post("/api/auth/login").remoteAddress(PROXY)
+                        .header("X-Forwarded-For", "10.0.0.7").build(), null, AUTH_ROUTE);
+            }
+
+            MockServerWebExchange rejected = send(MockServerHttpRequest.post("/api/auth/login").remoteAddress(PROXY)
+                    .header("X-Forwarded-For", "10.0.0.7").build(), null, AUTH_ROUTE);
+            MockServerWebExchange otherClient = send(MockServerHttpRequest.post("/api/auth/login").remoteAddress(PROXY)
+                    .header("X-Forwarded-For", "10.0.0.8").build(), null, AUTH_ROUTE);
+
+            assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(otherClient.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(meterRegistry.counter("gateway.rate.limit.rejected",
+                    "route", "user-service-auth", "reason", "rate_limited").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should rate limit anonymous writes on workstation routes")
+        void shouldRateLimitAnonymousWrites() {
+            for (int i = 0; i < 2; i++) {
+                send(MockServerHttpRequest.put("/api/customer-orders/1/confirm").build(), null);
+            }
+
+            MockServerWebExchange rejected = send(MockServerHttpRequest.put("/api/customer-orders/1/confirm").build(), null);
+
+            assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        @Test
+        @DisplayName("Should rate limit authenticated writes outside the workstation routes")
+        void shouldRateLimitWritesOnOtherRoutes() {
+            properties.setPriorityWriteRoutes(Set.of("warehouse-orders"));
+            for (int i = 0; i < 2; i++) {
+                send(MockServerHttpRequest.put("/api/customer-orders/1/confirm").build(), "plant-warehouse");
+            }
+
+            MockServerWebExchange rejected = send(
+                    MockServerHttpRequest.put("/api/customer-orders/1/confirm").build(), "plant-warehouse");
+
+            assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        @Test
+        @DisplayName("Should pass everything through when disabled")
+        void shouldPassThroughWhenDisabled() {
+            properties.setEnabled(false);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(get("plant-warehouse").getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Event streams")
+    class EventStreamTests {
+
+        @Test
+        @DisplayName("Should not hold a concurrency permit while an event stream is open")
+        void shouldNotCountOpenStreams() {
+            MockServerWebExchange stream = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/events")
+                    .accept(MediaType.TEXT_EVENT_STREAM));
+            stream.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+            filter.filter(stream, exchange -> Mono.never()).subscribe();
+
+            assertThat(get("plant-warehouse").getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(meterRegistry.get("gateway.concurrency.in.flight").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should take a token for every connection attempt")
+        void shouldRateLimitReconnects() {
+            for (int i = 0; i < 2; i++) {
+                send(MockServerHttpRequest.get("/api/orders/events").accept(MediaType.TEXT_EVENT_STREAM).build(),
+                        "plant-warehouse");
+            }
+
+            MockServerWebExchange rejected = send(MockServerHttpRequest.get("/api/orders/events")
+                    .accept(MediaType.TEXT_EVENT_STREAM).build(), "plant-warehouse");
+
+            assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Subjects")
+    class SubjectTests {
+
+        @Test
+        @DisplayName("Should key authenticated requests by the verified user")
+        void shouldUseVerifiedUser() {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.get("/api/customer-orders").header("X-Forwarded-For", "10.0.0.1"));
+            exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ATTR, "admin");
+
+            assertThat(filter.subject(exchange)).isEqualTo("user:admin");
+        }
+
+        @Test
+        @DisplayName("Should key anonymous requests from a trusted proxy by the last forwarded address")
+        void shouldUseLastForwardedAddress() {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login")
+                    .remoteAddress(PROXY).header("X-Forwarded-For", "1.2.3.4, 172.18.0.5"));
+
+            assertThat(filter.subject(exchange)).isEqualTo("ip:172.18.0.5");
+        }
+
+        @Test
+        @DisplayName("Should ignore X-Forwarded-For from addresses that are not trusted proxies")
+        void shouldIgnoreForwardedForFromUntrustedAddress() {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login")
+                    .remoteAddress(new InetSocketAddress("203.0.113.9", 51000))
+                    .header("X-Forwarded-For", "10.0.0.7"));
+
+            assertThat(filter.subject(exchange)).isEqualTo("ip:203.0.113.9");
+        }
+
+        @Test
+        @DisplayName("Should key by remote address without X-Forwarded-For")
+        void shouldUseRemoteAddressWithoutForwardedFor() {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.get("/api/auth/login").remoteAddress(PROXY));
+
+            assertThat(filter.subject(exchange)).isEqualTo("ip:127.0.0.1");
+        }
+
+        @Test
+        @DisplayName("Should skip trusted proxies in the forwarded chain")
+        void shouldSkipTrustedProxyHops() {
+            properties.setTrustedProxies(List.of("172.18.0.0/16"));
+            RateLimitFilter behindProxies = new RateLimitFilter(properties, new TokenBucketRateLimiter(properties),
+                    new AdaptiveConcurrencyLimiter(properties, meterRegistry), meterRegistry);
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login")
+                    .remoteAddress(new InetSocketAddress("172.18.0.3", 51000))
+                    .header("X-Forwarded-For", "6.6.6.6, 198.51.100.4, 172.18.0.7"));
+
+            assertThat(behindProxies.subject(exchange)).isEqualTo("ip:198.51.100.4");
+        }
+
+        @Test
+        @DisplayName("Should reject trusted proxies that are not IP addresses or CIDR ranges")
+        void shouldRejectInvalidTrustedProxy() {
+            properties.setTrustedProxies(List.of("10.0.0.0/33"));
+
+            assertThatThrownBy(() -> new RateLimitFilter(properties, new TokenBucketRateLimiter(properties),
+                    new AdaptiveConcurrencyLimiter(properties, meterRegistry), meterRegistry))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("10.0.0.0/33");
+        }
+    }
+}
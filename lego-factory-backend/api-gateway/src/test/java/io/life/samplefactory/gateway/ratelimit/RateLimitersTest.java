@@ -0,0 +1,162 @@
+package io.life.samplefactory.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.life.samplefactory.gateway.ratelimit.AdaptiveConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketRateLimiter and AdaptiveConcurrencyLimiter.
+ */
+@DisplayName("Rate Limiter Tests")
+class RateLimitersTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Nested
+    @DisplayName("Token buckets")
+    class TokenBucketTests {
+
+        private final AtomicLong now = new AtomicLong();
+        private final Ticker ticker = now::get;
+
+        private TokenBucketRateLimiter limiter(RateLimitProperties properties) {
+            return new TokenBucketRateLimiter(properties, ticker);
+        }
+
+        @Test
+        @DisplayName("Should allow a burst, then one request per refilled token")
+        void shouldAllowBurstThenRefill() {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.getDefaults().setBurst(3);
+            properties.getDefaults().setReplenishRate(2);
+            TokenBucketRateLimiter limiter = limiter(properties);
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(limiter.tryAcquire("user:alice", "customer-orders")).isZero();
+            }
+            long wait = limiter.tryAcquire("user:alice", "customer-orders");
+            assertThat(wait).isEqualTo(500 * MILLIS);
+
+            now.addAndGet(500 * MILLIS);
+            assertThat(limiter.tryAcquire("user:alice", "customer-orders")).isZero();
+            assertThat(limiter.tryAcquire("user:alice", "customer-orders")).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should keep separate buckets per user and route")
+        void shouldKeyByUserAndRoute() {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.getDefaults().setBurst(1);
+            TokenBucketRateLimiter limiter = limiter(properties);
+
+            assertThat(limiter.tryAcquire("user:alice", "customer-orders")).isZero();
+            assertThat(limiter.tryAcquire("user:alice", "customer-orders")).isPositive();
+            assertThat(limiter.tryAcquire("user:bob", "customer-orders")).isZero();
+            assertThat(limiter.tryAcquire("user:alice", "stock-service")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should use route-specific bucket settings")
+        void shouldApplyRouteOverrides() {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.getDefaults().setBurst(1);
+            RateLimitProperties.Bucket stock = new RateLimitProperties.Bucket();
+            stock.setBurst(5);
+            properties.getRoutes().put("stock-service", stock);
+            TokenBucketRateLimiter limiter = limiter(properties);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(limiter.tryAcquire("user:alice", "stock-service")).isZero();
+            }
+            assertThat(limiter.tryAcquire("user:alice", "stock-service")).isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive concurrency")
+    class ConcurrencyTests {
+
+        private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.getConcurrency().setInitialLimit(initialLimit);
+            properties.getConcurrency().setMinLimit(2);
+            return new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+        }
+
+        /**
+         * Run rounds of `concurrency` simultaneous requests that all take `latencyMillis`.
+         */
+        private void runRounds(AdaptiveConcurrencyLimiter limiter, int rounds, int concurrency, long latencyMillis) {
+            for (int round = 0; round < rounds; round++) {
+                runRound(limiter, concurrency, latencyMillis);
+            }
+        }
+
+        /**
+         * Run rounds that keep the route saturated, as callers do when the upstream backs up.
+         */
+        private void runSaturated(AdaptiveConcurrencyLimiter limiter, int rounds, long latencyMillis) {
+            for (int round = 0; round < rounds; round++) {
+                runRound(limiter, limiter.limit("customer-orders"), latencyMillis);
+            }
+        }
+
+        private void runRound(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis) {
+            List<Permit> permits = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                Permit permit = limiter.tryAcquire("customer-orders", true);
+                permits.add(permit);
+            }
+            permits.forEach(permit -> permit.release(latencyMillis * MILLIS));
+        }
+
+        @Test
+        @DisplayName("Should shed reads at the limit but admit priority writes")
+        void shouldShedReadsButAdmitWrites() {
+            AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+            assertThat(limiter.tryAcquire("customer-orders", false)).isNotNull();
+            assertThat(limiter.tryAcquire("customer-orders", false)).isNotNull();
+            assertThat(limiter.tryAcquire("customer-orders", false)).isNull();
+            assertThat(limiter.tryAcquire("customer-orders", true)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should lower the limit when upstream latency rises and recover when it falls")
+        void shouldFollowLatency() {
+            AdaptiveConcurrencyLimiter limiter = limiter(20);
+            runSaturated(limiter, 20, 20);
+            int steady = limiter.limit("customer-orders");
+
+            runSaturated(limiter, 1, 200);
+            int slow = limiter.limit("customer-orders");
+
+            runSaturated(limiter, 50, 20);
+            int recovered = limiter.limit("customer-orders");
+
+            assertThat(steady).isGreaterThanOrEqualTo(20);
+            assertThat(slow).isLessThan(steady / 2);
+            assertThat(recovered).isGreaterThan(slow);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit while far below it")
+        void shouldIgnoreSamplesWhenUnderused() {
+            AdaptiveConcurrencyLimiter limiter = limiter(50);
+
+            runRounds(limiter, 50, 5, 20);
+
+            assertThat(limiter.limit("customer-orders")).isEqualTo(50);
+        }
+    }
+}
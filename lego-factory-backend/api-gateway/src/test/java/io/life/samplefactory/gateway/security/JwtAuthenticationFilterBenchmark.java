@@ -0,0 +1,107 @@
+package io.life.samplefactory.gateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.AntPathMatcher;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the per-request cost of JwtAuthenticationFilter.
+ *
+ * Not a unit test; run with {@code mvn -Pbenchmark test-compile exec:exec}.
+ * - publicPath / protectedPathCachedToken / protectedPathUncachedToken: whole filter call
+ * - antPathScan / precompiledMatcher: public-path check alone, old vs new implementation,
+ *   for a protected path (the common case, which has to be compared against every pattern)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+    private static final String PROTECTED_PATH = "/api/production-control-orders/workstation/3/page";
+    private static final AntPathMatcher ANT_MATCHER = new AntPathMatcher();
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter nonCachingFilter;
+    private PublicPathMatcher publicPathMatcher;
+    private MockServerWebExchange publicExchange;
+    private MockServerWebExchange protectedExchange;
+
+    @Setup
+    public void setUp() {
+        cachingFilter = new JwtAuthenticationFilter(properties(10_000));
+        nonCachingFilter = new JwtAuthenticationFilter(properties(0));
+        publicPathMatcher = new PublicPathMatcher(JwtAuthenticationFilter.PUBLIC_PATHS);
+
+        String token = Jwts.builder()
+                .subject("production_planner")
+                .claim("role", "PRODUCTION_PLANNING")
+                .claim("userId", 7L)
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        publicExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/masterdata/products").build());
+        // The filter mutates a copy of the request, so one exchange can be reused across invocations
+        protectedExchange = MockServerWebExchange.from(MockServerHttpRequest.get(PROTECTED_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build());
+    }
+
+    private static GatewayJwtProperties properties(long tokenCacheSize) {
+        GatewayJwtProperties properties = new GatewayJwtProperties();
+        properties.setSecret(SECRET);
+        properties.setTokenCacheSize(tokenCacheSize);
+        return properties;
+    }
+
+    @Benchmark
+    public Mono<Void> publicPath() {
+        return cachingFilter.filter(publicExchange, CHAIN);
+    }
+
+    @Benchmark
+    public Mono<Void> protectedPathCachedToken() {
+        return cachingFilter.filter(protectedExchange, CHAIN);
+    }
+
+    @Benchmark
+    public Mono<Void> protectedPathUncachedToken() {
+        return nonCachingFilter.filter(protectedExchange, CHAIN);
+    }
+
+    @Benchmark
+    public boolean antPathScan() {
+        return JwtAuthenticationFilter.PUBLIC_PATHS.stream()
+                .anyMatch(pattern -> ANT_MATCHER.match(pattern, PROTECTED_PATH));
+    }
+
+    @Benchmark
+    public boolean precompiledMatcher() {
+        return publicPathMatcher.matches(protectedExchange.getRequest().getPath().pathWithinApplication());
+    }
+}
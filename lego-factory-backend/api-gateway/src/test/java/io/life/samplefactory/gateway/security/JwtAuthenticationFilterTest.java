@@ -317,6 +317,31 @@ class JwtAuthenticationFilterTest {
             
             verify(filterChain).filter(any(ServerWebExchange.class));
         }
+
+        @Test
+        @DisplayName("Should forward the same identity when the token is served from the cache")
+        void shouldReuseVerifiedTokenAndDropSpoofedHeaders() {
+            String basicToken = Jwts.builder()
+                    .setSubject("basic_user")
+                    .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+                    .signWith(SIGNING_KEY, SignatureAlgorithm.HS256)
+                    .compact();
+
+            for (int i = 0; i < 2; i++) {
+                MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                        .get("/api/customer-orders")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + basicToken)
+                        .header("X-Authenticated-Role", "ADMIN")
+                        .build());
+                jwtAuthenticationFilter.filter(exchange, filterChain).block();
+            }
+
+            verify(filterChain, times(2)).filter(argThat(ex -> {
+                HttpHeaders headers = ((ServerWebExchange) ex).getRequest().getHeaders();
+                return "basic_user".equals(headers.getFirst("X-Authenticated-User"))
+                        && !headers.containsKey("X-Authenticated-Role");
+            }));
+        }
     }
 
     // ==================== Filter Order Tests ====================
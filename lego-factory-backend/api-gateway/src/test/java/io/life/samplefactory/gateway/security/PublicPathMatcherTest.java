@@ -0,0 +1,62 @@
+package io.life.samplefactory.gateway.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.AntPathMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PublicPathMatcher.
+ *
+ * The precompiled matcher must accept exactly the paths the previous
+ * AntPathMatcher scan over the same patterns accepted.
+ */
+@DisplayName("PublicPathMatcher Tests")
+class PublicPathMatcherTest {
+
+    private static final AntPathMatcher ANT_MATCHER = new AntPathMatcher();
+
+    private final PublicPathMatcher matcher = new PublicPathMatcher(JwtAuthenticationFilter.PUBLIC_PATHS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/api/auth/login",
+        "/api/auth/login/extra",
+        "/api/auth/register",
+        "/api/masterdata/products",
+        "/api/masterdata/products/1",
+        "/api/masterdata/products/1/modules",
+        "/api/masterdata/products/1/modules/2",
+        "/api/masterdata/products/1/2/modules",
+        "/api/masterdata/modules/5/parts",
+        "/api/masterdata/modules/5",
+        "/api/health",
+        "/api/healthz",
+        "/actuator/health",
+        "/actuator/info",
+        "/actuator/metrics",
+        "/error",
+        "/api/docs/user/swagger-ui.html",
+        "/api/docs",
+        "/swagger-ui",
+        "/swagger-ui/index.html",
+        "/swagger-ui.html",
+        "/v3/api-docs",
+        "/v3/api-docs/swagger-config",
+        "/v3/api-docsx",
+        "/swagger-resources/configuration/ui",
+        "/webjars/swagger-ui/4.0/index.css",
+        "/api/customer-orders",
+        "/api/production-control-orders/workstation/3/page",
+        "/"
+    })
+    @DisplayName("Should match the same paths as the AntPathMatcher scan")
+    void shouldMatchLikeAntPathMatcher(String path) {
+        boolean expected = JwtAuthenticationFilter.PUBLIC_PATHS.stream()
+                .anyMatch(pattern -> ANT_MATCHER.match(pattern, path));
+
+        assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+    }
+}
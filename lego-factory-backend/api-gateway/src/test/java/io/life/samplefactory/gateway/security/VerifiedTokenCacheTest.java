@@ -0,0 +1,138 @@
+package io.life.samplefactory.gateway.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.life.samplefactory.gateway.security.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ *
+ * Uses a settable clock so expiry can be tested without waiting.
+ */
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T08:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private Function<String, VerifiedToken> verifierExpiringAt(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken("user-" + token, "ADMIN", "1", expiresAt);
+        };
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and reuse the result")
+    void shouldReuseVerifiedToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+        Function<String, VerifiedToken> verifier = verifierExpiringAt(NOW.plusSeconds(3600));
+
+        VerifiedToken first = cache.get("a", verifier);
+        VerifiedToken second = cache.get("a", verifier);
+        cache.get("b", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should verify again once the token has expired")
+    void shouldExpireAtTokenExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+        Function<String, VerifiedToken> verifier = verifierExpiringAt(NOW.plusSeconds(60));
+        cache.get("a", verifier);
+
+        clock.advance(Duration.ofSeconds(59));
+        cache.get("a", verifier);
+        assertThat(verifications).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("a", verifier);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens without expiry or failed verifications")
+    void shouldNotCacheNonExpiringOrInvalidTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+
+        cache.get("a", verifierExpiringAt(null));
+        assertThatThrownBy(() -> cache.get("b", token -> {
+            throw new MalformedJwtException("bad");
+        })).isInstanceOf(JwtException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should always verify when the cache size is zero")
+    void shouldBypassWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, clock);
+        Function<String, VerifiedToken> verifier = verifierExpiringAt(NOW.plusSeconds(3600));
+
+        cache.get("a", verifier);
+        cache.get("a", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should overwrite or remove client-supplied identity headers")
+    void shouldReplaceIdentityHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(VerifiedToken.USER_HEADER, "spoofed");
+        headers.set(VerifiedToken.ROLE_HEADER, "ADMIN");
+        headers.set(VerifiedToken.USER_ID_HEADER, "1");
+
+        new VerifiedToken("operator", null, "42", NOW).applyTo(headers);
+
+        assertThat(headers.getFirst(VerifiedToken.USER_HEADER)).isEqualTo("operator");
+        assertThat(headers.containsKey(VerifiedToken.ROLE_HEADER)).isFalse();
+        assertThat(headers.getFirst(VerifiedToken.USER_ID_HEADER)).isEqualTo("42");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
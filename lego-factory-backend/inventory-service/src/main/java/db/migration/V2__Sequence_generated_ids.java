@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves the stock ledger from an identity column to a pooled sequence, so
+ * Hibernate can send its inserts in JDBC batches.
+ *
+ * The sequence starts one allocation block above the highest id: the
+ * pooled optimizer hands out the block below the value it reads, so new ids
+ * continue after the existing rows. This is a Java migration because the start
+ * value depends on the data and setval() is not portable.
+ */
+public class V2__Sequence_generated_ids extends BaseJavaMigration {
+
+    /** Must match allocationSize on the entities' @SequenceGenerator */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /** Table -> sequence */
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("stock_ledger", "stock_ledger_entry_seq");
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+                String table = entry.getKey();
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("alter table " + table + " alter column id drop identity");
+                statement.execute("create sequence " + entry.getValue()
+                        + " start with " + (maxId + ALLOCATION_SIZE) + " increment by " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package io.life.inventory.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration for RestTemplate used for inter-service communication.
+ * Built from Boot's RestTemplateBuilder, so calls are observed and carry the
+ * W3C traceparent header of the current trace.
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        return builder.build();
     }
 }
@@ -0,0 +1,42 @@
+package io.life.inventory.controller;
+
+import io.life.inventory.service.StockChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push channel for stock changes, replacing interval polling of stock lists.
+ *
+ * Each "stock" event carries a StockChangeEventDto; a "reset" event tells the
+ * client to re-fetch its stock because changes could not be delivered. Only
+ * changes committed on this instance are streamed (see StockChangeFeed).
+ */
+@RestController
+@RequestMapping("/api/stock/events")
+@RequiredArgsConstructor
+@Tag(name = "Stock Events", description = "Server-sent events for stock changes")
+public class StockChangeController {
+
+	private final StockChangeFeed stockChangeFeed;
+
+	@Operation(summary = "Stream stock changes",
+	           description = "Server-sent events for stock records changed after commit. Resumes from Last-Event-ID on reconnect. "
+	                   + "Covers changes made on this instance only.")
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> stream(
+	        @Parameter(description = "Only stock of this workstation (1-9)") @RequestParam(required = false) Long workstationId,
+	        @Parameter(description = "Only items of this type (PRODUCT, MODULE, PART)") @RequestParam(required = false) String itemType,
+	        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		// Proxies must pass events on as they arrive instead of buffering the response
+		return ResponseEntity.ok()
+				.header("X-Accel-Buffering", "no")
+				.body(stockChangeFeed.stream(workstationId, itemType, lastEventId));
+	}
+
+}
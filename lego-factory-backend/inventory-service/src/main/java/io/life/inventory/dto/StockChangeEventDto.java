@@ -0,0 +1,37 @@
+package io.life.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * StockChangeEventDto - pushed on /api/stock/events when a stock record changes.
+ *
+ * version is the position in the change feed and increases with every event;
+ * recordVersion is the stock record's optimistic-lock version after the change.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockChangeEventDto {
+
+	private long version;
+
+	private Long stockRecordId;
+
+	private Long recordVersion;
+
+	private Long workstationId;
+
+	private String itemType;
+
+	private Long itemId;
+
+	private Integer quantity;
+
+	/**
+	 * True if the stock record was deleted
+	 */
+	private boolean deleted;
+
+}
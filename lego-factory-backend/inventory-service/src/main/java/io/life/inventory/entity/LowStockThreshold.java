@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "low_stock_thresholds",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"workstationId", "itemType", "itemId"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"workstationId", "itemType", "itemId"}),
+       indexes = @Index(name = "idx_low_stock_thresholds_item", columnList = "item_type, item_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
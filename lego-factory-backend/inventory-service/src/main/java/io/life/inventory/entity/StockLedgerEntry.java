@@ -8,14 +8,21 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_ledger")
+@Table(name = "stock_ledger",
+       indexes = {
+           @Index(name = "idx_stock_ledger_created", columnList = "created_at"),
+           @Index(name = "idx_stock_ledger_ws_created", columnList = "workstation_id, created_at"),
+           @Index(name = "idx_stock_ledger_item_created", columnList = "item_type, item_id, created_at"),
+           @Index(name = "idx_stock_ledger_ws_item_created", columnList = "workstation_id, item_type, item_id, created_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class StockLedgerEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_ledger_entry_seq")
+    @SequenceGenerator(name = "stock_ledger_entry_seq", sequenceName = "stock_ledger_entry_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
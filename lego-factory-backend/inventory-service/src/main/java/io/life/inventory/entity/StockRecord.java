@@ -8,7 +8,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_records")
+@Table(name = "stock_records",
+       indexes = {
+           @Index(name = "idx_stock_records_ws_item", columnList = "workstation_id, item_type, item_id"),
+           @Index(name = "idx_stock_records_item", columnList = "item_type, item_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +20,7 @@ public class StockLedgerService {
 
     private final StockRecordRepository stockRecordRepository;
     private final StockLedgerRepository stockLedgerRepository;
+    private final StockChangeFeed stockChangeFeed;
 
     @Transactional
     public StockLedgerEntryDto adjustStock(StockAdjustmentRequest req) {
@@ -38,6 +39,7 @@ public class StockLedgerService {
         int newQty = (record.getQuantity() == null ? 0 : record.getQuantity()) + req.getDelta();
         record.setQuantity(newQty);
         StockRecord saved = stockRecordRepository.save(record);
+        stockChangeFeed.publishAfterCommit(saved, false);
 
         StockLedgerEntry entry = new StockLedgerEntry();
         entry.setWorkstationId(req.getWorkstationId());
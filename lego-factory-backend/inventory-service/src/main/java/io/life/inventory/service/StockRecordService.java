@@ -24,6 +24,7 @@ public class StockRecordService {
 
 	private final StockRecordRepository repository;
 	private final MasterdataClient masterdataClient;
+	private final StockChangeFeed stockChangeFeed;
 
 	public List<StockRecordDto> findAll() {
 		return repository.findAll().stream()
@@ -103,6 +104,7 @@ public class StockRecordService {
 		try {
 			StockRecord saved = repository.save(stockRecord);
 			log.debug("Stock record saved successfully: id={}, version={}", saved.getId(), saved.getVersion());
+			stockChangeFeed.publishAfterCommit(saved, false);
 			return toDto(saved);
 		} catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
 			log.warn("Optimistic lock conflict detected for stock update - will retry. " +
@@ -166,6 +168,7 @@ public class StockRecordService {
 			StockRecord saved = repository.save(stockRecord);
 			log.debug("Stock adjustment saved: id={}, version={}, finalQty={}", 
 				saved.getId(), saved.getVersion(), saved.getQuantity());
+			stockChangeFeed.publishAfterCommit(saved, false);
 			return toDto(saved);
 		} catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
 			log.warn("Optimistic lock conflict during stock adjustment - will retry. " +
@@ -190,12 +193,14 @@ public class StockRecordService {
 		stockRecord.setLastUpdated(LocalDateTime.now());
 
 		StockRecord saved = repository.save(stockRecord);
+		stockChangeFeed.publishAfterCommit(saved, false);
 		return toDto(saved);
 	}
 
 	@SuppressWarnings("null")
 	@Transactional
 	public void deleteById(Long id) {
+		repository.findById(id).ifPresent(stockRecord -> stockChangeFeed.publishAfterCommit(stockRecord, true));
 		repository.deleteById(id);
 	}
 
@@ -0,0 +1,45 @@
+-- Baseline schema, matching the JPA entity mappings.
+-- Applied by Flyway in the postgres profile; later changes go into new V<n>__ scripts.
+
+create table low_stock_thresholds (
+    threshold integer not null,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    workstation_id bigint,
+    item_type varchar(50) not null,
+    primary key (id),
+    unique (workstation_id, item_type, item_id)
+);
+
+create table stock_ledger (
+    balance_after integer not null,
+    delta integer not null,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP not null,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    workstation_id bigint not null,
+    item_type varchar(50) not null,
+    reason_code varchar(64) not null,
+    notes varchar(512),
+    primary key (id)
+);
+
+create table stock_records (
+    quantity integer not null check (quantity>=0),
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP not null,
+    version bigint,
+    workstation_id bigint not null,
+    item_type varchar(50) not null,
+    primary key (id)
+);
+
+-- Indexes for the repository finders
+create index idx_low_stock_thresholds_item on low_stock_thresholds (item_type, item_id);
+create index idx_stock_ledger_created on stock_ledger (created_at);
+create index idx_stock_ledger_ws_created on stock_ledger (workstation_id, created_at);
+create index idx_stock_ledger_item_created on stock_ledger (item_type, item_id, created_at);
+create index idx_stock_ledger_ws_item_created on stock_ledger (workstation_id, item_type, item_id, created_at);
+create index idx_stock_records_ws_item on stock_records (workstation_id, item_type, item_id);
+create index idx_stock_records_item on stock_records (item_type, item_id);
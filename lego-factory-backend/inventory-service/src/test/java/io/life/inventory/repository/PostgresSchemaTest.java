@@ -0,0 +1,129 @@
+package io.life.inventory.repository;
+
+import io.life.inventory.entity.StockRecord;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the postgres persistence profile.
+ *
+ * Runs the Flyway migrations on H2 in PostgreSQL mode with the profile's
+ * settings (ddl-auto=validate, dedicated schema), so a migration that does not
+ * match the entity mappings fails here rather than at deployment. Only the
+ * connection settings are swapped for H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inventory_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS inventory",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("PostgreSQL Schema Tests")
+class PostgresSchemaTest {
+
+    private static final String SCHEMA = "inventory";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StockRecordRepository stockRecordRepository;
+
+    @Test
+    @DisplayName("Should apply all migrations into the service schema")
+    void shouldApplyMigrations() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.getConfiguration().getSchemas()).containsExactly(SCHEMA);
+    }
+
+    @Test
+    @DisplayName("Should index the repository finders")
+    void shouldIndexRepositoryFinders() throws SQLException {
+        assertThat(indexNames("stock_records"))
+                .contains("idx_stock_records_ws_item", "idx_stock_records_item");
+        assertThat(indexNames("stock_ledger"))
+                .contains("idx_stock_ledger_created", "idx_stock_ledger_ws_created",
+                        "idx_stock_ledger_item_created", "idx_stock_ledger_ws_item_created");
+        assertThat(indexNames("low_stock_thresholds"))
+                .contains("idx_low_stock_thresholds_item");
+    }
+
+    @Test
+    @DisplayName("Should look up stock by workstation and item through the composite index")
+    void shouldUseCompositeIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM stock_records "
+                        + "WHERE workstation_id = 7 AND item_type = 'PART' AND item_id = 3", String.class);
+
+        assertThat(plan).contains("idx_stock_records_ws_item");
+    }
+
+    @Test
+    @DisplayName("Should read and write through the repositories")
+    void shouldRoundTripThroughRepository() {
+        StockRecord record = new StockRecord();
+        record.setWorkstationId(7L);
+        record.setItemType("PART");
+        record.setItemId(3L);
+        record.setQuantity(12);
+        record.setLastUpdated(LocalDateTime.now());
+        stockRecordRepository.saveAndFlush(record);
+
+        assertThat(stockRecordRepository.findByWorkstationIdAndItemTypeAndItemId(7L, "PART", 3L))
+                .get().extracting(StockRecord::getQuantity).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should reject negative stock in the database")
+    void shouldRejectNegativeStock() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO stock_records (workstation_id, item_type, item_id, quantity, last_updated) "
+                        + "VALUES (7, 'PART', 4, -1, CURRENT_TIMESTAMP)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Set<String> indexNames(String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet indexes = connection.getMetaData().getIndexInfo(null, SCHEMA, table, false, false)) {
+            while (indexes.next()) {
+                names.add(indexes.getString("INDEX_NAME"));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,174 @@
+package io.life.inventory.service;
+
+import io.life.inventory.dto.StockChangeEventDto;
+import io.life.inventory.entity.StockRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for StockChangeFeed
+ *
+ * Test Coverage:
+ * - Publishing after commit only
+ * - Filtering by workstation and item type
+ * - Resume through Last-Event-ID
+ * - Reset on queue overflow
+ */
+@DisplayName("StockChangeFeed Tests")
+class StockChangeFeedTest {
+
+    private List<Runnable> pendingSends;
+    private StockChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        pendingSends = new ArrayList<>();
+        feed = new StockChangeFeed(pendingSends::add, null, 0, 5, 3, 60_000, 3_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void flush() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    private static StockRecord record(long id, long workstationId, String itemType, int quantity) {
+        StockRecord record = new StockRecord();
+        record.setId(id);
+        record.setVersion(3L);
+        record.setWorkstationId(workstationId);
+        record.setItemType(itemType);
+        record.setItemId(10L);
+        record.setQuantity(quantity);
+        return record;
+    }
+
+    private RecordingEmitter subscribe(Long workstationId, String itemType, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(emitter, workstationId, itemType, lastEventId);
+        flush();
+        return emitter;
+    }
+
+    @Test
+    @DisplayName("SCF-001: publishes only once the transaction commits")
+    void publishesAfterCommit() {
+        RecordingEmitter emitter = subscribe(null, null, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        feed.publishAfterCommit(record(1, 7, "PRODUCT", 40), false);
+        flush();
+        assertThat(emitter.changes()).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        flush();
+
+        assertThat(emitter.changes()).singleElement().satisfies(change -> {
+            assertThat(change.getStockRecordId()).isEqualTo(1L);
+            assertThat(change.getRecordVersion()).isEqualTo(3L);
+            assertThat(change.getQuantity()).isEqualTo(40);
+            assertThat(change.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("SCF-002: filters by workstation and item type")
+    void filtersByWorkstationAndItemType() {
+        RecordingEmitter workstation = subscribe(7L, null, null);
+        RecordingEmitter itemType = subscribe(null, "part", null);
+
+        feed.publishAfterCommit(record(1, 7, "PRODUCT", 40), false);
+        feed.publishAfterCommit(record(2, 9, "PART", 500), false);
+        flush();
+
+        assertThat(workstation.changes()).extracting(StockChangeEventDto::getStockRecordId).containsExactly(1L);
+        assertThat(itemType.changes()).extracting(StockChangeEventDto::getStockRecordId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("SCF-003: resumes after Last-Event-ID")
+    void resumesAfterLastEventId() {
+        RecordingEmitter first = subscribe(null, null, null);
+        feed.publishAfterCommit(record(1, 7, "PRODUCT", 40), false);
+        flush();
+        String lastEventId = first.lastId();
+        feed.publishAfterCommit(record(2, 7, "PRODUCT", 39), false);
+
+        RecordingEmitter resumed = subscribe(null, null, lastEventId);
+
+        assertThat(resumed.changes()).extracting(StockChangeEventDto::getStockRecordId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("SCF-004: replaces the queue of a slow client with a reset")
+    void resetsOnOverflow() {
+        RecordingEmitter emitter = subscribe(null, null, null);
+
+        for (long id = 1; id <= 4; id++) {
+            feed.publishAfterCommit(record(id, 7, "PRODUCT", 40), false);
+        }
+        flush();
+
+        assertThat(emitter.names).containsExactly(null, "reset");
+        assertThat(emitter.changes()).isEmpty();
+    }
+
+    /**
+     * SseEmitter that records what is sent instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> names = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<Object> data = new ArrayList<>();
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (var part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data.add(part.getData());
+                }
+            }
+            names.add(field(text.toString(), "event:"));
+            ids.add(field(text.toString(), "id:"));
+        }
+
+        private static String field(String text, String prefix) {
+            return text.lines().filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .findFirst().orElse(null);
+        }
+
+        String lastId() {
+            return ids.get(ids.size() - 1);
+        }
+
+        List<StockChangeEventDto> changes() {
+            return data.stream()
+                    .filter(StockChangeEventDto.class::isInstance)
+                    .map(StockChangeEventDto.class::cast)
+                    .toList();
+        }
+    }
+}
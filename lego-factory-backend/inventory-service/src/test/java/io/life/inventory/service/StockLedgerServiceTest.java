@@ -46,6 +46,9 @@ class StockLedgerServiceTest {
     @Mock
     private StockLedgerRepository stockLedgerRepository;
 
+    @Mock
+    private StockChangeFeed stockChangeFeed;
+
     @InjectMocks
     private StockLedgerService stockLedgerService;
 
@@ -45,6 +45,9 @@ class StockRecordServiceTest {
     @Mock
     private MasterdataClient masterdataClient;
 
+    @Mock
+    private StockChangeFeed stockChangeFeed;
+
     @InjectMocks
     private StockRecordService stockRecordService;
 
@@ -236,6 +239,17 @@ class StockRecordServiceTest {
             verify(repository).save(testStockRecord);
         }
 
+        @Test
+        @DisplayName("SRS-019: updateStock publishes the saved record")
+        void updateStock_publishesChange() {
+            when(repository.findByWorkstationIdAndItemTypeAndItemId(7L, "PRODUCT", 1L))
+                    .thenReturn(Optional.of(testStockRecord));
+
+            stockRecordService.updateStock(7L, "PRODUCT", 1L, 150);
+
+            verify(stockChangeFeed).publishAfterCommit(testStockRecord, false);
+        }
+
         @Test
         @DisplayName("SRS-012: updateStock creates new record when not exists")
         void updateStock_createsNewRecordWhenNotExists() {
@@ -321,6 +335,16 @@ class StockRecordServiceTest {
 
             verify(repository).deleteById(1L);
         }
+
+        @Test
+        @DisplayName("SRS-020: deleteById publishes the deleted record")
+        void deleteById_publishesDeletion() {
+            when(repository.findById(1L)).thenReturn(Optional.of(testStockRecord));
+
+            stockRecordService.deleteById(1L);
+
+            verify(stockChangeFeed).publishAfterCommit(testStockRecord, true);
+        }
     }
 
     @Nested
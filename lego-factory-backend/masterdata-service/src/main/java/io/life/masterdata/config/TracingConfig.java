@@ -0,0 +1,23 @@
+package io.life.masterdata.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exports finished spans as OTLP JSON lines to logs/traces.jsonl (see logback.xml)
+ * when tracing.file-export.enabled=true; off by default.
+ *
+ * Masterdata requests join the trace started at the gateway through the traceparent header.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-export.enabled", havingValue = "true")
+    public SpanExporter traceFileExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -6,7 +6,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "module_parts")
+@Table(name = "module_parts",
+       indexes = {
+           @Index(name = "idx_module_parts_module", columnList = "module_id"),
+           @Index(name = "idx_module_parts_part", columnList = "part_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
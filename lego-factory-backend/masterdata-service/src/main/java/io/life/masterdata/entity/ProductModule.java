@@ -6,7 +6,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "product_modules")
+@Table(name = "product_modules",
+       indexes = {
+           @Index(name = "idx_product_modules_product", columnList = "product_id"),
+           @Index(name = "idx_product_modules_module", columnList = "module_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
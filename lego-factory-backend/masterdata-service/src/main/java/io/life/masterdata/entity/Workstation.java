@@ -6,7 +6,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "workstations")
+@Table(name = "workstations",
+       indexes = {
+           @Index(name = "idx_workstations_active", columnList = "active")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,61 @@
+-- Baseline schema, matching the JPA entity mappings.
+-- Applied by Flyway in the postgres profile; later changes go into new V<n>__ scripts.
+
+create table module_parts (
+    quantity integer not null,
+    id bigint generated by default as identity,
+    module_id bigint not null,
+    part_id bigint not null,
+    primary key (id)
+);
+
+create table modules (
+    production_workstation_id integer,
+    id bigint generated by default as identity,
+    name varchar(100) not null unique,
+    description varchar(500),
+    type varchar(255) not null,
+    primary key (id)
+);
+
+create table parts (
+    unit_cost float(53) not null,
+    id bigint generated by default as identity,
+    name varchar(100) not null unique,
+    description varchar(500),
+    category varchar(255) not null,
+    primary key (id)
+);
+
+create table product_modules (
+    quantity integer not null,
+    id bigint generated by default as identity,
+    module_id bigint not null,
+    product_id bigint not null,
+    primary key (id)
+);
+
+create table products (
+    estimated_time_minutes integer not null,
+    price float(53) not null,
+    id bigint generated by default as identity,
+    name varchar(100) not null unique,
+    description varchar(500),
+    primary key (id)
+);
+
+create table workstations (
+    active boolean not null,
+    id bigint generated by default as identity,
+    workstation_type varchar(50),
+    name varchar(100) not null unique,
+    description varchar(500),
+    primary key (id)
+);
+
+-- Indexes for the repository finders
+create index idx_module_parts_module on module_parts (module_id);
+create index idx_module_parts_part on module_parts (part_id);
+create index idx_product_modules_product on product_modules (product_id);
+create index idx_product_modules_module on product_modules (module_id);
+create index idx_workstations_active on workstations (active);
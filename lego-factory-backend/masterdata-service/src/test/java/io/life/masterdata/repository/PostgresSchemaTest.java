@@ -0,0 +1,106 @@
+package io.life.masterdata.repository;
+
+import io.life.masterdata.entity.ModulePart;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the postgres persistence profile.
+ *
+ * Runs the Flyway migrations on H2 in PostgreSQL mode with the profile's
+ * settings (ddl-auto=validate, dedicated schema), so a migration that does not
+ * match the entity mappings fails here rather than at deployment. Only the
+ * connection settings are swapped for H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:masterdata_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS masterdata",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("PostgreSQL Schema Tests")
+class PostgresSchemaTest {
+
+    private static final String SCHEMA = "masterdata";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ModulePartRepository modulePartRepository;
+
+    @Test
+    @DisplayName("Should apply all migrations into the service schema")
+    void shouldApplyMigrations() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.getConfiguration().getSchemas()).containsExactly(SCHEMA);
+    }
+
+    @Test
+    @DisplayName("Should index the repository finders")
+    void shouldIndexRepositoryFinders() throws SQLException {
+        assertThat(indexNames("module_parts")).contains("idx_module_parts_module", "idx_module_parts_part");
+        assertThat(indexNames("product_modules")).contains("idx_product_modules_product", "idx_product_modules_module");
+        assertThat(indexNames("workstations")).contains("idx_workstations_active");
+    }
+
+    @Test
+    @DisplayName("Should look up a module's parts through the index")
+    void shouldUseModuleIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM module_parts WHERE module_id = 5", String.class);
+
+        assertThat(plan).contains("idx_module_parts_module");
+    }
+
+    @Test
+    @DisplayName("Should read and write through the repositories")
+    void shouldRoundTripThroughRepository() {
+        modulePartRepository.saveAndFlush(new ModulePart(5L, 11L, 2));
+
+        assertThat(modulePartRepository.findByModuleId(5L))
+                .singleElement().extracting(ModulePart::getPartId).isEqualTo(11L);
+    }
+
+    private Set<String> indexNames(String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet indexes = connection.getMetaData().getIndexInfo(null, SCHEMA, table, false, false)) {
+            while (indexes.next()) {
+                names.add(indexes.getString("INDEX_NAME"));
+            }
+        }
+        return names;
+    }
+}
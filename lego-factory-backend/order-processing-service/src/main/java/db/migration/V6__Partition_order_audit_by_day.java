@@ -0,0 +1,99 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.TreeSet;
+
+/**
+ * Rebuilds order_audit as a table range-partitioned by audit_day on PostgreSQL,
+ * with one partition per day, so OrderAuditRetentionJob can drop expired days
+ * as whole partitions instead of deleting rows.
+ *
+ * Existing rows are copied into partitions for their days; partitions for the
+ * next days are created ahead, and a default partition catches any day the
+ * retention job has not created yet. The primary key includes audit_day, as
+ * PostgreSQL requires for partitioned tables, and ids come from a sequence
+ * continuing after the highest existing id. On other databases the table is
+ * left as it is and retention falls back to deleting by audit_day.
+ *
+ * The H2 tests skip this migration; OrderAuditPartitionMigrationTest runs it
+ * on PostgreSQL in a container and is skipped where Docker is unavailable.
+ */
+public class V6__Partition_order_audit_by_day extends BaseJavaMigration {
+
+    /** Must match OrderAuditRetentionJob.PARTITION_PREFIX */
+    static final String PARTITION_PREFIX = "order_audit_p";
+
+    /** Days after today that get a partition up front */
+    private static final int DAYS_AHEAD = 7;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            long maxId;
+            TreeSet<LocalDate> days = new TreeSet<>();
+            try (ResultSet rs = statement.executeQuery("select coalesce(max(id), 0) from order_audit")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            try (ResultSet rs = statement.executeQuery("select distinct audit_day from order_audit")) {
+                while (rs.next()) {
+                    days.add(rs.getObject(1, Date.class).toLocalDate());
+                }
+            }
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i <= DAYS_AHEAD; i++) {
+                days.add(today.plusDays(i));
+            }
+
+            statement.execute("alter table order_audit rename to order_audit_unpartitioned");
+            statement.execute("drop index idx_order_audit_order");
+            statement.execute("drop index idx_order_audit_created");
+            statement.execute("drop index idx_order_audit_day");
+
+            statement.execute("create sequence order_audit_seq start with " + (maxId + 1));
+            statement.execute("create table order_audit ("
+                    + " audit_day date not null,"
+                    + " created_at timestamp(6) not null,"
+                    + " id bigint not null default nextval('order_audit_seq'),"
+                    + " order_id bigint not null,"
+                    + " user_id bigint,"
+                    + " user_role varchar(50),"
+                    + " description varchar(1000),"
+                    + " event_type varchar(255) not null,"
+                    + " order_type varchar(255) not null,"
+                    + " primary key (id, audit_day)"
+                    + ") partition by range (audit_day)");
+            statement.execute("alter sequence order_audit_seq owned by order_audit.id");
+            statement.execute("create index idx_order_audit_order on order_audit (order_type, order_id, created_at)");
+            statement.execute("create index idx_order_audit_created on order_audit (created_at)");
+
+            for (LocalDate day : days) {
+                statement.execute(createPartition(day));
+            }
+            statement.execute("create table " + PARTITION_PREFIX + "default partition of order_audit default");
+
+            statement.execute("insert into order_audit"
+                    + " (audit_day, created_at, id, order_id, user_id, user_role, description, event_type, order_type)"
+                    + " select audit_day, created_at, id, order_id, user_id, user_role, description, event_type, order_type"
+                    + " from order_audit_unpartitioned");
+            statement.execute("drop table order_audit_unpartitioned");
+        }
+    }
+
+    static String createPartition(LocalDate day) {
+        return "create table if not exists " + PARTITION_PREFIX + day.toString().replace("-", "")
+                + " partition of order_audit for values from ('" + day + "') to ('" + day.plusDays(1) + "')";
+    }
+}
@@ -0,0 +1,34 @@
+package io.life.order.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method as a stage of the order chain.
+ *
+ * Each call is timed as order.stage.duration, and the number of remote calls it
+ * made is recorded as order.stage.downstream.calls, both tagged with the stage name.
+ * It also gets its own span in the request's trace.
+ *
+ * <p>Usage Example:</p>
+ * <pre>{@code
+ * @OrderStage("customer-order.confirm")
+ * public CustomerOrderDTO confirmOrder(Long id) { ... }
+ * }</pre>
+ *
+ * @see io.life.order.metrics.OrderStageMetricsAspect
+ * @see io.life.order.tracing.OrderTracingAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OrderStage {
+
+    /**
+     * Stage name, e.g. "customer-order.confirm"
+     */
+    String value();
+}
@@ -1,16 +1,23 @@
 package io.life.order.client;
 
+import io.life.order.dto.simal.TaskStatusUpdateRequest;
+import io.life.order.dto.simal.TaskStatusUpdateResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 /**
  * SimalClient
  * 
  * REST client for communicating with SimAL Integration Service.
  * Used to update scheduled task status when workstation orders change status.
+ * Status updates are not sent inline; they are queued via SimalTaskStatusOutbox
+ * and delivered in batches by SimalTaskStatusDispatcher.
  */
 @Component
 @Slf4j
@@ -26,40 +33,36 @@ public class SimalClient {
     }
 
     /**
-     * Update scheduled task status in SimAL service.
-     * Called when workstation orders change status (START, COMPLETE, HALT).
+     * Update the status of several scheduled tasks in SimAL with a single request.
+     * Called by SimalTaskStatusDispatcher when draining the task status outbox.
+     * 
+     * Unlike the previous per-task call, errors are propagated so the caller
+     * can keep the updates in the outbox and retry them later.
      * 
-     * @param taskId The scheduled task ID (workstation-{wsId}-{orderNumber})
-     * @param newStatus The new status (IN_PROGRESS, COMPLETED, HALTED)
+     * @param updates Coalesced status updates (at most one per task)
+     * @return Number of updated tasks and task IDs unknown to SimAL
+     * @throws RestClientException if SimAL is unreachable or rejects the batch
      */
-    public void updateTaskStatus(String taskId, String newStatus) {
-        try {
-            String url = simalServiceUrl + "/api/simal/tasks/" + taskId + "/status";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // Send status update as JSON body
-            String requestBody = "{\"status\":\"" + newStatus + "\"}";
-            HttpEntity<String> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Void> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.PATCH,
-                    request,
-                    Void.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.info("✓ Updated task {} status to {} in SimAL", taskId, newStatus);
-            } else {
-                log.warn("Failed to update task {} status: HTTP {}", taskId, response.getStatusCode());
-            }
-            
-        } catch (Exception e) {
-            // Don't fail the workstation order if task update fails
-            log.error("Error updating task {} status in SimAL: {}", taskId, e.getMessage());
+    public TaskStatusUpdateResponse updateTaskStatuses(List<TaskStatusUpdateRequest> updates) {
+        String url = simalServiceUrl + "/api/simal/tasks/status";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<List<TaskStatusUpdateRequest>> request = new HttpEntity<>(updates, headers);
+
+        ResponseEntity<TaskStatusUpdateResponse> response = restTemplate.exchange(
+                url,
+                HttpMethod.PATCH,
+                request,
+                TaskStatusUpdateResponse.class
+        );
+
+        TaskStatusUpdateResponse body = response.getBody();
+        if (body == null) {
+            body = TaskStatusUpdateResponse.builder().updated(updates.size()).build();
         }
+        log.info("✓ Updated {} task statuses in SimAL ({} unknown)", body.getUpdated(), body.getNotFound().size());
+        return body;
     }
 
     /**
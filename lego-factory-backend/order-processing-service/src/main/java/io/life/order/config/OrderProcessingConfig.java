@@ -248,11 +248,16 @@ public class OrderProcessingConfig {
         private String supplyOrderPrefix = "SO-";
 
         /**
-         * Length of the random suffix in order numbers (default: 8)
+         * Numbers reserved per database round trip by each instance (default: 1000)
          */
-        @Min(4)
-        @Max(16)
-        private int randomSuffixLength = 8;
+        @Min(1)
+        private int blockSize = 1000;
+
+        /**
+         * First number of a newly created sequence (default: 1001)
+         */
+        @Min(1)
+        private long initialValue = 1001;
     }
 
     // ========================================
@@ -1,10 +1,11 @@
 package io.life.order.config;
 
+import io.life.order.metrics.DownstreamCallMetrics;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
@@ -15,15 +16,16 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
-import java.util.concurrent.Executor;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Configuration class for the Order Processing Service.
- * Sets up beans and configurations for REST communication, async processing, etc.
+ * Sets up beans and configurations for REST communication, etc.
+ * Scheduling is enabled for background outbox dispatchers.
+ * Long-running production operations run on ProductionJobScheduler.
  */
 @Configuration
-@EnableAsync
+@EnableScheduling
 public class OrderProcessingServiceConfig {
 
     /**
@@ -31,16 +33,20 @@ public class OrderProcessingServiceConfig {
      * Configured with:
      * - Apache HttpClient for PATCH support (required for SimAL task updates)
      * - Interceptor to forward JWT authentication headers
+     * - Interceptor timing every call (order.downstream.requests)
+     * - Observations, which add the W3C traceparent header to every call
      */
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(DownstreamCallMetrics downstreamCallMetrics,
+                                     ObservationRegistry observationRegistry) {
         // Use HttpComponentsClientHttpRequestFactory for PATCH support
         HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
         requestFactory.setConnectTimeout(5000);
         requestFactory.setConnectionRequestTimeout(5000);
         
         RestTemplate restTemplate = new RestTemplate(requestFactory);
-        restTemplate.setInterceptors(Collections.singletonList(new ClientHttpRequestInterceptor() {
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setInterceptors(List.of(downstreamCallMetrics.serviceInterceptor(), new ClientHttpRequestInterceptor() {
             @Override
             public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
                 // Get current HTTP request context
@@ -71,18 +77,4 @@ public class OrderProcessingServiceConfig {
         }));
         return restTemplate;
     }
-
-    /**
-     * Async executor for processing long-running tasks
-     */
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("order-processing-");
-        executor.initialize();
-        return executor;
-    }
 }
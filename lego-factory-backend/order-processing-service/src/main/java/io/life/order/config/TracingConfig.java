@@ -0,0 +1,25 @@
+package io.life.order.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exports finished spans as OTLP JSON lines to logs/traces.jsonl (see logback.xml)
+ * when tracing.file-export.enabled=true; off by default.
+ *
+ * Trace context travels between services in W3C traceparent headers; the files of
+ * all services together hold every span of a trace. They can be read offline with
+ * jq or replayed into a collector with its otlpjsonfile receiver.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-export.enabled", havingValue = "true")
+    public SpanExporter traceFileExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -1,8 +1,12 @@
 package io.life.order.controller;
 
+import io.life.order.dto.PageResponse;
 import io.life.order.dto.request.HaltRequest;
 import io.life.order.dto.request.NotesRequest;
+import io.life.order.dto.request.OrderQuery;
 import io.life.order.service.WorkstationOrderOperations;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -48,6 +52,16 @@ public abstract class AbstractWorkstationController<T, S extends WorkstationOrde
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Get one page of a workstation's orders, filtered, sorted and paged in the database.
+     * Totals are only counted with includeTotal=true.
+     */
+    @GetMapping("/workstation/{workstationId}/page")
+    public ResponseEntity<PageResponse<T>> getOrderPageByWorkstation(@PathVariable Long workstationId,
+                                                                     @ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(service.queryOrdersByWorkstation(workstationId, query));
+    }
+
     /**
      * Get active (IN_PROGRESS) orders for a workstation.
      */
@@ -5,11 +5,16 @@ import io.life.order.dto.SupplyOrderDTO;
 import io.life.order.dto.request.AssemblyControlOrderCreateRequest;
 import io.life.order.dto.request.RequestPartsRequest;
 import io.life.order.service.AssemblyControlOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,6 +49,15 @@ public class AssemblyControlOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query assembly control orders (paged)",
+               description = "One page of assembly control orders, filtered by status, assigned workstation, priority and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of assembly control orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<AssemblyControlOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(assemblyControlOrderService.queryOrders(query));
+    }
+
     @Operation(summary = "Get orders by workstation", 
                description = "Retrieve assembly control orders assigned to a specific workstation")
     @ApiResponse(responseCode = "200", description = "List of orders for workstation")
@@ -233,4 +247,31 @@ public class AssemblyControlOrderController {
         );
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
+
+    /**
+     * Create all assembly control orders of a SimAL schedule in one request.
+     * Called by the SimAL integration service when dispatching a schedule. The orders
+     * are persisted in a single transaction, and re-sending the same schedule returns
+     * the existing orders instead of creating duplicates. When a concurrent request
+     * created some of them first, the unique index rejects this one and it is repeated
+     * once, returning those orders as already existing.
+     */
+    @Operation(summary = "Bulk create assembly control orders",
+               description = "Create all assembly control orders of a SimAL schedule atomically")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Control orders created"),
+        @ApiResponse(responseCode = "400", description = "Empty or invalid request")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<AssemblyControlOrderDTO>> createControlOrders(
+            @RequestBody List<AssemblyControlOrderCreateRequest> requests) {
+        List<AssemblyControlOrderDTO> orders;
+        try {
+            orders = assemblyControlOrderService.createControlOrders(requests);
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently for the same schedule and workstation
+            orders = assemblyControlOrderService.createControlOrders(requests);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders);
+    }
 }
@@ -12,8 +12,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -22,7 +24,7 @@ import java.util.Map;
  * REST controller for asynchronous production operations.
  * Provides endpoints for:
  * - Initiating long-running operations (returns immediately with operation ID)
- * - Polling operation status
+ * - Polling or streaming (SSE) operation status
  * - Listing active/completed operations
  * 
  * When async is disabled, operations execute synchronously and return results directly.
@@ -71,6 +73,23 @@ public class AsyncOperationController {
         return ResponseEntity.ok(status);
     }
 
+    @Operation(summary = "Stream operation status",
+               description = "Server-sent events with the operation's status: the current state first, then " +
+                            "a 'progress' event per update and a final 'complete' event when it finishes")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @ApiResponse(responseCode = "404", description = "Operation not found")
+    @GetMapping(value = "/operations/{operationId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOperationStatus(
+            @Parameter(description = "Async operation ID (UUID)")
+            @PathVariable String operationId) {
+
+        SseEmitter emitter = asyncProductionService.streamOperationStatus(operationId);
+        if (emitter == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     @Operation(summary = "List active operations",
                description = "Get all pending or processing async operations")
     @GetMapping("/operations/active")
@@ -99,6 +118,7 @@ public class AsyncOperationController {
                             "If async is disabled, executes synchronously and returns result.")
     @ApiResponse(responseCode = "202", description = "Async operation accepted (async mode)")
     @ApiResponse(responseCode = "200", description = "Schedule completed (sync mode)")
+    @ApiResponse(responseCode = "429", description = "Too many scheduling operations queued, retry after Retry-After seconds")
     @PostMapping("/production-orders/{id}/schedule")
     public ResponseEntity<?> scheduleProduction(
             @Parameter(description = "Production order ID") @PathVariable Long id,
@@ -125,7 +145,8 @@ public class AsyncOperationController {
                             "status", operation.getStatus(),
                             "message", "Schedule production initiated. Poll /api/async/operations/" + 
                                       operation.getOperationId() + " for status.",
-                            "pollUrl", "/api/async/operations/" + operation.getOperationId()
+                            "pollUrl", "/api/async/operations/" + operation.getOperationId(),
+                            "streamUrl", "/api/async/operations/" + operation.getOperationId() + "/stream"
                     ));
         } else {
             // Sync mode: execute immediately
@@ -152,6 +173,7 @@ public class AsyncOperationController {
                             "and AssemblyControlOrder entities. If async is enabled, returns operation ID immediately.")
     @ApiResponse(responseCode = "202", description = "Async operation accepted (async mode)")
     @ApiResponse(responseCode = "200", description = "Dispatch completed (sync mode)")
+    @ApiResponse(responseCode = "429", description = "Too many dispatch operations queued, retry after Retry-After seconds")
     @PostMapping("/production-orders/{id}/dispatch")
     public ResponseEntity<?> dispatchControlOrders(
             @Parameter(description = "Production order ID") @PathVariable Long id,
@@ -174,7 +196,8 @@ public class AsyncOperationController {
                             "status", operation.getStatus(),
                             "message", "Control order dispatch initiated. Poll /api/async/operations/" + 
                                       operation.getOperationId() + " for status.",
-                            "pollUrl", "/api/async/operations/" + operation.getOperationId()
+                            "pollUrl", "/api/async/operations/" + operation.getOperationId(),
+                            "streamUrl", "/api/async/operations/" + operation.getOperationId() + "/stream"
                     ));
         } else {
             // Sync mode: execute immediately
@@ -2,13 +2,17 @@ package io.life.order.controller;
 
 import io.life.order.config.OrderProcessingConfig;
 import io.life.order.dto.CustomerOrderDTO;
+import io.life.order.dto.CustomerOrderSummaryDTO;
 import io.life.order.service.CustomerOrderService;
 import io.life.order.service.FulfillmentService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -58,6 +62,22 @@ public class CustomerOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query customer orders (paged)",
+               description = "One page of customer orders, filtered by status, workstation and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of customer orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<CustomerOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(customerOrderService.queryOrders(query));
+    }
+
+    @Operation(summary = "Get customer order summaries",
+               description = "List view of all customer orders, newest first: order columns and an item count, without items")
+    @GetMapping("/summary")
+    public ResponseEntity<List<CustomerOrderSummaryDTO>> getOrderSummaries() {
+        return ResponseEntity.ok(customerOrderService.getOrderSummaries());
+    }
+
     @Operation(summary = "Get customer order by ID", description = "Retrieves a specific customer order by its database ID")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Order found"),
@@ -1,12 +1,17 @@
 package io.life.order.controller;
 
 import io.life.order.dto.FinalAssemblyOrderDTO;
+import io.life.order.dto.FinalAssemblyOrderSummaryDTO;
 import io.life.order.service.FinalAssemblyOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,6 +37,22 @@ public class FinalAssemblyOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query final assembly orders (paged)",
+               description = "One page of final assembly orders, filtered by status, workstation and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of final assembly orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<FinalAssemblyOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(finalAssemblyOrderService.queryOrders(query));
+    }
+
+    @Operation(summary = "Get final assembly order summaries", description = "List view of all orders for WS-6, newest first")
+    @ApiResponse(responseCode = "200", description = "List of order summaries")
+    @GetMapping("/summary")
+    public ResponseEntity<List<FinalAssemblyOrderSummaryDTO>> getOrderSummaries() {
+        return ResponseEntity.ok(finalAssemblyOrderService.getOrderSummaries());
+    }
+
     @Operation(summary = "Get order by ID", description = "Retrieve a specific final assembly order")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Order found"),
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
  * 
  * Endpoints inherited from base class:
  * - GET /workstation/{workstationId} - Get all orders for workstation
+ * - GET /workstation/{workstationId}/page - Get one filtered page of orders for workstation
  * - GET /workstation/{workstationId}/active - Get active orders
  * - GET /workstation/{workstationId}/unassigned - Get unassigned orders
  * - GET /{id} - Get order by ID
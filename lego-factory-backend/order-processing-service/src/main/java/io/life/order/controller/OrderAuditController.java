@@ -1,9 +1,14 @@
 package io.life.order.controller;
 
+import io.life.order.dto.AuditFeedDTO;
 import io.life.order.entity.OrderAudit;
+import io.life.order.service.AuditFeedService;
 import io.life.order.service.OrderAuditService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -11,9 +16,11 @@ import java.util.List;
 @RequestMapping("/api/orders/audit")
 public class OrderAuditController {
     private final OrderAuditService auditService;
+    private final AuditFeedService auditFeedService;
 
-    public OrderAuditController(OrderAuditService auditService) {
+    public OrderAuditController(OrderAuditService auditService, AuditFeedService auditFeedService) {
         this.auditService = auditService;
+        this.auditFeedService = auditFeedService;
     }
 
     @GetMapping
@@ -32,6 +39,39 @@ public class OrderAuditController {
         return ResponseEntity.ok(auditService.findRecent(limit));
     }
     
+    /**
+     * Audit events after a cursor. Without "after", returns the latest events and
+     * their cursor to continue from.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<AuditFeedDTO> feed(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(auditFeedService.readAfter(after, limit));
+    }
+
+    /**
+     * Long-poll variant of /feed: holds the request until new events arrive or waitMs passes.
+     */
+    @GetMapping("/feed/poll")
+    public DeferredResult<AuditFeedDTO> pollFeed(
+            @RequestParam long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "25000") long waitMs) {
+        return auditFeedService.poll(after, limit, waitMs);
+    }
+
+    /**
+     * Server-sent events variant of /feed. Resumes from Last-Event-ID on reconnect;
+     * without a cursor, streams only events written from now on.
+     */
+    @GetMapping(value = "/feed/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeed(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return auditFeedService.stream(lastEventId != null ? lastEventId : after);
+    }
+
     @PostMapping("/login")
     public ResponseEntity<OrderAudit> logLogin(
             @RequestHeader(value = "X-User-Id", required = false) String userId,
@@ -0,0 +1,43 @@
+package io.life.order.controller;
+
+import io.life.order.service.OrderChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push channel for order changes, replacing interval polling of order lists.
+ *
+ * Each "order" event carries an OrderChangeEventDTO; a "reset" event tells the
+ * client to re-fetch its lists because changes could not be delivered. Only
+ * changes committed on this instance are streamed (see OrderChangeFeed).
+ */
+@RestController
+@RequestMapping("/api/orders/events")
+@Tag(name = "Order Events", description = "Server-sent events for order creation and status changes")
+@RequiredArgsConstructor
+public class OrderChangeController {
+
+    private final OrderChangeFeed orderChangeFeed;
+
+    @Operation(summary = "Stream order changes",
+            description = "Server-sent events for orders created or changing status after commit. "
+                    + "Resumes from Last-Event-ID on reconnect. Covers changes made on this instance only.")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @Parameter(description = "Only orders shown on this workstation")
+            @RequestParam(required = false) Long workstationId,
+            @Parameter(description = "Only orders of this type, e.g. GEAR_ASSEMBLY or CUSTOMER_ORDER")
+            @RequestParam(required = false) String orderType,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // Proxies must pass events on as they arrive instead of buffering the response
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(orderChangeFeed.stream(workstationId, orderType, lastEventId));
+    }
+}
@@ -0,0 +1,64 @@
+package io.life.order.controller;
+
+import io.life.order.dto.OrderDashboardRowDTO;
+import io.life.order.dto.WorkstationDashboardDTO;
+import io.life.order.exception.EntityNotFoundException;
+import io.life.order.service.OrderDashboardProjection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Read endpoints served from the in-memory dashboard read model instead of the order tables.
+ *
+ * Responses are current up to lastEventId; subscribing to /api/orders/events with it
+ * as Last-Event-ID keeps a dashboard current without polling.
+ */
+@RestController
+@RequestMapping("/api/orders/dashboard")
+@Tag(name = "Order Dashboard", description = "Precomputed workstation dashboards and order progress")
+@RequiredArgsConstructor
+public class OrderDashboardController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final OrderDashboardProjection projection;
+
+    @Operation(summary = "Workstation dashboard",
+            description = "Order counts by type and status and the open orders of a workstation")
+    @GetMapping("/workstations/{workstationId}")
+    public ResponseEntity<WorkstationDashboardDTO> getWorkstation(
+            @PathVariable Long workstationId,
+            @Parameter(description = "Only orders of this type, e.g. GEAR_ASSEMBLY or CUSTOMER_ORDER")
+            @RequestParam(required = false) String orderType) {
+        if (!projection.isReady()) {
+            return loading();
+        }
+        return ResponseEntity.ok(projection.getWorkstation(workstationId, orderType));
+    }
+
+    @Operation(summary = "Order progress",
+            description = "Status of one open or recently closed order and how many of the orders "
+                    + "counting towards it are done")
+    @GetMapping("/orders/{orderType}/{orderId}")
+    public ResponseEntity<OrderDashboardRowDTO> getOrder(@PathVariable String orderType,
+                                                         @PathVariable Long orderId) {
+        if (!projection.isReady()) {
+            return loading();
+        }
+        return projection.getOrder(orderType, orderId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new EntityNotFoundException(orderType, orderId));
+    }
+
+    private static <T> ResponseEntity<T> loading() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+}
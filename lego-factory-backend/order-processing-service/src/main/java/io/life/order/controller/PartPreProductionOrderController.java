@@ -2,11 +2,15 @@ package io.life.order.controller;
 
 import io.life.order.entity.PartPreProductionOrder;
 import io.life.order.service.PartPreProductionOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -38,6 +42,15 @@ public class PartPreProductionOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query part pre-production orders (paged)",
+               description = "One page of part pre-production orders, filtered by status, workstation, priority and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of part pre-production orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<PartPreProductionOrder>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(partPreProductionOrderService.queryOrders(query));
+    }
+
     @Operation(summary = "Get orders by workstation", description = "Retrieve orders for a specific workstation")
     @ApiResponse(responseCode = "200", description = "List of orders")
     @GetMapping("/workstation/{workstationId}")
@@ -8,11 +8,16 @@ import io.life.order.dto.request.NotesRequest;
 import io.life.order.dto.request.ProductionControlOrderCreateRequest;
 import io.life.order.dto.request.RequestPartsRequest;
 import io.life.order.service.ProductionControlOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -47,6 +52,15 @@ public class ProductionControlOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query production control orders (paged)",
+               description = "One page of production control orders, filtered by status, assigned workstation, priority and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of production control orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<ProductionControlOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(productionControlOrderService.queryOrders(query));
+    }
+
     @Operation(summary = "Get orders by workstation", 
                description = "Retrieve production control orders assigned to a specific workstation")
     @ApiResponse(responseCode = "200", description = "List of orders for workstation")
@@ -238,4 +252,31 @@ public class ProductionControlOrderController {
         );
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
+
+    /**
+     * Create all production control orders of a SimAL schedule in one request.
+     * Called by the SimAL integration service when dispatching a schedule. The orders
+     * are persisted in a single transaction, and re-sending the same schedule returns
+     * the existing orders instead of creating duplicates. When a concurrent request
+     * created some of them first, the unique index rejects this one and it is repeated
+     * once, returning those orders as already existing.
+     */
+    @Operation(summary = "Bulk create production control orders",
+               description = "Create all production control orders of a SimAL schedule atomically")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Control orders created"),
+        @ApiResponse(responseCode = "400", description = "Empty or invalid request")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ProductionControlOrderDTO>> createControlOrders(
+            @RequestBody List<ProductionControlOrderCreateRequest> requests) {
+        List<ProductionControlOrderDTO> orders;
+        try {
+            orders = productionControlOrderService.createControlOrders(requests);
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently for the same schedule and workstation
+            orders = productionControlOrderService.createControlOrders(requests);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders);
+    }
 }
@@ -1,6 +1,7 @@
 package io.life.order.controller;
 
 import io.life.order.dto.ProductionOrderDTO;
+import io.life.order.dto.ProductionOrderSummaryDTO;
 import io.life.order.dto.request.ControlCompletionRequest;
 import io.life.order.dto.request.CreateFromCustomerOrderRequest;
 import io.life.order.dto.request.CreateProductionOrderFromWarehouseRequest;
@@ -10,11 +11,15 @@ import io.life.order.dto.request.ScheduleProductionRequest;
 import io.life.order.dto.request.ScheduleRequest;
 import io.life.order.dto.request.UpdateStatusRequest;
 import io.life.order.service.ProductionOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -48,6 +53,23 @@ public class ProductionOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query production orders (paged)",
+               description = "One page of production orders, filtered by status, creating workstation, priority and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of production orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<ProductionOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(productionOrderService.queryProductionOrders(query));
+    }
+
+    @Operation(summary = "Get production order summaries",
+               description = "List view of all production orders, newest first: order columns and an item count, without items")
+    @ApiResponse(responseCode = "200", description = "List of production order summaries")
+    @GetMapping("/summary")
+    public ResponseEntity<List<ProductionOrderSummaryDTO>> getProductionOrderSummaries() {
+        return ResponseEntity.ok(productionOrderService.getProductionOrderSummaries());
+    }
+
     @Operation(summary = "Get production order by ID", 
                description = "Retrieve a specific production order by its ID")
     @ApiResponses({
@@ -4,11 +4,15 @@ import io.life.order.dto.SupplyOrderDTO;
 import io.life.order.dto.request.SupplyOrderCreateRequest;
 import io.life.order.dto.request.SupplyOrderFromControlRequest;
 import io.life.order.service.SupplyOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -78,6 +82,15 @@ public class SupplyOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query supply orders (paged)",
+               description = "One page of supply orders, filtered by status, requesting workstation, priority and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of supply orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<SupplyOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(supplyOrderService.queryOrders(query));
+    }
+
     @Operation(summary = "Get orders by workstation", 
                description = "Get all supply orders requested by a specific workstation")
     @ApiResponse(responseCode = "200", description = "List of supply orders")
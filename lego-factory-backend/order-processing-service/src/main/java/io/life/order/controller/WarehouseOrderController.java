@@ -2,11 +2,15 @@ package io.life.order.controller;
 
 import io.life.order.dto.WarehouseOrderDTO;
 import io.life.order.service.WarehouseOrderService;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,6 +37,15 @@ public class WarehouseOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Query warehouse orders (paged)",
+               description = "One page of warehouse orders, filtered by status, workstation and creation time "
+                       + "in the database. Totals are only computed with includeTotal=true")
+    @ApiResponse(responseCode = "200", description = "Page of warehouse orders")
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<WarehouseOrderDTO>> queryOrders(@ParameterObject @Valid OrderQuery query) {
+        return ResponseEntity.ok(warehouseOrderService.queryWarehouseOrders(query));
+    }
+
     @Operation(summary = "Get warehouse order by ID", 
                description = "Retrieve a specific warehouse order by its ID")
     @ApiResponses({
@@ -1,5 +1,6 @@
 package io.life.order.controller;
 
+import io.life.order.dto.WebhookDeliveryDTO;
 import io.life.order.dto.request.CreateWebhookRequest;
 import io.life.order.entity.WebhookSubscription;
 import io.life.order.service.WebhookService;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/orders/webhooks")
@@ -31,7 +33,7 @@ public class WebhookController {
     })
     @PostMapping
     public ResponseEntity<WebhookSubscription> create(@RequestBody CreateWebhookRequest req) {
-        WebhookSubscription sub = webhookService.subscribe(req.eventType(), req.targetUrl(), req.secret());
+        WebhookSubscription sub = webhookService.subscribe(req.eventType(), req.targetUrl(), req.secret(), req.batchDelivery());
         return ResponseEntity.ok(sub);
     }
 
@@ -53,4 +55,22 @@ public class WebhookController {
         webhookService.unsubscribe(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "List dead letters",
+               description = "Get deliveries to a subscription that were given up on after the maximum number of attempts")
+    @ApiResponse(responseCode = "200", description = "List of dead deliveries")
+    @GetMapping("/{id}/dead-letters")
+    public ResponseEntity<List<WebhookDeliveryDTO>> deadLetters(
+            @Parameter(description = "Subscription ID") @PathVariable Long id) {
+        return ResponseEntity.ok(webhookService.deadLetters(id));
+    }
+
+    @Operation(summary = "Requeue dead letters",
+               description = "Queue a subscription's dead deliveries for another round of delivery attempts")
+    @ApiResponse(responseCode = "200", description = "Number of deliveries requeued")
+    @PostMapping("/{id}/dead-letters/requeue")
+    public ResponseEntity<Map<String, Integer>> requeueDeadLetters(
+            @Parameter(description = "Subscription ID") @PathVariable Long id) {
+        return ResponseEntity.ok(Map.of("requeued", webhookService.requeueDeadLetters(id)));
+    }
 }
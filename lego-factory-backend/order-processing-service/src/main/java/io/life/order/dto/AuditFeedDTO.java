@@ -0,0 +1,35 @@
+package io.life.order.dto;
+
+import io.life.order.entity.OrderAudit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the audit feed.
+ * Pass cursor back as "after" to get the next page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditFeedDTO {
+
+    /**
+     * Audit events in ascending ID order
+     */
+    private List<OrderAudit> events;
+
+    /**
+     * ID of the last event returned, or the requested cursor if there were none
+     */
+    private Long cursor;
+
+    /**
+     * True if more events are already available after cursor
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,35 @@
+package io.life.order.dto;
+
+import io.life.order.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CustomerOrderSummaryDTO - Row of a customer order list view.
+ *
+ * Read with a constructor projection, so a list is one query that selects only
+ * these columns; items are counted, not loaded. Use CustomerOrderDTO for the
+ * detail view.
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "frontend",
+    description = "Customer order list row for dashboards"
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderSummaryDTO {
+    private Long id;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private String status;
+    private String triggerScenario;
+    private Long workstationId;
+    private Integer itemCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
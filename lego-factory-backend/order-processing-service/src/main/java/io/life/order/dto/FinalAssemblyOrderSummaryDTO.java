@@ -0,0 +1,34 @@
+package io.life.order.dto;
+
+import io.life.order.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * FinalAssemblyOrderSummaryDTO - Row of a Final Assembly (WS-6) order list view.
+ *
+ * Read with a constructor projection that selects only these columns. Use
+ * FinalAssemblyOrderDTO for the detail view.
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "frontend",
+    description = "Final Assembly order list row for dashboards"
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinalAssemblyOrderSummaryDTO {
+    private Long id;
+    private String orderNumber;
+    private Long workstationId;
+    private Long outputProductId;
+    private Integer outputQuantity;
+    private LocalDateTime orderDate;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,64 @@
+package io.life.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Change event pushed on /api/orders/events when an order is created or its status changes.
+ * Carries just enough for a dashboard to patch its list or decide to re-fetch one order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderChangeEventDTO {
+
+    /**
+     * Position in the change feed; increases with every event, so a client can
+     * ignore an update older than the state it already has
+     */
+    private long version;
+
+    /**
+     * CUSTOMER_ORDER, WAREHOUSE_ORDER, SUPPLY_ORDER, PRODUCTION_ORDER, PRODUCTION_CONTROL,
+     * ASSEMBLY_CONTROL or a workstation order type (INJECTION_MOLDING ... FINAL_ASSEMBLY)
+     */
+    private String orderType;
+
+    private Long orderId;
+
+    private String orderNumber;
+
+    private String status;
+
+    /**
+     * When the order row was last updated, i.e. the version of the order this event
+     * describes; a client holding a newer copy of the order can ignore the event
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Workstations the order is shown on (owner, requester, assignee)
+     */
+    private List<Long> workstationIds;
+
+    /**
+     * Order this one counts towards: the production order of a control order, or the
+     * control order of a workstation order; null for top-level orders
+     */
+    private String parentOrderType;
+
+    private Long parentOrderId;
+
+    /**
+     * Item produced by single-item orders (workstation and control orders); null otherwise
+     */
+    private String itemName;
+
+    private Integer quantity;
+}
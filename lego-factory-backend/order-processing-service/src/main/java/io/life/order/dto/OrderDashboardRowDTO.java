@@ -0,0 +1,55 @@
+package io.life.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One order as kept by the dashboard read model: its current status plus the
+ * progress of the orders counting towards it, without touching the order tables.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDashboardRowDTO {
+
+    /**
+     * Same order types as OrderChangeEventDTO
+     */
+    private String orderType;
+
+    private Long orderId;
+
+    private String orderNumber;
+
+    private String status;
+
+    private List<Long> workstationIds;
+
+    private String parentOrderType;
+
+    private Long parentOrderId;
+
+    private String itemName;
+
+    private Integer quantity;
+
+    /**
+     * Orders counting towards this one (control orders of a production order,
+     * workstation orders of a control order) and how many of them are done
+     */
+    private int totalChildren;
+
+    private int completedChildren;
+
+    private double percentComplete;
+
+    /**
+     * Change feed version of the last change applied to this row; 0 if loaded at startup
+     */
+    private long version;
+}
@@ -0,0 +1,49 @@
+package io.life.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.life.order.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * PageResponse - One page of a paged order list (GET .../page).
+ *
+ * hasNext is always set, so clients can page forward without a total.
+ * totalElements and totalPages are only present when the request asked for
+ * them with includeTotal=true.
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "frontend",
+    description = "Page envelope for paged order lists"
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private Integer totalPages;
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        PageResponse<T> response = new PageResponse<>();
+        response.setContent(slice.getContent());
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setHasNext(slice.hasNext());
+        if (slice instanceof Page<T> page) {
+            response.setTotalElements(page.getTotalElements());
+            response.setTotalPages(page.getTotalPages());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,38 @@
+package io.life.order.dto;
+
+import io.life.order.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProductionOrderSummaryDTO - Row of a production order list view.
+ *
+ * Read with a constructor projection, so a list is one query that selects only
+ * these columns; items are counted, not loaded. Use ProductionOrderDTO for the
+ * detail view.
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "frontend",
+    description = "Production order list row for dashboards"
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionOrderSummaryDTO {
+    private Long id;
+    private String productionOrderNumber;
+    private Long sourceCustomerOrderId;
+    private Long sourceWarehouseOrderId;
+    private String status;
+    private String priority;
+    private LocalDateTime dueDate;
+    private String triggerScenario;
+    private Long assignedWorkstationId;
+    private Integer itemCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package io.life.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One delivery of an order event to a webhook subscriber.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookDeliveryDTO {
+
+    private Long id;
+    private Long subscriptionId;
+
+    /**
+     * Event key the subscription matched, e.g. CUSTOMER.COMPLETED
+     */
+    private String eventKey;
+
+    /**
+     * JSON body of the event
+     */
+    private String payload;
+
+    /**
+     * PENDING, DELIVERED or DEAD
+     */
+    private String status;
+
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime deliveredAt;
+}
@@ -0,0 +1,43 @@
+package io.life.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard read model of one workstation: order counts and its open orders.
+ *
+ * lastEventId is the /api/orders/events ID this snapshot is current up to; passing
+ * it as Last-Event-ID continues with exactly the changes made after the snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkstationDashboardDTO {
+
+    private Long workstationId;
+
+    private String lastEventId;
+
+    /**
+     * Number of orders by order type and status, including closed orders
+     */
+    private Map<String, Map<String, Integer>> statusCounts;
+
+    private int openCount;
+
+    /**
+     * Open orders in IN_PROGRESS
+     */
+    private int activeCount;
+
+    /**
+     * Open orders shown on the workstation, most recently changed first
+     */
+    private List<OrderDashboardRowDTO> openOrders;
+}
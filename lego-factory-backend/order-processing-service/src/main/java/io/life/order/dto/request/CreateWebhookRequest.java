@@ -6,9 +6,11 @@ package io.life.order.dto.request;
  * @param eventType The type of event to subscribe to (e.g., "ORDER_COMPLETED", "ORDER_STARTED")
  * @param targetUrl The URL to send webhook notifications to
  * @param secret Optional secret for webhook signature verification
+ * @param batchDelivery Optional; true to receive several events per POST as a JSON array
  */
 public record CreateWebhookRequest(
     String eventType,
     String targetUrl,
-    String secret
+    String secret,
+    Boolean batchDelivery
 ) {}
@@ -0,0 +1,81 @@
+package io.life.order.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Shared query parameters for the paged order list endpoints (GET .../page).
+ *
+ * Bound from the query string, e.g.
+ * {@code ?status=PENDING,CONFIRMED&workstationId=7&from=2026-01-01T00:00:00&size=20&sort=createdAt,desc}.
+ * Every filter is optional and translated into the SQL WHERE clause; only one
+ * page of rows is read. Totals need an extra COUNT query and are only computed
+ * when {@code includeTotal=true}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderQuery {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * Statuses to include; an order matches if it has any of them.
+     */
+    private List<String> status;
+
+    /**
+     * Workstation the order belongs to. Which column that is depends on the order type
+     * (e.g. requesting workstation for supply orders, assigned workstation for control orders).
+     */
+    private Long workstationId;
+
+    /**
+     * Priority (LOW, NORMAL, HIGH, URGENT). Rejected for order types without a priority.
+     */
+    private String priority;
+
+    /**
+     * Inclusive lower bound on the creation time.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    /**
+     * Exclusive upper bound on the creation time.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    /**
+     * Zero-based page index.
+     */
+    @Min(0)
+    @Builder.Default
+    private int page = 0;
+
+    @Min(1)
+    @Max(MAX_SIZE)
+    @Builder.Default
+    private int size = DEFAULT_SIZE;
+
+    /**
+     * Sort as {@code property[,asc|desc]}; defaults to newest first.
+     */
+    private String sort;
+
+    /**
+     * Also count all matching orders (one extra query).
+     */
+    private boolean includeTotal;
+}
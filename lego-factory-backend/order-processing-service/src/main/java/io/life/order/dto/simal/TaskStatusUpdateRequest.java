@@ -0,0 +1,24 @@
+package io.life.order.dto.simal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * TaskStatusUpdateRequest - One entry of a bulk SimAL task status update.
+ * 
+ * Sent as a JSON array to PATCH /api/simal/tasks/status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateRequest {
+
+    /** SimAL task ID (workstation-{wsId}-{orderNumber}) */
+    private String taskId;
+
+    /** New status: IN_PROGRESS, COMPLETED, HALTED */
+    private String status;
+}
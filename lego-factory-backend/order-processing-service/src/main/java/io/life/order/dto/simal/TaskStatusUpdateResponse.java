@@ -0,0 +1,26 @@
+package io.life.order.dto.simal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskStatusUpdateResponse - Result of a bulk SimAL task status update.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateResponse {
+
+    /** Number of tasks updated in SimAL */
+    private int updated;
+
+    /** Task IDs SimAL does not know about (not retried) */
+    @Builder.Default
+    private List<String> notFound = new ArrayList<>();
+}
@@ -13,7 +13,18 @@ import java.time.LocalDateTime;
  * Contains detailed instructions for the assembly control operator.
  */
 @Entity
-@Table(name = "assembly_control_orders")
+@Table(name = "assembly_control_orders",
+       indexes = {
+           @Index(name = "idx_assembly_control_orders_ws_status", columnList = "assigned_workstation_id, status"),
+           @Index(name = "idx_assembly_control_orders_status", columnList = "status"),
+           @Index(name = "idx_assembly_control_orders_priority", columnList = "priority"),
+           @Index(name = "idx_assembly_control_orders_schedule", columnList = "simal_schedule_id"),
+           @Index(name = "uk_assembly_control_orders_schedule_ws",
+                  columnList = "simal_schedule_id, assigned_workstation_id", unique = true),
+           @Index(name = "idx_assembly_control_orders_production_order", columnList = "source_production_order_id"),
+           @Index(name = "idx_assembly_control_orders_created", columnList = "created_at"),
+           @Index(name = "idx_assembly_control_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +32,8 @@ import java.time.LocalDateTime;
 public class AssemblyControlOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assembly_control_order_seq")
+    @SequenceGenerator(name = "assembly_control_order_seq", sequenceName = "assembly_control_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -95,6 +107,20 @@ public class AssemblyControlOrder {
     @Column(length = 500)
     private String shippingNotes;
 
+    /**
+     * Number of workstation orders created under this control order, and how many of
+     * them have completed. Maintained only by guarded bulk updates in
+     * {@link io.life.order.repository.AssemblyControlOrderRepository} (never written by entity
+     * updates), so concurrent completions cannot lose increments.
+     */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer totalChildren = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer completedChildren = 0;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -44,7 +44,12 @@ import java.time.LocalDateTime;
  */
 @Deprecated(since = "Phase 6", forRemoval = false)
 @Entity
-@Table(name = "assembly_order")
+@Table(name = "assembly_order",
+       indexes = {
+           @Index(name = "idx_assembly_order_control_status", columnList = "assembly_control_order_id, status"),
+           @Index(name = "idx_assembly_order_ws_status", columnList = "workstation_id, status"),
+           @Index(name = "idx_assembly_order_status", columnList = "status")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
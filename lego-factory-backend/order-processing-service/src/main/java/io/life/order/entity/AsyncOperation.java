@@ -11,11 +11,21 @@ import java.time.LocalDateTime;
 /**
  * Entity to track the status of asynchronous operations.
  * Used for long-running tasks like SimAL scheduling and control order creation.
+ * Live operations are held by AsyncOperationRegistry; a row is written once the
+ * operation has completed or failed.
  * 
  * @since Phase 3 - Async Processing (February 5, 2026)
  */
 @Entity
-@Table(name = "async_operations")
+@Table(name = "async_operations",
+       indexes = {
+           @Index(name = "idx_async_operations_entity", columnList = "entity_type, entity_id, created_at"),
+           @Index(name = "idx_async_operations_status", columnList = "status, created_at"),
+           @Index(name = "idx_async_operations_type", columnList = "operation_type, created_at"),
+           @Index(name = "idx_async_operations_initiator", columnList = "initiated_by, created_at"),
+           @Index(name = "idx_async_operations_created", columnList = "created_at"),
+           @Index(name = "idx_async_operations_completed", columnList = "status, completed_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -106,8 +116,14 @@ public class AsyncOperation {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Operations are tracked in memory first and persisted once finished,
+        // so keep the timestamps recorded while they were live
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
         if (status == null) {
             status = "PENDING";
         }
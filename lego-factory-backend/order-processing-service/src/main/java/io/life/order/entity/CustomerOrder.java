@@ -9,14 +9,25 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "customer_orders")
+@NamedEntityGraph(name = CustomerOrder.WITH_ITEMS, attributeNodes = @NamedAttributeNode("orderItems"))
+@Table(name = "customer_orders",
+       indexes = {
+           @Index(name = "idx_customer_orders_status", columnList = "status"),
+           @Index(name = "idx_customer_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_customer_orders_created", columnList = "created_at"),
+           @Index(name = "idx_customer_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class CustomerOrder {
 
+    /** Entity graph that fetches the order together with its items */
+    public static final String WITH_ITEMS = "CustomerOrder.orderItems";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_order_seq")
+    @SequenceGenerator(name = "customer_order_seq", sequenceName = "customer_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -31,7 +42,7 @@ public class CustomerOrder {
     @Column(name = "trigger_scenario")
     private String triggerScenario; // DIRECT_FULFILLMENT, WAREHOUSE_ORDER_NEEDED
 
-    @OneToMany(mappedBy = "customerOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "customerOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems;
 
     @Column(nullable = false)
@@ -0,0 +1,87 @@
+package io.life.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for an order-chain domain event.
+ * Written in the same transaction as the state change it describes and
+ * handed to its side effects (inventory credits, SimAL, audit, webhooks)
+ * by DomainEventRelay after commit.
+ */
+@Entity
+@Table(name = "domain_event_outbox",
+       indexes = @Index(name = "idx_domain_event_aggregate", columnList = "aggregate_type, aggregate_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DomainEvent {
+
+    public enum EventType {
+        WORKSTATION_ORDER_COMPLETED,
+        CONTROL_ORDER_COMPLETED,
+        PRODUCTION_ORDER_COMPLETED,
+        WAREHOUSE_ORDER_READY
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    /**
+     * Type of the order the event belongs to: PRODUCTION_CONTROL, ASSEMBLY_CONTROL,
+     * PRODUCTION_ORDER, WAREHOUSE_ORDER. Events of one aggregate are relayed in order.
+     */
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Event-specific detail, e.g. the completed workstation order type or the SimAL schedule ID
+     */
+    @Column(length = 255)
+    private String detail;
+
+    /**
+     * Number of failed relay attempts
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Relay instance holding the event, and the end of its lease. Other instances
+     * do not relay the event or later events of its aggregate until the lease ends.
+     */
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+}
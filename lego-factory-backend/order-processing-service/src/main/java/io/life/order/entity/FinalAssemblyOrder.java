@@ -17,14 +17,25 @@ import java.time.LocalDateTime;
  * Completion credits Plant Warehouse (WS-7) with finished products
  */
 @Entity
-@Table(name = "final_assembly_orders")
+@Table(name = "final_assembly_orders",
+       indexes = {
+           @Index(name = "idx_final_assembly_orders_control_status", columnList = "assembly_control_order_id, status"),
+           @Index(name = "idx_final_assembly_orders_status", columnList = "status"),
+           @Index(name = "idx_final_assembly_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_final_assembly_orders_production_order", columnList = "production_order_id"),
+           @Index(name = "idx_final_assembly_orders_warehouse_order", columnList = "warehouse_order_id"),
+           @Index(name = "idx_final_assembly_orders_product", columnList = "output_product_id"),
+           @Index(name = "idx_final_assembly_orders_created", columnList = "created_at"),
+           @Index(name = "idx_final_assembly_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class FinalAssemblyOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "final_assembly_order_seq")
+    @SequenceGenerator(name = "final_assembly_order_seq", sequenceName = "final_assembly_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
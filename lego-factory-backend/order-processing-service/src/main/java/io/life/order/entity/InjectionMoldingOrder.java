@@ -18,7 +18,14 @@ import java.time.LocalDateTime;
  * parts from the Parts Supply Warehouse.
  */
 @Entity
-@Table(name = "injection_molding_orders")
+@Table(name = "injection_molding_orders",
+       indexes = {
+           @Index(name = "idx_injection_molding_orders_control_status", columnList = "production_control_order_id, status"),
+           @Index(name = "idx_injection_molding_orders_status", columnList = "status"),
+           @Index(name = "idx_injection_molding_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_injection_molding_orders_created", columnList = "created_at"),
+           @Index(name = "idx_injection_molding_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +33,8 @@ import java.time.LocalDateTime;
 public class InjectionMoldingOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "injection_molding_order_seq")
+    @SequenceGenerator(name = "injection_molding_order_seq", sequenceName = "injection_molding_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
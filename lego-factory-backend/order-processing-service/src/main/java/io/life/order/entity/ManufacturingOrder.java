@@ -40,7 +40,12 @@ import java.time.LocalDateTime;
  */
 @Deprecated(since = "Phase 6", forRemoval = false)
 @Entity
-@Table(name = "manufacturing_order")
+@Table(name = "manufacturing_order",
+       indexes = {
+           @Index(name = "idx_manufacturing_order_control_status", columnList = "production_control_order_id, status"),
+           @Index(name = "idx_manufacturing_order_ws_status", columnList = "workstation_id, status"),
+           @Index(name = "idx_manufacturing_order_status", columnList = "status")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +17,15 @@ import java.time.LocalDateTime;
  * This workstation assembles electrical motor modules.
  */
 @Entity
-@Table(name = "motor_assembly_orders")
+@Table(name = "motor_assembly_orders",
+       indexes = {
+           @Index(name = "idx_motor_assembly_orders_control_status", columnList = "assembly_control_order_id, status"),
+           @Index(name = "idx_motor_assembly_orders_status", columnList = "status"),
+           @Index(name = "idx_motor_assembly_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_motor_assembly_orders_supply_order", columnList = "supply_order_id"),
+           @Index(name = "idx_motor_assembly_orders_created", columnList = "created_at"),
+           @Index(name = "idx_motor_assembly_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +33,8 @@ import java.time.LocalDateTime;
 public class MotorAssemblyOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "motor_assembly_order_seq")
+    @SequenceGenerator(name = "motor_assembly_order_seq", sequenceName = "motor_assembly_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
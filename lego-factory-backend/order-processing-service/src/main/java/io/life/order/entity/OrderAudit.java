@@ -5,10 +5,21 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * Audit trail entry. Rows are normally written in batches by OrderAuditWriter;
+ * audit_day is the day key used for retention; on PostgreSQL the table is
+ * partitioned by it (see V6__Partition_order_audit_by_day).
+ */
 @Entity
-@Table(name = "order_audit")
+@Table(name = "order_audit",
+       indexes = {
+           @Index(name = "idx_order_audit_order", columnList = "order_type, order_id, created_at"),
+           @Index(name = "idx_order_audit_created", columnList = "created_at"),
+           @Index(name = "idx_order_audit_day", columnList = "audit_day")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,8 +49,17 @@ public class OrderAudit {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Day of createdAt - the partition key for retention
+     */
+    @Column(name = "audit_day", nullable = false, updatable = false)
+    private LocalDate auditDay;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        auditDay = createdAt.toLocalDate();
     }
 }
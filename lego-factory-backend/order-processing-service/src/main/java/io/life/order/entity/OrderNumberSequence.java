@@ -0,0 +1,25 @@
+package io.life.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shared counter for order numbers. Each row holds the next unreserved value
+ * of one sequence; OrderSequenceAllocator reserves blocks from it.
+ */
+@Entity
+@Table(name = "order_number_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderNumberSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 50)
+    private String sequenceName;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -17,7 +17,15 @@ import java.time.LocalDateTime;
  * This workstation performs final finishing operations: polishing, coating, inspection.
  */
 @Entity
-@Table(name = "part_finishing_orders")
+@Table(name = "part_finishing_orders",
+       indexes = {
+           @Index(name = "idx_part_finishing_orders_control_status", columnList = "production_control_order_id, status"),
+           @Index(name = "idx_part_finishing_orders_status", columnList = "status"),
+           @Index(name = "idx_part_finishing_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_part_finishing_orders_supply_order", columnList = "supply_order_id"),
+           @Index(name = "idx_part_finishing_orders_created", columnList = "created_at"),
+           @Index(name = "idx_part_finishing_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +33,8 @@ import java.time.LocalDateTime;
 public class PartFinishingOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "part_finishing_order_seq")
+    @SequenceGenerator(name = "part_finishing_order_seq", sequenceName = "part_finishing_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -15,15 +15,31 @@ import java.util.List;
  * ProductionOrders are submitted to SimAL for scheduling.
  */
 @Entity
-@Table(name = "production_orders")
+@NamedEntityGraph(name = ProductionOrder.WITH_ITEMS, attributeNodes = @NamedAttributeNode("productionOrderItems"))
+@Table(name = "production_orders",
+       indexes = {
+           @Index(name = "idx_production_orders_status", columnList = "status"),
+           @Index(name = "idx_production_orders_priority", columnList = "priority"),
+           @Index(name = "idx_production_orders_assigned_ws", columnList = "assigned_workstation_id"),
+           @Index(name = "idx_production_orders_created_by_ws", columnList = "created_by_workstation_id"),
+           @Index(name = "idx_production_orders_schedule", columnList = "simal_schedule_id"),
+           @Index(name = "idx_production_orders_customer_order", columnList = "source_customer_order_id"),
+           @Index(name = "idx_production_orders_warehouse_order", columnList = "source_warehouse_order_id"),
+           @Index(name = "idx_production_orders_created", columnList = "created_at"),
+           @Index(name = "idx_production_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ProductionOrder {
 
+    /** Entity graph that fetches the order together with its items */
+    public static final String WITH_ITEMS = "ProductionOrder.productionOrderItems";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "production_order_seq")
+    @SequenceGenerator(name = "production_order_seq", sequenceName = "production_order_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -102,7 +118,7 @@ public class ProductionOrder {
      * Line items representing modules/parts to be produced.
      * Each item includes itemType (MODULE/PART), itemId, quantity, and workstationType (MANUFACTURING/ASSEMBLY).
      */
-    @OneToMany(mappedBy = "productionOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "productionOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ProductionOrderItem> productionOrderItems;
 
     /**
@@ -129,6 +145,40 @@ public class ProductionOrder {
     @Column(nullable = true)
     private LocalDateTime actualCompletionTime;
 
+    /**
+     * Number of control orders created for this production order, and how many of them
+     * have completed. Maintained only by guarded bulk updates in ProductionOrderRepository
+     * (never written by entity updates), so concurrent completions cannot lose increments.
+     */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer totalChildren = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer completedChildren = 0;
+
+    /**
+     * Number of Final Assembly orders created directly from this production order
+     * (Scenario 4), and how many of them have been submitted. Maintained like the
+     * control order counters above.
+     */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer totalFinalAssemblyOrders = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer submittedFinalAssemblyOrders = 0;
+
+    /**
+     * When the completion was submitted for downstream processing (inventory credits,
+     * Final Assembly orders). Set only by the guarded claim in ProductionOrderRepository,
+     * so a redelivered completion event is processed once.
+     */
+    @Column(name = "downstream_processed_at", updatable = false)
+    private LocalDateTime downstreamProcessedAt;
+
     /**
      * Audit fields.
      */
@@ -12,7 +12,10 @@ import lombok.NoArgsConstructor;
  * and the workstation type required for production.
  */
 @Entity
-@Table(name = "production_order_items")
+@Table(name = "production_order_items",
+       indexes = {
+           @Index(name = "idx_production_order_items_order", columnList = "production_order_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +23,8 @@ import lombok.NoArgsConstructor;
 public class ProductionOrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "production_order_item_seq")
+    @SequenceGenerator(name = "production_order_item_seq", sequenceName = "production_order_item_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,61 @@
+package io.life.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for a pending SimAL task status update.
+ * Written in the same transaction as the workstation order state change and
+ * drained in batches by SimalTaskStatusDispatcher.
+ */
+@Entity
+@Table(name = "simal_task_status_outbox",
+       indexes = @Index(name = "idx_simal_outbox_task_id", columnList = "task_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimalTaskStatusUpdate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * SimAL task ID (workstation-{wsId}-{orderNumber})
+     */
+    @Column(name = "task_id", nullable = false, length = 100)
+    private String taskId;
+
+    /**
+     * New task status: IN_PROGRESS, COMPLETED, HALTED
+     */
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    /**
+     * Number of failed delivery attempts
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+}
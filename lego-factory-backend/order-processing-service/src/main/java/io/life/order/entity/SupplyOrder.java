@@ -15,15 +15,27 @@ import java.util.List;
  * When fulfilled, parts are debited from inventory-service.
  */
 @Entity
-@Table(name = "supply_orders")
+@NamedEntityGraph(name = SupplyOrder.WITH_ITEMS, attributeNodes = @NamedAttributeNode("supplyOrderItems"))
+@Table(name = "supply_orders",
+       indexes = {
+           @Index(name = "idx_supply_orders_requesting_ws_status", columnList = "requesting_workstation_id, status"),
+           @Index(name = "idx_supply_orders_warehouse_ws_status", columnList = "supply_warehouse_workstation_id, status"),
+           @Index(name = "idx_supply_orders_source", columnList = "source_control_order_id, source_control_order_type"),
+           @Index(name = "idx_supply_orders_created", columnList = "created_at"),
+           @Index(name = "idx_supply_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class SupplyOrder {
 
+    /** Entity graph that fetches the order together with its items */
+    public static final String WITH_ITEMS = "SupplyOrder.supplyOrderItems";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supply_order_seq")
+    @SequenceGenerator(name = "supply_order_seq", sequenceName = "supply_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -71,7 +83,7 @@ public class SupplyOrder {
      * List of supply items needed
      * Each item references a part ID and quantity needed
      */
-    @OneToMany(mappedBy = "supplyOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "supplyOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<SupplyOrderItem> supplyOrderItems;
 
     /**
@@ -11,14 +11,18 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  * References a part ID and the quantity needed.
  */
 @Entity
-@Table(name = "supply_order_items")
+@Table(name = "supply_order_items",
+       indexes = {
+           @Index(name = "idx_supply_order_items_order", columnList = "supply_order_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class SupplyOrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supply_order_item_seq")
+    @SequenceGenerator(name = "supply_order_item_seq", sequenceName = "supply_order_item_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
@@ -18,7 +18,10 @@ import java.time.LocalDateTime;
  * Key naming convention: UPPERCASE_WITH_UNDERSCORES (e.g., LOT_SIZE_THRESHOLD)
  */
 @Entity
-@Table(name = "system_configurations")
+@Table(name = "system_configurations",
+       indexes = {
+           @Index(name = "idx_system_configurations_category", columnList = "category")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,14 +9,26 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "warehouse_orders")
+@NamedEntityGraph(name = WarehouseOrder.WITH_ITEMS, attributeNodes = @NamedAttributeNode("orderItems"))
+@Table(name = "warehouse_orders",
+       indexes = {
+           @Index(name = "idx_warehouse_orders_status", columnList = "status"),
+           @Index(name = "idx_warehouse_orders_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_warehouse_orders_customer_order", columnList = "customer_order_id"),
+           @Index(name = "idx_warehouse_orders_created", columnList = "created_at"),
+           @Index(name = "idx_warehouse_orders_updated", columnList = "updated_at")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WarehouseOrder {
 
+    /** Entity graph that fetches the order together with its items */
+    public static final String WITH_ITEMS = "WarehouseOrder.orderItems";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouse_order_seq")
+    @SequenceGenerator(name = "warehouse_order_seq", sequenceName = "warehouse_order_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -35,7 +47,7 @@ public class WarehouseOrder {
     private String status; // PENDING, CONFIRMED, PROCESSING, COMPLETED, CANCELLED
 
     // Items needed for this warehouse order (modules or parts)
-    @OneToMany(mappedBy = "warehouseOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "warehouseOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<WarehouseOrderItem> orderItems;
 
     // Fulfillment scenario that triggered this order
@@ -47,6 +59,14 @@ public class WarehouseOrder {
 
     private String notes;
 
+    // Final Assembly orders created from this warehouse order and how many are submitted.
+    // Maintained only by guarded bulk updates in WarehouseOrderRepository.
+    @Column(nullable = false, updatable = false)
+    private Integer totalFinalAssemblyOrders = 0;
+
+    @Column(nullable = false, updatable = false)
+    private Integer submittedFinalAssemblyOrders = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -7,14 +7,18 @@ import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
-@Table(name = "warehouse_order_items")
+@Table(name = "warehouse_order_items",
+       indexes = {
+           @Index(name = "idx_warehouse_order_items_order", columnList = "warehouse_order_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WarehouseOrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouse_order_item_seq")
+    @SequenceGenerator(name = "warehouse_order_item_seq", sequenceName = "warehouse_order_item_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
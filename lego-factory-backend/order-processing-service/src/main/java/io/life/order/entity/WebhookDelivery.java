@@ -0,0 +1,95 @@
+package io.life.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One order event to be delivered to one webhook subscriber.
+ * Written in the same transaction as the audit event and delivered in the
+ * background by WebhookDeliveryEngine.
+ */
+@Entity
+@Table(name = "webhook_deliveries",
+       indexes = {
+           @Index(name = "idx_webhook_delivery_due", columnList = "status, next_attempt_at"),
+           @Index(name = "idx_webhook_delivery_subscription", columnList = "subscription_id, status"),
+           @Index(name = "idx_webhook_delivery_delivered", columnList = "status, delivered_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookDelivery {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DELIVERED = "DELIVERED";
+    public static final String STATUS_DEAD = "DEAD";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    /**
+     * Event key the subscription matched, e.g. CUSTOMER.COMPLETED
+     */
+    @Column(name = "event_key", nullable = false, length = 100)
+    private String eventKey;
+
+    /**
+     * JSON body of the event
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /**
+     * PENDING, DELIVERED or DEAD (gave up after max attempts)
+     */
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    /**
+     * Number of failed delivery attempts
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Instance that last claimed the delivery. While claimed, next_attempt_at is the
+     * end of its lease, so other instances do not pick the delivery up.
+     */
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+}
@@ -6,7 +6,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "webhook_subscriptions")
+@Table(name = "webhook_subscriptions",
+       indexes = {
+           @Index(name = "idx_webhook_subscriptions_active", columnList = "active")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,4 +29,7 @@ public class WebhookSubscription {
 
     @Column(nullable = false)
     private Boolean active = true;
+
+    @Column(nullable = false)
+    private Boolean batchDelivery = false; // accept several events per POST as a JSON array
 }
@@ -4,6 +4,7 @@ import io.life.order.dto.ApiErrorResponse;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -155,6 +156,26 @@ public class GlobalExceptionHandler {
         );
     }
     
+    /**
+     * Handle full job queues - the client should retry after the hinted delay
+     */
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ApiErrorResponse> handleJobQueueFullException(
+            JobQueueFullException ex,
+            WebRequest request) {
+        logger.warn("Job rejected: {} (Code: {})", ex.getMessage(), ex.getErrorCode());
+        ResponseEntity<ApiErrorResponse> response = buildErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ex.getErrorCode(),
+                ex.getMessage(),
+                ex.getDetails(),
+                request.getDescription(false)
+        );
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     /**
      * Handle production planning exceptions
      */
@@ -0,0 +1,31 @@
+package io.life.order.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a background job queue is full and the job is not accepted.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ * 
+ * Error Code: ORDER_JOB_QUEUE_FULL
+ */
+public class JobQueueFullException extends OrderProcessingException {
+
+    private final long retryAfterSeconds;
+
+    public JobQueueFullException(String jobType, int queueDepth, long retryAfterSeconds) {
+        super(
+            "Too many pending " + jobType + " jobs, retry in " + retryAfterSeconds + "s",
+            "ORDER_JOB_QUEUE_FULL",
+            Map.of(
+                "jobType", jobType,
+                "queueDepth", queueDepth,
+                "retryAfterSeconds", retryAfterSeconds
+            )
+        );
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,179 @@
+package io.life.order.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * DownstreamCallMetrics
+ *
+ * Times every call to another service through a RestTemplate interceptor, so the
+ * inventory, masterdata and SimAL clients and the webhook delivery engine are all
+ * measured the same way, whichever class makes the call.
+ *
+ * Meter order.downstream.requests, tagged with:
+ * - downstream: inventory, masterdata, simal, webhook or other
+ * - operation: HTTP method and path with IDs replaced by {id}
+ * - outcome: SUCCESS, CLIENT_ERROR, SERVER_ERROR or IO_ERROR
+ *
+ * Calls made inside an order stage (see OrderStage) are also counted towards that
+ * stage's fan-out.
+ */
+@Component
+public class DownstreamCallMetrics {
+
+    static final String REQUESTS = "order.downstream.requests";
+    static final String OTHER = "other";
+
+    // Bounds the number of operations in case paths contain unexpected identifiers
+    private static final int MAX_OPERATIONS = 200;
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(\\d+|[0-9a-fA-F-]{32,36})(?=/|$)");
+
+    private static final ThreadLocal<FanOut> FAN_OUT = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final Map<String, String> downstreamsByOrigin = new LinkedHashMap<>();
+
+    public DownstreamCallMetrics(MeterRegistry registry,
+                                 @Value("${inventory.service.url:http://inventory-service:8014}") String inventoryUrl,
+                                 @Value("${masterdata.service.url:http://masterdata-service:8013}") String masterdataUrl,
+                                 @Value("${simal.service.url:http://simal-integration-service:8016}") String simalUrl,
+                                 @Value("${simal.api.base-url:http://simal-integration-service:8016/api}") String simalApiUrl) {
+        this.registry = registry;
+        registry.config().meterFilter(MeterFilter.maximumAllowableTags(REQUESTS, "operation", MAX_OPERATIONS,
+                MeterFilter.deny()));
+        downstreamsByOrigin.put(origin(URI.create(inventoryUrl)), "inventory");
+        downstreamsByOrigin.put(origin(URI.create(masterdataUrl)), "masterdata");
+        downstreamsByOrigin.putIfAbsent(origin(URI.create(simalUrl)), "simal");
+        downstreamsByOrigin.putIfAbsent(origin(URI.create(simalApiUrl)), "simal");
+    }
+
+    /**
+     * Interceptor for the clients of the other services; the downstream is taken
+     * from the request's host.
+     */
+    public ClientHttpRequestInterceptor serviceInterceptor() {
+        return (request, body, execution) -> {
+            URI uri = request.getURI();
+            return time(downstream(uri), request.getMethod().name() + " " + pathTemplate(uri.getPath()),
+                    () -> execution.execute(request, body));
+        };
+    }
+
+    /**
+     * Interceptor for calls to external endpoints, whose paths are not ours to tag.
+     */
+    public ClientHttpRequestInterceptor externalInterceptor(String downstream) {
+        return (request, body, execution) ->
+                time(downstream, request.getMethod().name(), () -> execution.execute(request, body));
+    }
+
+    private ClientHttpResponse time(String downstream, String operation, Call call) throws IOException {
+        FanOut fanOut = FAN_OUT.get();
+        if (fanOut != null) {
+            fanOut.calls++;
+        }
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = call.execute();
+            outcome = outcome(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder(REQUESTS)
+                    .description("Calls from order-processing to other services")
+                    .tag("downstream", downstream)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    String downstream(URI uri) {
+        String downstream = downstreamsByOrigin.get(origin(uri));
+        if (downstream != null) {
+            return downstream;
+        }
+        String host = uri.getHost() != null ? uri.getHost() : "";
+        if (host.contains("inventory")) {
+            return "inventory";
+        }
+        if (host.contains("masterdata")) {
+            return "masterdata";
+        }
+        if (host.contains("simal")) {
+            return "simal";
+        }
+        return OTHER;
+    }
+
+    static String pathTemplate(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private static String origin(URI uri) {
+        return uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    /**
+     * Start counting the remote calls made on this thread. Scopes nest: calls of an
+     * inner scope are added to the outer one when it closes.
+     */
+    static FanOut openFanOut() {
+        FanOut fanOut = new FanOut(FAN_OUT.get());
+        FAN_OUT.set(fanOut);
+        return fanOut;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        ClientHttpResponse execute() throws IOException;
+    }
+
+    static final class FanOut implements AutoCloseable {
+        private final FanOut outer;
+        private int calls;
+
+        private FanOut(FanOut outer) {
+            this.outer = outer;
+        }
+
+        int calls() {
+            return calls;
+        }
+
+        @Override
+        public void close() {
+            if (outer != null) {
+                outer.calls += calls;
+                FAN_OUT.set(outer);
+            } else {
+                FAN_OUT.remove();
+            }
+        }
+    }
+}
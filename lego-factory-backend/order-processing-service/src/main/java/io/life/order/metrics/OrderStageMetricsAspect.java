@@ -0,0 +1,64 @@
+package io.life.order.metrics;
+
+import io.life.order.annotation.OrderStage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records duration and fan-out of methods annotated with {@link OrderStage}.
+ *
+ * Runs outside the transaction, so the duration includes the commit. Only remote
+ * calls made on the calling thread count towards the fan-out; work handed to the
+ * job scheduler or webhook engine is measured by their own calls.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OrderStageMetricsAspect {
+
+    static final String DURATION = "order.stage.duration";
+    static final String FAN_OUT = "order.stage.downstream.calls";
+
+    private final MeterRegistry registry;
+
+    public OrderStageMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(io.life.order.annotation.OrderStage)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        OrderStage stage = AnnotationUtils.findAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), OrderStage.class);
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "ERROR";
+        try (DownstreamCallMetrics.FanOut fanOut = DownstreamCallMetrics.openFanOut()) {
+            try {
+                Object result = joinPoint.proceed();
+                outcome = "SUCCESS";
+                return result;
+            } finally {
+                DistributionSummary.builder(FAN_OUT)
+                        .description("Remote calls made by one run of an order stage")
+                        .baseUnit("calls")
+                        .tag("stage", stage.value())
+                        .register(registry)
+                        .record(fanOut.calls());
+            }
+        } finally {
+            sample.stop(Timer.builder(DURATION)
+                    .description("Duration of order chain stages")
+                    .tag("stage", stage.value())
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+}
@@ -2,12 +2,16 @@ package io.life.order.repository;
 
 import io.life.order.entity.AssemblyControlOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AssemblyControlOrderRepository extends JpaRepository<AssemblyControlOrder, Long> {
+public interface AssemblyControlOrderRepository extends JpaRepository<AssemblyControlOrder, Long>, JpaSpecificationExecutor<AssemblyControlOrder> {
 
     Optional<AssemblyControlOrder> findByControlOrderNumber(String controlOrderNumber);
 
@@ -22,4 +26,37 @@ public interface AssemblyControlOrderRepository extends JpaRepository<AssemblyCo
     List<AssemblyControlOrder> findBySimalScheduleId(String simalScheduleId);
 
     List<AssemblyControlOrder> findByPriority(String priority);
+
+    // ========================
+    // CHILD COUNTERS
+    // ========================
+
+    /**
+     * Add newly created workstation orders to the total.
+     */
+    @Modifying
+    @Query("UPDATE AssemblyControlOrder o SET o.totalChildren = o.totalChildren + :count WHERE o.id = :id")
+    int addTotalChildren(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * Count one more completed child. Guarded so the counter never exceeds the total;
+     * returns 0 if nothing was outstanding. The row stays locked until commit, so
+     * concurrent completions are serialized and exactly one of them observes the last one.
+     */
+    @Modifying
+    @Query("UPDATE AssemblyControlOrder o SET o.completedChildren = o.completedChildren + 1 " +
+           "WHERE o.id = :id AND o.completedChildren < o.totalChildren")
+    int incrementCompletedChildren(@Param("id") Long id);
+
+    @Query("SELECT o.totalChildren AS total, o.completedChildren AS completed FROM AssemblyControlOrder o WHERE o.id = :id")
+    Optional<ChildCounters> findChildCountersById(@Param("id") Long id);
+
+    /**
+     * Move the order from one status to another. Returns 0 if it is no longer in the
+     * expected status; the row stays locked until commit, so of two concurrent
+     * transitions only one succeeds.
+     */
+    @Modifying
+    @Query("UPDATE AssemblyControlOrder o SET o.status = :to WHERE o.id = :id AND o.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
 }
@@ -0,0 +1,19 @@
+package io.life.order.repository;
+
+/**
+ * Projection of a parent order's child counters (e.g. workstation orders under a
+ * control order), read right after a guarded increment to decide completion.
+ */
+public interface ChildCounters {
+
+    int getTotal();
+
+    int getCompleted();
+
+    /**
+     * True once every child counted so far has completed.
+     */
+    default boolean isComplete() {
+        return getTotal() > 0 && getCompleted() >= getTotal();
+    }
+}
@@ -1,15 +1,46 @@
 package io.life.order.repository;
 
+import io.life.order.dto.CustomerOrderSummaryDTO;
 import io.life.order.entity.CustomerOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerOrderRepository extends JpaRepository<CustomerOrder, Long> {
+public interface CustomerOrderRepository extends JpaRepository<CustomerOrder, Long>, JpaSpecificationExecutor<CustomerOrder> {
+
+    /**
+     * All orders with their items, in one query (used by the full list endpoint).
+     */
+    @Override
+    @EntityGraph(CustomerOrder.WITH_ITEMS)
+    List<CustomerOrder> findAll();
+
+    /**
+     * Order with its items, for detail views.
+     */
+    @EntityGraph(CustomerOrder.WITH_ITEMS)
+    Optional<CustomerOrder> findWithItemsById(Long id);
+
+    @EntityGraph(CustomerOrder.WITH_ITEMS)
     Optional<CustomerOrder> findByOrderNumber(String orderNumber);
+
+    @EntityGraph(CustomerOrder.WITH_ITEMS)
     List<CustomerOrder> findByWorkstationId(Long workstationId);
+
+    @EntityGraph(CustomerOrder.WITH_ITEMS)
     List<CustomerOrder> findByStatus(String status);
+
+    /**
+     * List view columns only, newest first; items are counted, not loaded.
+     */
+    @Query("SELECT new io.life.order.dto.CustomerOrderSummaryDTO(o.id, o.orderNumber, o.orderDate, o.status, " +
+           "o.triggerScenario, o.workstationId, SIZE(o.orderItems), o.createdAt, o.updatedAt) " +
+           "FROM CustomerOrder o ORDER BY o.orderDate DESC")
+    List<CustomerOrderSummaryDTO> findAllSummaries();
 }
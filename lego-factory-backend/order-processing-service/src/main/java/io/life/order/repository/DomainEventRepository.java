@@ -0,0 +1,63 @@
+package io.life.order.repository;
+
+import io.life.order.entity.DomainEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the order-chain domain event outbox.
+ */
+@Repository
+public interface DomainEventRepository extends JpaRepository<DomainEvent, Long> {
+
+    /**
+     * Oldest relayable events first, so events of one aggregate are handled in the order they were written.
+     * Events that have used up their attempts are left in the table for inspection.
+     */
+    List<DomainEvent> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Pageable pageable);
+
+    /**
+     * Record a failed relay attempt for an event.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DomainEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * Claim events for a relay instance. Events held by another instance whose lease
+     * has not ended are left alone; the instance's own claims are renewed.
+     *
+     * @return Number of events claimed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DomainEvent e SET e.claimedBy = :owner, e.claimedUntil = :leaseUntil "
+            + "WHERE e.id IN :ids AND (e.claimedBy IS NULL OR e.claimedBy = :owner OR e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * IDs of the given events held by a relay instance.
+     */
+    @Query("SELECT e.id FROM DomainEvent e WHERE e.id IN :ids AND e.claimedBy = :owner")
+    List<Long> findClaimedIds(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    /**
+     * Release a relay instance's claims so any instance can pick the events up again.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DomainEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL "
+            + "WHERE e.id IN :ids AND e.claimedBy = :owner")
+    int releaseClaim(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+}
@@ -1,14 +1,19 @@
 package io.life.order.repository;
 
+import io.life.order.dto.FinalAssemblyOrderSummaryDTO;
 import io.life.order.entity.FinalAssemblyOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FinalAssemblyOrderRepository extends JpaRepository<FinalAssemblyOrder, Long> {
+public interface FinalAssemblyOrderRepository extends JpaRepository<FinalAssemblyOrder, Long>, JpaSpecificationExecutor<FinalAssemblyOrder> {
     Optional<FinalAssemblyOrder> findByOrderNumber(String orderNumber);
     List<FinalAssemblyOrder> findByWorkstationId(Long workstationId);
     List<FinalAssemblyOrder> findByStatus(String status);
@@ -20,4 +25,21 @@ public interface FinalAssemblyOrderRepository extends JpaRepository<FinalAssembl
     // For OrderOrchestrationService
     List<FinalAssemblyOrder> findByAssemblyControlOrderIdAndStatus(Long assemblyControlOrderId, String status);
     long countByAssemblyControlOrderIdAndStatus(Long assemblyControlOrderId, String status);
+
+    /**
+     * List view columns only, newest first.
+     */
+    @Query("SELECT new io.life.order.dto.FinalAssemblyOrderSummaryDTO(o.id, o.orderNumber, o.workstationId, " +
+           "o.outputProductId, o.outputQuantity, o.orderDate, o.status, o.createdAt, o.updatedAt) " +
+           "FROM FinalAssemblyOrder o ORDER BY o.orderDate DESC")
+    List<FinalAssemblyOrderSummaryDTO> findAllSummaries();
+
+    /**
+     * Move the order from one status to another. Returns 0 if it is no longer in the
+     * expected status; the row stays locked until commit, so of two concurrent
+     * transitions only one succeeds.
+     */
+    @Modifying
+    @Query("UPDATE FinalAssemblyOrder o SET o.status = :to WHERE o.id = :id AND o.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
 }
@@ -6,10 +6,20 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderAuditRepository extends JpaRepository<OrderAudit, Long> {
     List<OrderAudit> findByOrderTypeAndOrderIdOrderByCreatedAtDesc(String orderType, Long orderId);
     
     List<OrderAudit> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Audit events after a feed cursor (the audit ID), oldest first - a primary key range scan.
+     */
+    List<OrderAudit> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    List<OrderAudit> findAllByOrderByIdDesc(Pageable pageable);
+
+    Optional<OrderAudit> findFirstByOrderByIdDesc();
 }
@@ -0,0 +1,119 @@
+package io.life.order.repository;
+
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Translates an {@link OrderQuery} into a Specification and a page request, so the
+ * paged list endpoints of every order type filter, sort and page in SQL.
+ *
+ * Order types name their columns differently; each service describes its entity
+ * with a {@link Fields} instance. Unknown sort properties and unsupported filters
+ * are rejected with IllegalArgumentException (400) before any query runs.
+ */
+public final class OrderSpecifications {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final Set<String> COMMON_SORTABLE = Set.of("id", "status", CREATED_AT, "updatedAt");
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * Filterable and sortable attributes of one order entity.
+     *
+     * @param workstation attribute matched by OrderQuery.workstationId
+     * @param priority    priority attribute, or null if the order type has none
+     * @param sortable    sortable attributes in addition to id, status, createdAt and updatedAt
+     */
+    public record Fields(String workstation, String priority, Set<String> sortable) {
+
+        public static Fields of(String workstation, String priority, String... sortable) {
+            Set<String> all = new HashSet<>(COMMON_SORTABLE);
+            all.addAll(List.of(sortable));
+            if (priority != null) {
+                all.add(priority);
+            }
+            return new Fields(workstation, priority, Set.copyOf(all));
+        }
+    }
+
+    /**
+     * Read one page of orders matching the query and map it to the response type.
+     * Without includeTotal the page is read as a Slice (one extra row instead of a COUNT query).
+     */
+    public static <E, T> PageResponse<T> page(JpaSpecificationExecutor<E> repository, OrderQuery query,
+                                              Fields fields, Function<E, T> mapper) {
+        Specification<E> specification = matching(query, fields);
+        Pageable pageable = pageable(query, fields);
+        Slice<E> slice = repository.findBy(specification,
+                q -> query.isIncludeTotal() ? q.page(pageable) : q.slice(pageable));
+        return PageResponse.of(slice.map(mapper));
+    }
+
+    static <E> Specification<E> matching(OrderQuery query, Fields fields) {
+        if (query.getPriority() != null && fields.priority() == null) {
+            throw new IllegalArgumentException("This order type cannot be filtered by priority");
+        }
+        return (root, cq, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+                predicates.add(root.get("status").in(query.getStatus()));
+            }
+            if (query.getWorkstationId() != null) {
+                predicates.add(cb.equal(root.get(fields.workstation()), query.getWorkstationId()));
+            }
+            if (query.getPriority() != null) {
+                predicates.add(cb.equal(root.get(fields.priority()), query.getPriority()));
+            }
+            if (query.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get(CREATED_AT), query.getFrom()));
+            }
+            if (query.getTo() != null) {
+                predicates.add(cb.lessThan(root.get(CREATED_AT), query.getTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    static Pageable pageable(OrderQuery query, Fields fields) {
+        int size = Math.min(Math.max(query.getSize(), 1), OrderQuery.MAX_SIZE);
+        return PageRequest.of(Math.max(query.getPage(), 0), size, sort(query.getSort(), fields));
+    }
+
+    /**
+     * Parse "property[,asc|desc]"; id is always added as a tie-breaker so pages are stable.
+     */
+    private static Sort sort(String sort, Fields fields) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Order.desc(CREATED_AT), Sort.Order.desc("id"));
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!fields.sortable().contains(property)) {
+            throw new IllegalArgumentException("Cannot sort by '" + property + "'; allowed: "
+                    + String.join(", ", fields.sortable().stream().sorted().toList()));
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                    .orElseThrow(() -> new IllegalArgumentException("Sort direction must be asc or desc"));
+        }
+        Sort order = Sort.by(direction, property);
+        return "id".equals(property) ? order : order.and(Sort.by(direction, "id"));
+    }
+}
@@ -2,13 +2,17 @@ package io.life.order.repository;
 
 import io.life.order.entity.PartFinishingOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PartFinishingOrderRepository extends JpaRepository<PartFinishingOrder, Long> {
+public interface PartFinishingOrderRepository extends JpaRepository<PartFinishingOrder, Long>, JpaSpecificationExecutor<PartFinishingOrder> {
     
     Optional<PartFinishingOrder> findByOrderNumber(String orderNumber);
     
@@ -23,4 +27,13 @@ public interface PartFinishingOrderRepository extends JpaRepository<PartFinishin
     long countByProductionControlOrderIdAndStatus(Long productionControlOrderId, String status);
     
     List<PartFinishingOrder> findBySupplyOrderId(Long supplyOrderId);
+
+    /**
+     * Move the order from one status to another. Returns 0 if it is no longer in the
+     * expected status; the row stays locked until commit, so of two concurrent
+     * transitions only one succeeds.
+     */
+    @Modifying
+    @Query("UPDATE PartFinishingOrder o SET o.status = :to WHERE o.id = :id AND o.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
 }
@@ -1,9 +1,16 @@
 package io.life.order.repository;
 
+import io.life.order.dto.ProductionOrderSummaryDTO;
 import io.life.order.entity.ProductionOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,13 +19,41 @@ import java.util.Optional;
  * Handles database access for production orders submitted to SimAL.
  */
 @Repository
-public interface ProductionOrderRepository extends JpaRepository<ProductionOrder, Long> {
+public interface ProductionOrderRepository extends JpaRepository<ProductionOrder, Long>, JpaSpecificationExecutor<ProductionOrder> {
+
+    /**
+     * All production orders with their items, in one query (used by the full list endpoint).
+     */
+    @Override
+    @EntityGraph(ProductionOrder.WITH_ITEMS)
+    List<ProductionOrder> findAll();
+
+    /**
+     * Production order with its items, for detail views.
+     */
+    @EntityGraph(ProductionOrder.WITH_ITEMS)
+    Optional<ProductionOrder> findWithItemsById(Long id);
+
+    /**
+     * List view columns only, newest first; items are counted, not loaded.
+     */
+    @Query("SELECT new io.life.order.dto.ProductionOrderSummaryDTO(o.id, o.productionOrderNumber, " +
+           "o.sourceCustomerOrderId, o.sourceWarehouseOrderId, o.status, o.priority, o.dueDate, o.triggerScenario, " +
+           "o.assignedWorkstationId, SIZE(o.productionOrderItems), o.createdAt, o.updatedAt) " +
+           "FROM ProductionOrder o ORDER BY o.createdAt DESC")
+    List<ProductionOrderSummaryDTO> findAllSummaries();
 
     /**
      * Find a production order by its unique production order number.
      */
     Optional<ProductionOrder> findByProductionOrderNumber(String productionOrderNumber);
 
+    /**
+     * Priority of a production order, without loading the order.
+     */
+    @Query("SELECT p.priority FROM ProductionOrder p WHERE p.id = :id")
+    Optional<String> findPriorityById(@Param("id") Long id);
+
     /**
      * Find all production orders created from a specific customer order.
      */
@@ -53,4 +88,63 @@ public interface ProductionOrderRepository extends JpaRepository<ProductionOrder
      * Find production order by SimAL schedule ID.
      */
     Optional<ProductionOrder> findBySimalScheduleId(String simalScheduleId);
+
+    // ========================
+    // CHILD COUNTERS
+    // ========================
+
+    /**
+     * Add newly created control orders to the total.
+     */
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.totalChildren = o.totalChildren + :count WHERE o.id = :id")
+    int addTotalChildren(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * Count one more completed child. Guarded so the counter never exceeds the total;
+     * returns 0 if nothing was outstanding. The row stays locked until commit, so
+     * concurrent completions are serialized and exactly one of them observes the last one.
+     */
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.completedChildren = o.completedChildren + 1 " +
+           "WHERE o.id = :id AND o.completedChildren < o.totalChildren")
+    int incrementCompletedChildren(@Param("id") Long id);
+
+    @Query("SELECT o.totalChildren AS total, o.completedChildren AS completed FROM ProductionOrder o WHERE o.id = :id")
+    Optional<ChildCounters> findChildCountersById(@Param("id") Long id);
+
+    // ========================
+    // FINAL ASSEMBLY COUNTERS
+    // ========================
+
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.totalFinalAssemblyOrders = o.totalFinalAssemblyOrders + :count WHERE o.id = :id")
+    int addTotalFinalAssemblyOrders(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * Count one more submitted Final Assembly order; guarded so it never exceeds the total.
+     */
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.submittedFinalAssemblyOrders = o.submittedFinalAssemblyOrders + 1 " +
+           "WHERE o.id = :id AND o.submittedFinalAssemblyOrders < o.totalFinalAssemblyOrders")
+    int incrementSubmittedFinalAssemblyOrders(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.submittedFinalAssemblyOrders = o.submittedFinalAssemblyOrders - 1 " +
+           "WHERE o.id = :id AND o.submittedFinalAssemblyOrders > 0")
+    int decrementSubmittedFinalAssemblyOrders(@Param("id") Long id);
+
+    /**
+     * Claim the downstream processing of a completed production order. Returns 0 if it
+     * was already claimed; the row stays locked until commit, so of two concurrent
+     * claims only one succeeds.
+     */
+    @Modifying
+    @Query("UPDATE ProductionOrder o SET o.downstreamProcessedAt = :processedAt " +
+           "WHERE o.id = :id AND o.downstreamProcessedAt IS NULL")
+    int claimDownstreamProcessing(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Query("SELECT o.totalFinalAssemblyOrders AS total, o.submittedFinalAssemblyOrders AS completed " +
+           "FROM ProductionOrder o WHERE o.id = :id")
+    Optional<ChildCounters> findFinalAssemblyCountersById(@Param("id") Long id);
 }
@@ -0,0 +1,34 @@
+package io.life.order.repository;
+
+import io.life.order.entity.SimalTaskStatusUpdate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the SimAL task status outbox.
+ */
+@Repository
+public interface SimalTaskStatusUpdateRepository extends JpaRepository<SimalTaskStatusUpdate, Long> {
+
+    /**
+     * Oldest pending updates first, so a task's latest status always wins within a batch.
+     * Updates that have used up their attempts are left in the table for inspection.
+     */
+    List<SimalTaskStatusUpdate> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Pageable pageable);
+
+    /**
+     * Record a failed delivery attempt for the given outbox rows.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SimalTaskStatusUpdate u SET u.attempts = u.attempts + 1, u.lastError = :error WHERE u.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("error") String error);
+}
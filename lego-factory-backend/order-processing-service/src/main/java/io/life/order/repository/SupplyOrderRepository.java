@@ -1,35 +1,42 @@
 package io.life.order.repository;
 
 import io.life.order.entity.SupplyOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository for SupplyOrder entity.
+ * The workstation list finders fetch items with the order (one query per list).
  */
 @Repository
-public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long> {
+public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long>, JpaSpecificationExecutor<SupplyOrder> {
 
     /**
      * Find all supply orders for a specific requesting workstation.
      */
+    @EntityGraph(SupplyOrder.WITH_ITEMS)
     List<SupplyOrder> findByRequestingWorkstationId(Long workstationId);
 
     /**
      * Find all supply orders for a specific supply warehouse workstation.
      */
+    @EntityGraph(SupplyOrder.WITH_ITEMS)
     List<SupplyOrder> findBySupplyWarehouseWorkstationId(Long warehouseWorkstationId);
 
     /**
      * Find all pending supply orders for a specific workstation.
      */
+    @EntityGraph(SupplyOrder.WITH_ITEMS)
     List<SupplyOrder> findByRequestingWorkstationIdAndStatus(Long workstationId, String status);
 
     /**
      * Find all pending supply orders for the supply warehouse.
      */
+    @EntityGraph(SupplyOrder.WITH_ITEMS)
     List<SupplyOrder> findBySupplyWarehouseWorkstationIdAndStatus(Long warehouseWorkstationId, String status);
 
     /**
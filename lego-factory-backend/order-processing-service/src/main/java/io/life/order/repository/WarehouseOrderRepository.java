@@ -1,16 +1,59 @@
 package io.life.order.repository;
 
 import io.life.order.entity.WarehouseOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WarehouseOrderRepository extends JpaRepository<WarehouseOrder, Long> {
+public interface WarehouseOrderRepository extends JpaRepository<WarehouseOrder, Long>, JpaSpecificationExecutor<WarehouseOrder> {
+
+    /**
+     * All warehouse orders with their items, in one query (used by the full list endpoint).
+     */
+    @Override
+    @EntityGraph(WarehouseOrder.WITH_ITEMS)
+    List<WarehouseOrder> findAll();
+
     Optional<WarehouseOrder> findByOrderNumber(String orderNumber);
+
+    @EntityGraph(WarehouseOrder.WITH_ITEMS)
     List<WarehouseOrder> findByWorkstationId(Long workstationId);
+
+    @EntityGraph(WarehouseOrder.WITH_ITEMS)
     List<WarehouseOrder> findByStatus(String status);
+
     List<WarehouseOrder> findByCustomerOrderId(Long customerOrderId);
+
+    // ========================
+    // FINAL ASSEMBLY COUNTERS
+    // ========================
+
+    @Modifying
+    @Query("UPDATE WarehouseOrder o SET o.totalFinalAssemblyOrders = o.totalFinalAssemblyOrders + :count WHERE o.id = :id")
+    int addTotalFinalAssemblyOrders(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * Count one more submitted Final Assembly order; guarded so it never exceeds the total.
+     */
+    @Modifying
+    @Query("UPDATE WarehouseOrder o SET o.submittedFinalAssemblyOrders = o.submittedFinalAssemblyOrders + 1 " +
+           "WHERE o.id = :id AND o.submittedFinalAssemblyOrders < o.totalFinalAssemblyOrders")
+    int incrementSubmittedFinalAssemblyOrders(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE WarehouseOrder o SET o.submittedFinalAssemblyOrders = o.submittedFinalAssemblyOrders - 1 " +
+           "WHERE o.id = :id AND o.submittedFinalAssemblyOrders > 0")
+    int decrementSubmittedFinalAssemblyOrders(@Param("id") Long id);
+
+    @Query("SELECT o.totalFinalAssemblyOrders AS total, o.submittedFinalAssemblyOrders AS completed " +
+           "FROM WarehouseOrder o WHERE o.id = :id")
+    Optional<ChildCounters> findFinalAssemblyCountersById(@Param("id") Long id);
 }
@@ -0,0 +1,101 @@
+package io.life.order.repository;
+
+import io.life.order.entity.WebhookDelivery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for webhook delivery records.
+ */
+@Repository
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    /**
+     * Deliveries in the given status that are due, oldest first.
+     */
+    List<WebhookDelivery> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            String status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * As above, skipping subscribers whose in-memory queue is already full.
+     */
+    List<WebhookDelivery> findByStatusAndNextAttemptAtLessThanEqualAndSubscriptionIdNotInOrderByIdAsc(
+            String status, LocalDateTime now, Collection<Long> excludedSubscriptionIds, Pageable pageable);
+
+    List<WebhookDelivery> findBySubscriptionIdAndStatusOrderByIdAsc(Long subscriptionId, String status);
+
+    /**
+     * Claim due deliveries for one instance by moving their next attempt to the end of the
+     * lease, so polls on other instances skip them. A row claimed by another instance in
+     * the meantime no longer matches and is left alone.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.claimedBy = :owner, d.nextAttemptAt = :leaseUntil " +
+           "WHERE d.id IN :ids AND d.status = 'PENDING' AND d.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Extend the lease on the deliveries the instance still holds.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.nextAttemptAt = :leaseUntil " +
+           "WHERE d.id IN :ids AND d.claimedBy = :owner AND d.status = 'PENDING'")
+    int renewClaim(@Param("ids") Collection<Long> ids,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Make claimed deliveries the instance will not send due again straight away.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.nextAttemptAt = :now " +
+           "WHERE d.id IN :ids AND d.claimedBy = :owner AND d.status = 'PENDING'")
+    int releaseClaim(@Param("ids") Collection<Long> ids,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now);
+
+    List<WebhookDelivery> findByIdInAndClaimedByAndStatusOrderByIdAsc(
+            Collection<Long> ids, String claimedBy, String status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.status = 'DELIVERED', d.deliveredAt = :now WHERE d.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a failed attempt: either reschedule (PENDING) or give up (DEAD).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.status = :status, d.attempts = :attempts, " +
+           "d.nextAttemptAt = :nextAttemptAt, d.lastError = :error WHERE d.id = :id")
+    int recordFailure(@Param("id") Long id,
+                      @Param("status") String status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    /**
+     * Put dead deliveries of a subscription back in the queue.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.status = 'PENDING', d.attempts = 0, d.nextAttemptAt = :now " +
+           "WHERE d.subscriptionId = :subscriptionId AND d.status = 'DEAD'")
+    int requeueDead(@Param("subscriptionId") Long subscriptionId, @Param("now") LocalDateTime now);
+}
@@ -10,10 +10,15 @@ import io.life.order.entity.FinalAssemblyOrder;
 import io.life.order.entity.GearAssemblyOrder;
 import io.life.order.entity.MotorAssemblyOrder;
 import io.life.order.repository.AssemblyControlOrderRepository;
+import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.FinalAssemblyOrderRepository;
 import io.life.order.repository.GearAssemblyOrderRepository;
 import io.life.order.repository.MotorAssemblyOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,7 +26,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,8 +50,15 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
     private static final String STATUS_ASSIGNED = "ASSIGNED";
     private static final String STATUS_COMPLETED = "COMPLETED";
     private static final String STATUS_HALTED = "HALTED";
+    private static final String DEFAULT_TESTING_PROCEDURES = "Standard testing procedures apply";
+    private static final String DEFAULT_PACKAGING_REQUIREMENTS = "Standard packaging requirements";
+    private static final int DEFAULT_ESTIMATED_DURATION_MINUTES = 90;
+
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("assignedWorkstationId", "priority", "controlOrderNumber");
 
     private final AssemblyControlOrderRepository repository;
+    private final ProductionOrderRepository productionOrderRepository;
     private final SupplyOrderService supplyOrderService;
     private final InventoryService inventoryService;
     private final CustomerOrderRepository customerOrderRepository;
@@ -49,6 +66,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
     private final GearAssemblyOrderRepository gearAssemblyOrderRepository;
     private final MotorAssemblyOrderRepository motorAssemblyOrderRepository;
     private final FinalAssemblyOrderRepository finalAssemblyOrderRepository;
+    private final OrderSequenceAllocator orderSequences;
 
     @Value("${modules.supermarket.workstation.id:8}")
     private Long modulesSupermarketWorkstationId;
@@ -57,14 +75,17 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
     private Long plantWarehouseWorkstationId;
 
     public AssemblyControlOrderService(AssemblyControlOrderRepository repository, 
+                                       ProductionOrderRepository productionOrderRepository,
                                       SupplyOrderService supplyOrderService,
                                       InventoryService inventoryService,
                                       CustomerOrderRepository customerOrderRepository,
                                       SimALNotificationService simalNotificationService,
                                       GearAssemblyOrderRepository gearAssemblyOrderRepository,
                                       MotorAssemblyOrderRepository motorAssemblyOrderRepository,
-                                      FinalAssemblyOrderRepository finalAssemblyOrderRepository) {
+                                      FinalAssemblyOrderRepository finalAssemblyOrderRepository,
+                                      OrderSequenceAllocator orderSequences) {
         this.repository = repository;
+        this.productionOrderRepository = productionOrderRepository;
         this.supplyOrderService = supplyOrderService;
         this.inventoryService = inventoryService;
         this.customerOrderRepository = customerOrderRepository;
@@ -72,6 +93,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         this.gearAssemblyOrderRepository = gearAssemblyOrderRepository;
         this.motorAssemblyOrderRepository = motorAssemblyOrderRepository;
         this.finalAssemblyOrderRepository = finalAssemblyOrderRepository;
+        this.orderSequences = orderSequences;
     }
 
     /**
@@ -178,12 +200,98 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
 
         @SuppressWarnings("null")
         AssemblyControlOrder saved = repository.save(order);
+        // Count the new control order on its production order for completion detection
+        productionOrderRepository.addTotalChildren(sourceProductionOrderId, 1);
         logger.info("Created assembly control order {} (ID: {}) with status PENDING for production order {}",
                     controlOrderNumber, saved.getId(), sourceProductionOrderId);
 
         return mapToDTO(saved);
     }
 
+    /**
+     * Create all assembly control orders for a SimAL schedule in one transaction.
+     * Orders are persisted with a single saveAll so Hibernate can batch the inserts;
+     * either every order of the schedule is created or none is.
+     * 
+     * Idempotent per (simalScheduleId, assignedWorkstationId): an order that already
+     * exists for that pair is returned instead of being created again, so a failed
+     * dispatch can simply be retried. A unique index on the pair catches concurrent
+     * requests for the same schedule: the insert is flushed here, so the losing request
+     * fails with DataIntegrityViolationException and can be repeated to read the winner's orders.
+     * 
+     * @param requests All control orders of one schedule
+     * @return The created (or already existing) control orders, in request order
+     */
+    public List<AssemblyControlOrderDTO> createControlOrders(List<AssemblyControlOrderCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one control order is required");
+        }
+
+        Map<String, AssemblyControlOrder> ordersByScheduleAndWorkstation = new HashMap<>();
+        requests.stream()
+                .map(AssemblyControlOrderCreateRequest::getSimalScheduleId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(scheduleId -> repository.findBySimalScheduleId(scheduleId).stream())
+                .forEach(existing -> ordersByScheduleAndWorkstation.put(
+                        existing.getSimalScheduleId() + "|" + existing.getAssignedWorkstationId(), existing));
+
+        List<AssemblyControlOrder> result = new ArrayList<>(requests.size());
+        List<AssemblyControlOrder> toCreate = new ArrayList<>();
+
+        for (AssemblyControlOrderCreateRequest request : requests) {
+            String key = request.getSimalScheduleId() + "|" + request.getAssignedWorkstationId();
+            AssemblyControlOrder order = ordersByScheduleAndWorkstation.get(key);
+            if (order == null) {
+                order = buildControlOrder(request, generateControlOrderNumber());
+                ordersByScheduleAndWorkstation.put(key, order);
+                toCreate.add(order);
+            }
+            result.add(order);
+        }
+
+        repository.saveAllAndFlush(toCreate);
+        // Count the new control orders on their production orders for completion detection
+        toCreate.stream()
+                .collect(Collectors.groupingBy(AssemblyControlOrder::getSourceProductionOrderId, Collectors.counting()))
+                .forEach((productionOrderId, count) ->
+                        productionOrderRepository.addTotalChildren(productionOrderId, count.intValue()));
+        logger.info("Bulk created {} assembly control orders ({} already existed) for schedule(s) {}",
+                toCreate.size(), result.size() - toCreate.size(),
+                requests.stream().map(AssemblyControlOrderCreateRequest::getSimalScheduleId).distinct().toList());
+
+        return result.stream().map(this::mapToDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * Build (without saving) a control order from a SimAL request, applying the
+     * same defaults as the single-order create endpoint.
+     */
+    private AssemblyControlOrder buildControlOrder(AssemblyControlOrderCreateRequest request, String controlOrderNumber) {
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
+        return AssemblyControlOrder.builder()
+                .controlOrderNumber(controlOrderNumber)
+                .sourceProductionOrderId(request.getSourceProductionOrderId())
+                .assignedWorkstationId(request.getAssignedWorkstationId())
+                .simalScheduleId(request.getSimalScheduleId())
+                .status(STATUS_PENDING)
+                .priority(request.getPriority())
+                .targetStartTime(LocalDateTime.parse(request.getTargetStartTime(), formatter))
+                .targetCompletionTime(LocalDateTime.parse(request.getTargetCompletionTime(), formatter))
+                .assemblyInstructions(request.getAssemblyInstructions())
+                .qualityCheckpoints(request.getQualityCheckpoints())
+                .testingProcedures(request.getTestingProcedures() != null
+                        ? request.getTestingProcedures() : DEFAULT_TESTING_PROCEDURES)
+                .packagingRequirements(request.getPackagingRequirements() != null
+                        ? request.getPackagingRequirements() : DEFAULT_PACKAGING_REQUIREMENTS)
+                .estimatedDurationMinutes(request.getEstimatedDurationMinutes() != null
+                        ? request.getEstimatedDurationMinutes() : DEFAULT_ESTIMATED_DURATION_MINUTES)
+                .itemId(request.getItemId())
+                .itemType(request.getItemType())
+                .quantity(request.getQuantity())
+                .build();
+    }
+
     /**
      * Get all control orders.
      */
@@ -193,6 +301,15 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AssemblyControlOrderDTO> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(repository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
     /**
      * Get all control orders for a workstation.
      */
@@ -293,6 +410,8 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         AssemblyControlOrder order = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Control order not found: " + id));
 
+        String previousStatus = order.getStatus();
+        claimCompletion(order, previousStatus);
         order.setStatus(STATUS_COMPLETED);
         order.setActualCompletionTime(LocalDateTime.now());
         
@@ -305,6 +424,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         }
 
         AssemblyControlOrder updated = repository.save(order);
+        countCompletionOnProductionOrder(order, previousStatus);
         logger.info("Completed assembly on control order {}", order.getControlOrderNumber());
 
         return mapToDTO(updated);
@@ -325,6 +445,8 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         }
 
         // Step 1: Update control order status and timestamps
+        String previousStatus = order.getStatus();
+        claimCompletion(order, previousStatus);
         order.setStatus(STATUS_COMPLETED);
         order.setActualCompletionTime(LocalDateTime.now());
         
@@ -337,6 +459,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         }
 
         AssemblyControlOrder updated = repository.save(order);
+        countCompletionOnProductionOrder(order, previousStatus);
         logger.info("Completed assembly production on control order {}", order.getControlOrderNumber());
 
         // Step 2: Call SimAL to update schedule status (fire-and-forget)
@@ -370,6 +493,8 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         }
 
         // Step 1: Update control order status and timestamps
+        String previousStatus = order.getStatus();
+        claimCompletion(order, previousStatus);
         order.setStatus(STATUS_COMPLETED);
         order.setActualCompletionTime(LocalDateTime.now());
         
@@ -382,6 +507,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         }
 
         AssemblyControlOrder updated = repository.save(order);
+        countCompletionOnProductionOrder(order, previousStatus);
         logger.info("Completed final assembly on control order {}", order.getControlOrderNumber());
 
         // Step 2: Call SimAL to update schedule status (fire-and-forget)
@@ -406,6 +532,28 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
         return mapToDTO(updated);
     }
 
+    /**
+     * Move the order to COMPLETED in the database before anything counts it, so of two
+     * concurrent completions only one reaches the production order.
+     */
+    private void claimCompletion(AssemblyControlOrder order, String previousStatus) {
+        if (!STATUS_COMPLETED.equals(previousStatus)
+                && repository.transitionStatus(order.getId(), previousStatus, STATUS_COMPLETED) == 0) {
+            throw new IllegalStateException("Control order " + order.getControlOrderNumber()
+                    + " was completed or changed concurrently");
+        }
+    }
+
+    /**
+     * Count a manually completed control order on its production order so the
+     * production order's progress stays in step with its control orders.
+     */
+    private void countCompletionOnProductionOrder(AssemblyControlOrder order, String previousStatus) {
+        if (order.getSourceProductionOrderId() != null && !STATUS_COMPLETED.equals(previousStatus)) {
+            productionOrderRepository.incrementCompletedChildren(order.getSourceProductionOrderId());
+        }
+    }
+
     /**
      * Halt assembly on a control order.
      */
@@ -575,9 +723,15 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
             case 4 -> createGearAssemblyOrder(controlOrder);
             case 5 -> createMotorAssemblyOrder(controlOrder);
             case 6 -> createFinalAssemblyOrder(controlOrder);
-            default -> logger.warn("Unknown assembly workstation ID: {} for control order {}", 
-                                   workstationId, controlOrder.getControlOrderNumber());
+            default -> {
+                logger.warn("Unknown assembly workstation ID: {} for control order {}", 
+                                       workstationId, controlOrder.getControlOrderNumber());
+                return;
+            }
         }
+
+        // Count the new workstation order so completion is detected by a counter update
+        repository.addTotalChildren(controlOrder.getId(), 1);
     }
 
     /**
@@ -661,8 +815,7 @@ public class AssemblyControlOrderService implements WorkstationOrderOperations<A
      * Generate unique control order number.
      */
     private String generateControlOrderNumber() {
-        long count = repository.count();
-        return "ACO-" + String.format("%04d", count + 1);
+        return "ACO-" + String.format("%04d", orderSequences.next("ASSEMBLY_CONTROL_ORDER"));
     }
 
     /**
@@ -0,0 +1,281 @@
+package io.life.order.service;
+
+import io.life.order.dto.AsyncOperationDTO;
+import io.life.order.entity.AsyncOperation;
+import io.life.order.repository.AsyncOperationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * AsyncOperationRegistry
+ *
+ * In-memory state of live async operations.
+ *
+ * Progress updates only touch memory and are pushed to SSE listeners. An
+ * operation is written to async_operations once, when it completes or fails;
+ * finished operations are saved in batches by a background flush and stay
+ * readable from memory until then. Operations of other instances, and
+ * finished ones, are read from the database.
+ *
+ * When a batch cannot be saved, its operations are saved one by one so a bad
+ * row does not hold back the others. An operation that still fails is retried
+ * on later flushes and dropped with an error after max-save-attempts.
+ */
+@Component
+@Slf4j
+public class AsyncOperationRegistry {
+
+    private final AsyncOperationRepository repository;
+    private final long streamTimeoutMs;
+    private final int maxSaveAttempts;
+
+    private final Map<String, AsyncOperation> live = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> listeners = new ConcurrentHashMap<>();
+    private final Queue<AsyncOperation> finished = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> saveFailures = new ConcurrentHashMap<>();
+
+    public AsyncOperationRegistry(
+            AsyncOperationRepository repository,
+            @Value("${life.order-processing.async.stream-timeout-ms:600000}") long streamTimeoutMs,
+            @Value("${life.order-processing.async.max-save-attempts:5}") int maxSaveAttempts) {
+        this.repository = repository;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.maxSaveAttempts = maxSaveAttempts;
+    }
+
+    /**
+     * Start tracking a new operation.
+     */
+    public AsyncOperationDTO register(AsyncOperation operation) {
+        LocalDateTime now = LocalDateTime.now();
+        operation.setCreatedAt(now);
+        operation.setUpdatedAt(now);
+        live.put(operation.getOperationId(), operation);
+        return AsyncOperationDTO.fromEntity(operation);
+    }
+
+    /**
+     * Stop tracking an operation that was never started.
+     */
+    public void discard(String operationId) {
+        live.remove(operationId);
+    }
+
+    public void progress(String operationId, String status, int progressPercent, String message) {
+        update(operationId, op -> {
+            op.setStatus(status);
+            op.setProgressPercent(progressPercent);
+            op.setProgressMessage(message);
+            if (AsyncOperation.STATUS_PROCESSING.equals(status) && op.getStartedAt() == null) {
+                op.setStartedAt(LocalDateTime.now());
+            }
+        });
+    }
+
+    public void complete(String operationId, String resultData) {
+        update(operationId, op -> {
+            op.setStatus(AsyncOperation.STATUS_COMPLETED);
+            op.setProgressPercent(100);
+            op.setProgressMessage("Operation completed successfully");
+            op.setResultData(resultData);
+            op.setCompletedAt(LocalDateTime.now());
+        });
+    }
+
+    public void fail(String operationId, String errorMessage) {
+        update(operationId, op -> {
+            op.setStatus(AsyncOperation.STATUS_FAILED);
+            op.setErrorMessage(errorMessage);
+            op.setCompletedAt(LocalDateTime.now());
+        });
+    }
+
+    private void update(String operationId, Consumer<AsyncOperation> change) {
+        AsyncOperation op = live.get(operationId);
+        if (op == null) {
+            log.warn("Update for unknown async operation {}", operationId);
+            return;
+        }
+        AsyncOperationDTO snapshot;
+        synchronized (op) {
+            change.accept(op);
+            op.setUpdatedAt(LocalDateTime.now());
+            snapshot = AsyncOperationDTO.fromEntity(op);
+        }
+        publish(operationId, snapshot);
+        if (snapshot.isComplete()) {
+            finished.add(op);
+        }
+    }
+
+    public Optional<AsyncOperationDTO> find(String operationId) {
+        AsyncOperation op = live.get(operationId);
+        if (op != null) {
+            return Optional.of(snapshot(op));
+        }
+        return repository.findByOperationId(operationId).map(AsyncOperationDTO::fromEntity);
+    }
+
+    /**
+     * Pending and processing operations of this instance, oldest first.
+     */
+    public List<AsyncOperationDTO> active() {
+        return live.values().stream()
+                .map(this::snapshot)
+                .filter(dto -> !dto.isComplete())
+                .sorted(Comparator.comparing(AsyncOperationDTO::getCreatedAt))
+                .toList();
+    }
+
+    /**
+     * All operations for an entity, newest first: live ones and persisted ones.
+     */
+    public List<AsyncOperationDTO> forEntity(String entityType, Long entityId) {
+        Map<String, AsyncOperationDTO> byId = new LinkedHashMap<>();
+        live.values().stream()
+                .filter(op -> entityType.equals(op.getEntityType()) && entityId.equals(op.getEntityId()))
+                .map(this::snapshot)
+                .forEach(dto -> byId.put(dto.getOperationId(), dto));
+        repository.findByEntityTypeAndEntityIdOrderByCreatedAtDesc(entityType, entityId)
+                .forEach(op -> byId.putIfAbsent(op.getOperationId(), AsyncOperationDTO.fromEntity(op)));
+        List<AsyncOperationDTO> all = new ArrayList<>(byId.values());
+        all.sort(Comparator.comparing(AsyncOperationDTO::getCreatedAt).reversed());
+        return all;
+    }
+
+    /**
+     * Stream an operation's state as server-sent events until it finishes.
+     * The current state is sent first.
+     *
+     * @return Emitter, or null if the operation is unknown
+     */
+    public SseEmitter stream(String operationId) {
+        Optional<AsyncOperationDTO> current = find(operationId);
+        if (current.isEmpty()) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        if (current.get().isComplete() || !live.containsKey(operationId)) {
+            send(emitter, current.get());
+            emitter.complete();
+            return emitter;
+        }
+        List<SseEmitter> operationListeners = listeners.computeIfAbsent(operationId, k -> new CopyOnWriteArrayList<>());
+        operationListeners.add(emitter);
+        Runnable remove = () -> operationListeners.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        // Re-read after registering, so an update between find() and add() is not missed
+        AsyncOperationDTO latest = find(operationId).orElse(current.get());
+        send(emitter, latest);
+        if (latest.isComplete()) {
+            listeners.remove(operationId, operationListeners);
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void publish(String operationId, AsyncOperationDTO snapshot) {
+        List<SseEmitter> operationListeners = snapshot.isComplete()
+                ? listeners.remove(operationId)
+                : listeners.get(operationId);
+        if (operationListeners == null) {
+            return;
+        }
+        for (SseEmitter emitter : operationListeners) {
+            if (send(emitter, snapshot) && snapshot.isComplete()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, AsyncOperationDTO snapshot) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(snapshot.isComplete() ? "complete" : "progress")
+                    .data(snapshot, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Persist finished operations and stop tracking them in memory.
+     */
+    @Scheduled(fixedDelayString = "${life.order-processing.async.flush-interval-ms:1000}")
+    public void flushFinished() {
+        List<AsyncOperation> batch = new ArrayList<>();
+        AsyncOperation op;
+        while ((op = finished.poll()) != null) {
+            batch.add(op);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            repository.saveAll(batch);
+            batch.forEach(this::forget);
+            log.debug("Persisted {} finished async operations", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist {} finished async operations, saving one by one: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        }
+    }
+
+    private void saveOne(AsyncOperation op) {
+        try {
+            repository.save(op);
+            forget(op);
+        } catch (RuntimeException e) {
+            int failures = saveFailures.merge(op.getOperationId(), 1, Integer::sum);
+            if (failures >= maxSaveAttempts) {
+                log.error("Dropped {} async operation {} after {} failed saves: {}",
+                        op.getStatus(), op.getOperationId(), failures, e.getMessage());
+                forget(op);
+            } else {
+                log.warn("Failed to persist async operation {}, retrying: {}", op.getOperationId(), e.getMessage());
+                finished.add(op);
+            }
+        }
+    }
+
+    private void forget(AsyncOperation op) {
+        live.remove(op.getOperationId());
+        saveFailures.remove(op.getOperationId());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushFinished();
+        listeners.values().forEach(list -> list.forEach(SseEmitter::complete));
+    }
+
+    private AsyncOperationDTO snapshot(AsyncOperation op) {
+        synchronized (op) {
+            return AsyncOperationDTO.fromEntity(op);
+        }
+    }
+}
@@ -5,19 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.life.order.dto.AsyncOperationDTO;
 import io.life.order.dto.ProductionOrderDTO;
 import io.life.order.entity.AsyncOperation;
-import io.life.order.repository.AsyncOperationRepository;
-import lombok.RequiredArgsConstructor;
+import io.life.order.exception.JobQueueFullException;
+import io.life.order.repository.ProductionOrderRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
  * Service for handling asynchronous production operations.
@@ -26,22 +23,37 @@ import java.util.stream.Collectors;
  * - Control order dispatch
  * - Supply order creation
  * 
- * Uses Spring's @Async with ThreadPoolTaskExecutor for parallel processing.
- * Operations are tracked via AsyncOperation entity for status polling.
+ * Work is queued on ProductionJobScheduler in the lane for its operation type,
+ * ordered by the production order's priority, and runs off the request thread. Operation state is tracked in memory by AsyncOperationRegistry,
+ * which persists only the final state and pushes updates to SSE clients.
  * 
  * @since Phase 3 - Async Processing (February 5, 2026)
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class AsyncProductionService {
 
-    private final AsyncOperationRepository asyncOperationRepository;
+    private final AsyncOperationRegistry operationRegistry;
     private final ProductionOrderService productionOrderService;
     private final ObjectMapper objectMapper;
-
-    @Value("${life.order-processing.features.enable-async-processing:false}")
-    private boolean asyncEnabled;
+    private final ProductionOrderRepository productionOrderRepository;
+    private final ProductionJobScheduler jobScheduler;
+    private final boolean asyncEnabled;
+
+    public AsyncProductionService(
+            AsyncOperationRegistry operationRegistry,
+            ProductionOrderService productionOrderService,
+            ObjectMapper objectMapper,
+            ProductionOrderRepository productionOrderRepository,
+            ProductionJobScheduler jobScheduler,
+            @Value("${life.order-processing.features.enable-async-processing:false}") boolean asyncEnabled) {
+        this.operationRegistry = operationRegistry;
+        this.productionOrderService = productionOrderService;
+        this.objectMapper = objectMapper;
+        this.productionOrderRepository = productionOrderRepository;
+        this.jobScheduler = jobScheduler;
+        this.asyncEnabled = asyncEnabled;
+    }
 
     /**
      * Check if async processing is enabled.
@@ -60,8 +72,8 @@ public class AsyncProductionService {
      * @param ganttChartId Gantt chart ID from SimAL
      * @param initiatedBy Username of initiating user
      * @return AsyncOperationDTO with operation ID for status tracking
+     * @throws JobQueueFullException if too many operations of this type are queued
      */
-    @Transactional
     public AsyncOperationDTO initiateScheduleProduction(
             Long productionOrderId,
             LocalDateTime scheduledStart,
@@ -81,28 +93,43 @@ public class AsyncProductionService {
                 .initiatedBy(initiatedBy)
                 .build();
 
-        operation = asyncOperationRepository.save(operation);
+        AsyncOperationDTO registered = operationRegistry.register(operation);
         log.info("Created async operation {} for scheduling production order {}", 
                 operation.getOperationId(), productionOrderId);
 
         // Kick off async processing
-        executeScheduleProductionAsync(
-                operation.getOperationId(),
-                productionOrderId,
-                scheduledStart,
-                scheduledEnd,
-                ganttChartId
-        );
-
-        return AsyncOperationDTO.fromEntity(operation);
+        String operationId = operation.getOperationId();
+        submit(AsyncOperation.TYPE_SCHEDULE_PRODUCTION, productionOrderId, operationId,
+                () -> executeScheduleProduction(
+                        operationId,
+                        productionOrderId,
+                        scheduledStart,
+                        scheduledEnd,
+                        ganttChartId
+                ));
+
+        return registered;
     }
 
     /**
-     * Execute the schedule production operation asynchronously.
-     * Updates the AsyncOperation record with progress and results.
+     * Queue the work at the production order's priority. If the lane is full the
+     * operation is dropped again and the rejection propagates as 429.
      */
-    @Async("taskExecutor")
-    public CompletableFuture<Void> executeScheduleProductionAsync(
+    private void submit(String operationType, Long productionOrderId, String operationId, Runnable work) {
+        String priority = productionOrderRepository.findPriorityById(productionOrderId).orElse(null);
+        try {
+            jobScheduler.submit(operationType, priority, work);
+        } catch (JobQueueFullException e) {
+            operationRegistry.discard(operationId);
+            throw e;
+        }
+    }
+
+    /**
+     * Execute the schedule production operation on a worker thread.
+     * Updates the tracked operation with progress and results.
+     */
+    void executeScheduleProduction(
             String operationId,
             Long productionOrderId,
             LocalDateTime scheduledStart,
@@ -139,8 +166,6 @@ public class AsyncProductionService {
             log.error("Async schedule production failed for operation {}: {}", operationId, e.getMessage(), e);
             failOperation(operationId, e.getMessage());
         }
-
-        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -150,8 +175,8 @@ public class AsyncProductionService {
      * @param productionOrderId The production order to dispatch
      * @param initiatedBy Username of initiating user
      * @return AsyncOperationDTO with operation ID for status tracking
+     * @throws JobQueueFullException if too many operations of this type are queued
      */
-    @Transactional
     public AsyncOperationDTO initiateDispatchControlOrders(
             Long productionOrderId,
             String initiatedBy) {
@@ -168,21 +193,22 @@ public class AsyncProductionService {
                 .initiatedBy(initiatedBy)
                 .build();
 
-        operation = asyncOperationRepository.save(operation);
+        AsyncOperationDTO registered = operationRegistry.register(operation);
         log.info("Created async operation {} for dispatching control orders {}", 
                 operation.getOperationId(), productionOrderId);
 
         // Kick off async processing
-        executeDispatchControlOrdersAsync(operation.getOperationId(), productionOrderId);
+        String operationId = operation.getOperationId();
+        submit(AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS, productionOrderId, operationId,
+                () -> executeDispatchControlOrders(operationId, productionOrderId));
 
-        return AsyncOperationDTO.fromEntity(operation);
+        return registered;
     }
 
     /**
-     * Execute the dispatch control orders operation asynchronously.
+     * Execute the dispatch control orders operation on a worker thread.
      */
-    @Async("taskExecutor")
-    public CompletableFuture<Void> executeDispatchControlOrdersAsync(
+    void executeDispatchControlOrders(
             String operationId,
             Long productionOrderId) {
 
@@ -209,8 +235,6 @@ public class AsyncProductionService {
             log.error("Async dispatch control orders failed for operation {}: {}", operationId, e.getMessage(), e);
             failOperation(operationId, e.getMessage());
         }
-
-        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -219,86 +243,58 @@ public class AsyncProductionService {
      * @param operationId The operation ID to query
      * @return AsyncOperationDTO or null if not found
      */
-    @Transactional(readOnly = true)
     public AsyncOperationDTO getOperationStatus(String operationId) {
-        return asyncOperationRepository.findByOperationId(operationId)
-                .map(AsyncOperationDTO::fromEntity)
-                .orElse(null);
+        return operationRegistry.find(operationId).orElse(null);
+    }
+
+    /**
+     * Stream status updates of an async operation as server-sent events.
+     * 
+     * @param operationId The operation ID to follow
+     * @return SseEmitter or null if not found
+     */
+    public SseEmitter streamOperationStatus(String operationId) {
+        return operationRegistry.stream(operationId);
     }
 
     /**
      * Get all active (pending/processing) operations.
      */
-    @Transactional(readOnly = true)
     public List<AsyncOperationDTO> getActiveOperations() {
-        return asyncOperationRepository.findActiveOperations()
-                .stream()
-                .map(AsyncOperationDTO::fromEntity)
-                .collect(Collectors.toList());
+        return operationRegistry.active();
     }
 
     /**
      * Get all operations for a specific entity.
      */
-    @Transactional(readOnly = true)
     public List<AsyncOperationDTO> getOperationsForEntity(String entityType, Long entityId) {
-        return asyncOperationRepository.findByEntityTypeAndEntityIdOrderByCreatedAtDesc(entityType, entityId)
-                .stream()
-                .map(AsyncOperationDTO::fromEntity)
-                .collect(Collectors.toList());
+        return operationRegistry.forEntity(entityType, entityId);
     }
 
     /**
      * Update operation progress.
      */
-    @Transactional
     public void updateOperationProgress(String operationId, String status, int progressPercent, String message) {
-        asyncOperationRepository.findByOperationId(operationId)
-                .ifPresent(op -> {
-                    op.setStatus(status);
-                    op.setProgressPercent(progressPercent);
-                    op.setProgressMessage(message);
-                    if (AsyncOperation.STATUS_PROCESSING.equals(status) && op.getStartedAt() == null) {
-                        op.setStartedAt(LocalDateTime.now());
-                    }
-                    asyncOperationRepository.save(op);
-                });
+        operationRegistry.progress(operationId, status, progressPercent, message);
     }
 
     /**
      * Mark operation as completed.
      */
-    @Transactional
     public void completeOperation(String operationId, Object result) {
-        asyncOperationRepository.findByOperationId(operationId)
-                .ifPresent(op -> {
-                    op.setStatus(AsyncOperation.STATUS_COMPLETED);
-                    op.setProgressPercent(100);
-                    op.setProgressMessage("Operation completed successfully");
-                    op.setCompletedAt(LocalDateTime.now());
-                    
-                    // Serialize result to JSON
-                    try {
-                        op.setResultData(objectMapper.writeValueAsString(result));
-                    } catch (JsonProcessingException e) {
-                        log.warn("Could not serialize result for operation {}: {}", operationId, e.getMessage());
-                    }
-                    
-                    asyncOperationRepository.save(op);
-                });
+        String resultData = null;
+        try {
+            resultData = objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize result for operation {}: {}", operationId, e.getMessage());
+        }
+        operationRegistry.complete(operationId, resultData);
     }
 
     /**
      * Mark operation as failed.
      */
-    @Transactional
     public void failOperation(String operationId, String errorMessage) {
-        asyncOperationRepository.findByOperationId(operationId)
-                .ifPresent(op -> {
-                    op.setStatus(AsyncOperation.STATUS_FAILED);
-                    op.setErrorMessage(errorMessage);
-                    op.setCompletedAt(LocalDateTime.now());
-                    asyncOperationRepository.save(op);
-                });
+        operationRegistry.fail(operationId, errorMessage);
     }
 }
@@ -0,0 +1,279 @@
+package io.life.order.service;
+
+import io.life.order.dto.AuditFeedDTO;
+import io.life.order.entity.OrderAudit;
+import io.life.order.repository.OrderAuditRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AuditFeedService
+ *
+ * Incremental audit feed keyed by a cursor (the audit ID, which only grows).
+ *
+ * Readers ask for events after their cursor, which is a primary key range scan.
+ * Long-poll and SSE readers are parked without touching the database and are
+ * only served when OrderAuditWriter reports a write, so an idle feed costs no
+ * queries. Readers waiting on the same cursor share one query.
+ *
+ * Audit IDs are assigned on insert, not on commit, so a lower ID can become
+ * visible after a higher one (the writer thread, direct writes and other
+ * instances insert concurrently). A page therefore ends before a missing ID
+ * until that gap has been open for settle-ms; after that the ID is taken to
+ * belong to a rolled-back insert and skipped. Readers held back by a gap are
+ * served again once it has settled.
+ */
+@Service
+@Slf4j
+public class AuditFeedService {
+
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final OrderAuditRepository repository;
+    private final Executor dispatcher;
+    private final int maxLimit;
+    private final long maxWaitMs;
+    private final long streamTimeoutMs;
+    private final long settleMs;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    // Bumped on every write, so a reader can tell whether it raced a write while registering
+    private final AtomicLong writeSequence = new AtomicLong();
+    // First missing ID of each open gap -> when a reader first ran into it
+    private final Map<Long, Long> gaps = new ConcurrentHashMap<>();
+    private final AtomicBoolean recheckScheduled = new AtomicBoolean();
+
+    @Autowired
+    public AuditFeedService(
+            OrderAuditRepository repository,
+            OrderAuditWriter auditWriter,
+            @Value("${life.order-processing.audit.feed.max-limit:500}") int maxLimit,
+            @Value("${life.order-processing.audit.feed.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${life.order-processing.audit.feed.stream-timeout-ms:300000}") long streamTimeoutMs,
+            @Value("${life.order-processing.audit.feed.settle-ms:2000}") long settleMs) {
+        this(repository, auditWriter, Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "audit-feed");
+            thread.setDaemon(true);
+            return thread;
+        }), maxLimit, maxWaitMs, streamTimeoutMs, settleMs);
+    }
+
+    AuditFeedService(OrderAuditRepository repository, OrderAuditWriter auditWriter, Executor dispatcher,
+                     int maxLimit, long maxWaitMs, long streamTimeoutMs, long settleMs) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.maxLimit = maxLimit;
+        this.maxWaitMs = maxWaitMs;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.settleMs = settleMs;
+        auditWriter.addWriteListener(this::onWrite);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(s -> s.emitter().complete());
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Events after the cursor, oldest first, up to the first unsettled gap.
+     * Without a cursor, the latest events.
+     */
+    public AuditFeedDTO readAfter(Long after, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        if (after == null) {
+            List<OrderAudit> latest = new ArrayList<>(repository.findAllByOrderByIdDesc(PageRequest.of(0, size)));
+            Collections.reverse(latest);
+            return page(settledPrefix(latest, latest.isEmpty() ? 0L : latest.get(0).getId() - 1), 0L, false);
+        }
+        List<OrderAudit> events = repository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, size + 1));
+        List<OrderAudit> settled = settledPrefix(events, after);
+        boolean hasMore = settled.size() > size;
+        return page(hasMore ? settled.subList(0, size) : settled, after, hasMore);
+    }
+
+    /**
+     * The events up to the first gap in the IDs after the cursor that may still
+     * be filled by an uncommitted insert.
+     */
+    private List<OrderAudit> settledPrefix(List<OrderAudit> events, long after) {
+        long now = System.currentTimeMillis();
+        long expected = after + 1;
+        for (int i = 0; i < events.size(); i++) {
+            long id = events.get(i).getId();
+            if (id > expected && !gapSettled(expected, now)) {
+                scheduleRecheck();
+                return events.subList(0, i);
+            }
+            expected = id + 1;
+        }
+        return events;
+    }
+
+    private boolean gapSettled(long missingId, long now) {
+        if (settleMs <= 0) {
+            return true;
+        }
+        if (gaps.size() > MAX_TRACKED_GAPS) {
+            // Forget long-settled gaps; a reader meeting one again waits settle-ms once more
+            gaps.values().removeIf(seen -> now - seen > settleMs);
+        }
+        return now - gaps.computeIfAbsent(missingId, id -> now) >= settleMs;
+    }
+
+    private void scheduleRecheck() {
+        if (recheckScheduled.compareAndSet(false, true)) {
+            CompletableFuture.delayedExecutor(settleMs, TimeUnit.MILLISECONDS).execute(() -> {
+                recheckScheduled.set(false);
+                if (!waiters.isEmpty() || !subscribers.isEmpty()) {
+                    scheduleDispatch();
+                }
+            });
+        }
+    }
+
+    /**
+     * Long-poll: answer immediately if there are events after the cursor, otherwise
+     * when the next audit write lands or after waitMs with an empty page.
+     */
+    public DeferredResult<AuditFeedDTO> poll(long after, int limit, long waitMs) {
+        long wait = Math.max(0, Math.min(waitMs, maxWaitMs));
+        DeferredResult<AuditFeedDTO> result = new DeferredResult<>(wait > 0 ? wait : null);
+        long sequence = writeSequence.get();
+        AuditFeedDTO current = readAfter(after, limit);
+        if (!current.getEvents().isEmpty() || wait == 0) {
+            result.setResult(current);
+            return result;
+        }
+
+        Waiter waiter = new Waiter(after, Math.max(1, Math.min(limit, maxLimit)), result);
+        waiters.add(waiter);
+        result.onTimeout(() -> result.setResult(page(List.of(), after, false)));
+        result.onCompletion(() -> waiters.remove(waiter));
+        if (writeSequence.get() != sequence) {
+            scheduleDispatch();
+        }
+        return result;
+    }
+
+    /**
+     * Server-sent events: every audit event after the cursor, then new ones as they
+     * are written. Each event carries its audit ID as the SSE id, so a reconnecting
+     * EventSource resumes through Last-Event-ID.
+     */
+    public SseEmitter stream(Long after) {
+        long cursor = after != null ? after : repository.findFirstByOrderByIdDesc().map(OrderAudit::getId).orElse(0L);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new AtomicLong(cursor));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        scheduleDispatch();
+        return emitter;
+    }
+
+    private void onWrite() {
+        writeSequence.incrementAndGet();
+        if (!waiters.isEmpty() || !subscribers.isEmpty()) {
+            scheduleDispatch();
+        }
+    }
+
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Serve parked readers. Runs on the dispatcher thread; concurrent write signals
+     * collapse into one run.
+     */
+    void dispatch() {
+        dispatchScheduled.set(false);
+        Map<Long, AuditFeedDTO> pages = new HashMap<>();
+        try {
+            for (Waiter waiter : waiters) {
+                AuditFeedDTO page = pages.computeIfAbsent(waiter.after(), c -> readAfter(c, maxLimit));
+                if (!page.getEvents().isEmpty()) {
+                    waiter.result().setResult(limit(page, waiter.after(), waiter.limit()));
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                AuditFeedDTO page;
+                do {
+                    page = pages.computeIfAbsent(subscriber.cursor().get(), c -> readAfter(c, maxLimit));
+                } while (send(subscriber, page) && page.isHasMore());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Audit feed dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean send(Subscriber subscriber, AuditFeedDTO page) {
+        try {
+            for (OrderAudit event : page.getEvents()) {
+                subscriber.emitter().send(SseEmitter.event()
+                        .id(String.valueOf(event.getId()))
+                        .name("audit")
+                        .data(event, MediaType.APPLICATION_JSON));
+                subscriber.cursor().set(event.getId());
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    private static AuditFeedDTO limit(AuditFeedDTO page, long after, int limit) {
+        if (page.getEvents().size() <= limit) {
+            return page;
+        }
+        return page(page.getEvents().subList(0, limit), after, true);
+    }
+
+    private static AuditFeedDTO page(List<OrderAudit> events, long after, boolean hasMore) {
+        long cursor = events.isEmpty() ? after : events.get(events.size() - 1).getId();
+        return AuditFeedDTO.builder()
+                .events(List.copyOf(events))
+                .cursor(cursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<AuditFeedDTO> result) {
+    }
+
+    private record Subscriber(SseEmitter emitter, AtomicLong cursor) {
+    }
+}
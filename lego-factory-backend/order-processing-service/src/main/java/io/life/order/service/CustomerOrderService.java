@@ -1,12 +1,18 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.dto.CustomerOrderDTO;
+import io.life.order.dto.CustomerOrderSummaryDTO;
 import io.life.order.dto.OrderItemDTO;
 import io.life.order.entity.CustomerOrder;
 import io.life.order.entity.OrderItem;
 import io.life.order.entity.WarehouseOrder;
 import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -15,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +37,9 @@ public class CustomerOrderService {
     private static final String SCENARIO_DIRECT_FULFILLMENT = "DIRECT_FULFILLMENT";
     private static final String SCENARIO_WAREHOUSE_ORDER_NEEDED = "WAREHOUSE_ORDER_NEEDED";
     private static final String SCENARIO_DIRECT_PRODUCTION = "DIRECT_PRODUCTION";
+
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", null, "orderDate", "orderNumber");
     
     private final CustomerOrderRepository customerOrderRepository;
     private final WarehouseOrderRepository warehouseOrderRepository;
@@ -39,19 +47,22 @@ public class CustomerOrderService {
     private final OrderAuditService orderAuditService;
     private final InventoryService inventoryService;
     private final SystemConfigService systemConfigService;
+    private final OrderSequenceAllocator orderSequences;
 
     public CustomerOrderService(CustomerOrderRepository customerOrderRepository, 
                                 WarehouseOrderRepository warehouseOrderRepository,
                                 FinalAssemblyOrderService finalAssemblyOrderService,
                                 OrderAuditService orderAuditService,
                                 InventoryService inventoryService,
-                                SystemConfigService systemConfigService) {
+                                SystemConfigService systemConfigService,
+                                OrderSequenceAllocator orderSequences) {
         this.customerOrderRepository = customerOrderRepository;
         this.warehouseOrderRepository = warehouseOrderRepository;
         this.finalAssemblyOrderService = finalAssemblyOrderService;
         this.orderAuditService = orderAuditService;
         this.inventoryService = inventoryService;
         this.systemConfigService = systemConfigService;
+        this.orderSequences = orderSequences;
         // Custom exception for mapping errors is now a static nested class below
     }
 
@@ -96,7 +107,7 @@ public class CustomerOrderService {
     @SuppressWarnings("null")
     @Transactional(readOnly = true)
     public Optional<CustomerOrderDTO> getOrderById(Long id) {
-        return customerOrderRepository.findById(id)
+        return customerOrderRepository.findWithItemsById(id)
             .map(this::mapToDTO);
     }
 
@@ -121,6 +132,22 @@ public class CustomerOrderService {
         }
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<CustomerOrderDTO> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(customerOrderRepository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
+    /**
+     * List view of all orders, newest first, without items.
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerOrderSummaryDTO> getOrderSummaries() {
+        return customerOrderRepository.findAllSummaries();
+    }
+
     @Transactional(readOnly = true)
     public List<CustomerOrderDTO> getOrdersByWorkstationId(Long workstationId) {
         try {
@@ -165,6 +192,7 @@ public class CustomerOrderService {
 
     // --- Explicit transitions with basic validation ---
     @Transactional
+    @OrderStage("customer-order.confirm")
     public CustomerOrderDTO confirmOrder(Long id) {
         CustomerOrder order = getOrThrow(id);
         if (!STATUS_PENDING.equals(order.getStatus())) {
@@ -228,6 +256,7 @@ public class CustomerOrderService {
     }
 
     @Transactional
+    @OrderStage("customer-order.complete")
     public CustomerOrderDTO completeOrder(Long id) {
         CustomerOrder order = getOrThrow(id);
         if (!"PROCESSING".equals(order.getStatus()) && !STATUS_CONFIRMED.equals(order.getStatus())) {
@@ -392,6 +421,6 @@ public class CustomerOrderService {
     }
 
     private String generateOrderNumber() {
-        return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return "ORD-" + orderSequences.next("CUSTOMER_ORDER");
     }
 }
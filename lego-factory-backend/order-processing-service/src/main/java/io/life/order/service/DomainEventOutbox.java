@@ -0,0 +1,46 @@
+package io.life.order.service;
+
+import io.life.order.entity.DomainEvent;
+import io.life.order.entity.DomainEvent.EventType;
+import io.life.order.repository.DomainEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DomainEventOutbox
+ *
+ * Records order-chain domain events in the local database. The row joins the
+ * caller's transaction, so an event exists if and only if the state change it
+ * describes commits. Side effects that call other services run later, outside
+ * the request transaction.
+ *
+ * Delivery is handled by DomainEventRelay.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final DomainEventRepository eventRepository;
+
+    /**
+     * Record a domain event for relay.
+     *
+     * @param eventType What happened
+     * @param aggregateType Type of the order it happened to (PRODUCTION_ORDER, WAREHOUSE_ORDER, ...)
+     * @param aggregateId ID of that order
+     * @param detail Event-specific detail, may be null
+     */
+    @Transactional
+    public void publish(EventType eventType, String aggregateType, Long aggregateId, String detail) {
+        eventRepository.save(DomainEvent.builder()
+                .eventType(eventType)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .detail(detail)
+                .build());
+        log.debug("Recorded {} for {} {}", eventType, aggregateType, aggregateId);
+    }
+}
@@ -0,0 +1,192 @@
+package io.life.order.service;
+
+import io.life.order.entity.DomainEvent;
+import io.life.order.repository.DomainEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DomainEventRelay
+ *
+ * Background relay of the order-chain domain event outbox.
+ *
+ * Each run reads pending events oldest-first in batches and runs their side
+ * effects: downstream processing of completed production orders (inventory
+ * credits, Final Assembly orders), SimAL schedule updates, audit entries and,
+ * through the audit trail, webhooks. Relayed events are deleted.
+ *
+ * Events of one aggregate are relayed in the order they were written: when an
+ * event fails, later events of the same aggregate wait for the next run. A
+ * failed event keeps an incremented attempt count and is retried until it
+ * reaches max-attempts, after which it stays in the table for inspection.
+ * Delivery is at-least-once.
+ *
+ * Several instances can poll the same outbox. A batch is claimed in the database
+ * for claim-lease-ms before it is relayed; events held by another instance are
+ * skipped together with the later events of their aggregate, so an aggregate is
+ * only ever relayed by one instance at a time. Claims are released at the end of
+ * the batch, and the lease only matters when an instance dies mid-batch.
+ */
+@Service
+@Slf4j
+public class DomainEventRelay {
+
+    private final DomainEventRepository eventRepository;
+    private final OrderOrchestrationService orchestrationService;
+    private final OrderAuditService orderAuditService;
+    private final SimALNotificationService simalNotificationService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long claimLeaseMs;
+    // Identifies this instance's claims on outbox rows
+    private final String owner = UUID.randomUUID().toString();
+
+    public DomainEventRelay(DomainEventRepository eventRepository,
+                            OrderOrchestrationService orchestrationService,
+                            OrderAuditService orderAuditService,
+                            SimALNotificationService simalNotificationService,
+                            @Value("${life.order-processing.event-outbox.enabled:true}") boolean enabled,
+                            @Value("${life.order-processing.event-outbox.batch-size:50}") int batchSize,
+                            @Value("${life.order-processing.event-outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${life.order-processing.event-outbox.claim-lease-ms:60000}") long claimLeaseMs) {
+        this.eventRepository = eventRepository;
+        this.orchestrationService = orchestrationService;
+        this.orderAuditService = orderAuditService;
+        this.simalNotificationService = simalNotificationService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimLeaseMs = claimLeaseMs;
+    }
+
+    /**
+     * Relay pending events until the outbox is empty or an event fails.
+     */
+    @Scheduled(fixedDelayString = "${life.order-processing.event-outbox.poll-interval-ms:500}")
+    public void relayPending() {
+        if (!enabled) {
+            return;
+        }
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * Relay one batch of pending events.
+     *
+     * @return Number of events relayed and removed from the outbox
+     */
+    int relayBatch() {
+        List<DomainEvent> pending = eventRepository.findByAttemptsLessThanOrderByIdAsc(
+                maxAttempts, PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = pending.stream().map(DomainEvent::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> held = eventRepository.claim(ids, owner, now, now.plusNanos(claimLeaseMs * 1_000_000L)) == 0
+                ? Set.of()
+                : new HashSet<>(eventRepository.findClaimedIds(ids, owner));
+        List<Long> unrelayed = new ArrayList<>(held);
+
+        Set<String> blockedAggregates = new HashSet<>();
+        int relayed = 0;
+        try {
+            for (DomainEvent event : pending) {
+                String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+                if (blockedAggregates.contains(aggregate)) {
+                    continue;
+                }
+                if (!held.contains(event.getId())) {
+                    // Another instance is relaying this aggregate
+                    blockedAggregates.add(aggregate);
+                    continue;
+                }
+                if (relay(event, aggregate)) {
+                    unrelayed.remove(event.getId());
+                    relayed++;
+                } else {
+                    blockedAggregates.add(aggregate);
+                }
+            }
+        } finally {
+            if (!unrelayed.isEmpty()) {
+                eventRepository.releaseClaim(unrelayed, owner);
+            }
+        }
+        log.debug("Relayed {} of {} domain events", relayed, pending.size());
+        return relayed;
+    }
+
+    /**
+     * Relay one event and remove it from the outbox.
+     *
+     * @return false if the event failed and later events of its aggregate must wait
+     */
+    private boolean relay(DomainEvent event, String aggregate) {
+        try {
+            handle(event);
+            eventRepository.deleteById(event.getId());
+            return true;
+        } catch (Exception e) {
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500)
+                    : e.getMessage();
+            eventRepository.markFailed(event.getId(), error);
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                log.error("Giving up on {} for {} after {} attempts: {}",
+                        event.getEventType(), aggregate, maxAttempts, e.getMessage());
+            } else {
+                log.warn("Failed to relay {} for {}, will retry: {}",
+                        event.getEventType(), aggregate, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void handle(DomainEvent event) {
+        String aggregateType = event.getAggregateType();
+        Long aggregateId = event.getAggregateId();
+
+        switch (event.getEventType()) {
+            case WORKSTATION_ORDER_COMPLETED ->
+                    orderAuditService.recordOrderEvent(aggregateType, aggregateId, "WORKSTATION_ORDER_COMPLETED",
+                            event.getDetail() + " order completed");
+            case CONTROL_ORDER_COMPLETED -> {
+                if (event.getDetail() != null) {
+                    simalNotificationService.tryUpdateScheduleStatus(event.getDetail(),
+                            OrderOrchestrationService.STATUS_COMPLETED);
+                }
+                orderAuditService.recordOrderEvent(aggregateType, aggregateId, "COMPLETED",
+                        "All workstation orders finished");
+            }
+            case PRODUCTION_ORDER_COMPLETED -> {
+                orchestrationService.submitProductionOrderCompletion(aggregateId);
+                orderAuditService.recordOrderEvent(aggregateType, aggregateId, "COMPLETED",
+                        "All control orders finished - submitted for downstream processing");
+            }
+            case WAREHOUSE_ORDER_READY -> {
+                if (event.getDetail() != null) {
+                    orchestrationService.notifyWarehouseOrderReady(Long.valueOf(event.getDetail()));
+                }
+                orderAuditService.recordOrderEvent(aggregateType, aggregateId, "PRODUCTION_COMPLETE",
+                        "Production complete - ready for fulfillment");
+            }
+            default -> log.warn("No relay handler for domain event type {}", event.getEventType());
+        }
+    }
+}
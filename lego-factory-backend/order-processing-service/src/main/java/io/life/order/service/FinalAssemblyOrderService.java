@@ -1,7 +1,9 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.config.OrderProcessingConfig;
 import io.life.order.dto.FinalAssemblyOrderDTO;
+import io.life.order.dto.FinalAssemblyOrderSummaryDTO;
 import io.life.order.entity.FinalAssemblyOrder;
 import io.life.order.entity.ProductionOrder;
 import io.life.order.entity.ProductionOrderItem;
@@ -10,7 +12,12 @@ import io.life.order.entity.CustomerOrder;
 import io.life.order.repository.FinalAssemblyOrderRepository;
 import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.repository.ChildCounters;
 import io.life.order.repository.CustomerOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -19,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +35,9 @@ public class FinalAssemblyOrderService {
     private static final Logger logger = LoggerFactory.getLogger(FinalAssemblyOrderService.class);
     private static final String FINAL_ASSEMBLY_AUDIT_SOURCE = "FINAL_ASSEMBLY";
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", null, "orderDate", "orderNumber");
+
     private final OrderProcessingConfig config;
     private final FinalAssemblyOrderRepository finalAssemblyOrderRepository;
     private final ProductionOrderRepository productionOrderRepository;
@@ -36,6 +45,7 @@ public class FinalAssemblyOrderService {
     private final CustomerOrderRepository customerOrderRepository;
     private final InventoryService inventoryService;
     private final OrderAuditService orderAuditService;
+    private final OrderSequenceAllocator orderSequences;
 
     public FinalAssemblyOrderService(OrderProcessingConfig config,
                                     FinalAssemblyOrderRepository finalAssemblyOrderRepository,
@@ -43,7 +53,8 @@ public class FinalAssemblyOrderService {
                                     WarehouseOrderRepository warehouseOrderRepository,
                                     CustomerOrderRepository customerOrderRepository,
                                     InventoryService inventoryService,
-                                    OrderAuditService orderAuditService) {
+                                    OrderAuditService orderAuditService,
+                                    OrderSequenceAllocator orderSequences) {
         this.config = config;
         this.finalAssemblyOrderRepository = finalAssemblyOrderRepository;
         this.productionOrderRepository = productionOrderRepository;
@@ -51,6 +62,7 @@ public class FinalAssemblyOrderService {
         this.customerOrderRepository = customerOrderRepository;
         this.inventoryService = inventoryService;
         this.orderAuditService = orderAuditService;
+        this.orderSequences = orderSequences;
     }
 
     /**
@@ -72,6 +84,7 @@ public class FinalAssemblyOrderService {
         order.setNotes("Auto-created from warehouse order " + warehouseOrder.getOrderNumber());
 
         FinalAssemblyOrder saved = finalAssemblyOrderRepository.save(order);
+        warehouseOrderRepository.addTotalFinalAssemblyOrders(warehouseOrder.getId(), 1);
         logger.info("✓ Final Assembly order {} created", saved.getOrderNumber());
         
         orderAuditService.recordOrderEvent(FINAL_ASSEMBLY_AUDIT_SOURCE, saved.getId(), "CREATED",
@@ -104,6 +117,7 @@ public class FinalAssemblyOrderService {
         order.setNotes("Auto-created from production order " + productionOrder.getProductionOrderNumber() + " (Scenario 4 - Direct Production)");
 
         FinalAssemblyOrder saved = finalAssemblyOrderRepository.save(order);
+        productionOrderRepository.addTotalFinalAssemblyOrders(productionOrder.getId(), 1);
         logger.info("Final Assembly order {} created for direct production", saved.getOrderNumber());
         
         orderAuditService.recordOrderEvent(FINAL_ASSEMBLY_AUDIT_SOURCE, saved.getId(), "CREATED",
@@ -146,6 +160,22 @@ public class FinalAssemblyOrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<FinalAssemblyOrderDTO> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(finalAssemblyOrderRepository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
+    /**
+     * List view of all Final Assembly orders, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<FinalAssemblyOrderSummaryDTO> getOrderSummaries() {
+        return finalAssemblyOrderRepository.findAllSummaries();
+    }
+
     /**
      * Get Final Assembly order by ID
      */
@@ -268,6 +298,9 @@ public class FinalAssemblyOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Only IN_PROGRESS orders can be completed. Current status: " + order.getStatus());
         }
+        if (finalAssemblyOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         logger.info("Completing Final Assembly order {} - product {} qty {}", 
                 order.getOrderNumber(), order.getOutputProductId(), order.getOutputQuantity());
@@ -296,6 +329,7 @@ public class FinalAssemblyOrderService {
      * 4. Check if all Final Assembly orders for parent Warehouse Order are submitted
      * 5. If all submitted, enable customer order completion
      */
+    @OrderStage("final-assembly.submit")
     public FinalAssemblyOrderDTO submitOrder(Long orderId) {
         @SuppressWarnings("null")
         Optional<FinalAssemblyOrder> orderOpt = finalAssemblyOrderRepository.findById(orderId);
@@ -309,6 +343,11 @@ public class FinalAssemblyOrderService {
         if (!"COMPLETED".equals(order.getStatus())) {
             throw new IllegalStateException("Only COMPLETED orders can be submitted. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent submits only one
+        // credits the Plant Warehouse and counts towards the parent order
+        if (finalAssemblyOrderRepository.transitionStatus(orderId, "COMPLETED", "SUBMITTED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was submitted or changed concurrently");
+        }
 
         logger.info("Submitting Final Assembly order {} - crediting Plant Warehouse with product {} qty {}", 
                 order.getOrderNumber(), order.getOutputProductId(), order.getOutputQuantity());
@@ -355,12 +394,13 @@ public class FinalAssemblyOrderService {
      * If all submitted, update the customer order status to enable completion
      */
     private void checkAndUpdateWarehouseOrderStatus(Long warehouseOrderId) {
-        List<FinalAssemblyOrder> relatedOrders = finalAssemblyOrderRepository.findByWarehouseOrderId(warehouseOrderId);
-        
-        boolean allSubmitted = relatedOrders.stream()
-                .allMatch(o -> "SUBMITTED".equals(o.getStatus()));
-        
-        if (allSubmitted) {
+        if (warehouseOrderRepository.incrementSubmittedFinalAssemblyOrders(warehouseOrderId) == 0) {
+            logger.warn("Warehouse order {} has no outstanding Final Assembly orders to count as submitted", warehouseOrderId);
+            return;
+        }
+
+        Optional<ChildCounters> counters = warehouseOrderRepository.findFinalAssemblyCountersById(warehouseOrderId);
+        if (counters.isPresent() && counters.get().isComplete()) {
             logger.info("✓ All Final Assembly orders for warehouse order {} are submitted - updating customer order status", 
                     warehouseOrderId);
             orderAuditService.recordOrderEvent("WAREHOUSE_ORDER", warehouseOrderId, "ASSEMBLY_COMPLETE",
@@ -394,9 +434,8 @@ public class FinalAssemblyOrderService {
                 }
             }
         } else {
-            long submitted = relatedOrders.stream().filter(o -> "SUBMITTED".equals(o.getStatus())).count();
-            logger.info("Warehouse order {} has {}/{} Final Assembly orders submitted", 
-                    warehouseOrderId, submitted, relatedOrders.size());
+            counters.ifPresent(c -> logger.info("Warehouse order {} has {}/{} Final Assembly orders submitted", 
+                    warehouseOrderId, c.getCompleted(), c.getTotal()));
         }
     }
 
@@ -405,12 +444,13 @@ public class FinalAssemblyOrderService {
      * If all submitted, update the customer order status to enable completion
      */
     private void checkAndUpdateProductionOrderStatus(Long productionOrderId) {
-        List<FinalAssemblyOrder> relatedOrders = finalAssemblyOrderRepository.findByProductionOrderId(productionOrderId);
-        
-        boolean allSubmitted = relatedOrders.stream()
-                .allMatch(o -> "SUBMITTED".equals(o.getStatus()));
-        
-        if (allSubmitted) {
+        if (productionOrderRepository.incrementSubmittedFinalAssemblyOrders(productionOrderId) == 0) {
+            logger.warn("Production order {} has no outstanding Final Assembly orders to count as submitted", productionOrderId);
+            return;
+        }
+
+        Optional<ChildCounters> counters = productionOrderRepository.findFinalAssemblyCountersById(productionOrderId);
+        if (counters.isPresent() && counters.get().isComplete()) {
             logger.info("✓ All Final Assembly orders for production order {} are submitted - updating customer order status", 
                     productionOrderId);
             orderAuditService.recordOrderEvent("PRODUCTION_ORDER", productionOrderId, "ASSEMBLY_COMPLETE",
@@ -444,9 +484,8 @@ public class FinalAssemblyOrderService {
                 }
             }
         } else {
-            long submitted = relatedOrders.stream().filter(o -> "SUBMITTED".equals(o.getStatus())).count();
-            logger.info("Production order {} has {}/{} Final Assembly orders submitted", 
-                    productionOrderId, submitted, relatedOrders.size());
+            counters.ifPresent(c -> logger.info("Production order {} has {}/{} Final Assembly orders submitted", 
+                    productionOrderId, c.getCompleted(), c.getTotal()));
         }
     }
 
@@ -455,14 +494,9 @@ public class FinalAssemblyOrderService {
      * Used by frontend to enable/disable customer order complete button
      */
     public boolean areAllOrdersSubmittedForWarehouseOrder(Long warehouseOrderId) {
-        List<FinalAssemblyOrder> relatedOrders = finalAssemblyOrderRepository.findByWarehouseOrderId(warehouseOrderId);
-        
-        if (relatedOrders.isEmpty()) {
-            return false;
-        }
-        
-        return relatedOrders.stream()
-                .allMatch(o -> "SUBMITTED".equals(o.getStatus()));
+        return warehouseOrderRepository.findFinalAssemblyCountersById(warehouseOrderId)
+                .map(ChildCounters::isComplete)
+                .orElse(false);
     }
 
     /**
@@ -476,6 +510,19 @@ public class FinalAssemblyOrderService {
         }
 
         FinalAssemblyOrder order = orderOpt.get();
+        String previousStatus = order.getStatus();
+
+        // Keep the parent's submitted counter in step with manual status corrections,
+        // counting each change only once even if it is made twice concurrently
+        boolean wasSubmitted = "SUBMITTED".equals(previousStatus);
+        boolean isSubmitted = "SUBMITTED".equals(status);
+        if (wasSubmitted != isSubmitted) {
+            if (finalAssemblyOrderRepository.transitionStatus(orderId, previousStatus, status) == 0) {
+                throw new IllegalStateException("Order " + order.getOrderNumber() + " was changed concurrently");
+            }
+            adjustSubmittedCounter(order, isSubmitted);
+        }
+
         order.setStatus(status);
         order.setUpdatedAt(LocalDateTime.now());
         logger.info("Updated Final Assembly order {} status to {}", order.getOrderNumber(), status);
@@ -483,6 +530,22 @@ public class FinalAssemblyOrderService {
         return mapToDTO(finalAssemblyOrderRepository.save(order));
     }
 
+    private void adjustSubmittedCounter(FinalAssemblyOrder order, boolean submitted) {
+        if (order.getWarehouseOrderId() != null) {
+            if (submitted) {
+                warehouseOrderRepository.incrementSubmittedFinalAssemblyOrders(order.getWarehouseOrderId());
+            } else {
+                warehouseOrderRepository.decrementSubmittedFinalAssemblyOrders(order.getWarehouseOrderId());
+            }
+        } else if (order.getProductionOrderId() != null) {
+            if (submitted) {
+                productionOrderRepository.incrementSubmittedFinalAssemblyOrders(order.getProductionOrderId());
+            } else {
+                productionOrderRepository.decrementSubmittedFinalAssemblyOrders(order.getProductionOrderId());
+            }
+        }
+    }
+
     /**
      * Map FinalAssemblyOrder entity to DTO
      */
@@ -507,6 +570,6 @@ public class FinalAssemblyOrderService {
     }
 
     private String generateOrderNumber() {
-        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return String.valueOf(orderSequences.next("FINAL_ASSEMBLY_ORDER"));
     }
 }
@@ -1,5 +1,6 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.dto.CustomerOrderDTO;
 import io.life.order.service.orchestration.FulfillmentOrchestrationService;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,7 @@ public class FulfillmentService {
      * @return CustomerOrderDTO with updated status
      */
     @Transactional
+    @OrderStage("customer-order.fulfill")
     public CustomerOrderDTO fulfillOrder(Long orderId) {
         log.info("FulfillmentService.fulfillOrder({}) - delegating to orchestration service", orderId);
         return orchestrationService.fulfillOrder(orderId);
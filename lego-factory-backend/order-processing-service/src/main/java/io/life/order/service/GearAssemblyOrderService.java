@@ -5,6 +5,9 @@ import io.life.order.client.SimalClient;
 import io.life.order.entity.GearAssemblyOrder;
 import io.life.order.repository.GearAssemblyOrderRepository;
 import io.life.order.service.OrderOrchestrationService.WorkstationOrderType;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * GearAssemblyOrderService
@@ -26,15 +30,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GearAssemblyOrderService {
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
     private final GearAssemblyOrderRepository gearAssemblyOrderRepository;
     private final InventoryClient inventoryClient;
-    private final SimalClient simalClient;
+    private final SimalTaskStatusOutbox simalTaskStatusOutbox;
     private final OrderOrchestrationService orchestrationService;
 
     public List<GearAssemblyOrder> getOrdersForWorkstation(Long workstationId) {
         return gearAssemblyOrderRepository.findByWorkstationId(workstationId);
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<GearAssemblyOrder> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(gearAssemblyOrderRepository, query, QUERY_FIELDS, Function.identity());
+    }
+
     public List<GearAssemblyOrder> getOrdersByControlOrder(Long assemblyControlOrderId) {
         return gearAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId);
     }
@@ -56,7 +71,7 @@ public class GearAssemblyOrderService {
         order.setActualStartTime(LocalDateTime.now());
         
         GearAssemblyOrder saved = gearAssemblyOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(4L, order.getOrderNumber()), "IN_PROGRESS");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(4L, order.getOrderNumber()), "IN_PROGRESS");
         log.info("Started gear assembly order: {} at WS-4", order.getOrderNumber());
         
         return saved;
@@ -69,6 +84,11 @@ public class GearAssemblyOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Can only complete IN_PROGRESS orders. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent completions
+        // only one credits inventory and counts towards the parent order
+        if (gearAssemblyOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         // Credit inventory
         creditInventory(order);
@@ -78,7 +98,7 @@ public class GearAssemblyOrderService {
         order.setActualFinishTime(LocalDateTime.now());
         GearAssemblyOrder saved = gearAssemblyOrderRepository.save(order);
 
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(4L, order.getOrderNumber()), "COMPLETED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(4L, order.getOrderNumber()), "COMPLETED");
         log.info("Completed gear assembly order: {} - {} {} produced", 
                 order.getOrderNumber(), order.getQuantity(), order.getOutputModuleName());
 
@@ -98,7 +118,7 @@ public class GearAssemblyOrderService {
 
         order.setStatus("HALTED");
         GearAssemblyOrder saved = gearAssemblyOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(4L, order.getOrderNumber()), "HALTED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(4L, order.getOrderNumber()), "HALTED");
         
         log.info("Halted gear assembly order: {}", order.getOrderNumber());
         return saved;
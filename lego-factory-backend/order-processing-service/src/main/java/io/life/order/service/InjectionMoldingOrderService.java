@@ -5,6 +5,9 @@ import io.life.order.client.SimalClient;
 import io.life.order.entity.InjectionMoldingOrder;
 import io.life.order.repository.InjectionMoldingOrderRepository;
 import io.life.order.service.OrderOrchestrationService.WorkstationOrderType;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * InjectionMoldingOrderService
@@ -26,15 +30,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InjectionMoldingOrderService {
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
     private final InjectionMoldingOrderRepository injectionMoldingOrderRepository;
     private final InventoryClient inventoryClient;
-    private final SimalClient simalClient;
+    private final SimalTaskStatusOutbox simalTaskStatusOutbox;
     private final OrderOrchestrationService orchestrationService;
 
     public List<InjectionMoldingOrder> getOrdersForWorkstation(Long workstationId) {
         return injectionMoldingOrderRepository.findByWorkstationId(workstationId);
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<InjectionMoldingOrder> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(injectionMoldingOrderRepository, query, QUERY_FIELDS, Function.identity());
+    }
+
     public List<InjectionMoldingOrder> getOrdersByControlOrder(Long productionControlOrderId) {
         return injectionMoldingOrderRepository.findByProductionControlOrderId(productionControlOrderId);
     }
@@ -58,9 +73,9 @@ public class InjectionMoldingOrderService {
         InjectionMoldingOrder saved = injectionMoldingOrderRepository.save(order);
         log.info("Started injection molding order: {} at WS-1", order.getOrderNumber());
         
-        // Update task status in SimAL
+        // Queue task status update for SimAL
         String taskId = SimalClient.generateTaskId(1L, order.getOrderNumber());
-        simalClient.updateTaskStatus(taskId, "IN_PROGRESS");
+        simalTaskStatusOutbox.enqueue(taskId, "IN_PROGRESS");
         
         return saved;
     }
@@ -72,6 +87,11 @@ public class InjectionMoldingOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Can only complete IN_PROGRESS orders. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent completions
+        // only one credits inventory and counts towards the parent order
+        if (injectionMoldingOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         // Credit inventory
         creditInventory(order);
@@ -84,9 +104,9 @@ public class InjectionMoldingOrderService {
         log.info("Completed injection molding order: {} - {} {} produced", 
                 order.getOrderNumber(), order.getQuantity(), order.getOutputPartName());
 
-        // Update task status in SimAL
+        // Queue task status update for SimAL
         String taskId = SimalClient.generateTaskId(1L, order.getOrderNumber());
-        simalClient.updateTaskStatus(taskId, "COMPLETED");
+        simalTaskStatusOutbox.enqueue(taskId, "COMPLETED");
 
         // Propagate status to parent control order
         propagateStatusToParent(order.getProductionControlOrderId());
@@ -107,9 +127,9 @@ public class InjectionMoldingOrderService {
         
         log.info("Halted injection molding order: {}", order.getOrderNumber());
         
-        // Update task status in SimAL
+        // Queue task status update for SimAL
         String taskId = SimalClient.generateTaskId(1L, order.getOrderNumber());
-        simalClient.updateTaskStatus(taskId, "HALTED");
+        simalTaskStatusOutbox.enqueue(taskId, "HALTED");
         
         return saved;
     }
@@ -5,6 +5,9 @@ import io.life.order.client.SimalClient;
 import io.life.order.entity.MotorAssemblyOrder;
 import io.life.order.repository.MotorAssemblyOrderRepository;
 import io.life.order.service.OrderOrchestrationService.WorkstationOrderType;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * MotorAssemblyOrderService
@@ -26,15 +30,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MotorAssemblyOrderService {
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
     private final MotorAssemblyOrderRepository motorAssemblyOrderRepository;
     private final InventoryClient inventoryClient;
-    private final SimalClient simalClient;
+    private final SimalTaskStatusOutbox simalTaskStatusOutbox;
     private final OrderOrchestrationService orchestrationService;
 
     public List<MotorAssemblyOrder> getOrdersForWorkstation(Long workstationId) {
         return motorAssemblyOrderRepository.findByWorkstationId(workstationId);
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<MotorAssemblyOrder> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(motorAssemblyOrderRepository, query, QUERY_FIELDS, Function.identity());
+    }
+
     public List<MotorAssemblyOrder> getOrdersByControlOrder(Long assemblyControlOrderId) {
         return motorAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId);
     }
@@ -56,7 +71,7 @@ public class MotorAssemblyOrderService {
         order.setActualStartTime(LocalDateTime.now());
         
         MotorAssemblyOrder saved = motorAssemblyOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(5L, order.getOrderNumber()), "IN_PROGRESS");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(5L, order.getOrderNumber()), "IN_PROGRESS");
         log.info("Started motor assembly order: {} at WS-5", order.getOrderNumber());
         
         return saved;
@@ -69,6 +84,11 @@ public class MotorAssemblyOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Can only complete IN_PROGRESS orders. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent completions
+        // only one credits inventory and counts towards the parent order
+        if (motorAssemblyOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         // Credit inventory
         creditInventory(order);
@@ -78,7 +98,7 @@ public class MotorAssemblyOrderService {
         order.setActualFinishTime(LocalDateTime.now());
         MotorAssemblyOrder saved = motorAssemblyOrderRepository.save(order);
 
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(5L, order.getOrderNumber()), "COMPLETED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(5L, order.getOrderNumber()), "COMPLETED");
         log.info("Completed motor assembly order: {} - {} {} produced", 
                 order.getOrderNumber(), order.getQuantity(), order.getOutputModuleName());
 
@@ -98,7 +118,7 @@ public class MotorAssemblyOrderService {
 
         order.setStatus("HALTED");
         MotorAssemblyOrder saved = motorAssemblyOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(5L, order.getOrderNumber()), "HALTED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(5L, order.getOrderNumber()), "HALTED");
         
         log.info("Halted motor assembly order: {}", order.getOrderNumber());
         return saved;
@@ -0,0 +1,158 @@
+package io.life.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * OrderAuditRetentionJob
+ *
+ * Removes audit days older than the retention period.
+ *
+ * On PostgreSQL order_audit is partitioned by audit_day (migration V6), one
+ * partition per day: expired days are dropped as whole partitions, and the
+ * partitions for the coming days are created ahead of time. Elsewhere (the
+ * H2 default profile) the table is not partitioned and each expired day is
+ * deleted by its audit_day key, a range on the day index.
+ */
+@Component
+@Slf4j
+public class OrderAuditRetentionJob {
+
+    /** Must match V6__Partition_order_audit_by_day.PARTITION_PREFIX */
+    static final String PARTITION_PREFIX = "order_audit_p";
+    static final String DEFAULT_PARTITION = PARTITION_PREFIX + "default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int partitionsAhead;
+
+    private volatile Boolean partitioned;
+
+    public OrderAuditRetentionJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${life.order-processing.audit.retention-days:90}") int retentionDays,
+            @Value("${life.order-processing.audit.partitions-ahead:7}") int partitionsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createUpcomingPartitions() {
+        if (isPartitioned()) {
+            createPartitions(LocalDate.now());
+        }
+    }
+
+    @Scheduled(cron = "${life.order-processing.audit.retention-cron:0 15 3 * * *}")
+    public void purgeExpiredDays() {
+        createUpcomingPartitions();
+        if (retentionDays <= 0) {
+            return;
+        }
+        purgeBefore(LocalDate.now().minusDays(retentionDays));
+    }
+
+    /**
+     * Drop every audit day before the cutoff.
+     *
+     * @return Number of days removed
+     */
+    int purgeBefore(LocalDate cutoff) {
+        return isPartitioned() ? dropPartitionsBefore(cutoff) : deleteDaysBefore(cutoff);
+    }
+
+    /**
+     * Create the partitions for today and the next partitions-ahead days, so
+     * new events never land in the default partition.
+     */
+    void createPartitions(LocalDate today) {
+        for (int i = 0; i <= partitionsAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day)
+                        + " PARTITION OF order_audit FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+            } catch (DataAccessException e) {
+                // Fails if the default partition already holds events of that day
+                log.warn("Could not create audit partition for {}: {}", day, e.getMessage());
+            }
+        }
+    }
+
+    private int dropPartitionsBefore(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('order_audit') ORDER BY c.relname",
+                String.class);
+        int removed = 0;
+        for (String partition : partitions) {
+            LocalDate day = partitionDay(partition);
+            if (day != null && day.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped audit partition {}", partition);
+                removed++;
+            }
+        }
+        int stray = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE audit_day < ?",
+                Date.valueOf(cutoff));
+        if (stray > 0) {
+            log.info("Deleted {} expired events from {}", stray, DEFAULT_PARTITION);
+        }
+        return removed;
+    }
+
+    private int deleteDaysBefore(LocalDate cutoff) {
+        List<Date> days = jdbcTemplate.queryForList(
+                "SELECT DISTINCT audit_day FROM order_audit WHERE audit_day < ? ORDER BY audit_day",
+                Date.class, Date.valueOf(cutoff));
+        for (Date day : days) {
+            int rows = jdbcTemplate.update("DELETE FROM order_audit WHERE audit_day = ?", day);
+            log.info("Dropped audit day {} ({} events)", day, rows);
+        }
+        return days.size();
+    }
+
+    private boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(database) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('order_audit'))",
+                    Boolean.class));
+            partitioned = result;
+        }
+        return result;
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * Day of a daily partition, or null for any other partition (e.g. the default one).
+     */
+    static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -8,25 +8,34 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class OrderAuditService {
     private final OrderAuditRepository repository;
+    private final OrderAuditWriter auditWriter;
     private final WebhookService webhookService;
 
-    public OrderAuditService(OrderAuditRepository repository, WebhookService webhookService) {
+    public OrderAuditService(OrderAuditRepository repository, OrderAuditWriter auditWriter, WebhookService webhookService) {
         this.repository = repository;
+        this.auditWriter = auditWriter;
         this.webhookService = webhookService;
     }
 
-    @Transactional
+    /**
+     * Record an audit event. The row is written in the background by OrderAuditWriter
+     * once the caller's transaction commits; webhook deliveries are queued in the
+     * caller's transaction.
+     */
     public void createAuditEvent(String orderType, Long orderId, String eventType, String description) {
         OrderAudit audit = new OrderAudit();
         audit.setOrderType(orderType);
         audit.setOrderId(orderId);
         audit.setEventType(eventType);
         audit.setDescription(description);
+        audit.setCreatedAt(LocalDateTime.now());
+        audit.setAuditDay(audit.getCreatedAt().toLocalDate());
         
         // Capture user info from request headers
         try {
@@ -49,12 +58,11 @@ public class OrderAuditService {
             // If we can't get request attributes, just continue without user info
         }
         
-        OrderAudit saved = repository.save(audit);
-        webhookService.dispatch(saved);
+        auditWriter.append(audit);
+        webhookService.dispatch(audit);
     }
 
     // Alias method for backward compatibility
-    @Transactional
     public void recordOrderEvent(String orderType, Long orderId, String eventType, String description) {
         this.createAuditEvent(orderType, orderId, eventType, description);
     }
@@ -71,9 +79,14 @@ public class OrderAuditService {
         );
     }
     
+    /**
+     * Write an audit event immediately and return it with its ID. The row goes
+     * through OrderAuditWriter like every other audit event, so feed readers are
+     * woken once it commits.
+     */
     @Transactional
     public OrderAudit saveAudit(OrderAudit audit) {
-        OrderAudit saved = repository.save(audit);
+        OrderAudit saved = auditWriter.writeNow(audit);
         webhookService.dispatch(saved);
         return saved;
     }
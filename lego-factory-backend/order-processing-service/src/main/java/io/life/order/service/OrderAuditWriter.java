@@ -0,0 +1,309 @@
+package io.life.order.service;
+
+import io.life.order.entity.OrderAudit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderAuditWriter
+ *
+ * Write-behind buffer for the audit trail.
+ *
+ * Audit events are put in a bounded ring and a single writer thread inserts them
+ * with JDBC batch statements, as soon as batch-size events are waiting or
+ * flush-interval-ms after the first one arrived. Remaining events are flushed on
+ * shutdown. When the ring is full (or write-behind is disabled) the caller writes
+ * its event directly, so audit events are never dropped for lack of space.
+ *
+ * Each batch is inserted in its own transaction. A batch that fails is retried
+ * once and then written row by row, so a bad event only loses itself; the writer
+ * thread logs any failure and keeps going.
+ *
+ * Events that need their ID straight away are written through writeNow, so every
+ * audit insert goes through this class and every write reaches the listeners.
+ */
+@Component
+@Slf4j
+public class OrderAuditWriter {
+
+    static final String INSERT_SQL = "INSERT INTO order_audit "
+            + "(order_type, order_id, event_type, description, user_id, user_role, created_at, audit_day) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<OrderAudit> ring;
+    private final List<Runnable> writeListeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public OrderAuditWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${life.order-processing.audit.write-behind.enabled:true}") boolean enabled,
+            @Value("${life.order-processing.audit.write-behind.capacity:10000}") int capacity,
+            @Value("${life.order-processing.audit.write-behind.batch-size:200}") int batchSize,
+            @Value("${life.order-processing.audit.write-behind.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Own transaction even when called from another one's afterCommit
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.ring = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stop the writer thread and flush everything still buffered.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(flushIntervalMs * 2 + 5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushPending();
+    }
+
+    /**
+     * Queue an audit event. Inside a transaction the event is queued only once the
+     * transaction commits, so rolled-back changes leave no audit trail.
+     */
+    public void append(OrderAudit audit) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(audit);
+                }
+            });
+        } else {
+            enqueue(audit);
+        }
+    }
+
+    /**
+     * Write one event on the calling thread and set its generated ID. Inside a
+     * transaction the row is part of it and the listeners run after commit.
+     */
+    public OrderAudit writeNow(OrderAudit audit) {
+        if (audit.getCreatedAt() == null) {
+            audit.setCreatedAt(LocalDateTime.now());
+        }
+        audit.setAuditDay(audit.getCreatedAt().toLocalDate());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] {"id"});
+            bind(ps, audit);
+            return ps;
+        }, keyHolder);
+        audit.setId(keyHolder.getKeyAs(Long.class));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyListeners();
+                }
+            });
+        } else {
+            notifyListeners();
+        }
+        return audit;
+    }
+
+    /**
+     * Register a callback run on the writing thread after each successful write.
+     */
+    public void addWriteListener(Runnable listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Number of events waiting to be written.
+     */
+    public int pending() {
+        return ring.size();
+    }
+
+    private void enqueue(OrderAudit audit) {
+        if (running && ring.offer(audit)) {
+            return;
+        }
+        if (running) {
+            log.debug("Audit ring full, writing {} event for {} {} directly",
+                    audit.getEventType(), audit.getOrderType(), audit.getOrderId());
+        }
+        flush(new ArrayList<>(List.of(audit)));
+    }
+
+    private void runWriter() {
+        List<OrderAudit> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            try {
+                flush(batch);
+            } catch (RuntimeException e) {
+                log.error("Audit writer failed to flush, continuing", e);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Wait for the next event, then gather more until the batch is full or the
+     * flush interval has passed.
+     */
+    private void collect(List<OrderAudit> batch) throws InterruptedException {
+        OrderAudit first = ring.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            ring.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            OrderAudit next = ring.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Write everything currently buffered on the calling thread.
+     */
+    void flushPending() {
+        List<OrderAudit> batch = new ArrayList<>(batchSize);
+        while (ring.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Write the batch, retrying once and then falling back to one insert per event.
+     */
+    private void flush(List<OrderAudit> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} audit events, retrying: {}", batch.size(), e.getMessage());
+            }
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} audit events again, writing them one by one: {}",
+                        batch.size(), e.getMessage());
+            }
+            writeEach(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void write(List<OrderAudit> batch) {
+        tx.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), OrderAuditWriter::bind));
+        notifyListeners();
+    }
+
+    private void writeEach(List<OrderAudit> batch) {
+        int written = 0;
+        for (OrderAudit audit : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, audit));
+                written++;
+            } catch (RuntimeException e) {
+                log.error("Dropped audit event {} for {} {}: {}",
+                        audit.getEventType(), audit.getOrderType(), audit.getOrderId(), e.getMessage());
+            }
+        }
+        if (written > 0) {
+            notifyListeners();
+        }
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : writeListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Audit write listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, OrderAudit audit) throws SQLException {
+        ps.setString(1, audit.getOrderType());
+        ps.setLong(2, audit.getOrderId());
+        ps.setString(3, audit.getEventType());
+        ps.setString(4, audit.getDescription());
+        if (audit.getUserId() != null) {
+            ps.setLong(5, audit.getUserId());
+        } else {
+            ps.setNull(5, Types.BIGINT);
+        }
+        ps.setString(6, audit.getUserRole());
+        ps.setTimestamp(7, Timestamp.valueOf(audit.getCreatedAt()));
+        ps.setDate(8, Date.valueOf(audit.getAuditDay()));
+    }
+}
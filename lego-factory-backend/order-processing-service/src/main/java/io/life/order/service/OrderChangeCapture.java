@@ -0,0 +1,210 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import io.life.order.entity.AssemblyControlOrder;
+import io.life.order.entity.CustomerOrder;
+import io.life.order.entity.FinalAssemblyOrder;
+import io.life.order.entity.GearAssemblyOrder;
+import io.life.order.entity.InjectionMoldingOrder;
+import io.life.order.entity.MotorAssemblyOrder;
+import io.life.order.entity.PartFinishingOrder;
+import io.life.order.entity.PartPreProductionOrder;
+import io.life.order.entity.ProductionControlOrder;
+import io.life.order.entity.ProductionOrder;
+import io.life.order.entity.SupplyOrder;
+import io.life.order.entity.WarehouseOrder;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * OrderChangeCapture
+ *
+ * Feeds OrderChangeFeed from Hibernate's post-insert and post-update events, so
+ * every order creation and status change is pushed no matter which service method
+ * made it. Updates that leave the status unchanged are not pushed.
+ *
+ * Changes are collected per transaction and published once it commits, with one
+ * event per order carrying its final status; rolled-back changes are never pushed.
+ */
+@Component
+public class OrderChangeCapture implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final String STATUS_PROPERTY = "status";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final OrderChangeFeed feed;
+
+    public OrderChangeCapture(EntityManagerFactory entityManagerFactory, OrderChangeFeed feed) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.feed = feed;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (statusChanged(event)) {
+            record(event.getEntity());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean statusChanged(PostUpdateEvent event) {
+        int index = Arrays.asList(event.getPersister().getPropertyNames()).indexOf(STATUS_PROPERTY);
+        if (index < 0) {
+            return false;
+        }
+        int[] dirty = event.getDirtyProperties();
+        if (dirty != null) {
+            return Arrays.stream(dirty).anyMatch(i -> i == index);
+        }
+        return event.getOldState() == null || !Objects.equals(event.getOldState()[index], event.getState()[index]);
+    }
+
+    /**
+     * Remember the entity's current state for publishing after commit, or publish
+     * right away outside a transaction. Entities that are not orders are ignored.
+     */
+    void record(Object entity) {
+        OrderChangeEventDTO change = describe(entity);
+        if (change == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            feed.publish(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, OrderChangeEventDTO> pending = (Map<String, OrderChangeEventDTO>)
+                TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, OrderChangeEventDTO> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // An inner REQUIRES_NEW transaction collects its own changes
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderChangeCapture.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(OrderChangeCapture.this, changes);
+                }
+
+                @Override
+                public void afterCommit() {
+                    feed.publish(new ArrayList<>(changes.values()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderChangeCapture.this);
+                }
+            });
+            pending = changes;
+        }
+        // A later change of the same order in this transaction replaces the earlier one
+        pending.remove(change.getOrderType() + ":" + change.getOrderId());
+        pending.put(change.getOrderType() + ":" + change.getOrderId(), change);
+    }
+
+    static OrderChangeEventDTO describe(Object entity) {
+        return switch (entity) {
+            case CustomerOrder o -> change("CUSTOMER_ORDER", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId()).build();
+            case WarehouseOrder o -> change("WAREHOUSE_ORDER", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId()).build();
+            case SupplyOrder o -> change("SUPPLY_ORDER", o.getId(), o.getSupplyOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(),
+                    o.getRequestingWorkstationId(), o.getSupplyWarehouseWorkstationId()).build();
+            case ProductionOrder o -> change("PRODUCTION_ORDER", o.getId(), o.getProductionOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(),
+                    o.getCreatedByWorkstationId(), o.getAssignedWorkstationId()).build();
+            case ProductionControlOrder o -> change("PRODUCTION_CONTROL", o.getId(), o.getControlOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getAssignedWorkstationId())
+                    .parentOrderType("PRODUCTION_ORDER").parentOrderId(o.getSourceProductionOrderId())
+                    .quantity(o.getQuantity()).build();
+            case AssemblyControlOrder o -> change("ASSEMBLY_CONTROL", o.getId(), o.getControlOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getAssignedWorkstationId())
+                    .parentOrderType("PRODUCTION_ORDER").parentOrderId(o.getSourceProductionOrderId())
+                    .quantity(o.getQuantity()).build();
+            case InjectionMoldingOrder o -> change("INJECTION_MOLDING", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType("PRODUCTION_CONTROL").parentOrderId(o.getProductionControlOrderId())
+                    .itemName(o.getOutputPartName()).quantity(o.getQuantity()).build();
+            case PartPreProductionOrder o -> change("PARTS_PRE_PRODUCTION", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType("PRODUCTION_CONTROL").parentOrderId(o.getProductionControlOrderId())
+                    .itemName(o.getOutputPartName()).quantity(o.getQuantity()).build();
+            case PartFinishingOrder o -> change("PART_FINISHING", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType("PRODUCTION_CONTROL").parentOrderId(o.getProductionControlOrderId())
+                    .itemName(o.getOutputPartName()).quantity(o.getQuantity()).build();
+            case GearAssemblyOrder o -> change("GEAR_ASSEMBLY", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType("ASSEMBLY_CONTROL").parentOrderId(o.getAssemblyControlOrderId())
+                    .itemName(o.getOutputModuleName()).quantity(o.getQuantity()).build();
+            case MotorAssemblyOrder o -> change("MOTOR_ASSEMBLY", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType("ASSEMBLY_CONTROL").parentOrderId(o.getAssemblyControlOrderId())
+                    .itemName(o.getOutputModuleName()).quantity(o.getQuantity()).build();
+            // Only Final Assembly orders of the production flow count towards a control order
+            case FinalAssemblyOrder o -> change("FINAL_ASSEMBLY", o.getId(), o.getOrderNumber(),
+                    o.getStatus(), o.getUpdatedAt(), o.getWorkstationId())
+                    .parentOrderType(o.getAssemblyControlOrderId() != null ? "ASSEMBLY_CONTROL" : null)
+                    .parentOrderId(o.getAssemblyControlOrderId())
+                    .quantity(o.getOutputQuantity()).build();
+            default -> null;
+        };
+    }
+
+    private static OrderChangeEventDTO.OrderChangeEventDTOBuilder change(String orderType, Long orderId,
+                                                                         String orderNumber, String status,
+                                                                         LocalDateTime updatedAt,
+                                                                         Long... workstationIds) {
+        return OrderChangeEventDTO.builder()
+                .orderType(orderType)
+                .orderId(orderId)
+                .orderNumber(orderNumber)
+                .status(status)
+                .updatedAt(updatedAt)
+                .workstationIds(Stream.of(workstationIds).filter(Objects::nonNull).distinct().toList());
+    }
+}
@@ -0,0 +1,336 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * OrderChangeFeed
+ *
+ * Server-sent events push channel for order changes (/api/orders/events).
+ *
+ * OrderChangeCapture hands over the changes of each committed transaction. Every
+ * change gets the next feed version and is kept in a bounded replay buffer, so a
+ * client reconnecting with Last-Event-ID receives what it missed. When the ID is
+ * older than the buffer or from before a restart, the client gets a "reset" event
+ * and re-fetches its lists instead.
+ *
+ * Each connection has a bounded queue, drained by a shared pool of sender threads
+ * with at most one send in flight per connection: a slow client only backs up its
+ * own queue, and when that overflows its pending events are replaced by a single
+ * "reset". Every heartbeat-ms each connection gets a comment line, so idle streams
+ * are kept open by proxies and dead ones are noticed.
+ *
+ * The feed is local to this instance: it carries only the changes committed here,
+ * and versions, replay buffer and subscribers live in memory. With several
+ * order-processing instances behind the gateway, a client sees the changes made
+ * through other instances only when it re-fetches its lists, e.g. after a "reset".
+ *
+ * StockChangeFeed in inventory-service is a copy of this machinery for stock;
+ * changes to one should be made to both.
+ */
+@Service
+@Slf4j
+public class OrderChangeFeed {
+
+    static final String EVENT_NAME = "order";
+    static final String RESET_EVENT_NAME = "reset";
+
+    private final Executor sender;
+    private final ScheduledExecutorService heartbeats;
+    private final int replaySize;
+    private final int queueCapacity;
+    private final long streamTimeoutMs;
+    private final long reconnectMs;
+
+    // Tells event IDs of this run apart from IDs a client kept from before a restart
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<OrderChangeEventDTO> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<OrderChangeEventDTO>> listeners = new CopyOnWriteArrayList<>();
+    private long version; // guarded by replay
+
+    @Autowired
+    public OrderChangeFeed(
+            @Value("${life.order-processing.push.sender-threads:4}") int senderThreads,
+            @Value("${life.order-processing.push.replay-size:1000}") int replaySize,
+            @Value("${life.order-processing.push.queue-capacity:256}") int queueCapacity,
+            @Value("${life.order-processing.push.heartbeat-ms:15000}") long heartbeatMs,
+            @Value("${life.order-processing.push.stream-timeout-ms:300000}") long streamTimeoutMs,
+            @Value("${life.order-processing.push.reconnect-ms:3000}") long reconnectMs) {
+        this(Executors.newFixedThreadPool(senderThreads, daemonThreads("order-push")),
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("order-push-heartbeat")),
+                heartbeatMs, replaySize, queueCapacity, streamTimeoutMs, reconnectMs);
+    }
+
+    OrderChangeFeed(Executor sender, ScheduledExecutorService heartbeats, long heartbeatMs,
+                    int replaySize, int queueCapacity, long streamTimeoutMs, long reconnectMs) {
+        this.sender = sender;
+        this.heartbeats = heartbeats;
+        this.replaySize = replaySize;
+        this.queueCapacity = queueCapacity;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.reconnectMs = reconnectMs;
+        if (heartbeats != null) {
+            heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Subscribe to order changes, optionally only those shown on one workstation or
+     * of one order type. With the Last-Event-ID of a previous stream, missed changes
+     * are sent first.
+     */
+    public SseEmitter stream(Long workstationId, String orderType, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        subscribe(emitter, workstationId, orderType, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, Long workstationId, String orderType, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, workstationId, orderType, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        synchronized (replay) {
+            if (lastEventId != null) {
+                resume(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        // The first write sets the client's reconnect delay and flushes the response headers
+        subscriber.heartbeatDue.set(true);
+        schedule(subscriber);
+    }
+
+    /**
+     * Queue the changes of one committed transaction for all matching subscribers.
+     */
+    public void publish(List<OrderChangeEventDTO> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        synchronized (replay) {
+            for (OrderChangeEventDTO change : changes) {
+                change.setVersion(++version);
+                replay.addLast(change);
+                if (replay.size() > replaySize) {
+                    replay.removeFirst();
+                }
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.accepts(change)) {
+                        subscriber.offer(change);
+                    }
+                }
+                notifyListeners(change);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.hasWork()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Hand every published change to an in-process listener, such as a read model.
+     * Listeners are called in version order while publishing, so they must be quick
+     * and must not block.
+     */
+    public void addListener(Consumer<OrderChangeEventDTO> listener) {
+        listeners.add(listener);
+    }
+
+    // Caller holds the replay lock
+    private void notifyListeners(OrderChangeEventDTO change) {
+        for (Consumer<OrderChangeEventDTO> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.error("Order change listener failed for {} {}: {}",
+                        change.getOrderType(), change.getOrderId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Number of open streams.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    // Caller holds the replay lock
+    private void resume(Subscriber subscriber, String lastEventId) {
+        long after = parseVersion(lastEventId);
+        OrderChangeEventDTO oldest = replay.peekFirst();
+        boolean replayable = after >= 0 && after <= version
+                && (after == version || (oldest != null && oldest.getVersion() <= after + 1));
+        if (!replayable) {
+            subscriber.resetVersion.set(version);
+            return;
+        }
+        for (OrderChangeEventDTO change : replay) {
+            if (change.getVersion() > after && subscriber.accepts(change)) {
+                subscriber.offer(change);
+            }
+        }
+    }
+
+    private long parseVersion(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    String eventId(long eventVersion) {
+        return epoch + "-" + eventVersion;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Send everything queued for one subscriber. Runs on a sender thread, never
+     * concurrently for the same subscriber.
+     */
+    private void drain(Subscriber subscriber) {
+        boolean open = true;
+        try {
+            while (true) {
+                long reset = subscriber.resetVersion.getAndSet(-1);
+                if (reset >= 0) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(eventId(reset))
+                            .name(RESET_EVENT_NAME)
+                            .data(Map.of("version", reset), MediaType.APPLICATION_JSON));
+                }
+                OrderChangeEventDTO change = subscriber.queue.poll();
+                if (change == null) {
+                    break;
+                }
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(eventId(change.getVersion()))
+                        .name(EVENT_NAME)
+                        .data(change, MediaType.APPLICATION_JSON));
+            }
+            if (subscriber.heartbeatDue.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().reconnectTime(reconnectMs).comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Closing order change stream: {}", e.getMessage());
+            open = false;
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (open && subscriber.hasWork()) {
+            schedule(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long workstationId;
+        private final String orderType;
+        private final BlockingQueue<OrderChangeEventDTO> queue;
+        // Version to send a reset at, or -1
+        private final AtomicLong resetVersion = new AtomicLong(-1);
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long workstationId, String orderType, int queueCapacity) {
+            this.emitter = emitter;
+            this.workstationId = workstationId;
+            this.orderType = orderType;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private boolean accepts(OrderChangeEventDTO change) {
+            return (workstationId == null || change.getWorkstationIds().contains(workstationId))
+                    && (orderType == null || orderType.equalsIgnoreCase(change.getOrderType()));
+        }
+
+        /**
+         * Queue a change; when the queue is full, drop everything pending for a reset.
+         */
+        private void offer(OrderChangeEventDTO change) {
+            if (!queue.offer(change)) {
+                queue.clear();
+                resetVersion.set(change.getVersion());
+            }
+        }
+
+        private boolean hasWork() {
+            return !queue.isEmpty() || resetVersion.get() >= 0 || heartbeatDue.get();
+        }
+    }
+}
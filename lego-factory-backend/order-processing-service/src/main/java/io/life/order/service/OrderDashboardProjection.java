@@ -0,0 +1,439 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import io.life.order.dto.OrderDashboardRowDTO;
+import io.life.order.dto.WorkstationDashboardDTO;
+import io.life.order.entity.AssemblyControlOrder;
+import io.life.order.entity.CustomerOrder;
+import io.life.order.entity.FinalAssemblyOrder;
+import io.life.order.entity.GearAssemblyOrder;
+import io.life.order.entity.InjectionMoldingOrder;
+import io.life.order.entity.MotorAssemblyOrder;
+import io.life.order.entity.PartFinishingOrder;
+import io.life.order.entity.PartPreProductionOrder;
+import io.life.order.entity.ProductionControlOrder;
+import io.life.order.entity.ProductionOrder;
+import io.life.order.entity.SupplyOrder;
+import io.life.order.entity.WarehouseOrder;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * OrderDashboardProjection
+ *
+ * In-memory read model behind /api/orders/dashboard. Keeps a row per open order
+ * and, per workstation, the order counts by type and status, plus the progress of
+ * each parent order, so dashboards no longer recompute them from the order tables
+ * on every poll. Closed orders only stay in the counts and their parent's progress;
+ * their rows are dropped once they have been closed for twice poll-lag-ms.
+ *
+ * Loaded from the database once the application is ready, then kept current from
+ * OrderChangeFeed: every committed creation or status change updates the affected
+ * counts and the progress of the order it counts towards. Changes are applied in
+ * feed order, so a snapshot is exactly current up to the feed version it reports.
+ *
+ * The feed only sees changes made by this instance. Every poll-interval-ms the
+ * order tables are read for rows updated since the previous poll (less poll-lag-ms,
+ * for commits that land late and clock skew between instances), and changes made
+ * elsewhere are published on the feed, so every instance converges. A change older
+ * than the row's current updated_at is never applied.
+ */
+@Service
+@Slf4j
+public class OrderDashboardProjection {
+
+    static final List<Class<?>> ORDER_ENTITIES = List.of(
+            CustomerOrder.class, WarehouseOrder.class, SupplyOrder.class, ProductionOrder.class,
+            ProductionControlOrder.class, AssemblyControlOrder.class, InjectionMoldingOrder.class,
+            PartPreProductionOrder.class, PartFinishingOrder.class, GearAssemblyOrder.class,
+            MotorAssemblyOrder.class, FinalAssemblyOrder.class);
+
+    private static final Set<String> CLOSED_STATUSES = Set.of("COMPLETED", "CANCELLED", "ABANDONED",
+            "FULFILLED", "REJECTED");
+    private static final Comparator<Row> MOST_RECENT_FIRST = Comparator.comparingLong(Row::version)
+            .thenComparing(Row::orderId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final OrderChangeFeed feed;
+    private final Duration pollLag;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // All guarded by lock
+    private final Map<String, Row> rows = new HashMap<>();
+    private final Map<Long, Map<String, Map<String, Integer>>> statusCounts = new HashMap<>();
+    private final Map<Long, Set<String>> openByWorkstation = new HashMap<>();
+    private final Map<String, Progress> progress = new HashMap<>();
+    private long version;
+
+    private volatile boolean ready;
+    // Start of the previous database read; the next poll reads rows updated after it (less the lag)
+    private volatile LocalDateTime lastRead;
+
+    public OrderDashboardProjection(EntityManagerFactory entityManagerFactory, OrderChangeFeed feed,
+                                    @Value("${life.order-processing.dashboard.poll-lag-ms:10000}") long pollLagMs) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.feed = feed;
+        this.pollLag = Duration.ofMillis(pollLagMs);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        // Subscribe before loading, so no change committed during the load is missed
+        feed.addListener(this::apply);
+    }
+
+    /**
+     * Load every order from the database. Orders already changed through the feed
+     * meanwhile keep their newer state.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        LocalDateTime readAt = LocalDateTime.now();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (Class<?> entity : ORDER_ENTITIES) {
+                entityManager.createQuery("SELECT o FROM " + entity.getSimpleName() + " o", entity)
+                        .getResultStream()
+                        .forEach(this::seed);
+                entityManager.clear();
+            }
+            lastRead = readAt;
+            ready = true;
+            log.info("Order dashboard read model loaded {} orders in {} ms", size(),
+                    System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to load the order dashboard read model: {}", e.getMessage(), e);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Publish the changes other instances made since the previous read, then drop
+     * rows of orders closed long enough ago.
+     */
+    @Scheduled(fixedDelayString = "${life.order-processing.dashboard.poll-interval-ms:2000}")
+    public void pollChanges() {
+        LocalDateTime since = lastRead;
+        if (!ready || since == null) {
+            return;
+        }
+        LocalDateTime readAt = LocalDateTime.now();
+        List<OrderChangeEventDTO> changes = new ArrayList<>();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (Class<?> entity : ORDER_ENTITIES) {
+                entityManager.createQuery("SELECT o FROM " + entity.getSimpleName()
+                                + " o WHERE o.updatedAt > :since", entity)
+                        .setParameter("since", since.minus(pollLag))
+                        .getResultStream()
+                        .map(OrderChangeCapture::describe)
+                        .filter(this::isUnseen)
+                        .forEach(changes::add);
+                entityManager.clear();
+            }
+            lastRead = readAt;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll order changes for the dashboard read model: {}", e.getMessage());
+            return;
+        } finally {
+            entityManager.close();
+        }
+        if (!changes.isEmpty()) {
+            log.debug("Publishing {} order changes made by other instances", changes.size());
+            feed.publish(changes);
+        }
+        prune(readAt.minus(pollLag.multipliedBy(2)));
+    }
+
+    /**
+     * Whether the read model does not show this state of the order yet.
+     */
+    boolean isUnseen(OrderChangeEventDTO change) {
+        lock.readLock().lock();
+        try {
+            Row row = rows.get(key(change.getOrderType(), change.getOrderId()));
+            return row == null || (isNewer(change.getUpdatedAt(), row.updatedAt()) && !row.sameAs(change));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the rows of orders closed before the horizon, and the progress of orders
+     * no longer in the read model. Their counts stay.
+     */
+    void prune(LocalDateTime horizon) {
+        lock.writeLock().lock();
+        try {
+            rows.values().removeIf(row -> !row.open() && !row.updatedAfter(horizon));
+            progress.keySet().removeIf(key -> !rows.containsKey(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the initial load has completed; until then reads are incomplete.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Add an order read from the database unless the feed already delivered it.
+     * Orders closed before the poll horizon are only counted.
+     */
+    void seed(Object entity) {
+        OrderChangeEventDTO change = OrderChangeCapture.describe(entity);
+        if (change == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!rows.containsKey(key(change.getOrderType(), change.getOrderId()))) {
+                Row row = Row.of(change, 0);
+                add(row);
+                if (!row.open() && !row.updatedAfter(LocalDateTime.now().minus(pollLag.multipliedBy(2)))) {
+                    rows.remove(row.key());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply one published change. Called by OrderChangeFeed in version order.
+     */
+    void apply(OrderChangeEventDTO change) {
+        lock.writeLock().lock();
+        try {
+            Row previous = rows.get(key(change.getOrderType(), change.getOrderId()));
+            if (previous != null) {
+                if (isNewer(previous.updatedAt(), change.getUpdatedAt())) {
+                    // Delivered late, e.g. by a poll that read the row before this instance's own change
+                    return;
+                }
+                remove(previous);
+            }
+            add(Row.of(change, change.getVersion()));
+            version = Math.max(version, change.getVersion());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts and open orders of one workstation, optionally only orders of one type.
+     */
+    public WorkstationDashboardDTO getWorkstation(Long workstationId, String orderType) {
+        lock.readLock().lock();
+        try {
+            Map<String, Map<String, Integer>> counts = new TreeMap<>();
+            statusCounts.getOrDefault(workstationId, Map.of()).forEach((type, byStatus) -> {
+                if (orderType == null || orderType.equalsIgnoreCase(type)) {
+                    counts.put(type, new TreeMap<>(byStatus));
+                }
+            });
+            List<Row> open = openByWorkstation.getOrDefault(workstationId, Set.of()).stream()
+                    .map(rows::get)
+                    .filter(row -> orderType == null || orderType.equalsIgnoreCase(row.orderType()))
+                    .sorted(MOST_RECENT_FIRST)
+                    .toList();
+            return WorkstationDashboardDTO.builder()
+                    .workstationId(workstationId)
+                    .lastEventId(feed.eventId(version))
+                    .statusCounts(counts)
+                    .openCount(open.size())
+                    .activeCount((int) open.stream().filter(row -> "IN_PROGRESS".equals(row.status())).count())
+                    .openOrders(open.stream().map(this::toDTO).toList())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One order with the progress of the orders counting towards it.
+     */
+    public Optional<OrderDashboardRowDTO> getOrder(String orderType, Long orderId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(rows.get(key(orderType.toUpperCase(), orderId))).map(this::toDTO);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of orders in the read model.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The methods below are called with the write lock held
+
+    private void add(Row row) {
+        rows.put(row.key(), row);
+        for (Long workstationId : row.workstationIds()) {
+            statusCounts.computeIfAbsent(workstationId, id -> new HashMap<>())
+                    .computeIfAbsent(row.orderType(), type -> new HashMap<>())
+                    .merge(String.valueOf(row.status()), 1, Integer::sum);
+            if (row.open()) {
+                openByWorkstation.computeIfAbsent(workstationId, id -> new LinkedHashSet<>()).add(row.key());
+            }
+        }
+        if (row.parentKey() != null) {
+            Progress parent = progress.computeIfAbsent(row.parentKey(), key -> new Progress());
+            parent.total++;
+            if (row.done()) {
+                parent.completed++;
+            }
+        }
+    }
+
+    private void remove(Row row) {
+        rows.remove(row.key());
+        for (Long workstationId : row.workstationIds()) {
+            Map<String, Map<String, Integer>> byType = statusCounts.get(workstationId);
+            Map<String, Integer> byStatus = byType.get(row.orderType());
+            byStatus.computeIfPresent(String.valueOf(row.status()), (status, count) -> count > 1 ? count - 1 : null);
+            if (byStatus.isEmpty()) {
+                byType.remove(row.orderType());
+            }
+            Set<String> open = openByWorkstation.get(workstationId);
+            if (open != null) {
+                open.remove(row.key());
+            }
+        }
+        Progress parent = row.parentKey() != null ? progress.get(row.parentKey()) : null;
+        if (parent != null) {
+            parent.total--;
+            if (row.done()) {
+                parent.completed--;
+            }
+        }
+    }
+
+    private OrderDashboardRowDTO toDTO(Row row) {
+        Progress children = progress.getOrDefault(row.key(), new Progress());
+        return OrderDashboardRowDTO.builder()
+                .orderType(row.orderType())
+                .orderId(row.orderId())
+                .orderNumber(row.orderNumber())
+                .status(row.status())
+                .workstationIds(row.workstationIds())
+                .parentOrderType(row.parentOrderType())
+                .parentOrderId(row.parentOrderId())
+                .itemName(row.itemName())
+                .quantity(row.quantity())
+                .totalChildren(children.total)
+                .completedChildren(children.completed)
+                .percentComplete(children.total > 0 ? (double) children.completed / children.total * 100.0 : 0.0)
+                .version(row.version())
+                .build();
+    }
+
+    private static String key(String orderType, Long orderId) {
+        return orderType + ":" + orderId;
+    }
+
+    /**
+     * Whether the first update time is after the second; unknown times are never newer.
+     */
+    private static boolean isNewer(LocalDateTime updatedAt, LocalDateTime than) {
+        return updatedAt != null && than != null && updatedAt.isAfter(than);
+    }
+
+    private static final class Progress {
+        private int total;
+        private int completed;
+    }
+
+    private record Row(String orderType, Long orderId, String orderNumber, String status,
+                       List<Long> workstationIds, String parentOrderType, Long parentOrderId,
+                       String itemName, Integer quantity, LocalDateTime updatedAt, long version) {
+
+        static Row of(OrderChangeEventDTO change, long version) {
+            return new Row(change.getOrderType(), change.getOrderId(), change.getOrderNumber(), change.getStatus(),
+                    change.getWorkstationIds() != null ? List.copyOf(change.getWorkstationIds()) : List.of(),
+                    change.getParentOrderType(), change.getParentOrderId(),
+                    change.getItemName(), change.getQuantity(), change.getUpdatedAt(), version);
+        }
+
+        /**
+         * Whether the change shows nothing this row does not, e.g. an update of other columns
+         */
+        boolean sameAs(OrderChangeEventDTO change) {
+            return Objects.equals(status, change.getStatus())
+                    && Objects.equals(orderNumber, change.getOrderNumber())
+                    && Objects.equals(workstationIds, change.getWorkstationIds())
+                    && Objects.equals(parentOrderType, change.getParentOrderType())
+                    && Objects.equals(parentOrderId, change.getParentOrderId())
+                    && Objects.equals(itemName, change.getItemName())
+                    && Objects.equals(quantity, change.getQuantity());
+        }
+
+        boolean updatedAfter(LocalDateTime horizon) {
+            return updatedAt != null && updatedAt.isAfter(horizon);
+        }
+
+        String key() {
+            return OrderDashboardProjection.key(orderType, orderId);
+        }
+
+        String parentKey() {
+            return parentOrderType != null && parentOrderId != null
+                    ? OrderDashboardProjection.key(parentOrderType, parentOrderId) : null;
+        }
+
+        /**
+         * Final Assembly orders stay open after COMPLETED until they are submitted
+         */
+        boolean open() {
+            if ("FINAL_ASSEMBLY".equals(orderType)) {
+                return !"SUBMITTED".equals(status) && !"CANCELLED".equals(status);
+            }
+            return !CLOSED_STATUSES.contains(status);
+        }
+
+        boolean done() {
+            return "COMPLETED".equals(status) || "SUBMITTED".equals(status) || "FULFILLED".equals(status);
+        }
+    }
+}
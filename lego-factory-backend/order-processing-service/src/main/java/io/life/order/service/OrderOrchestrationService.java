@@ -1,8 +1,10 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.client.InventoryClient;
 import io.life.order.config.OrderProcessingConfig;
 import io.life.order.entity.*;
+import io.life.order.entity.DomainEvent.EventType;
 import io.life.order.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,14 +50,7 @@ public class OrderOrchestrationService {
     private final CustomerOrderRepository customerOrderRepository;
     private final InventoryClient inventoryClient;
     private final FinalAssemblyOrderService finalAssemblyOrderService;
-    
-    // Workstation order repositories for counting completion
-    private final InjectionMoldingOrderRepository injectionMoldingOrderRepository;
-    private final PartPreProductionOrderRepository partPreProductionOrderRepository;
-    private final PartFinishingOrderRepository partFinishingOrderRepository;
-    private final GearAssemblyOrderRepository gearAssemblyOrderRepository;
-    private final MotorAssemblyOrderRepository motorAssemblyOrderRepository;
-    private final FinalAssemblyOrderRepository finalAssemblyOrderRepository;
+    private final DomainEventOutbox domainEventOutbox;
 
     // ========================
     // STATUS CONSTANTS
@@ -70,6 +65,14 @@ public class OrderOrchestrationService {
     public static final String STATUS_WAITING_FOR_PARTS = "WAITING_FOR_PARTS";
     public static final String STATUS_AWAITING_PRODUCTION = "AWAITING_PRODUCTION";
 
+    // ========================
+    // DOMAIN EVENT AGGREGATE TYPES
+    // ========================
+    public static final String AGGREGATE_PRODUCTION_CONTROL = "PRODUCTION_CONTROL";
+    public static final String AGGREGATE_ASSEMBLY_CONTROL = "ASSEMBLY_CONTROL";
+    public static final String AGGREGATE_PRODUCTION_ORDER = "PRODUCTION_ORDER";
+    public static final String AGGREGATE_WAREHOUSE_ORDER = "WAREHOUSE_ORDER";
+
     // ========================
     // WORKSTATION ORDER TYPE ENUM
     // ========================
@@ -94,11 +97,13 @@ public class OrderOrchestrationService {
     /**
      * Notify that a workstation order has completed.
      * Checks if all sibling orders are complete and propagates to parent control order.
+     * Records a WORKSTATION_ORDER_COMPLETED event for the audit trail.
      * 
      * @param orderType The type of workstation order
      * @param controlOrderId The parent control order ID
      */
     @Transactional
+    @OrderStage("orchestration.workstation-order-complete")
     public void notifyWorkstationOrderComplete(WorkstationOrderType orderType, Long controlOrderId) {
         log.info("Workstation order completed - Type: {}, ControlOrderId: {}", orderType, controlOrderId);
 
@@ -123,44 +128,49 @@ public class OrderOrchestrationService {
                 break;
             default:
                 log.warn("Unknown workstation order type: {}", orderType);
+                return;
         }
+
+        String controlAggregate = switch (orderType) {
+            case INJECTION_MOLDING, PART_PRE_PRODUCTION, PART_FINISHING -> AGGREGATE_PRODUCTION_CONTROL;
+            default -> AGGREGATE_ASSEMBLY_CONTROL;
+        };
+        domainEventOutbox.publish(EventType.WORKSTATION_ORDER_COMPLETED, controlAggregate, controlOrderId,
+                orderType.name());
     }
 
     /**
-     * Check if all workstation orders under a Production Control Order are complete.
-     * If so, mark the control order as complete and propagate upward.
+     * Count a completed workstation order under a Production Control Order.
+     * If it was the last outstanding one, mark the control order as complete and propagate upward.
+     * 
+     * Uses the control order's child counters: one guarded increment plus one counter read,
+     * independent of how many workstation orders exist. Concurrent completions are serialized
+     * on the control order row, so exactly one of them sees the final count.
      */
     @Transactional
+    @OrderStage("orchestration.production-control-check")
     public void checkProductionControlOrderCompletion(Long productionControlOrderId, WorkstationOrderType orderType) {
+        if (orderType != WorkstationOrderType.INJECTION_MOLDING
+                && orderType != WorkstationOrderType.PART_PRE_PRODUCTION
+                && orderType != WorkstationOrderType.PART_FINISHING) {
+            log.error("Invalid order type for production control: {}", orderType);
+            return;
+        }
+
         try {
-            long totalOrders;
-            long completedOrders;
-
-            switch (orderType) {
-                case INJECTION_MOLDING:
-                    totalOrders = injectionMoldingOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-                    completedOrders = injectionMoldingOrderRepository.countByProductionControlOrderIdAndStatus(
-                            productionControlOrderId, STATUS_COMPLETED);
-                    break;
-                case PART_PRE_PRODUCTION:
-                    totalOrders = partPreProductionOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-                    completedOrders = partPreProductionOrderRepository.countByProductionControlOrderIdAndStatus(
-                            productionControlOrderId, STATUS_COMPLETED);
-                    break;
-                case PART_FINISHING:
-                    totalOrders = partFinishingOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-                    completedOrders = partFinishingOrderRepository.countByProductionControlOrderIdAndStatus(
-                            productionControlOrderId, STATUS_COMPLETED);
-                    break;
-                default:
-                    log.error("Invalid order type for production control: {}", orderType);
-                    return;
+            if (productionControlOrderRepository.incrementCompletedChildren(productionControlOrderId) == 0) {
+                log.warn("ProductionControlOrder {} has no outstanding workstation orders - ignoring {} completion",
+                        productionControlOrderId, orderType);
+                return;
             }
 
-            log.info("ProductionControlOrder {} progress: {}/{} {} orders completed",
-                    productionControlOrderId, completedOrders, totalOrders, orderType);
+            ChildCounters counters = productionControlOrderRepository.findChildCountersById(productionControlOrderId)
+                    .orElseThrow(() -> new RuntimeException("Production control order not found: " + productionControlOrderId));
 
-            if (completedOrders == totalOrders && totalOrders > 0) {
+            log.info("ProductionControlOrder {} progress: {}/{} workstation orders completed (last: {})",
+                    productionControlOrderId, counters.getCompleted(), counters.getTotal(), orderType);
+
+            if (counters.isComplete()) {
                 completeProductionControlOrder(productionControlOrderId);
             }
 
@@ -171,40 +181,35 @@ public class OrderOrchestrationService {
     }
 
     /**
-     * Check if all workstation orders under an Assembly Control Order are complete.
-     * If so, mark the control order as complete and propagate upward.
+     * Count a completed workstation order under an Assembly Control Order.
+     * If it was the last outstanding one, mark the control order as complete and propagate upward.
+     * 
+     * Uses the same guarded counter update as {@link #checkProductionControlOrderCompletion}.
      */
     @Transactional
+    @OrderStage("orchestration.assembly-control-check")
     public void checkAssemblyControlOrderCompletion(Long assemblyControlOrderId, WorkstationOrderType orderType) {
+        if (orderType != WorkstationOrderType.GEAR_ASSEMBLY
+                && orderType != WorkstationOrderType.MOTOR_ASSEMBLY
+                && orderType != WorkstationOrderType.FINAL_ASSEMBLY) {
+            log.error("Invalid order type for assembly control: {}", orderType);
+            return;
+        }
+
         try {
-            long totalOrders;
-            long completedOrders;
-
-            switch (orderType) {
-                case GEAR_ASSEMBLY:
-                    totalOrders = gearAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-                    completedOrders = gearAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                            assemblyControlOrderId, STATUS_COMPLETED);
-                    break;
-                case MOTOR_ASSEMBLY:
-                    totalOrders = motorAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-                    completedOrders = motorAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                            assemblyControlOrderId, STATUS_COMPLETED);
-                    break;
-                case FINAL_ASSEMBLY:
-                    totalOrders = finalAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-                    completedOrders = finalAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                            assemblyControlOrderId, STATUS_COMPLETED);
-                    break;
-                default:
-                    log.error("Invalid order type for assembly control: {}", orderType);
-                    return;
+            if (assemblyControlOrderRepository.incrementCompletedChildren(assemblyControlOrderId) == 0) {
+                log.warn("AssemblyControlOrder {} has no outstanding workstation orders - ignoring {} completion",
+                        assemblyControlOrderId, orderType);
+                return;
             }
 
-            log.info("AssemblyControlOrder {} progress: {}/{} {} orders completed",
-                    assemblyControlOrderId, completedOrders, totalOrders, orderType);
+            ChildCounters counters = assemblyControlOrderRepository.findChildCountersById(assemblyControlOrderId)
+                    .orElseThrow(() -> new RuntimeException("Assembly control order not found: " + assemblyControlOrderId));
+
+            log.info("AssemblyControlOrder {} progress: {}/{} workstation orders completed (last: {})",
+                    assemblyControlOrderId, counters.getCompleted(), counters.getTotal(), orderType);
 
-            if (completedOrders == totalOrders && totalOrders > 0) {
+            if (counters.isComplete()) {
                 completeAssemblyControlOrder(assemblyControlOrderId);
             }
 
@@ -218,11 +223,13 @@ public class OrderOrchestrationService {
      * Mark a Production Control Order as complete and propagate to Production Order.
      */
     @Transactional
+    @OrderStage("orchestration.production-control-complete")
     public void completeProductionControlOrder(Long productionControlOrderId) {
         ProductionControlOrder controlOrder = productionControlOrderRepository.findById(productionControlOrderId)
                 .orElseThrow(() -> new RuntimeException("Production control order not found: " + productionControlOrderId));
 
-        if (STATUS_COMPLETED.equals(controlOrder.getStatus())) {
+        if (STATUS_COMPLETED.equals(controlOrder.getStatus())
+                || productionControlOrderRepository.transitionStatus(productionControlOrderId, controlOrder.getStatus(), STATUS_COMPLETED) == 0) {
             log.info("ProductionControlOrder {} already completed, skipping", productionControlOrderId);
             return;
         }
@@ -230,6 +237,8 @@ public class OrderOrchestrationService {
         controlOrder.setStatus(STATUS_COMPLETED);
         controlOrder.setActualFinishTime(LocalDateTime.now());
         productionControlOrderRepository.save(controlOrder);
+        domainEventOutbox.publish(EventType.CONTROL_ORDER_COMPLETED, AGGREGATE_PRODUCTION_CONTROL, controlOrder.getId(),
+                controlOrder.getSimalScheduleId());
 
         log.info("Auto-completed ProductionControlOrder {} - all workstation orders finished",
                 controlOrder.getControlOrderNumber());
@@ -244,11 +253,13 @@ public class OrderOrchestrationService {
      * Mark an Assembly Control Order as complete and propagate to Production Order.
      */
     @Transactional
+    @OrderStage("orchestration.assembly-control-complete")
     public void completeAssemblyControlOrder(Long assemblyControlOrderId) {
         AssemblyControlOrder controlOrder = assemblyControlOrderRepository.findById(assemblyControlOrderId)
                 .orElseThrow(() -> new RuntimeException("Assembly control order not found: " + assemblyControlOrderId));
 
-        if (STATUS_COMPLETED.equals(controlOrder.getStatus())) {
+        if (STATUS_COMPLETED.equals(controlOrder.getStatus())
+                || assemblyControlOrderRepository.transitionStatus(assemblyControlOrderId, controlOrder.getStatus(), STATUS_COMPLETED) == 0) {
             log.info("AssemblyControlOrder {} already completed, skipping", assemblyControlOrderId);
             return;
         }
@@ -256,6 +267,8 @@ public class OrderOrchestrationService {
         controlOrder.setStatus(STATUS_COMPLETED);
         controlOrder.setActualFinishTime(LocalDateTime.now());
         assemblyControlOrderRepository.save(controlOrder);
+        domainEventOutbox.publish(EventType.CONTROL_ORDER_COMPLETED, AGGREGATE_ASSEMBLY_CONTROL, controlOrder.getId(),
+                controlOrder.getSimalScheduleId());
 
         log.info("Auto-completed AssemblyControlOrder {} - all workstation orders finished",
                 controlOrder.getControlOrderNumber());
@@ -268,26 +281,28 @@ public class OrderOrchestrationService {
 
     /**
      * Notify that a control order has completed.
-     * Checks if all control orders under a Production Order are complete.
+     * Counts it on the Production Order and completes the Production Order
+     * once every control order created for it has completed.
      */
     @Transactional
+    @OrderStage("orchestration.control-order-complete")
     public void notifyControlOrderComplete(ControlOrderType controlType, Long productionOrderId) {
         log.info("Control order completed - Type: {}, ProductionOrderId: {}", controlType, productionOrderId);
 
         try {
-            // Count all control orders for this production order
-            List<ProductionControlOrder> prodControlOrders = productionControlOrderRepository.findBySourceProductionOrderId(productionOrderId);
-            List<AssemblyControlOrder> asmControlOrders = assemblyControlOrderRepository.findBySourceProductionOrderId(productionOrderId);
+            if (productionOrderRepository.incrementCompletedChildren(productionOrderId) == 0) {
+                log.warn("ProductionOrder {} has no outstanding control orders - ignoring {} completion",
+                        productionOrderId, controlType);
+                return;
+            }
 
-            long totalControlOrders = prodControlOrders.size() + asmControlOrders.size();
-            long completedControlOrders = 
-                    prodControlOrders.stream().filter(o -> STATUS_COMPLETED.equals(o.getStatus())).count() +
-                    asmControlOrders.stream().filter(o -> STATUS_COMPLETED.equals(o.getStatus())).count();
+            ChildCounters counters = productionOrderRepository.findChildCountersById(productionOrderId)
+                    .orElseThrow(() -> new RuntimeException("Production order not found: " + productionOrderId));
 
             log.info("ProductionOrder {} progress: {}/{} control orders completed",
-                    productionOrderId, completedControlOrders, totalControlOrders);
+                    productionOrderId, counters.getCompleted(), counters.getTotal());
 
-            if (completedControlOrders == totalControlOrders && totalControlOrders > 0) {
+            if (counters.isComplete()) {
                 completeProductionOrder(productionOrderId);
             }
 
@@ -302,8 +317,13 @@ public class OrderOrchestrationService {
      * 
      * SCENARIO 3 (Via Warehouse): Production → Credit WS-8 → Update Warehouse Order → Ready for fulfillment
      * SCENARIO 4 (Direct): Production → Credit WS-6 → Create Final Assembly orders → Ready for assembly
+     * 
+     * Downstream processing calls inventory-service, so it is not run here: a PRODUCTION_ORDER_COMPLETED
+     * event is recorded with the status change and DomainEventRelay runs submitProductionOrderCompletion
+     * after this transaction commits.
      */
     @Transactional
+    @OrderStage("orchestration.production-order-complete")
     public void completeProductionOrder(Long productionOrderId) {
         ProductionOrder productionOrder = productionOrderRepository.findById(productionOrderId)
                 .orElseThrow(() -> new RuntimeException("Production order not found: " + productionOrderId));
@@ -320,16 +340,11 @@ public class OrderOrchestrationService {
         log.info("Auto-completed ProductionOrder {} - all control orders finished",
                 productionOrder.getProductionOrderNumber());
 
-        // AUTOMATICALLY proceed with downstream processing
-        log.info("ProductionOrder {} completed. Automatically proceeding with downstream processing...", 
+        // AUTOMATICALLY proceed with downstream processing once this transaction commits
+        domainEventOutbox.publish(EventType.PRODUCTION_ORDER_COMPLETED, AGGREGATE_PRODUCTION_ORDER,
+                productionOrderId, null);
+        log.info("ProductionOrder {} completed. Downstream processing queued",
                 productionOrder.getProductionOrderNumber());
-        
-        try {
-            submitProductionOrderCompletion(productionOrderId);
-        } catch (Exception e) {
-            log.error("Failed to automatically submit production order completion {}: {}",
-                    productionOrderId, e.getMessage(), e);
-        }
     }
 
     /**
@@ -339,10 +354,16 @@ public class OrderOrchestrationService {
      * 
      * This is a MANUAL step performed by Production Planning after production completes.
      * 
+     * Runs once per production order: the PRODUCTION_ORDER_COMPLETED event is delivered
+     * at least once, so the order is claimed in this transaction and a redelivery (or a
+     * second manual submission) is skipped. If the transaction rolls back, the claim is
+     * released with it and the event is retried.
+     * 
      * @param productionOrderId The completed production order ID
      * @throws RuntimeException if production order not found or not in COMPLETED status
      */
     @Transactional
+    @OrderStage("orchestration.production-order-submit")
     public void submitProductionOrderCompletion(Long productionOrderId) {
         ProductionOrder productionOrder = productionOrderRepository.findById(productionOrderId)
                 .orElseThrow(() -> new RuntimeException("Production order not found: " + productionOrderId));
@@ -352,6 +373,12 @@ public class OrderOrchestrationService {
                     productionOrder.getStatus());
         }
 
+        if (productionOrderRepository.claimDownstreamProcessing(productionOrderId, LocalDateTime.now()) == 0) {
+            log.info("ProductionOrder {} already submitted for downstream processing, skipping",
+                    productionOrder.getProductionOrderNumber());
+            return;
+        }
+
         log.info("Submitting completed ProductionOrder {} for downstream processing",
                 productionOrder.getProductionOrderNumber());
 
@@ -380,6 +407,7 @@ public class OrderOrchestrationService {
      * Credits Modules Supermarket and updates Warehouse Order to ready for fulfillment.
      */
     @Transactional
+    @OrderStage("orchestration.production-order-notify")
     public void notifyProductionOrderComplete(Long warehouseOrderId) {
         log.info("Production completed for WarehouseOrder {}", warehouseOrderId);
 
@@ -408,10 +436,10 @@ public class OrderOrchestrationService {
                         warehouseOrder.getOrderNumber(), currentStatus);
             }
 
-            // Notify Customer Order if exists
-            if (warehouseOrder.getCustomerOrderId() != null) {
-                notifyWarehouseOrderReady(warehouseOrder.getCustomerOrderId());
-            }
+            // Notify Customer Order (if any) once this transaction commits
+            Long customerOrderId = warehouseOrder.getCustomerOrderId();
+            domainEventOutbox.publish(EventType.WAREHOUSE_ORDER_READY, AGGREGATE_WAREHOUSE_ORDER, warehouseOrderId,
+                    customerOrderId != null ? customerOrderId.toString() : null);
 
         } catch (Exception e) {
             log.error("Failed to update warehouse order on production completion {}: {}",
@@ -424,6 +452,7 @@ public class OrderOrchestrationService {
      * Updates Customer Order status accordingly.
      */
     @Transactional
+    @OrderStage("orchestration.warehouse-order-ready")
     public void notifyWarehouseOrderReady(Long customerOrderId) {
         log.info("Warehouse order ready for CustomerOrder {}", customerOrderId);
 
@@ -452,22 +481,9 @@ public class OrderOrchestrationService {
      * @return Progress as a map with totalOrders and completedOrders
      */
     public OrderProgress getProductionControlOrderProgress(Long productionControlOrderId) {
-        long injectionTotal = injectionMoldingOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-        long injectionCompleted = injectionMoldingOrderRepository.countByProductionControlOrderIdAndStatus(
-                productionControlOrderId, STATUS_COMPLETED);
-
-        long preProductionTotal = partPreProductionOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-        long preProductionCompleted = partPreProductionOrderRepository.countByProductionControlOrderIdAndStatus(
-                productionControlOrderId, STATUS_COMPLETED);
-
-        long finishingTotal = partFinishingOrderRepository.findByProductionControlOrderId(productionControlOrderId).size();
-        long finishingCompleted = partFinishingOrderRepository.countByProductionControlOrderIdAndStatus(
-                productionControlOrderId, STATUS_COMPLETED);
-
-        long total = injectionTotal + preProductionTotal + finishingTotal;
-        long completed = injectionCompleted + preProductionCompleted + finishingCompleted;
-
-        return new OrderProgress(total, completed);
+        return productionControlOrderRepository.findChildCountersById(productionControlOrderId)
+                .map(counters -> new OrderProgress(counters.getTotal(), counters.getCompleted()))
+                .orElseGet(() -> new OrderProgress(0, 0));
     }
 
     /**
@@ -477,22 +493,9 @@ public class OrderOrchestrationService {
      * @return Progress as a map with totalOrders and completedOrders
      */
     public OrderProgress getAssemblyControlOrderProgress(Long assemblyControlOrderId) {
-        long gearTotal = gearAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-        long gearCompleted = gearAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                assemblyControlOrderId, STATUS_COMPLETED);
-
-        long motorTotal = motorAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-        long motorCompleted = motorAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                assemblyControlOrderId, STATUS_COMPLETED);
-
-        long finalTotal = finalAssemblyOrderRepository.findByAssemblyControlOrderId(assemblyControlOrderId).size();
-        long finalCompleted = finalAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                assemblyControlOrderId, STATUS_COMPLETED);
-
-        long total = gearTotal + motorTotal + finalTotal;
-        long completed = gearCompleted + motorCompleted + finalCompleted;
-
-        return new OrderProgress(total, completed);
+        return assemblyControlOrderRepository.findChildCountersById(assemblyControlOrderId)
+                .map(counters -> new OrderProgress(counters.getTotal(), counters.getCompleted()))
+                .orElseGet(() -> new OrderProgress(0, 0));
     }
 
     /**
@@ -502,15 +505,9 @@ public class OrderOrchestrationService {
      * @return Progress as a map with totalOrders and completedOrders
      */
     public OrderProgress getProductionOrderProgress(Long productionOrderId) {
-        List<ProductionControlOrder> prodControlOrders = productionControlOrderRepository.findBySourceProductionOrderId(productionOrderId);
-        List<AssemblyControlOrder> asmControlOrders = assemblyControlOrderRepository.findBySourceProductionOrderId(productionOrderId);
-
-        long total = prodControlOrders.size() + asmControlOrders.size();
-        long completed = 
-                prodControlOrders.stream().filter(o -> STATUS_COMPLETED.equals(o.getStatus())).count() +
-                asmControlOrders.stream().filter(o -> STATUS_COMPLETED.equals(o.getStatus())).count();
-
-        return new OrderProgress(total, completed);
+        return productionOrderRepository.findChildCountersById(productionOrderId)
+                .map(counters -> new OrderProgress(counters.getTotal(), counters.getCompleted()))
+                .orElseGet(() -> new OrderProgress(0, 0));
     }
 
     // ========================
@@ -522,6 +519,7 @@ public class OrderOrchestrationService {
      * Called when Scenario 3 production completes.
      */
     @Transactional
+    @OrderStage("orchestration.modules-supermarket-credit")
     public void creditModulesSupermarketFromProduction(ProductionOrder productionOrder) {
         try {
             List<ProductionOrderItem> items = productionOrder.getProductionOrderItems();
@@ -5,6 +5,9 @@ import io.life.order.client.SimalClient;
 import io.life.order.entity.PartFinishingOrder;
 import io.life.order.repository.PartFinishingOrderRepository;
 import io.life.order.service.OrderOrchestrationService.WorkstationOrderType;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * PartFinishingOrderService
@@ -26,15 +30,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PartFinishingOrderService {
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
     private final PartFinishingOrderRepository partFinishingOrderRepository;
     private final InventoryClient inventoryClient;
-    private final SimalClient simalClient;
+    private final SimalTaskStatusOutbox simalTaskStatusOutbox;
     private final OrderOrchestrationService orchestrationService;
 
     public List<PartFinishingOrder> getOrdersForWorkstation(Long workstationId) {
         return partFinishingOrderRepository.findByWorkstationId(workstationId);
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PartFinishingOrder> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(partFinishingOrderRepository, query, QUERY_FIELDS, Function.identity());
+    }
+
     public List<PartFinishingOrder> getOrdersByControlOrder(Long productionControlOrderId) {
         return partFinishingOrderRepository.findByProductionControlOrderId(productionControlOrderId);
     }
@@ -56,7 +71,7 @@ public class PartFinishingOrderService {
         order.setActualStartTime(LocalDateTime.now());
         
         PartFinishingOrder saved = partFinishingOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(3L, order.getOrderNumber()), "IN_PROGRESS");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(3L, order.getOrderNumber()), "IN_PROGRESS");
         log.info("Started part finishing order: {} at WS-3", order.getOrderNumber());
         
         return saved;
@@ -69,6 +84,11 @@ public class PartFinishingOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Can only complete IN_PROGRESS orders. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent completions
+        // only one credits inventory and counts towards the parent order
+        if (partFinishingOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         // Credit inventory
         creditInventory(order);
@@ -78,7 +98,7 @@ public class PartFinishingOrderService {
         order.setActualFinishTime(LocalDateTime.now());
         PartFinishingOrder saved = partFinishingOrderRepository.save(order);
 
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(3L, order.getOrderNumber()), "COMPLETED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(3L, order.getOrderNumber()), "COMPLETED");
         log.info("Completed part finishing order: {} - {} {} produced", 
                 order.getOrderNumber(), order.getQuantity(), order.getOutputPartName());
 
@@ -98,7 +118,7 @@ public class PartFinishingOrderService {
 
         order.setStatus("HALTED");
         PartFinishingOrder saved = partFinishingOrderRepository.save(order);
-        simalClient.updateTaskStatus(SimalClient.generateTaskId(3L, order.getOrderNumber()), "HALTED");
+        simalTaskStatusOutbox.enqueue(SimalClient.generateTaskId(3L, order.getOrderNumber()), "HALTED");
         
         log.info("Halted part finishing order: {}", order.getOrderNumber());
         return saved;
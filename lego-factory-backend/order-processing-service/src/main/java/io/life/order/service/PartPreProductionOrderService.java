@@ -4,6 +4,9 @@ import io.life.order.client.InventoryClient;
 import io.life.order.entity.PartPreProductionOrder;
 import io.life.order.repository.PartPreProductionOrderRepository;
 import io.life.order.service.OrderOrchestrationService.WorkstationOrderType;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * PartPreProductionOrderService
@@ -25,6 +29,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PartPreProductionOrderService {
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
     private final PartPreProductionOrderRepository partPreProductionOrderRepository;
     private final InventoryClient inventoryClient;
     private final OrderOrchestrationService orchestrationService;
@@ -33,6 +40,14 @@ public class PartPreProductionOrderService {
         return partPreProductionOrderRepository.findByWorkstationId(workstationId);
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PartPreProductionOrder> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(partPreProductionOrderRepository, query, QUERY_FIELDS, Function.identity());
+    }
+
     public List<PartPreProductionOrder> getOrdersByControlOrder(Long productionControlOrderId) {
         return partPreProductionOrderRepository.findByProductionControlOrderId(productionControlOrderId);
     }
@@ -66,6 +81,11 @@ public class PartPreProductionOrderService {
         if (!"IN_PROGRESS".equals(order.getStatus())) {
             throw new IllegalStateException("Can only complete IN_PROGRESS orders. Current status: " + order.getStatus());
         }
+        // The status change itself is the guard, so of two concurrent completions
+        // only one credits inventory and counts towards the parent order
+        if (partPreProductionOrderRepository.transitionStatus(orderId, "IN_PROGRESS", "COMPLETED") == 0) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " was completed or changed concurrently");
+        }
 
         // Credit inventory
         creditInventory(order);
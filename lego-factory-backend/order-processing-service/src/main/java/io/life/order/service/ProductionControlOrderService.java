@@ -13,6 +13,11 @@ import io.life.order.repository.InjectionMoldingOrderRepository;
 import io.life.order.repository.PartFinishingOrderRepository;
 import io.life.order.repository.PartPreProductionOrderRepository;
 import io.life.order.repository.ProductionControlOrderRepository;
+import io.life.order.repository.ProductionOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +25,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,32 +50,43 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
     private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
     private static final String STATUS_COMPLETED = "COMPLETED";
     private static final String ERROR_CONTROL_ORDER_NOT_FOUND = "Control order not found: ";
+    private static final String DEFAULT_SAFETY_PROCEDURES = "Standard safety procedures apply";
+    private static final int DEFAULT_ESTIMATED_DURATION_MINUTES = 120;
+
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("assignedWorkstationId", "priority", "controlOrderNumber");
 
     private final ProductionControlOrderRepository repository;
+    private final ProductionOrderRepository productionOrderRepository;
     private final SupplyOrderService supplyOrderService;
     private final InventoryService inventoryService;
     private final SimALNotificationService simalNotificationService;
     private final InjectionMoldingOrderRepository injectionMoldingOrderRepository;
     private final PartPreProductionOrderRepository partPreProductionOrderRepository;
     private final PartFinishingOrderRepository partFinishingOrderRepository;
+    private final OrderSequenceAllocator orderSequences;
 
     @Value("${modules.supermarket.workstation.id:8}")
     private Long modulesSupermarketWorkstationId;
 
     public ProductionControlOrderService(ProductionControlOrderRepository repository, 
+                                         ProductionOrderRepository productionOrderRepository,
                                         SupplyOrderService supplyOrderService,
                                         InventoryService inventoryService,
                                         SimALNotificationService simalNotificationService,
                                         InjectionMoldingOrderRepository injectionMoldingOrderRepository,
                                         PartPreProductionOrderRepository partPreProductionOrderRepository,
-                                        PartFinishingOrderRepository partFinishingOrderRepository) {
+                                        PartFinishingOrderRepository partFinishingOrderRepository,
+                                        OrderSequenceAllocator orderSequences) {
         this.repository = repository;
+        this.productionOrderRepository = productionOrderRepository;
         this.supplyOrderService = supplyOrderService;
         this.inventoryService = inventoryService;
         this.simalNotificationService = simalNotificationService;
         this.injectionMoldingOrderRepository = injectionMoldingOrderRepository;
         this.partPreProductionOrderRepository = partPreProductionOrderRepository;
         this.partFinishingOrderRepository = partFinishingOrderRepository;
+        this.orderSequences = orderSequences;
     }
 
     /**
@@ -168,12 +189,96 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
 
         @SuppressWarnings("null")
         ProductionControlOrder saved = repository.save(order);
+        // Count the new control order on its production order for completion detection
+        productionOrderRepository.addTotalChildren(sourceProductionOrderId, 1);
         logger.info("Created production control order {} (ID: {}) with status PENDING for production order {} - Item: {} (ID: {}) Qty: {}", 
                     controlOrderNumber, saved.getId(), sourceProductionOrderId, itemType, itemId, quantity);
 
         return mapToDTO(saved);
     }
 
+    /**
+     * Create all production control orders for a SimAL schedule in one transaction.
+     * Orders are persisted with a single saveAll so Hibernate can batch the inserts;
+     * either every order of the schedule is created or none is.
+     * 
+     * Idempotent per (simalScheduleId, assignedWorkstationId): an order that already
+     * exists for that pair is returned instead of being created again, so a failed
+     * dispatch can simply be retried. A unique index on the pair catches concurrent
+     * requests for the same schedule: the insert is flushed here, so the losing request
+     * fails with DataIntegrityViolationException and can be repeated to read the winner's orders.
+     * 
+     * @param requests All control orders of one schedule
+     * @return The created (or already existing) control orders, in request order
+     */
+    public List<ProductionControlOrderDTO> createControlOrders(List<ProductionControlOrderCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one control order is required");
+        }
+
+        Map<String, ProductionControlOrder> ordersByScheduleAndWorkstation = new HashMap<>();
+        requests.stream()
+                .map(ProductionControlOrderCreateRequest::getSimalScheduleId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(scheduleId -> repository.findBySimalScheduleId(scheduleId).stream())
+                .forEach(existing -> ordersByScheduleAndWorkstation.put(
+                        existing.getSimalScheduleId() + "|" + existing.getAssignedWorkstationId(), existing));
+
+        List<ProductionControlOrder> result = new ArrayList<>(requests.size());
+        List<ProductionControlOrder> toCreate = new ArrayList<>();
+
+        for (ProductionControlOrderCreateRequest request : requests) {
+            String key = request.getSimalScheduleId() + "|" + request.getAssignedWorkstationId();
+            ProductionControlOrder order = ordersByScheduleAndWorkstation.get(key);
+            if (order == null) {
+                order = buildControlOrder(request, generateControlOrderNumber());
+                ordersByScheduleAndWorkstation.put(key, order);
+                toCreate.add(order);
+            }
+            result.add(order);
+        }
+
+        repository.saveAllAndFlush(toCreate);
+        // Count the new control orders on their production orders for completion detection
+        toCreate.stream()
+                .collect(Collectors.groupingBy(ProductionControlOrder::getSourceProductionOrderId, Collectors.counting()))
+                .forEach((productionOrderId, count) ->
+                        productionOrderRepository.addTotalChildren(productionOrderId, count.intValue()));
+        logger.info("Bulk created {} production control orders ({} already existed) for schedule(s) {}",
+                toCreate.size(), result.size() - toCreate.size(),
+                requests.stream().map(ProductionControlOrderCreateRequest::getSimalScheduleId).distinct().toList());
+
+        return result.stream().map(this::mapToDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * Build (without saving) a control order from a SimAL request, applying the
+     * same defaults as the single-order create endpoint.
+     */
+    private ProductionControlOrder buildControlOrder(ProductionControlOrderCreateRequest request, String controlOrderNumber) {
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
+        return ProductionControlOrder.builder()
+                .controlOrderNumber(controlOrderNumber)
+                .sourceProductionOrderId(request.getSourceProductionOrderId())
+                .assignedWorkstationId(request.getAssignedWorkstationId())
+                .simalScheduleId(request.getSimalScheduleId())
+                .status(STATUS_PENDING)
+                .priority(request.getPriority())
+                .targetStartTime(LocalDateTime.parse(request.getTargetStartTime(), formatter))
+                .targetCompletionTime(LocalDateTime.parse(request.getTargetCompletionTime(), formatter))
+                .productionInstructions(request.getProductionInstructions())
+                .qualityCheckpoints(request.getQualityCheckpoints())
+                .safetyProcedures(request.getSafetyProcedures() != null
+                        ? request.getSafetyProcedures() : DEFAULT_SAFETY_PROCEDURES)
+                .estimatedDurationMinutes(request.getEstimatedDurationMinutes() != null
+                        ? request.getEstimatedDurationMinutes() : DEFAULT_ESTIMATED_DURATION_MINUTES)
+                .itemId(request.getItemId())
+                .itemType(request.getItemType())
+                .quantity(request.getQuantity())
+                .build();
+    }
+
     /**
      * Get all control orders.
      */
@@ -183,6 +288,15 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<ProductionControlOrderDTO> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(repository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
     /**
      * Get all control orders for a workstation.
      */
@@ -283,6 +397,8 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
         ProductionControlOrder order = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException(ERROR_CONTROL_ORDER_NOT_FOUND + id));
 
+        String previousStatus = order.getStatus();
+        claimCompletion(order, previousStatus);
         order.setStatus(STATUS_COMPLETED);
         order.setActualCompletionTime(LocalDateTime.now());
         
@@ -295,6 +411,7 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
         }
 
         ProductionControlOrder updated = repository.save(order);
+        countCompletionOnProductionOrder(order, previousStatus);
         logger.info("Completed production on control order {}", order.getControlOrderNumber());
 
         return mapToDTO(updated);
@@ -322,6 +439,8 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
         }
 
         // Step 1: Update control order status and timestamps
+        String previousStatus = order.getStatus();
+        claimCompletion(order, previousStatus);
         order.setStatus(STATUS_COMPLETED);
         order.setActualCompletionTime(LocalDateTime.now());
         
@@ -334,6 +453,7 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
         }
 
         ProductionControlOrder updated = repository.save(order);
+        countCompletionOnProductionOrder(order, previousStatus);
         logger.info("Completed manufacturing production on control order {}", order.getControlOrderNumber());
 
         // Step 2: Call SimAL to update schedule status (fire-and-forget)
@@ -350,6 +470,28 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
         return mapToDTO(updated);
     }
 
+    /**
+     * Move the order to COMPLETED in the database before anything counts it, so of two
+     * concurrent completions only one reaches the production order.
+     */
+    private void claimCompletion(ProductionControlOrder order, String previousStatus) {
+        if (!STATUS_COMPLETED.equals(previousStatus)
+                && repository.transitionStatus(order.getId(), previousStatus, STATUS_COMPLETED) == 0) {
+            throw new IllegalStateException("Control order " + order.getControlOrderNumber()
+                    + " was completed or changed concurrently");
+        }
+    }
+
+    /**
+     * Count a manually completed control order on its production order so the
+     * production order's progress stays in step with its control orders.
+     */
+    private void countCompletionOnProductionOrder(ProductionControlOrder order, String previousStatus) {
+        if (order.getSourceProductionOrderId() != null && !STATUS_COMPLETED.equals(previousStatus)) {
+            productionOrderRepository.incrementCompletedChildren(order.getSourceProductionOrderId());
+        }
+    }
+
     /**
      * Credit Modules Supermarket inventory when manufacturing completes.
      * Awards one module unit to Modules Supermarket (workstation 8).
@@ -527,9 +669,15 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
             case 1 -> createInjectionMoldingOrder(controlOrder);
             case 2 -> createPartPreProductionOrder(controlOrder);
             case 3 -> createPartFinishingOrder(controlOrder);
-            default -> logger.warn("Unknown manufacturing workstation ID: {} for control order {}", 
-                                   workstationId, controlOrder.getControlOrderNumber());
+            default -> {
+                logger.warn("Unknown manufacturing workstation ID: {} for control order {}", 
+                                       workstationId, controlOrder.getControlOrderNumber());
+                return;
+            }
         }
+
+        // Count the new workstation order so completion is detected by a counter update
+        repository.addTotalChildren(controlOrder.getId(), 1);
     }
 
     /**
@@ -619,8 +767,7 @@ public class ProductionControlOrderService implements WorkstationOrderOperations
      * Generate unique control order number.
      */
     private String generateControlOrderNumber() {
-        long count = repository.count();
-        return "PCO-" + String.format("%04d", count + 1);
+        return "PCO-" + String.format("%04d", orderSequences.next("PRODUCTION_CONTROL_ORDER"));
     }
 
     /**
@@ -0,0 +1,209 @@
+package io.life.order.service;
+
+import io.life.order.entity.AsyncOperation;
+import io.life.order.exception.JobQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProductionJobScheduler
+ *
+ * Runs long-running production operations in separate lanes per operation type
+ * (SimAL scheduling, control order dispatch), so a burst of one kind cannot
+ * starve the others. Supply orders are created synchronously as part of control
+ * order requests and have no lane.
+ *
+ * Each lane has a fixed number of workers and a bounded priority queue: jobs for
+ * URGENT production orders run first, then HIGH, NORMAL/MEDIUM and LOW, each
+ * in arrival order. When a lane's queue is full the job is refused with a
+ * JobQueueFullException carrying a retry hint derived from the lane's average
+ * run time, which the API reports as 429 Too Many Requests.
+ *
+ * Metrics per lane: production.jobs.queue.depth, production.jobs.active,
+ * production.jobs.wait, production.jobs.run and production.jobs.rejected.
+ */
+@Component
+@Slf4j
+public class ProductionJobScheduler {
+
+    private final Map<String, Lane> lanes;
+
+    public ProductionJobScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${life.order-processing.jobs.schedule-production.workers:2}") int scheduleWorkers,
+            @Value("${life.order-processing.jobs.schedule-production.queue-capacity:50}") int scheduleCapacity,
+            @Value("${life.order-processing.jobs.dispatch-control-orders.workers:4}") int dispatchWorkers,
+            @Value("${life.order-processing.jobs.dispatch-control-orders.queue-capacity:100}") int dispatchCapacity) {
+        this.lanes = Map.of(
+                AsyncOperation.TYPE_SCHEDULE_PRODUCTION,
+                new Lane(AsyncOperation.TYPE_SCHEDULE_PRODUCTION, scheduleWorkers, scheduleCapacity, meterRegistry),
+                AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS,
+                new Lane(AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS, dispatchWorkers, dispatchCapacity, meterRegistry));
+    }
+
+    /**
+     * Queue a job in the lane for its operation type.
+     *
+     * @param operationType One of the AsyncOperation TYPE_ constants
+     * @param priority Production order priority (URGENT, HIGH, NORMAL/MEDIUM, LOW); null counts as NORMAL
+     * @param job Work to run
+     * @throws JobQueueFullException if the lane's queue is full
+     */
+    public void submit(String operationType, String priority, Runnable job) {
+        Lane lane = lanes.get(operationType);
+        if (lane == null) {
+            throw new IllegalArgumentException("No job lane for operation type " + operationType);
+        }
+        lane.submit(rank(priority), job);
+    }
+
+    /**
+     * Jobs waiting in a lane (not yet running).
+     */
+    public int queueDepth(String operationType) {
+        Lane lane = lanes.get(operationType);
+        return lane != null ? lane.queued.get() : 0;
+    }
+
+    static int rank(String priority) {
+        if (priority == null) {
+            return 2;
+        }
+        return switch (priority.toUpperCase(Locale.ROOT)) {
+            case "URGENT" -> 0;
+            case "HIGH" -> 1;
+            case "LOW" -> 3;
+            default -> 2;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lanes.values().forEach(Lane::shutdown);
+    }
+
+    private static final class Lane {
+
+        private final String type;
+        private final int workers;
+        private final int capacity;
+        private final ThreadPoolExecutor executor;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong sequence = new AtomicLong();
+        // Moving average of job run time, used for the retry hint
+        private final AtomicLong averageRunMs = new AtomicLong(1000);
+        private final Timer waitTimer;
+        private final Timer runTimer;
+        private final Counter rejected;
+
+        private Lane(String type, int workers, int capacity, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.workers = workers;
+            this.capacity = capacity;
+            String prefix = "jobs-" + type.toLowerCase(Locale.ROOT).replace('_', '-') + "-";
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                    new PriorityBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, prefix + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            String lane = type.toLowerCase(Locale.ROOT);
+            Gauge.builder("production.jobs.queue.depth", queued, AtomicInteger::get)
+                    .tag("lane", lane).description("Jobs waiting to run").register(meterRegistry);
+            Gauge.builder("production.jobs.active", active, AtomicInteger::get)
+                    .tag("lane", lane).description("Jobs running").register(meterRegistry);
+            this.waitTimer = Timer.builder("production.jobs.wait")
+                    .tag("lane", lane).description("Time jobs spent queued").register(meterRegistry);
+            this.runTimer = Timer.builder("production.jobs.run")
+                    .tag("lane", lane).description("Job run time").register(meterRegistry);
+            this.rejected = Counter.builder("production.jobs.rejected")
+                    .tag("lane", lane).description("Jobs refused because the queue was full").register(meterRegistry);
+        }
+
+        void submit(int rank, Runnable job) {
+            int depth = queued.incrementAndGet();
+            if (depth > capacity) {
+                queued.decrementAndGet();
+                rejected.increment();
+                long retryAfter = retryAfterSeconds(depth - 1);
+                log.warn("Rejected {} job: {} queued, retry in {}s", type, depth - 1, retryAfter);
+                throw new JobQueueFullException(type, depth - 1, retryAfter);
+            }
+            executor.execute(new Job(rank, sequence.getAndIncrement(), System.nanoTime(), job, this));
+        }
+
+        /**
+         * Time for the workers to get through the jobs already queued, at the
+         * lane's average run time.
+         */
+        private long retryAfterSeconds(int depth) {
+            long waves = (depth + workers - 1) / workers;
+            return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waves * averageRunMs.get() + 999));
+        }
+
+        void run(Job job) {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                job.work.run();
+            } catch (RuntimeException e) {
+                log.error("{} job failed: {}", type, e.getMessage(), e);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+                averageRunMs.updateAndGet(avg -> (avg * 7 + elapsedMs) / 8);
+                active.decrementAndGet();
+            }
+        }
+
+        void shutdown() {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("{} jobs still running at shutdown", type);
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Queued job, ordered by priority rank and then arrival.
+     */
+    private record Job(int rank, long sequence, long enqueuedAt, Runnable work, Lane lane)
+            implements Runnable, Comparable<Job> {
+
+        @Override
+        public void run() {
+            lane.run(this);
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            int byRank = Integer.compare(rank, other.rank);
+            return byRank != 0 ? byRank : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.dto.ProductionControlOrderDTO;
 import io.life.order.dto.AssemblyControlOrderDTO;
 import io.life.order.dto.ProductionOrderDTO;
+import io.life.order.dto.ProductionOrderSummaryDTO;
 import io.life.order.dto.masterdata.BomEntryDTO;
 import io.life.order.dto.masterdata.ModuleDTO;
 import io.life.order.entity.CustomerOrder;
@@ -15,6 +17,10 @@ import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
 import io.life.order.client.MasterdataClient;
+import io.life.order.util.OrderSequenceAllocator;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -41,6 +47,9 @@ public class ProductionOrderService {
 
     private static final Long MODULES_SUPERMARKET_WORKSTATION_ID = 8L;
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("createdByWorkstationId", "priority", "dueDate", "productionOrderNumber");
+
     private final ProductionOrderRepository productionOrderRepository;
     private final WarehouseOrderRepository warehouseOrderRepository;
     private final CustomerOrderRepository customerOrderRepository;
@@ -48,6 +57,7 @@ public class ProductionOrderService {
     private final AssemblyControlOrderService assemblyControlOrderService;
     private final InventoryService inventoryService;
     private final MasterdataClient masterdataClient;
+    private final OrderSequenceAllocator orderSequences;
 
     public ProductionOrderService(ProductionOrderRepository productionOrderRepository,
                                  WarehouseOrderRepository warehouseOrderRepository,
@@ -55,7 +65,8 @@ public class ProductionOrderService {
                                  ProductionControlOrderService productionControlOrderService,
                                  AssemblyControlOrderService assemblyControlOrderService,
                                  InventoryService inventoryService,
-                                 MasterdataClient masterdataClient) {
+                                 MasterdataClient masterdataClient,
+                                 OrderSequenceAllocator orderSequences) {
         this.productionOrderRepository = productionOrderRepository;
         this.warehouseOrderRepository = warehouseOrderRepository;
         this.customerOrderRepository = customerOrderRepository;
@@ -63,6 +74,7 @@ public class ProductionOrderService {
         this.assemblyControlOrderService = assemblyControlOrderService;
         this.inventoryService = inventoryService;
         this.masterdataClient = masterdataClient;
+        this.orderSequences = orderSequences;
     }
 
     /**
@@ -84,7 +96,7 @@ public class ProductionOrderService {
             String notes,
             Long createdByWorkstationId) {
 
-        CustomerOrder customerOrder = customerOrderRepository.findById(customerOrderId)
+        CustomerOrder customerOrder = customerOrderRepository.findWithItemsById(customerOrderId)
                 .orElseThrow(() -> new RuntimeException("Customer order not found: " + customerOrderId));
 
         logger.info("Creating Scenario 4 production order from customer order {} (triggerScenario: {})", 
@@ -374,12 +386,28 @@ public class ProductionOrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ProductionOrderDTO> queryProductionOrders(OrderQuery query) {
+        return OrderSpecifications.page(productionOrderRepository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
+    /**
+     * List view of all production orders, newest first, without items.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductionOrderSummaryDTO> getProductionOrderSummaries() {
+        return productionOrderRepository.findAllSummaries();
+    }
+
     /**
      * Get production order by ID.
      */
     @SuppressWarnings("null")
     public Optional<ProductionOrderDTO> getProductionOrderById(Long id) {
-        return productionOrderRepository.findById(id)
+        return productionOrderRepository.findWithItemsById(id)
                 .map(this::mapToDTO);
     }
 
@@ -582,6 +610,7 @@ public class ProductionOrderService {
      * @param id Production order ID
      * @return Updated production order DTO
      */
+    @OrderStage("production-order.dispatch")
     public ProductionOrderDTO dispatchToControlStations(Long id) {
         @SuppressWarnings("null")
         ProductionOrder productionOrder = productionOrderRepository.findById(id)
@@ -826,8 +855,7 @@ public class ProductionOrderService {
      * Generate unique production order number.
      */
     private String generateProductionOrderNumber() {
-        long count = productionOrderRepository.count();
-        return "PO-" + String.format("%04d", count + 1);
+        return "PO-" + String.format("%04d", orderSequences.next("PRODUCTION_ORDER"));
     }
 
     /**
@@ -0,0 +1,157 @@
+package io.life.order.service;
+
+import io.life.order.client.SimalClient;
+import io.life.order.dto.simal.TaskStatusUpdateRequest;
+import io.life.order.dto.simal.TaskStatusUpdateResponse;
+import io.life.order.entity.SimalTaskStatusUpdate;
+import io.life.order.repository.SimalTaskStatusUpdateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SimalTaskStatusDispatcher
+ * 
+ * Background drain of the SimAL task status outbox.
+ * 
+ * Each run reads pending updates oldest-first in batches, coalesces them so only
+ * the latest status per task is sent, and delivers the batch with one
+ * PATCH /api/simal/tasks/status call. Delivered rows are deleted; on failure the
+ * rows stay in the outbox with an incremented attempt count and are retried on
+ * the next run, until they reach max-attempts and are left in the table for
+ * inspection.
+ *
+ * When SimAL rejects a batch (4xx), its tasks are resent one at a time so a
+ * single bad update only holds back itself.
+ */
+@Service
+@Slf4j
+public class SimalTaskStatusDispatcher {
+
+    private final SimalTaskStatusUpdateRepository outboxRepository;
+    private final SimalClient simalClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public SimalTaskStatusDispatcher(SimalTaskStatusUpdateRepository outboxRepository,
+                                     SimalClient simalClient,
+                                     @Value("${life.order-processing.simal-outbox.enabled:true}") boolean enabled,
+                                     @Value("${life.order-processing.simal-outbox.batch-size:100}") int batchSize,
+                                     @Value("${life.order-processing.simal-outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.simalClient = simalClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Drain the outbox until it is empty or a delivery fails.
+     */
+    @Scheduled(fixedDelayString = "${life.order-processing.simal-outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        if (!enabled) {
+            return;
+        }
+        int drained;
+        do {
+            drained = dispatchBatch();
+        } while (drained == batchSize);
+    }
+
+    /**
+     * Deliver one batch of pending updates.
+     * 
+     * @return Number of outbox rows removed (0 if the outbox was empty or delivery failed)
+     */
+    int dispatchBatch() {
+        List<SimalTaskStatusUpdate> pending = outboxRepository.findByAttemptsLessThanOrderByIdAsc(
+                maxAttempts, PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<TaskStatusUpdateRequest> updates = coalesce(pending);
+        List<Long> ids = pending.stream().map(SimalTaskStatusUpdate::getId).toList();
+
+        try {
+            deliver(updates, ids);
+            log.debug("Dispatched {} SimAL task status updates ({} outbox rows)", updates.size(), ids.size());
+            return ids.size();
+        } catch (HttpClientErrorException e) {
+            if (updates.size() == 1) {
+                markFailed(updates, ids, e);
+                return 0;
+            }
+            log.warn("SimAL rejected a batch of {} task status updates, resending them one at a time: {}",
+                    updates.size(), e.getMessage());
+            return dispatchEach(pending);
+        } catch (Exception e) {
+            markFailed(updates, ids, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Deliver each task's latest status on its own, so only rejected tasks stay in the outbox.
+     *
+     * @return Number of outbox rows removed
+     */
+    private int dispatchEach(List<SimalTaskStatusUpdate> pending) {
+        Map<String, List<Long>> idsByTask = new LinkedHashMap<>();
+        for (SimalTaskStatusUpdate update : pending) {
+            idsByTask.computeIfAbsent(update.getTaskId(), taskId -> new ArrayList<>()).add(update.getId());
+        }
+        int removed = 0;
+        for (TaskStatusUpdateRequest update : coalesce(pending)) {
+            List<Long> ids = idsByTask.get(update.getTaskId());
+            try {
+                deliver(List.of(update), ids);
+                removed += ids.size();
+            } catch (Exception e) {
+                markFailed(List.of(update), ids, e);
+            }
+        }
+        return removed;
+    }
+
+    private void deliver(List<TaskStatusUpdateRequest> updates, List<Long> ids) {
+        TaskStatusUpdateResponse response = simalClient.updateTaskStatuses(updates);
+        if (!response.getNotFound().isEmpty()) {
+            log.warn("SimAL has no scheduled task for {} - dropping these updates", response.getNotFound());
+        }
+        outboxRepository.deleteAllByIdInBatch(ids);
+    }
+
+    private void markFailed(List<TaskStatusUpdateRequest> updates, List<Long> ids, Exception e) {
+        String error = e.getMessage() != null && e.getMessage().length() > 500
+                ? e.getMessage().substring(0, 500)
+                : e.getMessage();
+        outboxRepository.markFailed(ids, error);
+        log.error("Error dispatching {} task status updates to SimAL, will retry: {}", updates.size(), e.getMessage());
+    }
+
+    /**
+     * Keep only the latest status per task. Input is ordered oldest-first,
+     * so later rows overwrite earlier ones.
+     */
+    static List<TaskStatusUpdateRequest> coalesce(List<SimalTaskStatusUpdate> pending) {
+        Map<String, String> latestByTask = new LinkedHashMap<>();
+        for (SimalTaskStatusUpdate update : pending) {
+            latestByTask.remove(update.getTaskId());
+            latestByTask.put(update.getTaskId(), update.getStatus());
+        }
+        List<TaskStatusUpdateRequest> updates = new ArrayList<>(latestByTask.size());
+        latestByTask.forEach((taskId, status) -> updates.add(new TaskStatusUpdateRequest(taskId, status)));
+        return updates;
+    }
+}
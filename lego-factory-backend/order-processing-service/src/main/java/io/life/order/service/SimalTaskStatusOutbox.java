@@ -0,0 +1,40 @@
+package io.life.order.service;
+
+import io.life.order.entity.SimalTaskStatusUpdate;
+import io.life.order.repository.SimalTaskStatusUpdateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * SimalTaskStatusOutbox
+ * 
+ * Queues SimAL task status updates in the local database instead of calling
+ * SimAL on the request thread. The row joins the caller's transaction, so the
+ * update is recorded if and only if the workstation order state change commits.
+ * 
+ * Delivery is handled by SimalTaskStatusDispatcher.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SimalTaskStatusOutbox {
+
+    private final SimalTaskStatusUpdateRepository outboxRepository;
+
+    /**
+     * Queue a task status update for delivery to SimAL.
+     * 
+     * @param taskId The scheduled task ID (workstation-{wsId}-{orderNumber})
+     * @param newStatus The new status (IN_PROGRESS, COMPLETED, HALTED)
+     */
+    @Transactional
+    public void enqueue(String taskId, String newStatus) {
+        outboxRepository.save(SimalTaskStatusUpdate.builder()
+                .taskId(taskId)
+                .status(newStatus)
+                .build());
+        log.debug("Queued SimAL task {} status {}", taskId, newStatus);
+    }
+}
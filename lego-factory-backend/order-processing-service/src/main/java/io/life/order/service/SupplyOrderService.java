@@ -12,6 +12,9 @@ import io.life.order.repository.AssemblyControlOrderRepository;
 import io.life.order.repository.ProductionControlOrderRepository;
 import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.SupplyOrderRepository;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -34,6 +37,9 @@ public class SupplyOrderService {
     private static final Long PARTS_SUPPLY_WAREHOUSE_ID = 9L; // Workstation 9
     private static final String SUPPLY_ORDER_NOT_FOUND = "Supply order not found: ";
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("requestingWorkstationId", "priority", "supplyOrderNumber");
+
     private final SupplyOrderRepository repository;
     private final AssemblyControlOrderRepository assemblyControlOrderRepository;
     private final ProductionControlOrderRepository productionControlOrderRepository;
@@ -258,6 +264,14 @@ public class SupplyOrderService {
         return orders.stream().map(this::mapToDTO).collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SupplyOrderDTO> queryOrders(OrderQuery query) {
+        return OrderSpecifications.page(repository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
     /**
      * Get a specific supply order by ID.
      */
@@ -1,10 +1,14 @@
 package io.life.order.service;
 
+import io.life.order.annotation.OrderStage;
 import io.life.order.dto.WarehouseOrderDTO;
 import io.life.order.dto.WarehouseOrderItemDTO;
 import io.life.order.entity.WarehouseOrder;
 import io.life.order.entity.WarehouseOrderItem;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.repository.OrderSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,9 @@ public class WarehouseOrderService {
     private static final Logger logger = LoggerFactory.getLogger(WarehouseOrderService.class);
     private static final String WAREHOUSE_AUDIT_SOURCE = "WAREHOUSE";
 
+    private static final OrderSpecifications.Fields QUERY_FIELDS =
+            OrderSpecifications.Fields.of("workstationId", null, "orderDate", "orderNumber");
+
     private final WarehouseOrderRepository warehouseOrderRepository;
     private final InventoryService inventoryService;
     private final ProductionOrderService productionOrderService;
@@ -52,6 +59,14 @@ public class WarehouseOrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of orders matching the query; filtering, sorting and paging run in the database.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<WarehouseOrderDTO> queryWarehouseOrders(OrderQuery query) {
+        return OrderSpecifications.page(warehouseOrderRepository, query, QUERY_FIELDS, this::mapToDTO);
+    }
+
     /**
      * Get warehouse order by ID
      */
@@ -98,6 +113,7 @@ public class WarehouseOrderService {
      * Sets triggerScenario: DIRECT_FULFILLMENT or PRODUCTION_REQUIRED
      * Changes status from PENDING to CONFIRMED
      */
+    @OrderStage("warehouse-order.confirm")
     public WarehouseOrderDTO confirmWarehouseOrder(Long warehouseOrderId) {
         @SuppressWarnings("null")
         Optional<WarehouseOrder> orderOpt = warehouseOrderRepository.findById(warehouseOrderId);
@@ -160,6 +176,7 @@ public class WarehouseOrderService {
      * 3. If shortage exists, AUTO-TRIGGER production order for missing items
      * 4. Update source customer order status accordingly
      */
+    @OrderStage("warehouse-order.fulfill")
     public WarehouseOrderDTO fulfillWarehouseOrder(Long warehouseOrderId) {
         @SuppressWarnings("null")
         Optional<WarehouseOrder> orderOpt = warehouseOrderRepository.findById(warehouseOrderId);
@@ -0,0 +1,387 @@
+package io.life.order.service;
+
+import io.life.order.entity.WebhookDelivery;
+import io.life.order.entity.WebhookSubscription;
+import io.life.order.metrics.DownstreamCallMetrics;
+import io.life.order.repository.WebhookDeliveryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * WebhookDeliveryEngine
+ *
+ * Background delivery of queued webhook events.
+ *
+ * Each poll reads due PENDING deliveries oldest-first, claims them for this instance
+ * and hands them to a bounded in-memory queue per subscriber. A claim moves the
+ * row's next attempt to the end of a lease of claim-lease-ms, so polls on other
+ * instances skip it; the lease is renewed right before sending, and a delivery
+ * whose lease was taken over by another instance is not sent. Each subscriber is
+ * drained by at most
+ * max-concurrency-per-subscriber workers on a dedicated pool, so a slow or dead
+ * endpoint only delays its own deliveries. When a subscriber's queue is full, its
+ * remaining deliveries stay in the database until the next poll.
+ *
+ * Subscribers with batchDelivery receive up to batch-size events per POST as a
+ * JSON array; others receive one JSON object per POST. A failed delivery is
+ * retried with exponential backoff and marked DEAD after max-attempts.
+ * Delivery is at-least-once.
+ */
+@Service
+@Slf4j
+public class WebhookDeliveryEngine {
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookSubscriptionIndex subscriptionIndex;
+    private final RestTemplate restTemplate;
+    private final Executor executor;
+    private final boolean enabled;
+    private final int pollSize;
+    private final int queueCapacity;
+    private final int maxConcurrencyPerSubscriber;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long claimLeaseMs;
+    // Identifies this instance's claims on delivery rows
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Map<Long, SubscriberQueue> queues = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WebhookDeliveryEngine(
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookSubscriptionIndex subscriptionIndex,
+            DownstreamCallMetrics downstreamCallMetrics,
+            @Value("${life.order-processing.webhooks.enabled:true}") boolean enabled,
+            @Value("${life.order-processing.webhooks.poll-size:200}") int pollSize,
+            @Value("${life.order-processing.webhooks.queue-capacity:100}") int queueCapacity,
+            @Value("${life.order-processing.webhooks.max-concurrency-per-subscriber:2}") int maxConcurrencyPerSubscriber,
+            @Value("${life.order-processing.webhooks.batch-size:20}") int batchSize,
+            @Value("${life.order-processing.webhooks.max-attempts:8}") int maxAttempts,
+            @Value("${life.order-processing.webhooks.initial-backoff-ms:1000}") long initialBackoffMs,
+            @Value("${life.order-processing.webhooks.max-backoff-ms:600000}") long maxBackoffMs,
+            @Value("${life.order-processing.webhooks.claim-lease-ms:60000}") long claimLeaseMs,
+            @Value("${life.order-processing.webhooks.worker-threads:8}") int workerThreads,
+            @Value("${life.order-processing.webhooks.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${life.order-processing.webhooks.read-timeout-ms:5000}") int readTimeoutMs) {
+        this(deliveryRepository, subscriptionIndex,
+                webhookRestTemplate(workerThreads, maxConcurrencyPerSubscriber, connectTimeoutMs, readTimeoutMs,
+                        downstreamCallMetrics),
+                webhookExecutor(workerThreads),
+                enabled, pollSize, queueCapacity, maxConcurrencyPerSubscriber, batchSize, maxAttempts,
+                initialBackoffMs, maxBackoffMs, claimLeaseMs);
+    }
+
+    WebhookDeliveryEngine(WebhookDeliveryRepository deliveryRepository, WebhookSubscriptionIndex subscriptionIndex,
+                          RestTemplate restTemplate, Executor executor, boolean enabled, int pollSize,
+                          int queueCapacity, int maxConcurrencyPerSubscriber, int batchSize, int maxAttempts,
+                          long initialBackoffMs, long maxBackoffMs, long claimLeaseMs) {
+        this.deliveryRepository = deliveryRepository;
+        this.subscriptionIndex = subscriptionIndex;
+        this.restTemplate = restTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.pollSize = pollSize;
+        this.queueCapacity = queueCapacity;
+        this.maxConcurrencyPerSubscriber = maxConcurrencyPerSubscriber;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.claimLeaseMs = claimLeaseMs;
+    }
+
+    /**
+     * Pooled client with timeouts and no credential forwarding: subscribers are
+     * external endpoints and must never receive the caller's JWT.
+     */
+    private static RestTemplate webhookRestTemplate(int maxConnections, int maxPerRoute,
+                                                    int connectTimeoutMs, int readTimeoutMs,
+                                                    DownstreamCallMetrics downstreamCallMetrics) {
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom().setConnectionManager(connectionManager).build()));
+        restTemplate.getInterceptors().add(downstreamCallMetrics.externalInterceptor("webhook"));
+        return restTemplate;
+    }
+
+    private static ThreadPoolTaskExecutor webhookExecutor(int workerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("webhook-");
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Claim due deliveries, move them into the subscriber queues and start workers where needed.
+     */
+    @Scheduled(fixedDelayString = "${life.order-processing.webhooks.poll-interval-ms:500}")
+    public void pollDue() {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> saturated = queues.entrySet().stream()
+                .filter(e -> e.getValue().isFull())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(0, pollSize);
+        List<WebhookDelivery> due = saturated.isEmpty()
+                ? deliveryRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        WebhookDelivery.STATUS_PENDING, now, page)
+                : deliveryRepository.findByStatusAndNextAttemptAtLessThanEqualAndSubscriptionIdNotInOrderByIdAsc(
+                        WebhookDelivery.STATUS_PENDING, now, saturated, page);
+
+        List<WebhookDelivery> claimed = claim(due, now);
+        List<Long> rejected = new ArrayList<>();
+        for (WebhookDelivery delivery : claimed) {
+            if (!queues.computeIfAbsent(delivery.getSubscriptionId(), id -> new SubscriberQueue(id, queueCapacity))
+                    .offer(delivery)) {
+                rejected.add(delivery.getId());
+            }
+        }
+        if (!rejected.isEmpty()) {
+            // No room in the queue: leave them to the next poll on any instance
+            deliveryRepository.releaseClaim(rejected, owner, now);
+        }
+        queues.values().forEach(this::startWorkers);
+    }
+
+    /**
+     * Claim the deliveries for this instance.
+     *
+     * @return The deliveries this instance now holds
+     */
+    private List<WebhookDelivery> claim(List<WebhookDelivery> due, LocalDateTime now) {
+        if (due.isEmpty()) {
+            return due;
+        }
+        List<Long> ids = due.stream().map(WebhookDelivery::getId).toList();
+        if (deliveryRepository.claim(ids, owner, now, leaseUntil()) == 0) {
+            return List.of();
+        }
+        return deliveryRepository.findByIdInAndClaimedByAndStatusOrderByIdAsc(ids, owner,
+                WebhookDelivery.STATUS_PENDING);
+    }
+
+    /**
+     * Renew the lease on a batch before sending it.
+     *
+     * @return The deliveries still held by this instance
+     */
+    private List<WebhookDelivery> renewClaims(List<WebhookDelivery> batch) {
+        List<Long> ids = batch.stream().map(WebhookDelivery::getId).toList();
+        if (deliveryRepository.renewClaim(ids, owner, leaseUntil()) == batch.size()) {
+            return batch;
+        }
+        Set<Long> held = deliveryRepository.findByIdInAndClaimedByAndStatusOrderByIdAsc(ids, owner,
+                        WebhookDelivery.STATUS_PENDING).stream()
+                .map(WebhookDelivery::getId)
+                .collect(Collectors.toSet());
+        log.debug("{} of {} webhook deliveries were taken over by another instance", batch.size() - held.size(),
+                batch.size());
+        return batch.stream().filter(d -> held.contains(d.getId())).toList();
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusNanos(claimLeaseMs * 1_000_000L);
+    }
+
+    private void startWorkers(SubscriberQueue queue) {
+        while (!queue.isEmpty()) {
+            int active = queue.activeWorkers.get();
+            if (active >= maxConcurrencyPerSubscriber) {
+                return;
+            }
+            if (queue.activeWorkers.compareAndSet(active, active + 1)) {
+                executor.execute(() -> drain(queue));
+            }
+        }
+    }
+
+    private void drain(SubscriberQueue queue) {
+        try {
+            while (true) {
+                WebhookSubscription sub = subscriptionIndex.get(queue.subscriptionId);
+                boolean batched = sub != null && Boolean.TRUE.equals(sub.getBatchDelivery());
+                List<WebhookDelivery> batch = queue.take(batched ? batchSize : 1);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    List<WebhookDelivery> held = renewClaims(batch);
+                    if (held.isEmpty()) {
+                        continue;
+                    }
+                    if (sub == null) {
+                        held.forEach(d -> giveUp(d, "Subscription removed or inactive"));
+                    } else {
+                        deliver(sub, held, batched);
+                    }
+                } catch (RuntimeException e) {
+                    // Rows stay PENDING and are picked up again by a later poll
+                    log.error("Failed to record webhook delivery outcome for subscription {}: {}",
+                            queue.subscriptionId, e.getMessage());
+                } finally {
+                    queue.release(batch);
+                }
+            }
+        } finally {
+            queue.activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void deliver(WebhookSubscription sub, List<WebhookDelivery> batch, boolean batched) {
+        List<Long> ids = batch.stream().map(WebhookDelivery::getId).toList();
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            if (sub.getSecret() != null && !sub.getSecret().isBlank()) {
+                headers.add("X-Webhook-Secret", sub.getSecret());
+            }
+            String body;
+            if (batched) {
+                headers.add("X-Webhook-Batch-Size", String.valueOf(batch.size()));
+                body = batch.stream().map(WebhookDelivery::getPayload).collect(Collectors.joining(",", "[", "]"));
+            } else {
+                headers.add("X-Webhook-Event", batch.get(0).getEventKey());
+                body = batch.get(0).getPayload();
+            }
+            restTemplate.postForEntity(sub.getTargetUrl(), new HttpEntity<>(body, headers), String.class);
+        } catch (Exception e) {
+            log.warn("Webhook delivery of {} event(s) to {} failed: {}", batch.size(), sub.getTargetUrl(), e.getMessage());
+            String error = truncate(e.getMessage());
+            batch.forEach(d -> recordFailure(d, error));
+            return;
+        }
+        deliveryRepository.markDelivered(ids, LocalDateTime.now());
+        log.debug("Delivered {} webhook event(s) to {}", batch.size(), sub.getTargetUrl());
+    }
+
+    private void recordFailure(WebhookDelivery delivery, String error) {
+        int attempts = delivery.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Webhook delivery {} ({}) dead after {} attempts: {}",
+                    delivery.getId(), delivery.getEventKey(), attempts, error);
+            deliveryRepository.recordFailure(delivery.getId(), WebhookDelivery.STATUS_DEAD, attempts,
+                    delivery.getNextAttemptAt(), error);
+        } else {
+            deliveryRepository.recordFailure(delivery.getId(), WebhookDelivery.STATUS_PENDING, attempts,
+                    LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000L), error);
+        }
+    }
+
+    private void giveUp(WebhookDelivery delivery, String reason) {
+        deliveryRepository.recordFailure(delivery.getId(), WebhookDelivery.STATUS_DEAD, delivery.getAttempts(),
+                delivery.getNextAttemptAt(), reason);
+    }
+
+    /**
+     * Delay before the given attempt: initial-backoff doubled per failure, capped at max-backoff.
+     */
+    long backoffMs(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        return Math.min(initialBackoffMs << exponent, maxBackoffMs);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * Bounded queue of claimed deliveries for one subscriber.
+     */
+    private static final class SubscriberQueue {
+
+        private final Long subscriptionId;
+        private final BlockingQueue<WebhookDelivery> queue;
+        // Delivery IDs queued or in flight, so a poll never hands out the same row twice
+        private final Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+
+        private SubscriberQueue(Long subscriptionId, int capacity) {
+            this.subscriptionId = subscriptionId;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Queue the delivery unless it already is.
+         *
+         * @return false if the queue had no room for it
+         */
+        boolean offer(WebhookDelivery delivery) {
+            if (!claimed.add(delivery.getId())) {
+                return true;
+            }
+            if (!queue.offer(delivery)) {
+                claimed.remove(delivery.getId());
+                return false;
+            }
+            return true;
+        }
+
+        List<WebhookDelivery> take(int max) {
+            List<WebhookDelivery> batch = new ArrayList<>(max);
+            queue.drainTo(batch, max);
+            return batch;
+        }
+
+        void release(List<WebhookDelivery> batch) {
+            batch.forEach(d -> claimed.remove(d.getId()));
+        }
+
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        boolean isFull() {
+            return queue.remainingCapacity() == 0;
+        }
+    }
+}
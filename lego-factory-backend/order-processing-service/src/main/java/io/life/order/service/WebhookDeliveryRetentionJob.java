@@ -0,0 +1,66 @@
+package io.life.order.service;
+
+import io.life.order.entity.WebhookDelivery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * WebhookDeliveryRetentionJob
+ *
+ * Removes delivered webhook deliveries older than the retention period, in
+ * chunks on the (status, delivered_at) index so no single delete holds locks
+ * on a large part of the table. Pending and dead deliveries are kept: dead
+ * letters stay until they are requeued and delivered.
+ */
+@Component
+@Slf4j
+public class WebhookDeliveryRetentionJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public WebhookDeliveryRetentionJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${life.order-processing.webhooks.retention-days:7}") int retentionDays,
+            @Value("${life.order-processing.webhooks.retention-chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${life.order-processing.webhooks.retention-cron:0 30 3 * * *}")
+    public void purgeDelivered() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        purgeDeliveredBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * Delete every delivery that was delivered before the cutoff.
+     *
+     * @return Number of rows removed
+     */
+    public int purgeDeliveredBefore(LocalDateTime cutoff) {
+        int removed = 0;
+        int rows;
+        do {
+            rows = jdbcTemplate.update(
+                    "DELETE FROM webhook_deliveries WHERE id IN (SELECT id FROM webhook_deliveries "
+                            + "WHERE status = ? AND delivered_at < ? ORDER BY id LIMIT ?)",
+                    WebhookDelivery.STATUS_DELIVERED, Timestamp.valueOf(cutoff), chunkSize);
+            removed += rows;
+        } while (rows == chunkSize);
+        if (removed > 0) {
+            log.info("Purged {} webhook deliveries delivered before {}", removed, cutoff);
+        }
+        return removed;
+    }
+}
@@ -1,39 +1,60 @@
 package io.life.order.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.life.order.dto.WebhookDeliveryDTO;
 import io.life.order.entity.OrderAudit;
+import io.life.order.entity.WebhookDelivery;
 import io.life.order.entity.WebhookSubscription;
+import io.life.order.repository.WebhookDeliveryRepository;
 import io.life.order.repository.WebhookSubscriptionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Webhook subscriptions and event fan-out.
+ *
+ * dispatch() does not call subscribers. It records one WebhookDelivery per
+ * matching subscriber in the caller's transaction; WebhookDeliveryEngine
+ * delivers them in the background.
+ */
 @Service
 public class WebhookService {
     private static final Logger logger = LoggerFactory.getLogger(WebhookService.class);
     private final WebhookSubscriptionRepository repository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookSubscriptionIndex subscriptionIndex;
+    private final ObjectMapper objectMapper;
 
-    public WebhookService(WebhookSubscriptionRepository repository) {
+    public WebhookService(WebhookSubscriptionRepository repository,
+                          WebhookDeliveryRepository deliveryRepository,
+                          WebhookSubscriptionIndex subscriptionIndex,
+                          ObjectMapper objectMapper) {
         this.repository = repository;
+        this.deliveryRepository = deliveryRepository;
+        this.subscriptionIndex = subscriptionIndex;
+        this.objectMapper = objectMapper;
     }
 
     @Transactional
-    public WebhookSubscription subscribe(String eventType, String targetUrl, String secret) {
+    public WebhookSubscription subscribe(String eventType, String targetUrl, String secret, Boolean batchDelivery) {
         WebhookSubscription sub = new WebhookSubscription();
         sub.setEventType(eventType == null || eventType.isBlank() ? "ANY" : eventType);
         sub.setTargetUrl(targetUrl);
         sub.setSecret(secret);
         sub.setActive(true);
-        return repository.save(sub);
+        sub.setBatchDelivery(Boolean.TRUE.equals(batchDelivery));
+        WebhookSubscription saved = repository.save(sub);
+        subscriptionIndex.invalidate();
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -44,37 +65,77 @@ public class WebhookService {
     @Transactional
     public void unsubscribe(Long id) {
         repository.deleteById(id);
+        subscriptionIndex.invalidate();
     }
 
-    public void dispatch(OrderAudit audit) {
-        List<WebhookSubscription> subs = repository.findByActiveTrue();
-        if (subs.isEmpty()) return;
+    /**
+     * Deliveries that were given up on after the maximum number of attempts.
+     */
+    @Transactional(readOnly = true)
+    public List<WebhookDeliveryDTO> deadLetters(Long subscriptionId) {
+        return deliveryRepository.findBySubscriptionIdAndStatusOrderByIdAsc(subscriptionId, WebhookDelivery.STATUS_DEAD)
+                .stream()
+                .map(this::mapToDTO)
+                .toList();
+    }
 
+    /**
+     * Queue a subscription's dead deliveries for another round of attempts.
+     *
+     * @return Number of deliveries requeued
+     */
+    @Transactional
+    public int requeueDeadLetters(Long subscriptionId) {
+        return deliveryRepository.requeueDead(subscriptionId, LocalDateTime.now());
+    }
+
+    /**
+     * Queue an audit event for every matching subscriber.
+     */
+    @Transactional
+    public void dispatch(OrderAudit audit) {
         String eventKey = audit.getOrderType() + "." + audit.getEventType();
-        for (WebhookSubscription sub : subs) {
-            if (!"ANY".equalsIgnoreCase(sub.getEventType()) && !sub.getEventType().equalsIgnoreCase(eventKey)) {
-                continue;
-            }
-            try {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                if (sub.getSecret() != null && !sub.getSecret().isBlank()) {
-                    headers.add("X-Webhook-Secret", sub.getSecret());
-                }
+        List<WebhookSubscription> subs = subscriptionIndex.subscribersFor(eventKey);
+        if (subs.isEmpty()) return;
 
-                Map<String, Object> payload = new HashMap<>();
-                payload.put("orderType", audit.getOrderType());
-                payload.put("orderId", audit.getOrderId());
-                payload.put("eventType", audit.getEventType());
-                payload.put("description", audit.getDescription());
-                payload.put("createdAt", audit.getCreatedAt());
+        String payload;
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("orderType", audit.getOrderType());
+            body.put("orderId", audit.getOrderId());
+            body.put("eventType", audit.getEventType());
+            body.put("description", audit.getDescription());
+            body.put("createdAt", audit.getCreatedAt());
+            payload = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize webhook payload for {}: {}", eventKey, e.getMessage());
+            return;
+        }
 
-                HttpEntity<Map<String, Object>> entity = new HttpEntity<>(payload, headers);
-                restTemplate.postForEntity(sub.getTargetUrl(), entity, String.class);
-                logger.info("Webhook delivered to {} for {}", sub.getTargetUrl(), eventKey);
-            } catch (Exception e) {
-                logger.warn("Webhook delivery failed to {}: {}", sub.getTargetUrl(), e.getMessage());
-            }
+        List<WebhookDelivery> deliveries = new ArrayList<>(subs.size());
+        for (WebhookSubscription sub : subs) {
+            deliveries.add(WebhookDelivery.builder()
+                    .subscriptionId(sub.getId())
+                    .eventKey(eventKey)
+                    .payload(payload)
+                    .build());
         }
+        deliveryRepository.saveAll(deliveries);
+        logger.debug("Queued {} webhook deliveries for {}", deliveries.size(), eventKey);
+    }
+
+    private WebhookDeliveryDTO mapToDTO(WebhookDelivery delivery) {
+        return WebhookDeliveryDTO.builder()
+                .id(delivery.getId())
+                .subscriptionId(delivery.getSubscriptionId())
+                .eventKey(delivery.getEventKey())
+                .payload(delivery.getPayload())
+                .status(delivery.getStatus())
+                .attempts(delivery.getAttempts())
+                .lastError(delivery.getLastError())
+                .createdAt(delivery.getCreatedAt())
+                .nextAttemptAt(delivery.getNextAttemptAt())
+                .deliveredAt(delivery.getDeliveredAt())
+                .build();
     }
 }
@@ -0,0 +1,110 @@
+package io.life.order.service;
+
+import io.life.order.entity.WebhookSubscription;
+import io.life.order.repository.WebhookSubscriptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory index of active webhook subscriptions by event key.
+ *
+ * Every audit event looks up its subscribers here instead of querying
+ * webhook_subscriptions. The index is rebuilt lazily after a local
+ * subscription change and periodically, so changes made by other
+ * instances are picked up too.
+ */
+@Component
+@Slf4j
+public class WebhookSubscriptionIndex {
+
+    static final String ANY = "ANY";
+
+    private final WebhookSubscriptionRepository repository;
+
+    private volatile Snapshot snapshot;
+
+    public WebhookSubscriptionIndex(WebhookSubscriptionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Active subscriptions for an event key (e.g. CUSTOMER.COMPLETED), including ANY subscriptions.
+     */
+    public List<WebhookSubscription> subscribersFor(String eventKey) {
+        Snapshot current = current();
+        List<WebhookSubscription> exact = current.byEventKey().getOrDefault(eventKey.toUpperCase(Locale.ROOT), List.of());
+        List<WebhookSubscription> any = current.byEventKey().getOrDefault(ANY, List.of());
+        if (any.isEmpty()) {
+            return exact;
+        }
+        if (exact.isEmpty()) {
+            return any;
+        }
+        List<WebhookSubscription> all = new ArrayList<>(exact.size() + any.size());
+        all.addAll(exact);
+        all.addAll(any);
+        return all;
+    }
+
+    /**
+     * Active subscription by ID, or null if it was removed or deactivated.
+     */
+    public WebhookSubscription get(Long subscriptionId) {
+        return current().byId().get(subscriptionId);
+    }
+
+    /**
+     * Drop the index so the next lookup reloads it. Inside a transaction this
+     * happens after commit, so the reload sees the change.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${life.order-processing.webhooks.index-refresh-ms:60000}")
+    public void refresh() {
+        snapshot = load();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = load();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        List<WebhookSubscription> active = repository.findByActiveTrue();
+        Map<String, List<WebhookSubscription>> byEventKey = new HashMap<>();
+        Map<Long, WebhookSubscription> byId = new HashMap<>();
+        for (WebhookSubscription sub : active) {
+            byEventKey.computeIfAbsent(sub.getEventType().toUpperCase(Locale.ROOT), k -> new ArrayList<>()).add(sub);
+            byId.put(sub.getId(), sub);
+        }
+        log.debug("Indexed {} active webhook subscriptions", active.size());
+        return new Snapshot(byEventKey, byId);
+    }
+
+    private record Snapshot(Map<String, List<WebhookSubscription>> byEventKey, Map<Long, WebhookSubscription> byId) {
+    }
+}
@@ -1,5 +1,8 @@
 package io.life.order.service;
 
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,24 @@ public interface WorkstationOrderOperations<T> {
      */
     List<T> getUnassignedOrders(Long workstationId);
 
+    /**
+     * Get one page of control orders, filtered, sorted and paged in the database.
+     * @param query Filters and paging; totals only when includeTotal is set
+     * @return The requested page
+     */
+    PageResponse<T> queryOrders(OrderQuery query);
+
+    /**
+     * Get one page of the orders assigned to a workstation.
+     * @param workstationId The workstation ID (overrides query.workstationId)
+     * @param query Filters and paging
+     * @return The requested page
+     */
+    default PageResponse<T> queryOrdersByWorkstation(Long workstationId, OrderQuery query) {
+        query.setWorkstationId(workstationId);
+        return queryOrders(query);
+    }
+
     /**
      * Get an order by its ID.
      * @param id The order ID
@@ -15,6 +15,7 @@ import io.life.order.service.OrderAuditService;
 import io.life.order.service.domain.BomConversionService;
 import io.life.order.service.validation.OrderValidator;
 import io.life.order.service.validation.StockValidator;
+import io.life.order.util.OrderSequenceAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -23,7 +24,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * FulfillmentOrchestrationService - Coordinates order fulfillment workflow
@@ -52,6 +52,7 @@ public class FulfillmentOrchestrationService {
     private static final String STATUS_COMPLETED = "COMPLETED";
     private static final String STATUS_CANCELLED = "CANCELLED";
     private static final String ORDER_TYPE_CUSTOMER = "CUSTOMER";
+    private static final String WAREHOUSE_ORDER_SEQUENCE = "WAREHOUSE_ORDER";
 
     private final OrderProcessingConfig config;
     private final CustomerOrderRepository customerOrderRepository;
@@ -62,6 +63,7 @@ public class FulfillmentOrchestrationService {
     private final StockValidator stockValidator;
     @Lazy
     private final OrderAuditService orderAuditService;
+    private final OrderSequenceAllocator orderSequences;
 
     /**
      * Main entry point for order fulfillment.
@@ -283,8 +285,8 @@ public class FulfillmentOrchestrationService {
                                                  BomConversionService.BomConversionResult bomResult,
                                                  String triggerScenario) {
         WarehouseOrder warehouseOrder = new WarehouseOrder();
-        warehouseOrder.setOrderNumber(config.getOrderNumbers().getWarehouseOrderPrefix() + 
-                UUID.randomUUID().toString().substring(0, config.getOrderNumbers().getRandomSuffixLength()).toUpperCase());
+        warehouseOrder.setOrderNumber(config.getOrderNumbers().getWarehouseOrderPrefix()
+                + orderSequences.next(WAREHOUSE_ORDER_SEQUENCE));
         warehouseOrder.setCustomerOrderId(sourceOrder.getId());
         warehouseOrder.setWorkstationId(config.getWorkstations().getModulesSupermarket());
         warehouseOrder.setOrderDate(LocalDateTime.now());
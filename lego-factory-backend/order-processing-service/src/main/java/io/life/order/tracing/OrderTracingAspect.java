@@ -0,0 +1,75 @@
+package io.life.order.tracing;
+
+import io.life.order.annotation.OrderStage;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds spans for order chain stages and repository calls to the request's trace.
+ *
+ * Stages are the methods marked with {@link OrderStage}; each repository method
+ * call gets a span named after the repository and method, e.g.
+ * "CustomerOrderRepository.findById". Calls a service makes to its own methods
+ * bypass the proxy and stay part of the caller's span.
+ *
+ * Without tracing (e.g. in tests) spans are no-ops.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class OrderTracingAspect {
+
+    private final Tracer tracer;
+
+    @Autowired
+    public OrderTracingAspect(ObjectProvider<Tracer> tracer) {
+        this(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    OrderTracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("@annotation(io.life.order.annotation.OrderStage)")
+    public Object traceStage(ProceedingJoinPoint joinPoint) throws Throwable {
+        OrderStage stage = AnnotationUtils.findAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), OrderStage.class);
+        Span span = tracer.nextSpan().name(stage.value()).tag("order.stage", stage.value());
+        return proceedInSpan(joinPoint, span);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        Class<?>[] interfaces = joinPoint.getTarget() != null ? joinPoint.getTarget().getClass().getInterfaces() : null;
+        if (interfaces != null && interfaces.length > 0) {
+            repository = interfaces[0].getSimpleName();
+        }
+        String method = joinPoint.getSignature().getName();
+        Span span = tracer.nextSpan().name(repository + "." + method)
+                .tag("db.repository", repository)
+                .tag("db.operation", method);
+        return proceedInSpan(joinPoint, span);
+    }
+
+    private Object proceedInSpan(ProceedingJoinPoint joinPoint, Span span) throws Throwable {
+        try (Tracer.SpanInScope scope = tracer.withSpan(span.start())) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
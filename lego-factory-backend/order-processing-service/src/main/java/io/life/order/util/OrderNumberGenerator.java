@@ -5,25 +5,30 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for generating unique order numbers.
  * Format: PREFIX-YYYYMMDD-SEQUENCE
+ *
+ * Sequences come from OrderSequenceAllocator, so numbers stay unique across
+ * restarts and service instances.
  */
 @Component
 public class OrderNumberGenerator {
 
+    static final String MANUFACTURING_SEQUENCE = "MANUFACTURING_ORDER";
+    static final String ASSEMBLY_SEQUENCE = "ASSEMBLY_ORDER";
+    static final String CONTROL_SEQUENCE = "PRODUCTION_CONTROL_ORDER";
+    static final String SUPPLIER_SEQUENCE = "SUPPLIER_ORDER";
+
     private final OrderProcessingProperties properties;
-    private final AtomicLong manufacturingSequence = new AtomicLong(1000);
-    private final AtomicLong assemblySequence = new AtomicLong(1000);
-    private final AtomicLong controlSequence = new AtomicLong(1000);
-    private final AtomicLong supplierSequence = new AtomicLong(1000);
+    private final OrderSequenceAllocator sequences;
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    public OrderNumberGenerator(OrderProcessingProperties properties) {
+    public OrderNumberGenerator(OrderProcessingProperties properties, OrderSequenceAllocator sequences) {
         this.properties = properties;
+        this.sequences = sequences;
     }
 
     /**
@@ -32,7 +37,7 @@ public class OrderNumberGenerator {
     public String generateManufacturingOrderNumber() {
         return generateOrderNumber(
                 properties.getPrefixes().getManufacturing(),
-                manufacturingSequence
+                MANUFACTURING_SEQUENCE
         );
     }
 
@@ -42,7 +47,7 @@ public class OrderNumberGenerator {
     public String generateAssemblyOrderNumber() {
         return generateOrderNumber(
                 properties.getPrefixes().getAssembly(),
-                assemblySequence
+                ASSEMBLY_SEQUENCE
         );
     }
 
@@ -52,7 +57,7 @@ public class OrderNumberGenerator {
     public String generateProductionControlOrderNumber() {
         return generateOrderNumber(
                 properties.getPrefixes().getControl(),
-                controlSequence
+                CONTROL_SEQUENCE
         );
     }
 
@@ -62,16 +67,16 @@ public class OrderNumberGenerator {
     public String generateSupplierOrderNumber() {
         return generateOrderNumber(
                 properties.getPrefixes().getSupplier(),
-                supplierSequence
+                SUPPLIER_SEQUENCE
         );
     }
 
     /**
      * Generate order number with format: PREFIX-YYYYMMDD-SEQUENCE
      */
-    private String generateOrderNumber(String prefix, AtomicLong sequence) {
+    private String generateOrderNumber(String prefix, String sequenceName) {
         String dateStr = LocalDate.now().format(DATE_FORMAT);
-        long seqNum = sequence.incrementAndGet();
+        long seqNum = sequences.next(sequenceName);
         return String.format("%s-%s-%d", prefix, dateStr, seqNum);
     }
 }
@@ -0,0 +1,230 @@
+package io.life.order.util;
+
+import io.life.order.config.OrderProcessingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OrderSequenceAllocator
+ *
+ * Hi/lo allocator for order numbers, safe across several service instances.
+ *
+ * Each sequence is a row in order_number_sequences. An instance reserves a block
+ * of block-size numbers with a single UPDATE (in its own transaction, so the row
+ * lock is held only for that statement) and then hands numbers out of memory
+ * without locking. Numbers are unique across instances and increasing within
+ * one; numbers left in a block when an instance stops are skipped.
+ *
+ * Several order numbers used to be derived from row counts or random suffixes, so
+ * a new sequence starts after the highest number already stored for it (see
+ * NUMBER_COLUMNS), never below initial-value. The highest number is computed with
+ * MAX in the database; tables that do not exist are skipped without running a
+ * failing statement, which would abort the surrounding PostgreSQL transaction.
+ */
+@Component
+@Slf4j
+public class OrderSequenceAllocator {
+
+    static final String UPDATE_SQL =
+            "UPDATE order_number_sequences SET next_value = next_value + ? WHERE sequence_name = ?";
+    static final String SELECT_SQL =
+            "SELECT next_value FROM order_number_sequences WHERE sequence_name = ?";
+    static final String INSERT_SQL =
+            "INSERT INTO order_number_sequences (sequence_name, next_value) VALUES (?, ?)";
+
+    /**
+     * Digits after the last dash of an order number, or the whole number if it is all digits
+     */
+    private static final String NUMBER_SUFFIX_REGEX = "(?:^|-)([0-9]{1,18})$";
+
+    /**
+     * Table and column holding the numbers drawn from each sequence.
+     */
+    static final Map<String, NumberColumn> NUMBER_COLUMNS = Map.of(
+            "CUSTOMER_ORDER", new NumberColumn("customer_orders", "order_number"),
+            "WAREHOUSE_ORDER", new NumberColumn("warehouse_orders", "order_number"),
+            "FINAL_ASSEMBLY_ORDER", new NumberColumn("final_assembly_orders", "order_number"),
+            "PRODUCTION_ORDER", new NumberColumn("production_orders", "production_order_number"),
+            "PRODUCTION_CONTROL_ORDER", new NumberColumn("production_control_orders", "control_order_number"),
+            "ASSEMBLY_CONTROL_ORDER", new NumberColumn("assembly_control_orders", "control_order_number"),
+            "MANUFACTURING_ORDER", new NumberColumn("manufacturing_order", "order_number"),
+            "ASSEMBLY_ORDER", new NumberColumn("assembly_order", "order_number"));
+
+    record NumberColumn(String table, String column) {
+    }
+
+    /**
+     * Reserves the next block of a sequence.
+     */
+    @FunctionalInterface
+    interface BlockReserver {
+
+        /**
+         * @return First number of the reserved block
+         */
+        long reserve(String sequenceName, int blockSize);
+    }
+
+    private final BlockReserver reserver;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OrderSequenceAllocator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  OrderProcessingConfig config) {
+        this(jdbcReserver(jdbcTemplate, transactionManager, config.getOrderNumbers().getInitialValue()),
+                config.getOrderNumbers().getBlockSize());
+    }
+
+    OrderSequenceAllocator(BlockReserver reserver, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.reserver = reserver;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Next number of a sequence. Sequences are created on first use.
+     *
+     * @param sequenceName Sequence key, e.g. WAREHOUSE_ORDER
+     */
+    public long next(String sequenceName) {
+        Block block = blocks.get(sequenceName);
+        if (block != null) {
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+        }
+        return refill(sequenceName);
+    }
+
+    private synchronized long refill(String sequenceName) {
+        // Another thread may have refilled while this one waited
+        Block block = blocks.get(sequenceName);
+        if (block != null) {
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+        }
+        long start = reserver.reserve(sequenceName, blockSize);
+        Block fresh = new Block(start, start + blockSize);
+        long value = fresh.next.getAndIncrement();
+        blocks.put(sequenceName, fresh);
+        log.debug("Reserved {} numbers of sequence {} starting at {}", blockSize, sequenceName, start);
+        return value;
+    }
+
+    private static BlockReserver jdbcReserver(JdbcTemplate jdbcTemplate,
+                                              PlatformTransactionManager transactionManager,
+                                              long initialValue) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return (sequenceName, size) -> {
+            Long start = tx.execute(status -> reserveExisting(jdbcTemplate, sequenceName, size));
+            if (start != null) {
+                return start;
+            }
+            Long highest = tx.execute(status -> highestExisting(jdbcTemplate, sequenceName));
+            long first = Math.max(initialValue, highest + 1);
+            try {
+                tx.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, sequenceName, first));
+                log.info("Created order number sequence {} at {}", sequenceName, first);
+            } catch (DataIntegrityViolationException e) {
+                // Created concurrently by another instance
+            }
+            start = tx.execute(status -> reserveExisting(jdbcTemplate, sequenceName, size));
+            if (start == null) {
+                throw new IllegalStateException("Order number sequence " + sequenceName + " could not be created");
+            }
+            return start;
+        };
+    }
+
+    /**
+     * Advance an existing sequence by one block.
+     *
+     * @return First number of the block, or null if the sequence does not exist
+     */
+    private static Long reserveExisting(JdbcTemplate jdbcTemplate, String sequenceName, int size) {
+        if (jdbcTemplate.update(UPDATE_SQL, size, sequenceName) == 0) {
+            return null;
+        }
+        Long next = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, sequenceName);
+        return next - size;
+    }
+
+    /**
+     * Highest number of a sequence already stored, or 0 if there is none.
+     * Rows whose number has no numeric suffix after the last dash are ignored.
+     */
+    static long highestExisting(JdbcTemplate jdbcTemplate, String sequenceName) {
+        NumberColumn source = NUMBER_COLUMNS.get(sequenceName);
+        if (source == null) {
+            return 0;
+        }
+        Long highest = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!tableExists(connection, source.table())) {
+                log.debug("No {} table to seed sequence {} from", source.table(), sequenceName);
+                return 0L;
+            }
+            String suffix = isPostgres(connection)
+                    ? "substring(" + source.column() + " from '" + NUMBER_SUFFIX_REGEX + "')"
+                    : "regexp_substr(" + source.column() + ", '" + NUMBER_SUFFIX_REGEX + "', 1, 1, '', 1)";
+            return jdbcTemplate.queryForObject(
+                    "SELECT MAX(CAST(" + suffix + " AS BIGINT)) FROM " + source.table(), Long.class);
+        });
+        return highest != null ? highest : 0;
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // Unquoted names are stored lower case by PostgreSQL and upper case by H2
+        for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), name,
+                    new String[] {"TABLE", "PARTITIONED TABLE", "BASE TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    /**
+     * Reserved numbers [next, end) of one sequence.
+     */
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -2,8 +2,6 @@ package io.life.order.util;
 
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 /**
  * RelatedOrderNumberGenerator
  * 
@@ -25,10 +23,15 @@ import java.util.UUID;
  * - Gear Assembly Order: GAO-12345
  * - Motor Assembly Order: MAO-12345
  * - Final Assembly Order: FAO-12345
+ *
+ * Base numbers are drawn from OrderSequenceAllocator, so they are unique across
+ * service instances.
  */
 @Component
 public class RelatedOrderNumberGenerator {
 
+    static final String CUSTOMER_ORDER_SEQUENCE = "CUSTOMER_ORDER";
+
     // Order type prefixes
     public static final String PREFIX_CUSTOMER_ORDER = "CO";
     public static final String PREFIX_WAREHOUSE_ORDER = "WO";
@@ -43,15 +46,20 @@ public class RelatedOrderNumberGenerator {
     public static final String PREFIX_MOTOR_ASSEMBLY = "MAO";
     public static final String PREFIX_FINAL_ASSEMBLY = "FAO";
 
+    private final OrderSequenceAllocator sequences;
+
+    public RelatedOrderNumberGenerator(OrderSequenceAllocator sequences) {
+        this.sequences = sequences;
+    }
+
     /**
      * Generate a new base customer order number.
      * This is the root of the order chain.
      * 
-     * @return Customer order number (e.g., "CO-A1B2C3D4")
+     * @return Customer order number (e.g., "CO-12345")
      */
     public String generateCustomerOrderNumber() {
-        String baseNumber = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return PREFIX_CUSTOMER_ORDER + "-" + baseNumber;
+        return PREFIX_CUSTOMER_ORDER + "-" + sequences.next(CUSTOMER_ORDER_SEQUENCE);
     }
 
     /**
@@ -79,8 +87,8 @@ public class RelatedOrderNumberGenerator {
     public String generateRelatedOrderNumber(String sourceOrderNumber, String targetPrefix) {
         String baseNumber = extractBaseNumber(sourceOrderNumber);
         if (baseNumber == null) {
-            // Fallback if source is invalid
-            return targetPrefix + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+            // Fallback if source is invalid: a fresh number in the target type's own sequence
+            return targetPrefix + "-" + sequences.next(targetPrefix);
         }
         return targetPrefix + "-" + baseNumber;
     }
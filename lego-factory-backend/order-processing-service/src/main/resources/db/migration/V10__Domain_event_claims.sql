@@ -0,0 +1,5 @@
+-- Events are claimed by one relay instance before they are relayed (DomainEventRelay),
+-- so several instances polling the outbox do not run an event's side effects twice.
+
+alter table domain_event_outbox add column claimed_by varchar(64);
+alter table domain_event_outbox add column claimed_until timestamp(6);
@@ -0,0 +1,9 @@
+-- One control order per SimAL schedule and workstation. The bulk endpoints return an
+-- existing order for the pair instead of creating another; the index makes that hold
+-- for concurrent retries too. Fails if a database already has duplicates, which then
+-- have to be merged by hand.
+
+create unique index uk_production_control_orders_schedule_ws
+    on production_control_orders (simal_schedule_id, assigned_workstation_id);
+create unique index uk_assembly_control_orders_schedule_ws
+    on assembly_control_orders (simal_schedule_id, assigned_workstation_id);
@@ -0,0 +1,582 @@
+-- Baseline schema, matching the JPA entity mappings.
+-- Applied by Flyway in the postgres profile; later changes go into new V<n>__ scripts.
+
+create sequence assembly_control_order_seq start with 1 increment by 50;
+create sequence production_control_order_seq start with 1 increment by 50;
+
+create table assembly_control_orders (
+    actual_duration_minutes integer,
+    completed_children integer not null,
+    defects_found integer,
+    defects_reworked integer,
+    estimated_duration_minutes integer,
+    quantity integer not null,
+    rework_required boolean,
+    total_children integer not null,
+    actual_completion_time timestamp(6),
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    assigned_workstation_id bigint not null,
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint not null,
+    item_id bigint not null,
+    source_production_order_id bigint not null,
+    target_completion_time timestamp(6) not null,
+    target_start_time timestamp(6) not null,
+    updated_at timestamp(6),
+    item_type varchar(50) not null,
+    priority varchar(50),
+    assembly_instructions varchar(500),
+    operator_notes varchar(500),
+    packaging_requirements varchar(500),
+    quality_checkpoints varchar(500),
+    rework_notes varchar(500),
+    shipping_notes varchar(500),
+    testing_procedures varchar(500),
+    control_order_number varchar(255) not null unique,
+    simal_schedule_id varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table assembly_order (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    assembly_control_order_id bigint not null,
+    created_at timestamp(6) not null,
+    created_by_user_id bigint,
+    created_by_workstation_id bigint,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    item_type varchar(255) not null,
+    notes TEXT,
+    order_number varchar(255) not null unique,
+    priority varchar(255),
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table async_operations (
+    progress_percent integer,
+    completed_at timestamp(6),
+    created_at timestamp(6),
+    entity_id bigint,
+    id bigint generated by default as identity,
+    started_at timestamp(6),
+    updated_at timestamp(6),
+    status varchar(20) not null,
+    operation_id varchar(36) not null unique,
+    entity_type varchar(50),
+    operation_type varchar(50) not null,
+    initiated_by varchar(100),
+    progress_message varchar(500),
+    error_message varchar(1000),
+    result_data TEXT,
+    primary key (id)
+);
+
+create table customer_orders (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    order_date timestamp(6) not null,
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    notes varchar(255),
+    order_number varchar(255) not null unique,
+    status varchar(255) not null,
+    trigger_scenario varchar(255),
+    primary key (id)
+);
+
+create table domain_event_outbox (
+    attempts integer not null,
+    aggregate_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    aggregate_type varchar(30) not null,
+    event_type varchar(40) not null check (event_type in ('WORKSTATION_ORDER_COMPLETED','CONTROL_ORDER_COMPLETED','PRODUCTION_ORDER_COMPLETED','WAREHOUSE_ORDER_READY')),
+    last_error varchar(500),
+    detail varchar(255),
+    primary key (id)
+);
+
+create table final_assembly_orders (
+    output_quantity integer not null,
+    assembly_control_order_id bigint,
+    completion_time timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    order_date timestamp(6) not null,
+    output_product_id bigint not null,
+    production_order_id bigint,
+    start_time timestamp(6),
+    submit_time timestamp(6),
+    updated_at timestamp(6),
+    warehouse_order_id bigint,
+    workstation_id bigint not null,
+    notes varchar(255),
+    order_number varchar(255) not null unique,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table gear_assembly_orders (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    assembly_control_order_id bigint not null,
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    output_module_id bigint not null,
+    supply_order_id bigint,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    priority varchar(50),
+    required_part_ids varchar(1000) not null,
+    assembly_instructions varchar(2000),
+    gear_ratio_requirements varchar(2000),
+    operator_notes varchar(2000),
+    quality_checks varchar(2000),
+    required_part_details varchar(2000),
+    order_number varchar(255) not null unique,
+    output_module_name varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table injection_molding_orders (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    output_part_id bigint not null,
+    production_control_order_id bigint not null,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    priority varchar(50),
+    raw_material_specs varchar(1000),
+    molding_parameters varchar(2000),
+    operator_notes varchar(2000),
+    quality_checks varchar(2000),
+    order_number varchar(255) not null unique,
+    output_part_name varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table manufacturing_order (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    created_at timestamp(6) not null,
+    created_by_user_id bigint,
+    created_by_workstation_id bigint,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    production_control_order_id bigint not null,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    item_type varchar(255) not null,
+    notes TEXT,
+    order_number varchar(255) not null unique,
+    priority varchar(255),
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table motor_assembly_orders (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    assembly_control_order_id bigint not null,
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    output_module_id bigint not null,
+    supply_order_id bigint,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    priority varchar(50),
+    required_part_ids varchar(1000) not null,
+    assembly_instructions varchar(2000),
+    electrical_specifications varchar(2000),
+    operator_notes varchar(2000),
+    quality_checks varchar(2000),
+    required_part_details varchar(2000),
+    order_number varchar(255) not null unique,
+    output_module_name varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table order_audit (
+    audit_day date not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    order_id bigint not null,
+    user_id bigint,
+    user_role varchar(50),
+    description varchar(1000),
+    event_type varchar(255) not null,
+    order_type varchar(255) not null,
+    primary key (id)
+);
+
+create table order_items (
+    fulfilled_quantity integer,
+    quantity integer not null,
+    customer_order_id bigint not null,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    item_type varchar(255) not null,
+    notes varchar(255),
+    primary key (id)
+);
+
+create table order_number_sequences (
+    next_value bigint not null,
+    sequence_name varchar(50) not null,
+    primary key (sequence_name)
+);
+
+create table part_finishing_orders (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    output_part_id bigint not null,
+    production_control_order_id bigint not null,
+    supply_order_id bigint,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    priority varchar(50),
+    required_part_ids varchar(1000) not null,
+    finishing_operations varchar(2000),
+    operator_notes varchar(2000),
+    quality_checks varchar(2000),
+    required_part_details varchar(2000),
+    surface_quality_requirements varchar(2000),
+    order_number varchar(255) not null unique,
+    output_part_name varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table part_preproduction_orders (
+    quantity integer not null,
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    output_part_id bigint not null,
+    production_control_order_id bigint not null,
+    supply_order_id bigint,
+    target_completion_time timestamp(6),
+    target_start_time timestamp(6),
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    priority varchar(50),
+    required_part_ids varchar(1000) not null,
+    operator_notes varchar(2000),
+    processing_operations varchar(2000),
+    quality_checks varchar(2000),
+    required_part_details varchar(2000),
+    order_number varchar(255) not null unique,
+    output_part_name varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table production_control_orders (
+    actual_duration_minutes integer,
+    completed_children integer not null,
+    defects_found integer,
+    defects_reworked integer,
+    estimated_duration_minutes integer,
+    quantity integer,
+    rework_required boolean,
+    total_children integer not null,
+    actual_completion_time timestamp(6),
+    actual_finish_time timestamp(6),
+    actual_start_time timestamp(6),
+    assigned_workstation_id bigint not null,
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint not null,
+    item_id bigint,
+    source_production_order_id bigint not null,
+    target_completion_time timestamp(6) not null,
+    target_start_time timestamp(6) not null,
+    updated_at timestamp(6),
+    item_type varchar(50),
+    priority varchar(50),
+    operator_notes varchar(2000),
+    production_instructions varchar(2000),
+    quality_checkpoints varchar(2000),
+    rework_notes varchar(2000),
+    safety_procedures varchar(2000),
+    control_order_number varchar(255) not null unique,
+    simal_schedule_id varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table production_order_items (
+    estimated_time_minutes integer,
+    quantity integer not null,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    production_order_id bigint not null,
+    item_name varchar(255) not null,
+    item_type varchar(255) not null,
+    workstation_type varchar(255) not null,
+    primary key (id)
+);
+
+create table production_orders (
+    completed_children integer not null,
+    estimated_duration integer,
+    submitted_final_assembly_orders integer not null,
+    total_children integer not null,
+    total_final_assembly_orders integer not null,
+    actual_completion_time timestamp(6),
+    assigned_workstation_id bigint,
+    created_at timestamp(6) not null,
+    created_by_workstation_id bigint not null,
+    due_date timestamp(6),
+    expected_completion_time timestamp(6),
+    id bigint generated by default as identity,
+    source_customer_order_id bigint not null,
+    source_warehouse_order_id bigint,
+    updated_at timestamp(6),
+    notes varchar(1000),
+    priority varchar(255) not null,
+    production_order_number varchar(255) not null unique,
+    simal_schedule_id varchar(255),
+    status varchar(255) not null,
+    trigger_scenario varchar(255) not null,
+    primary key (id)
+);
+
+create table simal_task_status_outbox (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    status varchar(20) not null,
+    task_id varchar(100) not null,
+    last_error varchar(500),
+    primary key (id)
+);
+
+create table supply_order_items (
+    quantity_requested integer not null,
+    quantity_supplied integer,
+    id bigint generated by default as identity,
+    part_id bigint not null,
+    supply_order_id bigint not null,
+    unit varchar(50),
+    notes varchar(500),
+    primary key (id)
+);
+
+create table supply_orders (
+    cancelled_at timestamp(6),
+    created_at timestamp(6) not null,
+    fulfilled_at timestamp(6),
+    id bigint generated by default as identity,
+    rejected_at timestamp(6),
+    requested_by_time timestamp(6),
+    requesting_workstation_id bigint not null,
+    source_control_order_id bigint not null,
+    supply_warehouse_workstation_id bigint not null,
+    updated_at timestamp(6),
+    priority varchar(50),
+    notes varchar(500),
+    source_control_order_type varchar(255) not null,
+    status varchar(255) not null,
+    supply_order_number varchar(255) not null unique,
+    primary key (id)
+);
+
+create table system_configurations (
+    editable boolean not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    value_type varchar(20) not null,
+    category varchar(50),
+    config_key varchar(100) not null unique,
+    updated_by varchar(100),
+    config_value varchar(500) not null,
+    description varchar(500),
+    primary key (id)
+);
+
+create table warehouse_order_items (
+    fulfilled_quantity integer not null,
+    requested_quantity integer not null,
+    id bigint generated by default as identity,
+    item_id bigint not null,
+    product_id bigint,
+    warehouse_order_id bigint not null,
+    item_name varchar(255) not null,
+    item_type varchar(255),
+    notes varchar(255),
+    primary key (id)
+);
+
+create table warehouse_orders (
+    submitted_final_assembly_orders integer not null,
+    total_final_assembly_orders integer not null,
+    created_at timestamp(6) not null,
+    customer_order_id bigint not null,
+    id bigint generated by default as identity,
+    order_date timestamp(6) not null,
+    production_order_id bigint,
+    updated_at timestamp(6),
+    workstation_id bigint not null,
+    notes varchar(255),
+    order_number varchar(255) not null unique,
+    status varchar(255) not null,
+    trigger_scenario varchar(255),
+    primary key (id)
+);
+
+create table webhook_deliveries (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    delivered_at timestamp(6),
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6) not null,
+    subscription_id bigint not null,
+    status varchar(20) not null,
+    event_key varchar(100) not null,
+    last_error varchar(500),
+    payload varchar(4000) not null,
+    primary key (id)
+);
+
+create table webhook_subscriptions (
+    active boolean not null,
+    batch_delivery boolean not null,
+    id bigint generated by default as identity,
+    event_type varchar(255) not null,
+    secret varchar(255),
+    target_url varchar(255) not null,
+    primary key (id)
+);
+
+-- Indexes for the repository finders
+create index idx_assembly_control_orders_ws_status on assembly_control_orders (assigned_workstation_id, status);
+create index idx_assembly_control_orders_status on assembly_control_orders (status);
+create index idx_assembly_control_orders_priority on assembly_control_orders (priority);
+create index idx_assembly_control_orders_schedule on assembly_control_orders (simal_schedule_id);
+create index idx_assembly_control_orders_production_order on assembly_control_orders (source_production_order_id);
+create index idx_assembly_order_control_status on assembly_order (assembly_control_order_id, status);
+create index idx_assembly_order_ws_status on assembly_order (workstation_id, status);
+create index idx_assembly_order_status on assembly_order (status);
+create index idx_async_operations_entity on async_operations (entity_type, entity_id, created_at);
+create index idx_async_operations_status on async_operations (status, created_at);
+create index idx_async_operations_type on async_operations (operation_type, created_at);
+create index idx_async_operations_initiator on async_operations (initiated_by, created_at);
+create index idx_async_operations_created on async_operations (created_at);
+create index idx_async_operations_completed on async_operations (status, completed_at);
+create index idx_customer_orders_status on customer_orders (status);
+create index idx_customer_orders_workstation on customer_orders (workstation_id);
+create index idx_domain_event_aggregate on domain_event_outbox (aggregate_type, aggregate_id);
+create index idx_final_assembly_orders_control_status on final_assembly_orders (assembly_control_order_id, status);
+create index idx_final_assembly_orders_status on final_assembly_orders (status);
+create index idx_final_assembly_orders_workstation on final_assembly_orders (workstation_id);
+create index idx_final_assembly_orders_production_order on final_assembly_orders (production_order_id);
+create index idx_final_assembly_orders_warehouse_order on final_assembly_orders (warehouse_order_id);
+create index idx_final_assembly_orders_product on final_assembly_orders (output_product_id);
+create index idx_gear_assembly_orders_control_status on gear_assembly_orders (assembly_control_order_id, status);
+create index idx_gear_assembly_orders_status on gear_assembly_orders (status);
+create index idx_gear_assembly_orders_workstation on gear_assembly_orders (workstation_id);
+create index idx_gear_assembly_orders_supply_order on gear_assembly_orders (supply_order_id);
+create index idx_injection_molding_orders_control_status on injection_molding_orders (production_control_order_id, status);
+create index idx_injection_molding_orders_status on injection_molding_orders (status);
+create index idx_injection_molding_orders_workstation on injection_molding_orders (workstation_id);
+create index idx_manufacturing_order_control_status on manufacturing_order (production_control_order_id, status);
+create index idx_manufacturing_order_ws_status on manufacturing_order (workstation_id, status);
+create index idx_manufacturing_order_status on manufacturing_order (status);
+create index idx_motor_assembly_orders_control_status on motor_assembly_orders (assembly_control_order_id, status);
+create index idx_motor_assembly_orders_status on motor_assembly_orders (status);
+create index idx_motor_assembly_orders_workstation on motor_assembly_orders (workstation_id);
+create index idx_motor_assembly_orders_supply_order on motor_assembly_orders (supply_order_id);
+create index idx_order_audit_order on order_audit (order_type, order_id, created_at);
+create index idx_order_audit_created on order_audit (created_at);
+create index idx_order_audit_day on order_audit (audit_day);
+create index idx_order_items_customer_order on order_items (customer_order_id);
+create index idx_part_finishing_orders_control_status on part_finishing_orders (production_control_order_id, status);
+create index idx_part_finishing_orders_status on part_finishing_orders (status);
+create index idx_part_finishing_orders_workstation on part_finishing_orders (workstation_id);
+create index idx_part_finishing_orders_supply_order on part_finishing_orders (supply_order_id);
+create index idx_part_preproduction_orders_control_status on part_preproduction_orders (production_control_order_id, status);
+create index idx_part_preproduction_orders_status on part_preproduction_orders (status);
+create index idx_part_preproduction_orders_workstation on part_preproduction_orders (workstation_id);
+create index idx_part_preproduction_orders_supply_order on part_preproduction_orders (supply_order_id);
+create index idx_production_control_orders_ws_status on production_control_orders (assigned_workstation_id, status);
+create index idx_production_control_orders_status on production_control_orders (status);
+create index idx_production_control_orders_priority on production_control_orders (priority);
+create index idx_production_control_orders_schedule on production_control_orders (simal_schedule_id);
+create index idx_production_control_orders_production_order on production_control_orders (source_production_order_id);
+create index idx_production_order_items_order on production_order_items (production_order_id);
+create index idx_production_orders_status on production_orders (status);
+create index idx_production_orders_priority on production_orders (priority);
+create index idx_production_orders_assigned_ws on production_orders (assigned_workstation_id);
+create index idx_production_orders_created_by_ws on production_orders (created_by_workstation_id);
+create index idx_production_orders_schedule on production_orders (simal_schedule_id);
+create index idx_production_orders_customer_order on production_orders (source_customer_order_id);
+create index idx_production_orders_warehouse_order on production_orders (source_warehouse_order_id);
+create index idx_simal_outbox_task_id on simal_task_status_outbox (task_id);
+create index idx_supply_order_items_order on supply_order_items (supply_order_id);
+create index idx_supply_orders_requesting_ws_status on supply_orders (requesting_workstation_id, status);
+create index idx_supply_orders_warehouse_ws_status on supply_orders (supply_warehouse_workstation_id, status);
+create index idx_supply_orders_source on supply_orders (source_control_order_id, source_control_order_type);
+create index idx_system_configurations_category on system_configurations (category);
+create index idx_warehouse_order_items_order on warehouse_order_items (warehouse_order_id);
+create index idx_warehouse_orders_status on warehouse_orders (status);
+create index idx_warehouse_orders_workstation on warehouse_orders (workstation_id);
+create index idx_warehouse_orders_customer_order on warehouse_orders (customer_order_id);
+create index idx_webhook_delivery_due on webhook_deliveries (status, next_attempt_at);
+create index idx_webhook_delivery_subscription on webhook_deliveries (subscription_id, status);
+create index idx_webhook_subscriptions_active on webhook_subscriptions (active);
+
+alter table order_items
+    add constraint fk_order_items_customer_orders
+    foreign key (customer_order_id) references customer_orders;
+
+alter table production_order_items
+    add constraint fk_production_order_items_production_orders
+    foreign key (production_order_id) references production_orders;
+
+alter table supply_order_items
+    add constraint fk_supply_order_items_supply_orders
+    foreign key (supply_order_id) references supply_orders;
+
+alter table warehouse_order_items
+    add constraint fk_warehouse_order_items_warehouse_orders
+    foreign key (warehouse_order_id) references warehouse_orders;
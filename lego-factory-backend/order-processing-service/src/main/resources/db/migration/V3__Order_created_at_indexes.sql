@@ -0,0 +1,14 @@
+-- Paged order lists (GET .../page) sort newest first and filter by creation time.
+
+create index idx_customer_orders_created on customer_orders (created_at);
+create index idx_warehouse_orders_created on warehouse_orders (created_at);
+create index idx_production_orders_created on production_orders (created_at);
+create index idx_production_control_orders_created on production_control_orders (created_at);
+create index idx_assembly_control_orders_created on assembly_control_orders (created_at);
+create index idx_supply_orders_created on supply_orders (created_at);
+create index idx_final_assembly_orders_created on final_assembly_orders (created_at);
+create index idx_injection_molding_orders_created on injection_molding_orders (created_at);
+create index idx_part_preproduction_orders_created on part_preproduction_orders (created_at);
+create index idx_part_finishing_orders_created on part_finishing_orders (created_at);
+create index idx_gear_assembly_orders_created on gear_assembly_orders (created_at);
+create index idx_motor_assembly_orders_created on motor_assembly_orders (created_at);
@@ -0,0 +1,11 @@
+-- Completed production orders are processed downstream once, even though the relay
+-- may deliver PRODUCTION_ORDER_COMPLETED more than once.
+
+alter table production_orders add column downstream_processed_at timestamp(6);
+
+-- Orders completed before this migration have been processed, unless their event is still pending
+update production_orders
+set downstream_processed_at = coalesce(actual_completion_time, updated_at, created_at)
+where status = 'COMPLETED'
+  and id not in (select aggregate_id from domain_event_outbox
+                 where event_type = 'PRODUCTION_ORDER_COMPLETED');
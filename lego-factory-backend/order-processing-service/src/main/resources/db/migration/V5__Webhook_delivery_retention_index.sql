@@ -0,0 +1,3 @@
+-- Delivered webhook deliveries are purged by delivered_at (WebhookDeliveryRetentionJob).
+
+create index idx_webhook_delivery_delivered on webhook_deliveries (status, delivered_at);
@@ -0,0 +1,15 @@
+-- The dashboard read model polls every order table for rows updated since its last poll,
+-- so changes made by other instances reach it.
+
+create index idx_customer_orders_updated on customer_orders (updated_at);
+create index idx_warehouse_orders_updated on warehouse_orders (updated_at);
+create index idx_production_orders_updated on production_orders (updated_at);
+create index idx_production_control_orders_updated on production_control_orders (updated_at);
+create index idx_assembly_control_orders_updated on assembly_control_orders (updated_at);
+create index idx_supply_orders_updated on supply_orders (updated_at);
+create index idx_final_assembly_orders_updated on final_assembly_orders (updated_at);
+create index idx_injection_molding_orders_updated on injection_molding_orders (updated_at);
+create index idx_part_preproduction_orders_updated on part_preproduction_orders (updated_at);
+create index idx_part_finishing_orders_updated on part_finishing_orders (updated_at);
+create index idx_gear_assembly_orders_updated on gear_assembly_orders (updated_at);
+create index idx_motor_assembly_orders_updated on motor_assembly_orders (updated_at);
@@ -0,0 +1,45 @@
+-- Recompute the child counters from the child rows. Databases adopted from ddl-auto got
+-- the counter columns without values for orders already in flight, so their chains
+-- never reached the total. The counts match what the services maintain: every child
+-- adds to the total, and a child counts as done once it is COMPLETED (workstation and
+-- control orders) or SUBMITTED (Final Assembly orders of warehouse and production orders).
+
+update production_control_orders p
+set total_children = (select count(*) from injection_molding_orders c where c.production_control_order_id = p.id)
+                   + (select count(*) from part_preproduction_orders c where c.production_control_order_id = p.id)
+                   + (select count(*) from part_finishing_orders c where c.production_control_order_id = p.id),
+    completed_children = (select count(*) from injection_molding_orders c
+                          where c.production_control_order_id = p.id and c.status = 'COMPLETED')
+                       + (select count(*) from part_preproduction_orders c
+                          where c.production_control_order_id = p.id and c.status = 'COMPLETED')
+                       + (select count(*) from part_finishing_orders c
+                          where c.production_control_order_id = p.id and c.status = 'COMPLETED');
+
+-- Final Assembly orders count towards the total only; their completion is not reported
+-- to the control order, which is completed from the workstation instead
+update assembly_control_orders a
+set total_children = (select count(*) from gear_assembly_orders c where c.assembly_control_order_id = a.id)
+                   + (select count(*) from motor_assembly_orders c where c.assembly_control_order_id = a.id)
+                   + (select count(*) from final_assembly_orders c where c.assembly_control_order_id = a.id),
+    completed_children = (select count(*) from gear_assembly_orders c
+                          where c.assembly_control_order_id = a.id and c.status = 'COMPLETED')
+                       + (select count(*) from motor_assembly_orders c
+                          where c.assembly_control_order_id = a.id and c.status = 'COMPLETED');
+
+update production_orders p
+set total_children = (select count(*) from production_control_orders c where c.source_production_order_id = p.id)
+                   + (select count(*) from assembly_control_orders c where c.source_production_order_id = p.id),
+    completed_children = (select count(*) from production_control_orders c
+                          where c.source_production_order_id = p.id and c.status = 'COMPLETED')
+                       + (select count(*) from assembly_control_orders c
+                          where c.source_production_order_id = p.id and c.status = 'COMPLETED'),
+    total_final_assembly_orders = (select count(*) from final_assembly_orders f
+                                   where f.production_order_id = p.id and f.warehouse_order_id is null),
+    submitted_final_assembly_orders = (select count(*) from final_assembly_orders f
+                                       where f.production_order_id = p.id and f.warehouse_order_id is null
+                                         and f.status = 'SUBMITTED');
+
+update warehouse_orders w
+set total_final_assembly_orders = (select count(*) from final_assembly_orders f where f.warehouse_order_id = w.id),
+    submitted_final_assembly_orders = (select count(*) from final_assembly_orders f
+                                       where f.warehouse_order_id = w.id and f.status = 'SUBMITTED');
@@ -0,0 +1,4 @@
+-- Deliveries are claimed by one instance before they are sent (WebhookDeliveryEngine),
+-- so several instances polling the same table do not deliver an event twice.
+
+alter table webhook_deliveries add column claimed_by varchar(64);
@@ -3,6 +3,8 @@ package io.life.order.controller;
 import io.life.order.config.OrderProcessingConfig;
 import io.life.order.dto.CustomerOrderDTO;
 import io.life.order.dto.OrderItemDTO;
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
 import io.life.order.service.CustomerOrderService;
 import io.life.order.service.FulfillmentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -403,4 +405,40 @@ class CustomerOrderControllerTest {
 
         verify(customerOrderService, times(1)).createOrder(any(CustomerOrderDTO.class));
     }
+
+    @Test
+    void testQueryOrders_BindsFiltersAndOmitsTotals() throws Exception {
+        // Given
+        when(customerOrderService.queryOrders(any(OrderQuery.class)))
+                .thenReturn(new PageResponse<>(List.of(testOrderDTO), 0, 20, true, null, null));
+
+        // When/Then
+        mockMvc.perform(get("/api/customer-orders/page")
+                        .param("status", "PENDING,CONFIRMED")
+                        .param("workstationId", "7")
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("size", "20")
+                        .param("sort", "orderDate,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(customerOrderService).queryOrders(argThat(query ->
+                query.getStatus().equals(List.of("PENDING", "CONFIRMED"))
+                        && query.getWorkstationId() == 7L
+                        && query.getFrom().equals(LocalDateTime.of(2026, 1, 1, 0, 0))
+                        && query.getPage() == 0
+                        && query.getSize() == 20
+                        && "orderDate,asc".equals(query.getSort())
+                        && !query.isIncludeTotal()));
+    }
+
+    @Test
+    void testQueryOrders_RejectsOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/customer-orders/page").param("size", "5000"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerOrderService, never()).queryOrders(any());
+    }
 }
@@ -42,6 +42,10 @@ public class ApiContractTest {
             ProductionControlOrderDTO.class,
             AssemblyControlOrderDTO.class,
             OrderItemDTO.class,
+            CustomerOrderSummaryDTO.class,
+            ProductionOrderSummaryDTO.class,
+            FinalAssemblyOrderSummaryDTO.class,
+            PageResponse.class,
             
             // Configuration
             SystemConfigurationDTO.class,
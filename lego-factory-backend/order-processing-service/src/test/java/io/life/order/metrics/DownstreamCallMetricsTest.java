@@ -0,0 +1,121 @@
+package io.life.order.metrics;
+
+import io.life.order.annotation.OrderStage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+/**
+ * Unit tests for DownstreamCallMetrics and OrderStageMetricsAspect
+ *
+ * Tests that remote calls are timed by downstream, operation and outcome,
+ * and that order stages record their duration and fan-out.
+ */
+@DisplayName("DownstreamCallMetrics Tests")
+class DownstreamCallMetricsTest {
+
+    private MeterRegistry registry;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DownstreamCallMetrics metrics = new DownstreamCallMetrics(registry, "http://localhost:8014",
+                "http://localhost:8013", "http://localhost:8016", "http://localhost:8016/api");
+        restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(metrics.serviceInterceptor()));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private double count(String downstream, String operation, String outcome) {
+        var timer = registry.find(DownstreamCallMetrics.REQUESTS)
+                .tags("downstream", downstream, "operation", operation, "outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    @Test
+    @DisplayName("Should tag calls by downstream, operation and outcome")
+    void shouldTagCalls() {
+        server.expect(requestTo("http://localhost:8014/api/stock/workstation/7")).andRespond(withSuccess());
+        server.expect(requestTo("http://localhost:8014/api/stock/workstation/8")).andRespond(withSuccess());
+        server.expect(requestTo("http://masterdata-service:8013/api/masterdata/products/3"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        restTemplate.getForObject("http://localhost:8014/api/stock/workstation/7", String.class);
+        restTemplate.getForObject("http://localhost:8014/api/stock/workstation/8", String.class);
+        assertThatThrownBy(() -> restTemplate.getForObject(
+                "http://masterdata-service:8013/api/masterdata/products/3", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(count("inventory", "GET /api/stock/workstation/{id}", "SUCCESS")).isEqualTo(2);
+        assertThat(count("masterdata", "GET /api/masterdata/products/{id}", "SERVER_ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record the fan-out of an order stage, including nested stages")
+    void shouldRecordStageFanOut() {
+        server.expect(requestTo("http://localhost:8014/api/stock/adjust")).andRespond(withSuccess());
+        server.expect(requestTo("http://localhost:8016/api/simal/scheduled-orders")).andRespond(withSuccess());
+        server.expect(requestTo("http://localhost:8014/api/stock/adjust")).andRespond(withSuccess());
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Stages(restTemplate));
+        factory.addAspect(new OrderStageMetricsAspect(registry));
+        Stages stages = factory.getProxy();
+        stages.outer(stages);
+
+        DistributionSummary outer = registry.find(OrderStageMetricsAspect.FAN_OUT).tag("stage", "outer").summary();
+        DistributionSummary inner = registry.find(OrderStageMetricsAspect.FAN_OUT).tag("stage", "inner").summary();
+        assertThat(outer.totalAmount()).isEqualTo(3);
+        assertThat(inner.totalAmount()).isEqualTo(1);
+        assertThat(registry.find(OrderStageMetricsAspect.DURATION)
+                .tags("stage", "outer", "outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(count("simal", "POST /api/simal/scheduled-orders", "SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replace numeric and UUID path segments")
+    void shouldTemplatePaths() {
+        assertThat(DownstreamCallMetrics.pathTemplate("/api/stock/items/PART/12"))
+                .isEqualTo("/api/stock/items/PART/{id}");
+        assertThat(DownstreamCallMetrics.pathTemplate("/api/tasks/1b4e28ba-2fa1-11d2-883f-0016d3cca427/status"))
+                .isEqualTo("/api/tasks/{id}/status");
+    }
+
+    static class Stages {
+        private final RestTemplate restTemplate;
+
+        Stages(RestTemplate restTemplate) {
+            this.restTemplate = restTemplate;
+        }
+
+        @OrderStage("outer")
+        public void outer(Stages self) {
+            restTemplate.postForObject("http://localhost:8014/api/stock/adjust", "{}", Void.class);
+            self.inner();
+            restTemplate.postForObject("http://localhost:8014/api/stock/adjust", "{}", Void.class);
+        }
+
+        @OrderStage("inner")
+        public void inner() {
+            restTemplate.postForObject("http://localhost:8016/api/simal/scheduled-orders", "{}", Void.class);
+        }
+    }
+}
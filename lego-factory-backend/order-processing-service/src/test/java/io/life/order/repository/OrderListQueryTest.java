@@ -0,0 +1,214 @@
+package io.life.order.repository;
+
+import io.life.order.dto.CustomerOrderSummaryDTO;
+import io.life.order.dto.FinalAssemblyOrderSummaryDTO;
+import io.life.order.dto.ProductionOrderSummaryDTO;
+import io.life.order.entity.CustomerOrder;
+import io.life.order.entity.FinalAssemblyOrder;
+import io.life.order.entity.OrderItem;
+import io.life.order.entity.ProductionOrder;
+import io.life.order.entity.ProductionOrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the order list fetch plans
+ *
+ * - Summary projections read only list columns, in one query, without loading entities
+ * - The full list and detail finders fetch items through the entity graph, in one query
+ * - Other finders leave items lazy
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Order List Query Tests")
+class OrderListQueryTest {
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Autowired
+    private FinalAssemblyOrderRepository finalAssemblyOrderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Flush, detach everything and reset the counters, so only the query under test is measured.
+     */
+    private void startCounting() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("customer orders")
+    class CustomerOrders {
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 1; i <= 3; i++) {
+                saveCustomerOrder("ORD-" + i, LocalDateTime.now().minusDays(i), i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should read summaries in one query without loading entities")
+        void shouldReadSummariesInOneQuery() {
+            startCounting();
+
+            List<CustomerOrderSummaryDTO> summaries = customerOrderRepository.findAllSummaries();
+
+            assertThat(summaries).extracting(CustomerOrderSummaryDTO::getOrderNumber)
+                    .containsExactly("ORD-1", "ORD-2", "ORD-3");
+            assertThat(summaries).extracting(CustomerOrderSummaryDTO::getItemCount).containsExactly(1, 2, 3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should fetch the full list with items in one query")
+        void shouldFetchFullListWithItems() {
+            startCounting();
+
+            List<CustomerOrder> orders = customerOrderRepository.findAll();
+
+            assertThat(orders).hasSize(3)
+                    .allSatisfy(order -> assertThat(Hibernate.isInitialized(order.getOrderItems())).isTrue());
+            assertThat(orders).flatExtracting(CustomerOrder::getOrderItems).hasSize(6);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should fetch the detail view with items in one query")
+        void shouldFetchDetailWithItems() {
+            Long id = customerOrderRepository.findByStatus("PENDING").get(0).getId();
+            startCounting();
+
+            CustomerOrder order = customerOrderRepository.findWithItemsById(id).orElseThrow();
+
+            assertThat(Hibernate.isInitialized(order.getOrderItems())).isTrue();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should leave items lazy for plain lookups")
+        void shouldLeaveItemsLazy() {
+            Long id = customerOrderRepository.findByStatus("PENDING").get(0).getId();
+            startCounting();
+
+            CustomerOrder order = customerOrderRepository.findById(id).orElseThrow();
+
+            assertThat(Hibernate.isInitialized(order.getOrderItems())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count production order items in the summary query")
+    void shouldSummarizeProductionOrders() {
+        ProductionOrder order = ProductionOrder.builder()
+                .productionOrderNumber("PO-0001")
+                .sourceCustomerOrderId(1L)
+                .status("CREATED")
+                .priority("NORMAL")
+                .triggerScenario("SCENARIO_4")
+                .createdByWorkstationId(6L)
+                .build();
+        List<ProductionOrderItem> items = new ArrayList<>();
+        for (long moduleId = 1; moduleId <= 4; moduleId++) {
+            items.add(ProductionOrderItem.builder()
+                    .productionOrder(order)
+                    .itemType("MODULE")
+                    .itemId(moduleId)
+                    .itemName("Module " + moduleId)
+                    .quantity(1)
+                    .workstationType("ASSEMBLY")
+                    .build());
+        }
+        order.setProductionOrderItems(items);
+        productionOrderRepository.save(order);
+        startCounting();
+
+        List<ProductionOrderSummaryDTO> summaries = productionOrderRepository.findAllSummaries();
+
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.getProductionOrderNumber()).isEqualTo("PO-0001");
+            assertThat(summary.getItemCount()).isEqualTo(4);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read Final Assembly summaries newest first")
+    void shouldSummarizeFinalAssemblyOrders() {
+        saveFinalAssemblyOrder("FA-1", LocalDateTime.now().minusHours(2));
+        saveFinalAssemblyOrder("FA-2", LocalDateTime.now());
+        startCounting();
+
+        List<FinalAssemblyOrderSummaryDTO> summaries = finalAssemblyOrderRepository.findAllSummaries();
+
+        assertThat(summaries).extracting(FinalAssemblyOrderSummaryDTO::getOrderNumber).containsExactly("FA-2", "FA-1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void saveCustomerOrder(String orderNumber, LocalDateTime orderDate, int itemCount) {
+        CustomerOrder order = new CustomerOrder();
+        order.setOrderNumber(orderNumber);
+        order.setOrderDate(orderDate);
+        order.setStatus("PENDING");
+        order.setWorkstationId(7L);
+        List<OrderItem> items = new ArrayList<>();
+        for (long productId = 1; productId <= itemCount; productId++) {
+            OrderItem item = new OrderItem();
+            item.setCustomerOrder(order);
+            item.setItemType("PRODUCT");
+            item.setItemId(productId);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        order.setOrderItems(items);
+        customerOrderRepository.save(order);
+    }
+
+    private void saveFinalAssemblyOrder(String orderNumber, LocalDateTime orderDate) {
+        FinalAssemblyOrder order = new FinalAssemblyOrder();
+        order.setOrderNumber(orderNumber);
+        order.setWorkstationId(6L);
+        order.setOutputProductId(1L);
+        order.setOutputQuantity(1);
+        order.setOrderDate(orderDate);
+        order.setStatus("PENDING");
+        finalAssemblyOrderRepository.save(order);
+    }
+}
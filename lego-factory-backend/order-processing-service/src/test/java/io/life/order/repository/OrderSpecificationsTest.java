@@ -0,0 +1,172 @@
+package io.life.order.repository;
+
+import io.life.order.dto.PageResponse;
+import io.life.order.dto.request.OrderQuery;
+import io.life.order.entity.InjectionMoldingOrder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for OrderSpecifications against the database
+ *
+ * Ten injection molding orders, one created per day, alternating
+ * PENDING / COMPLETED and NORMAL / HIGH. Tests cover:
+ * - Status, priority and creation-time filters in the WHERE clause
+ * - Sorting and stable paging
+ * - Totals only on request (no COUNT query otherwise)
+ * - Rejection of unknown sort properties and unsupported filters
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("OrderSpecifications Tests")
+class OrderSpecificationsTest {
+
+    private static final LocalDateTime DAY_ZERO = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final OrderSpecifications.Fields FIELDS =
+            OrderSpecifications.Fields.of("workstationId", "priority", "orderNumber");
+
+    @Autowired
+    private InjectionMoldingOrderRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int day = 0; day < 10; day++) {
+            InjectionMoldingOrder order = repository.save(InjectionMoldingOrder.builder()
+                    .orderNumber("IM-" + day)
+                    .productionControlOrderId(1L)
+                    .workstationId(1L)
+                    .outputPartId(10L)
+                    .outputPartName("Brick")
+                    .quantity(4)
+                    .status(day % 2 == 0 ? "PENDING" : "COMPLETED")
+                    .priority(day % 2 == 0 ? "NORMAL" : "HIGH")
+                    .build());
+            entityManager.flush();
+            // createdAt is set on insert and not updatable through the entity
+            entityManager.createNativeQuery("UPDATE injection_molding_orders SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, DAY_ZERO.plusDays(day))
+                    .setParameter(2, order.getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private PageResponse<InjectionMoldingOrder> page(OrderQuery query) {
+        return OrderSpecifications.page(repository, query, FIELDS, Function.identity());
+    }
+
+    private static List<String> numbers(PageResponse<InjectionMoldingOrder> page) {
+        return page.getContent().stream().map(InjectionMoldingOrder::getOrderNumber).toList();
+    }
+
+    @Nested
+    @DisplayName("filtering")
+    class Filtering {
+
+        @Test
+        @DisplayName("Should filter by status, priority and creation time")
+        void shouldCombineFilters() {
+            PageResponse<InjectionMoldingOrder> page = page(OrderQuery.builder()
+                    .status(List.of("PENDING"))
+                    .priority("NORMAL")
+                    .from(DAY_ZERO.plusDays(2))
+                    .to(DAY_ZERO.plusDays(8))
+                    .build());
+
+            assertThat(numbers(page)).containsExactly("IM-6", "IM-4", "IM-2");
+        }
+
+        @Test
+        @DisplayName("Should match any of several statuses")
+        void shouldMatchAnyStatus() {
+            PageResponse<InjectionMoldingOrder> page = page(OrderQuery.builder()
+                    .status(List.of("PENDING", "COMPLETED"))
+                    .workstationId(1L)
+                    .build());
+
+            assertThat(page.getContent()).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("Should refuse a priority filter for order types without priority")
+        void shouldRefuseUnsupportedPriority() {
+            OrderSpecifications.Fields noPriority = OrderSpecifications.Fields.of("workstationId", null);
+            OrderQuery query = OrderQuery.builder().priority("HIGH").build();
+
+            assertThatThrownBy(() -> OrderSpecifications.page(repository, query, noPriority, Function.identity()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("paging")
+    class Paging {
+
+        @Test
+        @DisplayName("Should read a slice without a COUNT query by default")
+        void shouldSkipCountByDefault() {
+            PageResponse<InjectionMoldingOrder> page = page(OrderQuery.builder().size(4).build());
+
+            assertThat(numbers(page)).containsExactly("IM-9", "IM-8", "IM-7", "IM-6");
+            assertThat(page.isHasNext()).isTrue();
+            assertThat(page.getTotalElements()).isNull();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count only when totals are requested")
+        void shouldCountOnRequest() {
+            PageResponse<InjectionMoldingOrder> page = page(OrderQuery.builder()
+                    .page(2).size(4).includeTotal(true).build());
+
+            assertThat(numbers(page)).containsExactly("IM-1", "IM-0");
+            assertThat(page.isHasNext()).isFalse();
+            assertThat(page.getTotalElements()).isEqualTo(10L);
+            assertThat(page.getTotalPages()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should sort by an allowed property")
+        void shouldSortByAllowedProperty() {
+            PageResponse<InjectionMoldingOrder> page = page(OrderQuery.builder()
+                    .sort("orderNumber,asc").size(3).build());
+
+            assertThat(numbers(page)).containsExactly("IM-0", "IM-1", "IM-2");
+        }
+
+        @Test
+        @DisplayName("Should refuse unknown sort properties and directions")
+        void shouldRefuseUnknownSort() {
+            assertThatThrownBy(() -> page(OrderQuery.builder().sort("operatorNotes").build()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("operatorNotes");
+            assertThatThrownBy(() -> page(OrderQuery.builder().sort("createdAt,sideways").build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
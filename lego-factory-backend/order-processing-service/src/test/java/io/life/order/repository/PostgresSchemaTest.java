@@ -0,0 +1,175 @@
+package io.life.order.repository;
+
+import io.life.order.entity.CustomerOrder;
+import io.life.order.service.WebhookDeliveryRetentionJob;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the postgres persistence profile.
+ *
+ * Runs the Flyway migrations on H2 in PostgreSQL mode with the profile's
+ * settings (ddl-auto=validate, dedicated schema), so a migration that does not
+ * match the entity mappings fails here rather than at deployment. Only the
+ * connection settings are swapped for H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order_processing_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS order_processing",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("PostgreSQL Schema Tests")
+class PostgresSchemaTest {
+
+    private static final String SCHEMA = "order_processing";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Test
+    @DisplayName("Should apply all migrations into the service schema")
+    void shouldApplyMigrations() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.getConfiguration().getSchemas()).containsExactly(SCHEMA);
+    }
+
+    @Test
+    @DisplayName("Should index the repository finders")
+    void shouldIndexRepositoryFinders() throws SQLException {
+        assertThat(indexNames("production_control_orders"))
+                .contains("idx_production_control_orders_ws_status", "idx_production_control_orders_status",
+                        "idx_production_control_orders_production_order", "uk_production_control_orders_schedule_ws");
+        assertThat(indexNames("assembly_control_orders"))
+                .contains("idx_assembly_control_orders_ws_status", "idx_assembly_control_orders_production_order",
+                        "uk_assembly_control_orders_schedule_ws");
+        assertThat(indexNames("supply_orders"))
+                .contains("idx_supply_orders_requesting_ws_status", "idx_supply_orders_warehouse_ws_status",
+                        "idx_supply_orders_source");
+        assertThat(indexNames("production_orders"))
+                .contains("idx_production_orders_status", "idx_production_orders_customer_order");
+        assertThat(indexNames("customer_orders"))
+                .contains("idx_customer_orders_status", "idx_customer_orders_workstation");
+        assertThat(indexNames("async_operations"))
+                .contains("idx_async_operations_entity", "idx_async_operations_status");
+        assertThat(indexNames("webhook_deliveries"))
+                .contains("idx_webhook_delivery_due", "idx_webhook_delivery_delivered");
+    }
+
+    @Test
+    @DisplayName("Should index updated_at for the dashboard change poll")
+    void shouldIndexUpdatedAt() throws SQLException {
+        for (String table : List.of("customer_orders", "warehouse_orders", "production_orders",
+                "production_control_orders", "assembly_control_orders", "supply_orders", "final_assembly_orders",
+                "injection_molding_orders", "part_preproduction_orders", "part_finishing_orders",
+                "gear_assembly_orders", "motor_assembly_orders")) {
+            assertThat(indexNames(table)).contains("idx_" + table + "_updated");
+        }
+    }
+
+    @Test
+    @DisplayName("Should look up a workstation's control orders through the composite index")
+    void shouldUseCompositeIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM production_control_orders "
+                        + "WHERE assigned_workstation_id = 1 AND status = 'ASSIGNED'", String.class);
+
+        assertThat(plan).contains("idx_production_control_orders_ws_status");
+    }
+
+    @Test
+    @DisplayName("Should read and write through the repositories")
+    void shouldRoundTripThroughRepository() {
+        CustomerOrder order = new CustomerOrder();
+        order.setOrderNumber("ORD-1001");
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus("PENDING");
+        order.setWorkstationId(7L);
+        customerOrderRepository.saveAndFlush(order);
+
+        assertThat(customerOrderRepository.findByStatus("PENDING"))
+                .singleElement().extracting(CustomerOrder::getOrderNumber).isEqualTo("ORD-1001");
+    }
+
+    @Test
+    @DisplayName("Should create the order number sequence table")
+    void shouldCreateSequenceTable() {
+        jdbcTemplate.update("INSERT INTO order_number_sequences (sequence_name, next_value) VALUES ('TEST', 1001)");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO order_number_sequences (sequence_name, next_value) VALUES ('TEST', 2001)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should purge delivered webhook deliveries past retention in chunks")
+    void shouldPurgeDeliveredWebhookDeliveries() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            insertDelivery("DELIVERED", now.minusDays(10));
+        }
+        insertDelivery("DELIVERED", now.minusDays(1));
+        insertDelivery("DEAD", null);
+
+        int removed = new WebhookDeliveryRetentionJob(jdbcTemplate, 7, 2).purgeDeliveredBefore(now.minusDays(7));
+
+        assertThat(removed).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM webhook_deliveries", String.class))
+                .containsExactlyInAnyOrder("DELIVERED", "DEAD");
+    }
+
+    private void insertDelivery(String status, LocalDateTime deliveredAt) {
+        jdbcTemplate.update("INSERT INTO webhook_deliveries (subscription_id, event_key, payload, status, attempts, "
+                        + "next_attempt_at, created_at, delivered_at) VALUES (1, 'ANY', '{}', ?, 0, ?, ?, ?)",
+                status, LocalDateTime.now(), LocalDateTime.now(), deliveredAt);
+    }
+
+    private Set<String> indexNames(String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet indexes = connection.getMetaData().getIndexInfo(null, SCHEMA, table, false, false)) {
+            while (indexes.next()) {
+                names.add(indexes.getString("INDEX_NAME"));
+            }
+        }
+        return names;
+    }
+}
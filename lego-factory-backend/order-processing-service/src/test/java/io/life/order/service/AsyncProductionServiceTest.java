@@ -0,0 +1,221 @@
+package io.life.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.life.order.dto.AsyncOperationDTO;
+import io.life.order.dto.ProductionOrderDTO;
+import io.life.order.entity.AsyncOperation;
+import io.life.order.exception.JobQueueFullException;
+import io.life.order.repository.AsyncOperationRepository;
+import io.life.order.repository.ProductionOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncProductionService
+ *
+ * Tests async operation handling:
+ * - Work is handed to the job scheduler at the order's priority instead of running on the caller
+ * - Progress is tracked in memory only
+ * - Only the final state is persisted
+ * - Save failures fall back to single rows and are retried a limited number of times
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncProductionService Tests")
+class AsyncProductionServiceTest {
+
+    @Mock
+    private AsyncOperationRepository asyncOperationRepository;
+
+    @Mock
+    private ProductionOrderService productionOrderService;
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Mock
+    private ProductionJobScheduler jobScheduler;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    private AsyncOperationRegistry registry;
+    private AsyncProductionService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AsyncOperationRegistry(asyncOperationRepository, 60_000, 3);
+        service = new AsyncProductionService(registry, productionOrderService, new ObjectMapper(),
+                productionOrderRepository, jobScheduler, true);
+        lenient().doAnswer(inv -> submitted.add(inv.getArgument(2)))
+                .when(jobScheduler).submit(anyString(), any(), any(Runnable.class));
+    }
+
+    @Nested
+    @DisplayName("dispatch control orders")
+    class DispatchControlOrders {
+
+        @Test
+        @DisplayName("Should return a pending operation without running the work on the caller")
+        void shouldSubmitWorkToScheduler() {
+            when(productionOrderRepository.findPriorityById(5L)).thenReturn(Optional.of("URGENT"));
+
+            AsyncOperationDTO operation = service.initiateDispatchControlOrders(5L, "planner");
+
+            assertThat(operation.getStatus()).isEqualTo(AsyncOperation.STATUS_PENDING);
+            verify(jobScheduler).submit(eq(AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS), eq("URGENT"), any(Runnable.class));
+            assertThat(submitted).hasSize(1);
+            verifyNoInteractions(productionOrderService, asyncOperationRepository);
+            assertThat(service.getActiveOperations()).extracting(AsyncOperationDTO::getOperationId)
+                    .containsExactly(operation.getOperationId());
+        }
+
+        @Test
+        @DisplayName("Should persist only the completed operation, once")
+        void shouldPersistOnlyFinalState() {
+            ProductionOrderDTO result = new ProductionOrderDTO();
+            result.setId(5L);
+            when(productionOrderService.dispatchToControlStations(5L)).thenReturn(result);
+
+            AsyncOperationDTO operation = service.initiateDispatchControlOrders(5L, "planner");
+            submitted.get(0).run();
+
+            AsyncOperationDTO status = service.getOperationStatus(operation.getOperationId());
+            assertThat(status.getStatus()).isEqualTo(AsyncOperation.STATUS_COMPLETED);
+            assertThat(status.getProgressPercent()).isEqualTo(100);
+            assertThat(status.getResultData()).contains("\"id\":5");
+            verifyNoInteractions(asyncOperationRepository);
+
+            registry.flushFinished();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<AsyncOperation>> saved = ArgumentCaptor.forClass(List.class);
+            verify(asyncOperationRepository, times(1)).saveAll(saved.capture());
+            assertThat(saved.getValue()).singleElement()
+                    .satisfies(op -> {
+                        assertThat(op.getOperationId()).isEqualTo(operation.getOperationId());
+                        assertThat(op.getStatus()).isEqualTo(AsyncOperation.STATUS_COMPLETED);
+                        assertThat(op.getStartedAt()).isNotNull();
+                    });
+            assertThat(service.getActiveOperations()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should drop the operation when the job queue is full")
+        void shouldDropOperationWhenRejected() {
+            doThrow(new JobQueueFullException(AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS, 100, 12))
+                    .when(jobScheduler).submit(anyString(), any(), any(Runnable.class));
+
+            assertThatThrownBy(() -> service.initiateDispatchControlOrders(5L, "planner"))
+                    .isInstanceOf(JobQueueFullException.class);
+            assertThat(service.getActiveOperations()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should record the failure when the work throws")
+        void shouldRecordFailure() {
+            when(productionOrderService.dispatchToControlStations(5L))
+                    .thenThrow(new IllegalStateException("Production order not scheduled"));
+
+            AsyncOperationDTO operation = service.initiateDispatchControlOrders(5L, "planner");
+            submitted.get(0).run();
+
+            AsyncOperationDTO status = service.getOperationStatus(operation.getOperationId());
+            assertThat(status.getStatus()).isEqualTo(AsyncOperation.STATUS_FAILED);
+            assertThat(status.getErrorMessage()).isEqualTo("Production order not scheduled");
+        }
+    }
+
+    @Nested
+    @DisplayName("status lookup")
+    class StatusLookup {
+
+        @Test
+        @DisplayName("Should read finished operations from the database once flushed")
+        void shouldFallBackToDatabase() {
+            AsyncOperation persisted = AsyncOperation.builder()
+                    .operationId("op-1")
+                    .operationType(AsyncOperation.TYPE_SCHEDULE_PRODUCTION)
+                    .status(AsyncOperation.STATUS_COMPLETED)
+                    .build();
+            when(asyncOperationRepository.findByOperationId("op-1")).thenReturn(Optional.of(persisted));
+
+            assertThat(service.getOperationStatus("op-1").getStatus()).isEqualTo(AsyncOperation.STATUS_COMPLETED);
+        }
+
+        @Test
+        @DisplayName("Should return null for unknown operations")
+        void shouldReturnNullWhenUnknown() {
+            when(asyncOperationRepository.findByOperationId("missing")).thenReturn(Optional.empty());
+
+            assertThat(service.getOperationStatus("missing")).isNull();
+            assertThat(service.streamOperationStatus("missing")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush failures")
+    class FlushFailures {
+
+        private String finishedOperation(long productionOrderId) {
+            when(productionOrderService.dispatchToControlStations(productionOrderId))
+                    .thenReturn(new ProductionOrderDTO());
+            AsyncOperationDTO operation = service.initiateDispatchControlOrders(productionOrderId, "planner");
+            submitted.get(submitted.size() - 1).run();
+            return operation.getOperationId();
+        }
+
+        @Test
+        @DisplayName("Should save the rows one by one when the batch fails")
+        void shouldFallBackToSingleRows() {
+            String good = finishedOperation(5L);
+            String bad = finishedOperation(6L);
+            when(asyncOperationRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+            when(asyncOperationRepository.save(any(AsyncOperation.class))).thenAnswer(inv -> {
+                AsyncOperation op = inv.getArgument(0);
+                if (bad.equals(op.getOperationId())) {
+                    throw new DataIntegrityViolationException("value too long");
+                }
+                return op;
+            });
+
+            registry.flushFinished();
+
+            verify(asyncOperationRepository).save(argThat(op -> op != null && good.equals(op.getOperationId())));
+            when(asyncOperationRepository.findByOperationId(good)).thenReturn(Optional.empty());
+            assertThat(registry.find(good)).isEmpty();
+            assertThat(registry.find(bad)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should drop an operation that still cannot be saved after the last attempt")
+        void shouldDropAfterMaxAttempts() {
+            String bad = finishedOperation(6L);
+            when(asyncOperationRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+            when(asyncOperationRepository.save(any(AsyncOperation.class)))
+                    .thenThrow(new DataIntegrityViolationException("value too long"));
+
+            registry.flushFinished();
+            registry.flushFinished();
+            registry.flushFinished();
+            registry.flushFinished();
+
+            verify(asyncOperationRepository, times(3)).save(any(AsyncOperation.class));
+            when(asyncOperationRepository.findByOperationId(bad)).thenReturn(Optional.empty());
+            assertThat(registry.find(bad)).isEmpty();
+        }
+    }
+}
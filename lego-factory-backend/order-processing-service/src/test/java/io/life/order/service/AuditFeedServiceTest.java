@@ -0,0 +1,205 @@
+package io.life.order.service;
+
+import io.life.order.dto.AuditFeedDTO;
+import io.life.order.entity.OrderAudit;
+import io.life.order.repository.OrderAuditRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditFeedService
+ *
+ * Tests the cursor-based audit feed:
+ * - Paging after a cursor
+ * - Holding a page back at an ID that is not committed yet
+ * - Long-poll completion on audit writes
+ * - No queries while nothing is written
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditFeedService Tests")
+class AuditFeedServiceTest {
+
+    @Mock
+    private OrderAuditRepository repository;
+
+    @Mock
+    private OrderAuditWriter auditWriter;
+
+    private AuditFeedService feed;
+
+    private Runnable writeListener;
+
+    @BeforeEach
+    void setUp() {
+        feed = new AuditFeedService(repository, auditWriter, Runnable::run, 3, 30_000, 60_000, 60_000);
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(auditWriter).addWriteListener(listener.capture());
+        writeListener = listener.getValue();
+    }
+
+    private static List<OrderAudit> audits(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+            OrderAudit audit = new OrderAudit();
+            audit.setId(id);
+            audit.setOrderType("CUSTOMER");
+            audit.setOrderId(id);
+            audit.setEventType("STATUS_CONFIRMED");
+            return audit;
+        }).toList();
+    }
+
+    @Nested
+    @DisplayName("readAfter")
+    class ReadAfter {
+
+        @Test
+        @DisplayName("Should return events after the cursor with the new cursor")
+        void shouldReturnEventsAfterCursor() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(audits(11, 12));
+
+            AuditFeedDTO page = feed.readAfter(10L, 3);
+
+            assertThat(page.getEvents()).extracting(OrderAudit::getId).containsExactly(11L, 12L);
+            assertThat(page.getCursor()).isEqualTo(12L);
+            assertThat(page.isHasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should report more events beyond the limit")
+        void shouldReportHasMore() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(audits(11, 14));
+
+            AuditFeedDTO page = feed.readAfter(10L, 3);
+
+            assertThat(page.getEvents()).hasSize(3);
+            assertThat(page.getCursor()).isEqualTo(13L);
+            assertThat(page.isHasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep the cursor when nothing is new")
+        void shouldKeepCursorWhenEmpty() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(List.of());
+
+            AuditFeedDTO page = feed.readAfter(10L, 3);
+
+            assertThat(page.getEvents()).isEmpty();
+            assertThat(page.getCursor()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("Should return the latest events oldest first without a cursor")
+        void shouldReturnLatestWithoutCursor() {
+            when(repository.findAllByOrderByIdDesc(any(Pageable.class))).thenReturn(audits(5, 7).reversed());
+
+            AuditFeedDTO page = feed.readAfter(null, 3);
+
+            assertThat(page.getEvents()).extracting(OrderAudit::getId).containsExactly(5L, 6L, 7L);
+            assertThat(page.getCursor()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("Should not move the cursor past an ID that commits later")
+        void shouldWaitForOutOfOrderCommit() {
+            // 13 committed before 12, e.g. a batch insert finishing ahead of a direct write
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(audits(11, 11).get(0), audits(13, 13).get(0)));
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(11L), any(Pageable.class)))
+                    .thenReturn(audits(12, 13));
+
+            AuditFeedDTO first = feed.readAfter(10L, 3);
+            AuditFeedDTO second = feed.readAfter(first.getCursor(), 3);
+
+            assertThat(first.getEvents()).extracting(OrderAudit::getId).containsExactly(11L);
+            assertThat(first.getCursor()).isEqualTo(11L);
+            assertThat(first.isHasMore()).isFalse();
+            assertThat(second.getEvents()).extracting(OrderAudit::getId).containsExactly(12L, 13L);
+            assertThat(second.getCursor()).isEqualTo(13L);
+        }
+
+        @Test
+        @DisplayName("Should skip a gap once it has settled")
+        void shouldSkipSettledGap() {
+            AuditFeedService settled = new AuditFeedService(repository, auditWriter, Runnable::run, 3, 30_000, 60_000, 0);
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(audits(11, 11).get(0), audits(13, 13).get(0)));
+
+            AuditFeedDTO page = settled.readAfter(10L, 3);
+
+            assertThat(page.getEvents()).extracting(OrderAudit::getId).containsExactly(11L, 13L);
+            assertThat(page.getCursor()).isEqualTo(13L);
+        }
+    }
+
+    @Nested
+    @DisplayName("poll")
+    class Poll {
+
+        @Test
+        @DisplayName("Should answer immediately when events are available")
+        void shouldAnswerImmediately() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).thenReturn(audits(11, 11));
+
+            DeferredResult<AuditFeedDTO> result = feed.poll(10L, 3, 10_000);
+
+            assertThat(result.hasResult()).isTrue();
+            assertThat(((AuditFeedDTO) result.getResult()).getCursor()).isEqualTo(11L);
+        }
+
+        @Test
+        @DisplayName("Should park the request and complete it on the next write")
+        void shouldCompleteOnWrite() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of())
+                    .thenReturn(audits(11, 12));
+
+            DeferredResult<AuditFeedDTO> result = feed.poll(10L, 3, 10_000);
+            assertThat(result.hasResult()).isFalse();
+
+            writeListener.run();
+
+            assertThat(result.hasResult()).isTrue();
+            assertThat(((AuditFeedDTO) result.getResult()).getEvents()).extracting(OrderAudit::getId)
+                    .containsExactly(11L, 12L);
+        }
+
+        @Test
+        @DisplayName("Should share one query between readers on the same cursor")
+        void shouldShareQueryPerCursor() {
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(), List.of(), audits(11, 11));
+
+            DeferredResult<AuditFeedDTO> first = feed.poll(10L, 3, 10_000);
+            DeferredResult<AuditFeedDTO> second = feed.poll(10L, 3, 10_000);
+            writeListener.run();
+
+            assertThat(first.hasResult()).isTrue();
+            assertThat(second.hasResult()).isTrue();
+            verify(repository, times(3)).findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should not query on writes when nobody is waiting")
+        void shouldNotQueryWhenIdle() {
+            writeListener.run();
+            writeListener.run();
+
+            verifyNoInteractions(repository);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.life.order.entity.CustomerOrder;
 import io.life.order.entity.OrderItem;
 import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,9 @@ class CustomerOrderServiceTest {
     @Mock
     private SystemConfigService systemConfigService;
 
+    @Mock
+    private OrderSequenceAllocator orderSequences;
+
     @InjectMocks
     private CustomerOrderService customerOrderService;
 
@@ -149,7 +153,7 @@ class CustomerOrderServiceTest {
     @Test
     void testGetOrderById_Found() {
         // Given
-        when(customerOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(customerOrderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testOrder));
 
         // When
         Optional<CustomerOrderDTO> result = customerOrderService.getOrderById(1L);
@@ -157,20 +161,20 @@ class CustomerOrderServiceTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals("ORD-TEST001", result.get().getOrderNumber());
-        verify(customerOrderRepository, times(1)).findById(1L);
+        verify(customerOrderRepository, times(1)).findWithItemsById(1L);
     }
 
     @Test
     void testGetOrderById_NotFound() {
         // Given
-        when(customerOrderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(customerOrderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
         // When
         Optional<CustomerOrderDTO> result = customerOrderService.getOrderById(999L);
 
         // Then
         assertFalse(result.isPresent());
-        verify(customerOrderRepository, times(1)).findById(999L);
+        verify(customerOrderRepository, times(1)).findWithItemsById(999L);
     }
 
     @Test
@@ -0,0 +1,218 @@
+package io.life.order.service;
+
+import io.life.order.entity.DomainEvent;
+import io.life.order.entity.DomainEvent.EventType;
+import io.life.order.repository.DomainEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DomainEventRelay
+ *
+ * Tests relaying of the order-chain domain event outbox:
+ * - Side effects per event type
+ * - Deletion of relayed events
+ * - Per-aggregate ordering and attempt tracking on failure
+ * - Claims shared with other instances
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventRelay Tests")
+class DomainEventRelayTest {
+
+    @Mock
+    private DomainEventRepository eventRepository;
+
+    @Mock
+    private OrderOrchestrationService orchestrationService;
+
+    @Mock
+    private OrderAuditService orderAuditService;
+
+    @Mock
+    private SimALNotificationService simalNotificationService;
+
+    private DomainEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new DomainEventRelay(eventRepository, orchestrationService, orderAuditService,
+                simalNotificationService, true, 50, 10, 60_000);
+    }
+
+    private DomainEvent event(long id, EventType type, String aggregateType, long aggregateId, String detail) {
+        return DomainEvent.builder()
+                .id(id)
+                .eventType(type)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .detail(detail)
+                .build();
+    }
+
+    private void givenPending(DomainEvent... events) {
+        List<Long> ids = Arrays.stream(events).map(DomainEvent::getId).toList();
+        when(eventRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class)))
+                .thenReturn(List.of(events));
+        when(eventRepository.claim(eq(ids), anyString(), any(), any())).thenReturn(ids.size());
+        when(eventRepository.findClaimedIds(eq(ids), anyString())).thenReturn(ids);
+    }
+
+    @Nested
+    @DisplayName("Event handling")
+    class EventHandling {
+
+        @Test
+        @DisplayName("Should run downstream processing for a completed production order")
+        void shouldSubmitCompletedProductionOrder() {
+            givenPending(event(1L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null));
+
+            relay.relayPending();
+
+            verify(orchestrationService).submitProductionOrderCompletion(3L);
+            verify(orderAuditService).recordOrderEvent(eq("PRODUCTION_ORDER"), eq(3L), eq("COMPLETED"), anyString());
+            verify(eventRepository).deleteById(1L);
+        }
+
+        @Test
+        @DisplayName("Should update the SimAL schedule of a completed control order")
+        void shouldNotifySimalForCompletedControlOrder() {
+            givenPending(event(1L, EventType.CONTROL_ORDER_COMPLETED, "ASSEMBLY_CONTROL", 2L, "SCH-42"));
+
+            relay.relayPending();
+
+            verify(simalNotificationService).tryUpdateScheduleStatus("SCH-42", "COMPLETED");
+            verify(orderAuditService).recordOrderEvent(eq("ASSEMBLY_CONTROL"), eq(2L), eq("COMPLETED"), anyString());
+        }
+
+        @Test
+        @DisplayName("Should notify the customer order of a ready warehouse order")
+        void shouldNotifyCustomerOrderOfReadyWarehouseOrder() {
+            givenPending(event(1L, EventType.WAREHOUSE_ORDER_READY, "WAREHOUSE_ORDER", 4L, "5"));
+
+            relay.relayPending();
+
+            verify(orchestrationService).notifyWarehouseOrderReady(5L);
+            verify(eventRepository).deleteById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("relayPending")
+    class RelayPending {
+
+        @Test
+        @DisplayName("Should relay events oldest first and delete them")
+        void shouldRelayInOrderAndDelete() {
+            givenPending(
+                    event(1L, EventType.CONTROL_ORDER_COMPLETED, "PRODUCTION_CONTROL", 1L, null),
+                    event(2L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null));
+
+            relay.relayPending();
+
+            InOrder inOrder = inOrder(orderAuditService, orchestrationService);
+            inOrder.verify(orderAuditService).recordOrderEvent(eq("PRODUCTION_CONTROL"), eq(1L), anyString(), anyString());
+            inOrder.verify(orchestrationService).submitProductionOrderCompletion(3L);
+            verify(eventRepository).deleteById(1L);
+            verify(eventRepository).deleteById(2L);
+            verifyNoInteractions(simalNotificationService);
+        }
+
+        @Test
+        @DisplayName("Should hold back later events of a failed aggregate but relay other aggregates")
+        void shouldHoldBackFailedAggregateOnly() {
+            givenPending(
+                    event(1L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null),
+                    event(2L, EventType.WORKSTATION_ORDER_COMPLETED, "PRODUCTION_CONTROL", 1L, "INJECTION_MOLDING"),
+                    event(3L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null));
+            doThrow(new RuntimeException("Inventory service unavailable"))
+                    .when(orchestrationService).submitProductionOrderCompletion(3L);
+
+            relay.relayPending();
+
+            verify(orchestrationService, times(1)).submitProductionOrderCompletion(3L);
+            verify(eventRepository).markFailed(1L, "Inventory service unavailable");
+            verify(eventRepository).deleteById(2L);
+            verify(eventRepository, never()).deleteById(1L);
+            verify(eventRepository, never()).deleteById(3L);
+        }
+
+        @Test
+        @DisplayName("Should report only relayed events so a failing batch is not re-read in a loop")
+        void shouldReportRelayedCount() {
+            givenPending(event(1L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null));
+            doThrow(new RuntimeException("boom")).when(orchestrationService).submitProductionOrderCompletion(3L);
+
+            assertThat(relay.relayBatch()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not relay when disabled")
+        void shouldNotRelayWhenDisabled() {
+            new DomainEventRelay(eventRepository, orchestrationService, orderAuditService,
+                    simalNotificationService, false, 50, 10, 60_000).relayPending();
+
+            verifyNoInteractions(eventRepository, orchestrationService, orderAuditService, simalNotificationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Claims")
+    class Claims {
+
+        @Test
+        @DisplayName("Should relay nothing when another instance holds the batch")
+        void shouldSkipEventsClaimedElsewhere() {
+            when(eventRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of(
+                    event(1L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null)));
+            when(eventRepository.claim(anyList(), anyString(), any(), any())).thenReturn(0);
+
+            assertThat(relay.relayBatch()).isZero();
+
+            verifyNoInteractions(orchestrationService, orderAuditService);
+            verify(eventRepository, never()).deleteById(any());
+        }
+
+        @Test
+        @DisplayName("Should skip later events of an aggregate whose earlier event another instance holds")
+        void shouldHoldBackAggregateClaimedElsewhere() {
+            when(eventRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of(
+                    event(1L, EventType.WORKSTATION_ORDER_COMPLETED, "PRODUCTION_CONTROL", 1L, "INJECTION_MOLDING"),
+                    event(2L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null),
+                    event(3L, EventType.CONTROL_ORDER_COMPLETED, "PRODUCTION_CONTROL", 1L, null)));
+            when(eventRepository.claim(anyList(), anyString(), any(), any())).thenReturn(2);
+            when(eventRepository.findClaimedIds(anyList(), anyString())).thenReturn(List.of(2L, 3L));
+
+            relay.relayBatch();
+
+            verify(eventRepository).deleteById(2L);
+            verify(eventRepository, never()).deleteById(3L);
+            verify(orderAuditService, never()).recordOrderEvent(eq("PRODUCTION_CONTROL"), any(), any(), any());
+            verify(eventRepository).releaseClaim(eq(List.of(3L)), anyString());
+        }
+
+        @Test
+        @DisplayName("Should release the claim on a failed event so any instance can retry it")
+        void shouldReleaseFailedEvents() {
+            givenPending(event(1L, EventType.PRODUCTION_ORDER_COMPLETED, "PRODUCTION_ORDER", 3L, null));
+            doThrow(new RuntimeException("boom")).when(orchestrationService).submitProductionOrderCompletion(3L);
+
+            relay.relayBatch();
+
+            verify(eventRepository).releaseClaim(eq(List.of(1L)), anyString());
+        }
+    }
+}
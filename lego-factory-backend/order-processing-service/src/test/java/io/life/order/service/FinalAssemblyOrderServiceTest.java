@@ -6,10 +6,12 @@ import io.life.order.entity.CustomerOrder;
 import io.life.order.entity.FinalAssemblyOrder;
 import io.life.order.entity.ProductionOrder;
 import io.life.order.entity.WarehouseOrder;
+import io.life.order.repository.ChildCounters;
 import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.FinalAssemblyOrderRepository;
 import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -78,6 +80,9 @@ class FinalAssemblyOrderServiceTest {
     @Mock
     private OrderAuditService orderAuditService;
 
+    @Mock
+    private OrderSequenceAllocator orderSequences;
+
     @InjectMocks
     private FinalAssemblyOrderService finalAssemblyOrderService;
 
@@ -95,6 +100,7 @@ class FinalAssemblyOrderServiceTest {
         when(workstations.getFinalAssembly()).thenReturn(6L);
         when(workstations.getPlantWarehouse()).thenReturn(7L);
         when(orderNumbers.getFinalAssemblyOrderPrefix()).thenReturn("FA-");
+        lenient().when(finalAssemblyOrderRepository.transitionStatus(anyLong(), anyString(), anyString())).thenReturn(1);
 
         // Setup test order
         testOrder = new FinalAssemblyOrder();
@@ -252,6 +258,20 @@ class FinalAssemblyOrderServiceTest {
             assertThat(result.getWorkstationId()).isEqualTo(6L);
         }
 
+        @Test
+        @DisplayName("Create from WarehouseOrder counts the order on its warehouse order")
+        void createFromWarehouseOrder_IncrementsTotal() {
+            // Given
+            when(finalAssemblyOrderRepository.save(any(FinalAssemblyOrder.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            // When
+            finalAssemblyOrderService.createFromWarehouseOrder(testWarehouseOrder, 1L, 5);
+
+            // Then
+            verify(warehouseOrderRepository).addTotalFinalAssemblyOrders(50L, 1);
+        }
+
         @Test
         @DisplayName("Create from WarehouseOrder records audit event")
         void createFromWarehouseOrder_RecordsAudit() {
@@ -517,6 +537,22 @@ class FinalAssemblyOrderServiceTest {
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining("Failed to credit Plant Warehouse");
         }
+
+        @Test
+        @DisplayName("Submit already submitted concurrently neither credits nor counts it again")
+        void submitOrder_ConcurrentSubmit_ThrowsException() {
+            // Given
+            testOrder.setStatus("COMPLETED");
+            when(finalAssemblyOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+            when(finalAssemblyOrderRepository.transitionStatus(1L, "COMPLETED", "SUBMITTED")).thenReturn(0);
+
+            // When/Then
+            assertThatThrownBy(() -> finalAssemblyOrderService.submitOrder(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("concurrently");
+            verify(inventoryService, never()).creditStock(anyLong(), anyLong(), anyInt());
+            verify(warehouseOrderRepository, never()).incrementSubmittedFinalAssemblyOrders(any());
+        }
     }
 
     // ========================================
@@ -532,8 +568,6 @@ class FinalAssemblyOrderServiceTest {
             // Given
             testOrder.setStatus("COMPLETED");
             testOrder.setWarehouseOrderId(50L);
-            FinalAssemblyOrder submittedOrder = new FinalAssemblyOrder();
-            submittedOrder.setStatus("SUBMITTED");
             
             when(finalAssemblyOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
             when(finalAssemblyOrderRepository.save(any(FinalAssemblyOrder.class)))
@@ -545,8 +579,9 @@ class FinalAssemblyOrderServiceTest {
             when(inventoryService.creditStock(7L, 1L, 5)).thenReturn(true);
             
             // All related orders are now submitted
-            when(finalAssemblyOrderRepository.findByWarehouseOrderId(50L))
-                    .thenReturn(List.of(testOrder)); // testOrder will be SUBMITTED after save
+            when(warehouseOrderRepository.incrementSubmittedFinalAssemblyOrders(50L)).thenReturn(1);
+            when(warehouseOrderRepository.findFinalAssemblyCountersById(50L))
+                    .thenReturn(Optional.of(counters(1, 1)));
             when(warehouseOrderRepository.findById(50L)).thenReturn(Optional.of(testWarehouseOrder));
             when(customerOrderRepository.findById(100L)).thenReturn(Optional.of(testCustomerOrder));
 
@@ -567,9 +602,6 @@ class FinalAssemblyOrderServiceTest {
             testOrder.setStatus("COMPLETED");
             testOrder.setWarehouseOrderId(50L);
             
-            FinalAssemblyOrder pendingOrder = new FinalAssemblyOrder();
-            pendingOrder.setStatus("PENDING");
-            
             when(finalAssemblyOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
             when(finalAssemblyOrderRepository.save(any(FinalAssemblyOrder.class)))
                     .thenAnswer(inv -> {
@@ -580,8 +612,9 @@ class FinalAssemblyOrderServiceTest {
             when(inventoryService.creditStock(7L, 1L, 5)).thenReturn(true);
             
             // Not all related orders are submitted
-            when(finalAssemblyOrderRepository.findByWarehouseOrderId(50L))
-                    .thenReturn(List.of(testOrder, pendingOrder));
+            when(warehouseOrderRepository.incrementSubmittedFinalAssemblyOrders(50L)).thenReturn(1);
+            when(warehouseOrderRepository.findFinalAssemblyCountersById(50L))
+                    .thenReturn(Optional.of(counters(2, 1)));
 
             // When
             finalAssemblyOrderService.submitOrder(1L);
@@ -589,6 +622,35 @@ class FinalAssemblyOrderServiceTest {
             // Then - Customer order should NOT be updated
             verify(customerOrderRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Submit last FA order of a production order updates customer order (Scenario 4)")
+        void submitOrder_AllSubmittedForProductionOrder_UpdatesCustomerOrder() {
+            // Given
+            testOrder.setStatus("COMPLETED");
+            testOrder.setWarehouseOrderId(null);
+            testOrder.setProductionOrderId(60L);
+            ProductionOrder productionOrder = new ProductionOrder();
+            productionOrder.setId(60L);
+            productionOrder.setSourceCustomerOrderId(100L);
+
+            when(finalAssemblyOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+            when(finalAssemblyOrderRepository.save(any(FinalAssemblyOrder.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+            when(inventoryService.creditStock(7L, 1L, 5)).thenReturn(true);
+            when(productionOrderRepository.incrementSubmittedFinalAssemblyOrders(60L)).thenReturn(1);
+            when(productionOrderRepository.findFinalAssemblyCountersById(60L))
+                    .thenReturn(Optional.of(counters(1, 1)));
+            when(productionOrderRepository.findById(60L)).thenReturn(Optional.of(productionOrder));
+            when(customerOrderRepository.findById(100L)).thenReturn(Optional.of(testCustomerOrder));
+
+            // When
+            finalAssemblyOrderService.submitOrder(1L);
+
+            // Then
+            verify(customerOrderRepository).save(argThat(order -> "CONFIRMED".equals(order.getStatus())));
+            verify(finalAssemblyOrderRepository, never()).findByProductionOrderId(any());
+        }
     }
 
     // ========================================
@@ -613,6 +675,24 @@ class FinalAssemblyOrderServiceTest {
             assertThat(result.getStatus()).isEqualTo("IN_PROGRESS");
         }
 
+        @Test
+        @DisplayName("Update status out of SUBMITTED decrements the parent counter")
+        void updateStatus_FromSubmitted_DecrementsCounter() {
+            // Given
+            testOrder.setStatus("SUBMITTED");
+            testOrder.setWarehouseOrderId(50L);
+            when(finalAssemblyOrderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+            when(finalAssemblyOrderRepository.save(any(FinalAssemblyOrder.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            // When
+            finalAssemblyOrderService.updateOrderStatus(1L, "COMPLETED");
+
+            // Then
+            verify(warehouseOrderRepository).decrementSubmittedFinalAssemblyOrders(50L);
+            verify(warehouseOrderRepository, never()).incrementSubmittedFinalAssemblyOrders(any());
+        }
+
         @Test
         @DisplayName("Update status on non-existent order throws exception")
         void updateStatus_NotFound_ThrowsException() {
@@ -637,32 +717,23 @@ class FinalAssemblyOrderServiceTest {
         @DisplayName("areAllOrdersSubmittedForWarehouseOrder returns true when all submitted")
         void areAllSubmitted_AllSubmitted_ReturnsTrue() {
             // Given
-            FinalAssemblyOrder submitted1 = new FinalAssemblyOrder();
-            submitted1.setStatus("SUBMITTED");
-            FinalAssemblyOrder submitted2 = new FinalAssemblyOrder();
-            submitted2.setStatus("SUBMITTED");
-            
-            when(finalAssemblyOrderRepository.findByWarehouseOrderId(50L))
-                    .thenReturn(List.of(submitted1, submitted2));
+            when(warehouseOrderRepository.findFinalAssemblyCountersById(50L))
+                    .thenReturn(Optional.of(counters(2, 2)));
 
             // When
             boolean result = finalAssemblyOrderService.areAllOrdersSubmittedForWarehouseOrder(50L);
 
             // Then
             assertThat(result).isTrue();
+            verify(finalAssemblyOrderRepository, never()).findByWarehouseOrderId(any());
         }
 
         @Test
         @DisplayName("areAllOrdersSubmittedForWarehouseOrder returns false when some pending")
         void areAllSubmitted_SomePending_ReturnsFalse() {
             // Given
-            FinalAssemblyOrder submitted = new FinalAssemblyOrder();
-            submitted.setStatus("SUBMITTED");
-            FinalAssemblyOrder pending = new FinalAssemblyOrder();
-            pending.setStatus("PENDING");
-            
-            when(finalAssemblyOrderRepository.findByWarehouseOrderId(50L))
-                    .thenReturn(List.of(submitted, pending));
+            when(warehouseOrderRepository.findFinalAssemblyCountersById(50L))
+                    .thenReturn(Optional.of(counters(2, 1)));
 
             // When
             boolean result = finalAssemblyOrderService.areAllOrdersSubmittedForWarehouseOrder(50L);
@@ -675,8 +746,8 @@ class FinalAssemblyOrderServiceTest {
         @DisplayName("areAllOrdersSubmittedForWarehouseOrder returns false when no orders")
         void areAllSubmitted_NoOrders_ReturnsFalse() {
             // Given
-            when(finalAssemblyOrderRepository.findByWarehouseOrderId(50L))
-                    .thenReturn(Collections.emptyList());
+            when(warehouseOrderRepository.findFinalAssemblyCountersById(50L))
+                    .thenReturn(Optional.of(counters(0, 0)));
 
             // When
             boolean result = finalAssemblyOrderService.areAllOrdersSubmittedForWarehouseOrder(50L);
@@ -685,4 +756,18 @@ class FinalAssemblyOrderServiceTest {
             assertThat(result).isFalse();
         }
     }
+
+    private static ChildCounters counters(int total, int completed) {
+        return new ChildCounters() {
+            @Override
+            public int getTotal() {
+                return total;
+            }
+
+            @Override
+            public int getCompleted() {
+                return completed;
+            }
+        };
+    }
 }
@@ -44,7 +44,7 @@ class GearAssemblyOrderServiceTest {
     private InventoryClient inventoryClient;
 
     @Mock
-    private SimalClient simalClient;
+    private SimalTaskStatusOutbox simalTaskStatusOutbox;
 
     @Mock
     private OrderOrchestrationService orchestrationService;
@@ -179,7 +179,7 @@ class GearAssemblyOrderServiceTest {
 
             assertThat(result.getStatus()).isEqualTo("IN_PROGRESS");
             assertThat(result.getActualStartTime()).isNotNull();
-            verify(simalClient).updateTaskStatus(anyString(), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("IN_PROGRESS"));
         }
 
         @Test
@@ -222,7 +222,7 @@ class GearAssemblyOrderServiceTest {
             gearAssemblyOrderService.startOrder(1L);
 
             String expectedTaskId = SimalClient.generateTaskId(4L, "GAO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("IN_PROGRESS"));
         }
     }
 
@@ -230,6 +230,26 @@ class GearAssemblyOrderServiceTest {
     @DisplayName("completeOrder")
     class CompleteOrder {
 
+        @BeforeEach
+        void allowTransition() {
+            lenient().when(gearAssemblyOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(1);
+        }
+
+        @Test
+        @DisplayName("Should not credit or propagate when a concurrent completion changed the status first")
+        void shouldRejectConcurrentCompletion() {
+            testOrder.setStatus("IN_PROGRESS");
+            when(gearAssemblyOrderRepository.findById(1L))
+                    .thenReturn(Optional.of(testOrder));
+            when(gearAssemblyOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(0);
+
+            assertThatThrownBy(() -> gearAssemblyOrderService.completeOrder(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("concurrently");
+            verifyNoInteractions(orchestrationService);
+            verify(gearAssemblyOrderRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should complete IN_PROGRESS order and credit MODULE inventory")
         void shouldCompleteOrderAndCreditInventory() {
@@ -265,7 +285,7 @@ class GearAssemblyOrderServiceTest {
             gearAssemblyOrderService.completeOrder(1L);
 
             String expectedTaskId = SimalClient.generateTaskId(4L, "GAO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("COMPLETED"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("COMPLETED"));
         }
 
         @Test
@@ -314,7 +334,7 @@ class GearAssemblyOrderServiceTest {
             GearAssemblyOrder result = gearAssemblyOrderService.haltOrder(1L);
 
             assertThat(result.getStatus()).isEqualTo("HALTED");
-            verify(simalClient).updateTaskStatus(anyString(), eq("HALTED"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("HALTED"));
         }
 
         @Test
@@ -43,7 +43,7 @@ class InjectionMoldingOrderServiceTest {
     private InventoryClient inventoryClient;
 
     @Mock
-    private SimalClient simalClient;
+    private SimalTaskStatusOutbox simalTaskStatusOutbox;
 
     @Mock
     private OrderOrchestrationService orchestrationService;
@@ -176,7 +176,7 @@ class InjectionMoldingOrderServiceTest {
 
             assertThat(result.getStatus()).isEqualTo("IN_PROGRESS");
             assertThat(result.getActualStartTime()).isNotNull();
-            verify(simalClient).updateTaskStatus(anyString(), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("IN_PROGRESS"));
         }
 
         @Test
@@ -216,7 +216,7 @@ class InjectionMoldingOrderServiceTest {
 
             // Verify task ID format: WS-{workstationId}-{orderNumber}
             String expectedTaskId = SimalClient.generateTaskId(1L, "IMO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("IN_PROGRESS"));
         }
     }
 
@@ -224,6 +224,26 @@ class InjectionMoldingOrderServiceTest {
     @DisplayName("completeOrder")
     class CompleteOrder {
 
+        @BeforeEach
+        void allowTransition() {
+            lenient().when(injectionMoldingOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(1);
+        }
+
+        @Test
+        @DisplayName("Should not credit or propagate when a concurrent completion changed the status first")
+        void shouldRejectConcurrentCompletion() {
+            testOrder.setStatus("IN_PROGRESS");
+            when(injectionMoldingOrderRepository.findById(1L))
+                    .thenReturn(Optional.of(testOrder));
+            when(injectionMoldingOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(0);
+
+            assertThatThrownBy(() -> injectionMoldingOrderService.completeOrder(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("concurrently");
+            verifyNoInteractions(orchestrationService);
+            verify(injectionMoldingOrderRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should complete IN_PROGRESS order and credit inventory")
         void shouldCompleteOrderAndCreditInventory() {
@@ -259,7 +279,7 @@ class InjectionMoldingOrderServiceTest {
             injectionMoldingOrderService.completeOrder(1L);
 
             String expectedTaskId = SimalClient.generateTaskId(1L, "IMO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("COMPLETED"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("COMPLETED"));
         }
 
         @Test
@@ -320,7 +340,7 @@ class InjectionMoldingOrderServiceTest {
             InjectionMoldingOrder result = injectionMoldingOrderService.haltOrder(1L);
 
             assertThat(result.getStatus()).isEqualTo("HALTED");
-            verify(simalClient).updateTaskStatus(anyString(), eq("HALTED"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("HALTED"));
         }
 
         @Test
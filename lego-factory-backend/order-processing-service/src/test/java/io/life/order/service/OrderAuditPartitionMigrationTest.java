@@ -0,0 +1,128 @@
+package io.life.order.service;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the V6 audit partitioning migration on a real PostgreSQL
+ *
+ * H2 skips V6, so this is the only check of the partitioned order_audit table:
+ * - Existing audit rows are moved into daily partitions with their ids kept
+ * - New rows continue after the highest id
+ * - OrderAuditRetentionJob creates and drops the partitions
+ *
+ * Needs Docker and is skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Audit Partition Migration Tests")
+class OrderAuditPartitionMigrationTest {
+
+    private static final String SCHEMA = "order_processing";
+
+    @Container
+    private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Every connection works in the service schema, as with spring.datasource.hikari.schema
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl() + "&currentSchema=" + SCHEMA, postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should move existing audit rows into daily partitions")
+    void shouldPartitionExistingRows() {
+        LocalDate today = LocalDate.now();
+        migrate("5");
+        insertAudit(7, today.minusDays(30));
+        insertAudit(8, today.minusDays(30));
+        insertAudit(12, today);
+
+        migrate(null);
+
+        assertThat(isPartitioned()).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM order_audit ORDER BY id", Long.class))
+                .containsExactly(7L, 8L, 12L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM "
+                + OrderAuditRetentionJob.partitionName(today.minusDays(30)), Integer.class)).isEqualTo(2);
+        assertThat(partitionExists(OrderAuditRetentionJob.partitionName(today.plusDays(7)))).isTrue();
+        assertThat(partitionExists(OrderAuditRetentionJob.DEFAULT_PARTITION)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('order_audit_unpartitioned') IS NULL",
+                Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give new audit rows ids after the highest existing one")
+    void shouldContinueIdsAfterExistingRows() {
+        migrate("5");
+        insertAudit(41, LocalDate.now());
+
+        migrate(null);
+        jdbcTemplate.update("INSERT INTO order_audit (audit_day, created_at, order_id, event_type, order_type) "
+                + "VALUES (?, ?, 1, 'STATUS_CHANGED', 'CUSTOMER')", Date.valueOf(LocalDate.now()), LocalDateTime.now());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT max(id) FROM order_audit", Long.class)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should drop expired partitions and create upcoming ones with the retention job")
+    void shouldRetainByPartition() {
+        LocalDate today = LocalDate.now();
+        migrate("5");
+        insertAudit(1, today.minusDays(100));
+        insertAudit(2, today.minusDays(10));
+        migrate(null);
+        OrderAuditRetentionJob job = new OrderAuditRetentionJob(jdbcTemplate, 90, 10);
+
+        job.createPartitions(today);
+        int removed = job.purgeBefore(today.minusDays(90));
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(partitionExists(OrderAuditRetentionJob.partitionName(today.minusDays(100)))).isFalse();
+        assertThat(partitionExists(OrderAuditRetentionJob.partitionName(today.plusDays(10)))).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM order_audit", Long.class)).containsExactly(2L);
+    }
+
+    private void migrate(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+
+    private void insertAudit(long id, LocalDate day) {
+        jdbcTemplate.update("INSERT INTO order_audit (id, audit_day, created_at, order_id, event_type, order_type) "
+                + "VALUES (?, ?, ?, 1, 'CREATED', 'CUSTOMER')", id, Date.valueOf(day), day.atStartOfDay());
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('order_audit'))",
+                Boolean.class));
+    }
+
+    private boolean partitionExists(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition));
+    }
+}
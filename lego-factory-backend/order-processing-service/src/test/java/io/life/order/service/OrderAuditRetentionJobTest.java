@@ -0,0 +1,82 @@
+package io.life.order.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderAuditRetentionJob on a partitioned order_audit table
+ *
+ * Tests that retention works on whole partitions:
+ * - Expired daily partitions are dropped, the default partition is kept
+ * - Partitions for the coming days are created ahead
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAuditRetentionJob Tests")
+class OrderAuditRetentionJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderAuditRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new OrderAuditRetentionJob(jdbcTemplate, 90, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitionedTable() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should drop expired daily partitions instead of deleting rows")
+    void shouldDropExpiredPartitions() {
+        givenPartitionedTable();
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(List.of(
+                "order_audit_p20260101", "order_audit_p20260102", "order_audit_p20260103", "order_audit_pdefault"));
+
+        int dropped = job.purgeBefore(LocalDate.of(2026, 1, 3));
+
+        assertThat(dropped).isEqualTo(2);
+        verify(jdbcTemplate).execute("DROP TABLE order_audit_p20260101");
+        verify(jdbcTemplate).execute("DROP TABLE order_audit_p20260102");
+        verify(jdbcTemplate, never()).execute("DROP TABLE order_audit_p20260103");
+        verify(jdbcTemplate, never()).execute("DROP TABLE order_audit_pdefault");
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM order_audit "), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should create partitions for today and the days ahead")
+    void shouldCreatePartitionsAhead() {
+        job.createPartitions(LocalDate.of(2026, 12, 31));
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS order_audit_p20261231 PARTITION OF order_audit "
+                + "FOR VALUES FROM ('2026-12-31') TO ('2027-01-01')");
+        verify(jdbcTemplate).execute(contains("order_audit_p20270101"));
+        verify(jdbcTemplate).execute(contains("order_audit_p20270102"));
+        verify(jdbcTemplate, times(3)).execute(startsWith("CREATE TABLE"));
+    }
+
+    @Test
+    @DisplayName("Should only treat daily partitions as droppable")
+    void shouldParsePartitionDay() {
+        assertThat(OrderAuditRetentionJob.partitionDay("order_audit_p20261018")).isEqualTo(LocalDate.of(2026, 10, 18));
+        assertThat(OrderAuditRetentionJob.partitionDay("order_audit_pdefault")).isNull();
+        assertThat(OrderAuditRetentionJob.partitionDay("other_table")).isNull();
+    }
+}
@@ -0,0 +1,260 @@
+package io.life.order.service;
+
+import io.life.order.entity.OrderAudit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderAuditWriter
+ *
+ * Tests the write-behind audit buffer:
+ * - Batching of buffered events
+ * - Direct writes when the buffer is full or disabled
+ * - Flush on shutdown
+ * - Retry and row-by-row fallback for failed batches
+ * - Queueing only after commit
+ * - Immediate writes that notify listeners after commit
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAuditWriter Tests")
+class OrderAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    /** Size of each batch handed to JDBC, recorded before the writer reuses its list */
+    private final List<Integer> writtenBatches = new CopyOnWriteArrayList<>();
+
+    private OrderAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(inv -> {
+            writtenBatches.add(inv.<Collection<?>>getArgument(1).size());
+            return new int[0][0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private OrderAudit audit(long orderId) {
+        OrderAudit audit = new OrderAudit();
+        audit.setOrderType("CUSTOMER");
+        audit.setOrderId(orderId);
+        audit.setEventType("STATUS_CONFIRMED");
+        audit.setCreatedAt(LocalDateTime.now());
+        audit.setAuditDay(audit.getCreatedAt().toLocalDate());
+        return audit;
+    }
+
+    @Nested
+    @DisplayName("buffering")
+    class Buffering {
+
+        @Test
+        @DisplayName("Should batch events that arrive within the flush interval and flush the rest on shutdown")
+        void shouldBatchAndFlushOnShutdown() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, true, 100, 50, 200);
+            writer.start();
+            for (long i = 1; i <= 10; i++) {
+                writer.append(audit(i));
+            }
+            writer.stop();
+
+            assertThat(writtenBatches.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+            assertThat(writtenBatches.size()).isLessThan(10);
+            assertThat(writer.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not lose events when the buffer is full")
+        void shouldNotLoseEventsWhenFull() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, true, 2, 50, 200);
+            writer.start();
+            for (long i = 1; i <= 5; i++) {
+                writer.append(audit(i));
+            }
+            writer.stop();
+
+            assertThat(writtenBatches.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should write directly when disabled")
+        void shouldWriteDirectlyWhenDisabled() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, false, 100, 50, 200);
+            writer.start();
+
+            writer.append(audit(1));
+
+            assertThat(writtenBatches).containsExactly(1);
+            assertThat(writer.pending()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class Failures {
+
+        @Test
+        @DisplayName("Should retry a failed batch once")
+        void shouldRetryBatch() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, false, 100, 50, 200);
+            doThrow(new DataAccessResourceFailureException("connection reset"))
+                    .doAnswer(inv -> {
+                        writtenBatches.add(inv.<Collection<?>>getArgument(1).size());
+                        return new int[0][0];
+                    })
+                    .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                            any(ParameterizedPreparedStatementSetter.class));
+
+            writer.append(audit(1));
+
+            assertThat(writtenBatches).containsExactly(1);
+            verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+        }
+
+        @Test
+        @DisplayName("Should write row by row after the retry fails and drop only the bad event")
+        void shouldFallBackToSingleRows() throws InterruptedException {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, true, 100, 50, 200);
+            doThrow(new DataIntegrityViolationException("value too long"))
+                    .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                            any(ParameterizedPreparedStatementSetter.class));
+            List<Long> inserted = new CopyOnWriteArrayList<>();
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(inv -> {
+                PreparedStatement ps = mock(PreparedStatement.class);
+                inv.<PreparedStatementSetter>getArgument(1).setValues(ps);
+                ArgumentCaptor<Long> orderId = ArgumentCaptor.forClass(Long.class);
+                verify(ps).setLong(eq(2), orderId.capture());
+                if (orderId.getValue() == 2L) {
+                    throw new DataIntegrityViolationException("value too long");
+                }
+                inserted.add(orderId.getValue());
+                return 1;
+            });
+            writer.start();
+
+            writer.append(audit(1));
+            writer.append(audit(2));
+            writer.append(audit(3));
+            writer.stop();
+
+            assertThat(inserted).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should keep writing after an unexpected failure")
+        void shouldSurviveUnexpectedFailure() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, true, 100, 1, 200);
+            OrderAudit broken = audit(1);
+            broken.setCreatedAt(null);
+            broken.setAuditDay(null);
+            doThrow(new NullPointerException("createdAt"))
+                    .doThrow(new NullPointerException("createdAt"))
+                    .doAnswer(inv -> {
+                        writtenBatches.add(inv.<Collection<?>>getArgument(1).size());
+                        return new int[0][0];
+                    })
+                    .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                            any(ParameterizedPreparedStatementSetter.class));
+            writer.start();
+
+            writer.append(broken);
+            writer.append(audit(2));
+            writer.stop();
+
+            assertThat(writtenBatches).containsExactly(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("transactions")
+    class Transactions {
+
+        @Test
+        @DisplayName("Should queue the event only after commit")
+        void shouldQueueAfterCommit() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, false, 100, 50, 200);
+            TransactionSynchronizationManager.initSynchronization();
+
+            writer.append(audit(1));
+            assertThat(writtenBatches).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(writtenBatches).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("Should drop the event when the transaction rolls back")
+        void shouldDropOnRollback() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, false, 100, 50, 200);
+            TransactionSynchronizationManager.initSynchronization();
+
+            writer.append(audit(1));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Should write immediately but notify listeners only after commit")
+        void shouldNotifyWriteNowAfterCommit() {
+            writer = new OrderAuditWriter(jdbcTemplate, transactionManager, true, 100, 50, 200);
+            when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(inv -> {
+                inv.<KeyHolder>getArgument(1).getKeyList().add(Map.of("id", 42L));
+                return 1;
+            });
+            List<String> notified = new CopyOnWriteArrayList<>();
+            writer.addWriteListener(() -> notified.add("write"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            OrderAudit saved = writer.writeNow(audit(1));
+            assertThat(saved.getId()).isEqualTo(42L);
+            assertThat(notified).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(notified).containsExactly("write");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import io.life.order.entity.GearAssemblyOrder;
+import io.life.order.entity.OrderAudit;
+import io.life.order.entity.SupplyOrder;
+import io.life.order.entity.WarehouseOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderChangeCapture
+ *
+ * Tests that order changes are published once per order after commit and
+ * never for rolled-back transactions.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderChangeCapture Tests")
+class OrderChangeCaptureTest {
+
+    @Mock
+    private OrderChangeFeed feed;
+
+    private OrderChangeCapture capture;
+
+    @BeforeEach
+    void setUp() {
+        capture = new OrderChangeCapture(null, feed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static GearAssemblyOrder gearOrder(long id, String status) {
+        GearAssemblyOrder order = new GearAssemblyOrder();
+        order.setId(id);
+        order.setOrderNumber("GA-" + id);
+        order.setWorkstationId(4L);
+        order.setStatus(status);
+        return order;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should publish once per order with its final status after commit")
+    @SuppressWarnings("unchecked")
+    void shouldPublishAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        capture.record(gearOrder(1, "PENDING"));
+        capture.record(gearOrder(2, "PENDING"));
+        capture.record(gearOrder(1, "IN_PROGRESS"));
+        verifyNoInteractions(feed);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        ArgumentCaptor<List<OrderChangeEventDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(feed).publish(published.capture());
+        assertThat(published.getValue()).extracting(OrderChangeEventDTO::getOrderId, OrderChangeEventDTO::getStatus)
+                .containsExactly(tuple(2L, "PENDING"), tuple(1L, "IN_PROGRESS"));
+        assertThat(TransactionSynchronizationManager.getResource(capture)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not publish changes of a rolled-back transaction")
+    void shouldNotPublishOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        capture.record(gearOrder(1, "COMPLETED"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(feed, never()).publish(anyList());
+        assertThat(TransactionSynchronizationManager.getResource(capture)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore entities that are not orders")
+    void shouldIgnoreOtherEntities() {
+        capture.record(new OrderAudit());
+
+        verifyNoInteractions(feed);
+    }
+
+    @Test
+    @DisplayName("Should list every workstation an order is shown on")
+    void shouldDescribeWorkstations() {
+        SupplyOrder order = new SupplyOrder();
+        order.setId(5L);
+        order.setSupplyOrderNumber("SO-5");
+        order.setStatus("PENDING");
+        order.setRequestingWorkstationId(4L);
+        order.setSupplyWarehouseWorkstationId(9L);
+
+        OrderChangeEventDTO change = OrderChangeCapture.describe(order);
+
+        assertThat(change.getOrderType()).isEqualTo("SUPPLY_ORDER");
+        assertThat(change.getOrderNumber()).isEqualTo("SO-5");
+        assertThat(change.getWorkstationIds()).containsExactly(4L, 9L);
+    }
+
+    @Test
+    @DisplayName("Should carry the order's last update time as its version")
+    void shouldDescribeUpdatedAt() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 18, 9, 30);
+        WarehouseOrder order = new WarehouseOrder();
+        order.setId(3L);
+        order.setStatus("CONFIRMED");
+        order.setUpdatedAt(updatedAt);
+
+        assertThat(OrderChangeCapture.describe(order).getUpdatedAt()).isEqualTo(updatedAt);
+    }
+}
@@ -0,0 +1,252 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OrderChangeFeed
+ *
+ * Tests the order change push channel:
+ * - Filtering by workstation and order type
+ * - Resume through Last-Event-ID
+ * - Reset on queue overflow and unknown event IDs
+ * - Heartbeats
+ */
+@DisplayName("OrderChangeFeed Tests")
+class OrderChangeFeedTest {
+
+    private List<Runnable> pendingSends;
+    private OrderChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        pendingSends = new ArrayList<>();
+        Executor sender = pendingSends::add;
+        feed = new OrderChangeFeed(sender, null, 0, 5, 3, 60_000, 3_000);
+    }
+
+    /**
+     * Run queued sends, as the sender pool would.
+     */
+    private void flush() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    private static OrderChangeEventDTO change(String orderType, long orderId, String status, Long... workstationIds) {
+        return OrderChangeEventDTO.builder()
+                .orderType(orderType)
+                .orderId(orderId)
+                .status(status)
+                .workstationIds(List.of(workstationIds))
+                .build();
+    }
+
+    private RecordingEmitter subscribe(Long workstationId, String orderType, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(emitter, workstationId, orderType, lastEventId);
+        flush();
+        emitter.events.clear(); // initial heartbeat
+        return emitter;
+    }
+
+    @Nested
+    @DisplayName("Delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("Should open the stream with a heartbeat carrying the reconnect delay")
+        void shouldOpenWithHeartbeat() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            feed.subscribe(emitter, null, null, null);
+            flush();
+
+            assertThat(emitter.events).singleElement()
+                    .satisfies(event -> assertThat(event.text()).contains("retry:3000").contains(":heartbeat"));
+        }
+
+        @Test
+        @DisplayName("Should push changes with increasing versions")
+        void shouldPushChanges() {
+            RecordingEmitter emitter = subscribe(null, null, null);
+
+            feed.publish(List.of(change("GEAR_ASSEMBLY", 7, "IN_PROGRESS", 4L)));
+            feed.publish(List.of(change("CUSTOMER_ORDER", 8, "CONFIRMED", 7L)));
+            flush();
+
+            assertThat(emitter.changes()).extracting(OrderChangeEventDTO::getOrderId).containsExactly(7L, 8L);
+            assertThat(emitter.changes()).extracting(OrderChangeEventDTO::getVersion).containsExactly(1L, 2L);
+            assertThat(emitter.events).allSatisfy(event -> assertThat(event.name()).isEqualTo("order"));
+        }
+
+        @Test
+        @DisplayName("Should filter by workstation and order type")
+        void shouldFilter() {
+            RecordingEmitter workstation = subscribe(4L, null, null);
+            RecordingEmitter orderType = subscribe(null, "customer_order", null);
+
+            feed.publish(List.of(
+                    change("GEAR_ASSEMBLY", 1, "IN_PROGRESS", 4L),
+                    change("CUSTOMER_ORDER", 2, "CONFIRMED", 7L),
+                    change("SUPPLY_ORDER", 3, "PENDING", 4L, 9L)));
+            flush();
+
+            assertThat(workstation.changes()).extracting(OrderChangeEventDTO::getOrderId).containsExactly(1L, 3L);
+            assertThat(orderType.changes()).extracting(OrderChangeEventDTO::getOrderId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("Should drop a stream whose connection failed")
+        void shouldDropFailedStream() {
+            RecordingEmitter emitter = subscribe(null, null, null);
+            emitter.failing = true;
+
+            feed.publish(List.of(change("GEAR_ASSEMBLY", 1, "IN_PROGRESS", 4L)));
+            flush();
+
+            assertThat(feed.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should send heartbeats to open streams")
+        void shouldSendHeartbeats() {
+            RecordingEmitter emitter = subscribe(null, null, null);
+
+            feed.heartbeat();
+            flush();
+
+            assertThat(emitter.events).singleElement()
+                    .satisfies(event -> assertThat(event.text()).contains(":heartbeat"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure and resume")
+    class BackpressureAndResume {
+
+        @Test
+        @DisplayName("Should replace the queue of a slow client with a reset")
+        void shouldResetOnOverflow() {
+            RecordingEmitter emitter = subscribe(null, null, null);
+
+            // Nothing is sent in between: the queue of 3 overflows on the 4th change
+            for (long id = 1; id <= 5; id++) {
+                feed.publish(List.of(change("GEAR_ASSEMBLY", id, "IN_PROGRESS", 4L)));
+            }
+            flush();
+
+            assertThat(emitter.events).extracting(RecordedEvent::name).containsExactly("reset", "order");
+            assertThat(emitter.events.get(0).data()).isEqualTo(Map.of("version", 4L));
+            assertThat(emitter.changes()).extracting(OrderChangeEventDTO::getOrderId).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("Should resume after Last-Event-ID")
+        void shouldResume() {
+            RecordingEmitter first = subscribe(null, null, null);
+            feed.publish(List.of(change("GEAR_ASSEMBLY", 1, "IN_PROGRESS", 4L)));
+            flush();
+            String lastEventId = first.events.get(0).id();
+            feed.publish(List.of(change("GEAR_ASSEMBLY", 2, "IN_PROGRESS", 4L),
+                    change("GEAR_ASSEMBLY", 3, "COMPLETED", 4L)));
+
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, null, null, lastEventId);
+            flush();
+
+            assertThat(resumed.changes()).extracting(OrderChangeEventDTO::getOrderId).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should reset when Last-Event-ID is older than the replay buffer")
+        void shouldResetWhenReplayExpired() {
+            RecordingEmitter first = subscribe(null, null, null);
+            feed.publish(List.of(change("GEAR_ASSEMBLY", 1, "IN_PROGRESS", 4L)));
+            flush();
+            String lastEventId = first.events.get(0).id();
+            for (long id = 2; id <= 7; id++) {
+                feed.publish(List.of(change("GEAR_ASSEMBLY", id, "IN_PROGRESS", 4L)));
+            }
+
+            RecordingEmitter stale = new RecordingEmitter();
+            feed.subscribe(stale, null, null, lastEventId);
+            flush();
+
+            assertThat(stale.events.get(0).name()).isEqualTo("reset");
+            assertThat(stale.changes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reset for event IDs of another server run")
+        void shouldResetForUnknownEventId() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            feed.subscribe(emitter, null, null, "abc-12");
+            flush();
+
+            assertThat(emitter.events.get(0).name()).isEqualTo("reset");
+        }
+    }
+
+    private record RecordedEvent(String text, Object data) {
+
+        String name() {
+            return field("event:");
+        }
+
+        String id() {
+            return field("id:");
+        }
+
+        private String field(String prefix) {
+            return text.lines().filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * SseEmitter that records what is sent instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<RecordedEvent> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (var part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            events.add(new RecordedEvent(text.toString(), data));
+        }
+
+        List<OrderChangeEventDTO> changes() {
+            return events.stream()
+                    .map(RecordedEvent::data)
+                    .filter(OrderChangeEventDTO.class::isInstance)
+                    .map(OrderChangeEventDTO.class::cast)
+                    .toList();
+        }
+    }
+}
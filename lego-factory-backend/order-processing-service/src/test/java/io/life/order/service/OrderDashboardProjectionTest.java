@@ -0,0 +1,213 @@
+package io.life.order.service;
+
+import io.life.order.dto.OrderChangeEventDTO;
+import io.life.order.dto.OrderDashboardRowDTO;
+import io.life.order.dto.WorkstationDashboardDTO;
+import io.life.order.entity.GearAssemblyOrder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderDashboardProjection
+ *
+ * Tests that the read model follows the change feed:
+ * - Counts and open orders per workstation
+ * - Progress of parent orders from their children
+ * - Loaded rows never overwrite newer changes
+ * - Closed orders leave the model but stay counted
+ * - Changes made by other instances are picked up by polling updated_at
+ */
+@DisplayName("OrderDashboardProjection Tests")
+class OrderDashboardProjectionTest {
+
+    private OrderChangeFeed feed;
+    private OrderDashboardProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        feed = new OrderChangeFeed(Runnable::run, null, 0, 100, 10, 60_000, 3_000);
+        projection = new OrderDashboardProjection(null, feed, 10_000);
+        projection.subscribe();
+        projection.markReady();
+    }
+
+    private void publish(String orderType, long orderId, String status, String parentOrderType, Long parentOrderId,
+                         Long... workstationIds) {
+        publishAt(orderType, orderId, status, null, parentOrderType, parentOrderId, workstationIds);
+    }
+
+    private void publishAt(String orderType, long orderId, String status, LocalDateTime updatedAt,
+                         String parentOrderType, Long parentOrderId, Long... workstationIds) {
+        feed.publish(List.of(OrderChangeEventDTO.builder()
+                .orderType(orderType)
+                .orderId(orderId)
+                .orderNumber(orderType + "-" + orderId)
+                .status(status)
+                .updatedAt(updatedAt)
+                .workstationIds(List.of(workstationIds))
+                .parentOrderType(parentOrderType)
+                .parentOrderId(parentOrderId)
+                .build()));
+    }
+
+    private static GearAssemblyOrder gearOrder(long id, String status, LocalDateTime updatedAt) {
+        GearAssemblyOrder order = new GearAssemblyOrder();
+        order.setId(id);
+        order.setOrderNumber("GA-" + id);
+        order.setWorkstationId(4L);
+        order.setStatus(status);
+        order.setUpdatedAt(updatedAt);
+        return order;
+    }
+
+    @Test
+    @DisplayName("Should count orders per workstation and drop closed ones from the open list")
+    void shouldTrackWorkstationCounts() {
+        publish("GEAR_ASSEMBLY", 1, "PENDING", null, null, 4L);
+        publish("GEAR_ASSEMBLY", 2, "PENDING", null, null, 4L);
+        publish("GEAR_ASSEMBLY", 1, "IN_PROGRESS", null, null, 4L);
+        publish("GEAR_ASSEMBLY", 2, "COMPLETED", null, null, 4L);
+        publish("CUSTOMER_ORDER", 3, "CONFIRMED", null, null, 7L);
+
+        WorkstationDashboardDTO dashboard = projection.getWorkstation(4L, null);
+
+        assertThat(dashboard.getStatusCounts())
+                .isEqualTo(Map.of("GEAR_ASSEMBLY", Map.of("IN_PROGRESS", 1, "COMPLETED", 1)));
+        assertThat(dashboard.getOpenCount()).isEqualTo(1);
+        assertThat(dashboard.getActiveCount()).isEqualTo(1);
+        assertThat(dashboard.getOpenOrders()).extracting(OrderDashboardRowDTO::getOrderId).containsExactly(1L);
+        assertThat(projection.getWorkstation(4L, "customer_order").getOpenOrders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should derive parent progress from the status of its children")
+    void shouldTrackProgress() {
+        publish("ASSEMBLY_CONTROL", 10, "ASSIGNED", "PRODUCTION_ORDER", 5L, 6L);
+        publish("GEAR_ASSEMBLY", 1, "PENDING", "ASSEMBLY_CONTROL", 10L, 4L);
+        publish("MOTOR_ASSEMBLY", 2, "PENDING", "ASSEMBLY_CONTROL", 10L, 5L);
+        publish("GEAR_ASSEMBLY", 1, "COMPLETED", "ASSEMBLY_CONTROL", 10L, 4L);
+
+        OrderDashboardRowDTO control = projection.getOrder("assembly_control", 10L).orElseThrow();
+
+        assertThat(control.getTotalChildren()).isEqualTo(2);
+        assertThat(control.getCompletedChildren()).isEqualTo(1);
+        assertThat(control.getPercentComplete()).isEqualTo(50.0);
+        assertThat(projection.getOrder("PRODUCTION_ORDER", 5L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the newer state of an order changed before it was loaded")
+    void shouldNotOverwriteNewerChangesOnLoad() {
+        publish("GEAR_ASSEMBLY", 1, "IN_PROGRESS", null, null, 4L);
+
+        GearAssemblyOrder stale = new GearAssemblyOrder();
+        stale.setId(1L);
+        stale.setOrderNumber("GA-1");
+        stale.setWorkstationId(4L);
+        stale.setStatus("PENDING");
+        projection.seed(stale);
+
+        GearAssemblyOrder other = new GearAssemblyOrder();
+        other.setId(2L);
+        other.setOrderNumber("GA-2");
+        other.setWorkstationId(4L);
+        other.setStatus("PENDING");
+        projection.seed(other);
+
+        assertThat(projection.getWorkstation(4L, null).getOpenOrders())
+                .extracting(OrderDashboardRowDTO::getOrderId, OrderDashboardRowDTO::getStatus)
+                .containsExactly(tuple(1L, "IN_PROGRESS"), tuple(2L, "PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should report the feed position the snapshot is current up to")
+    void shouldReportLastEventId() {
+        publish("GEAR_ASSEMBLY", 1, "PENDING", null, null, 4L);
+        publish("GEAR_ASSEMBLY", 1, "IN_PROGRESS", null, null, 4L);
+
+        assertThat(projection.getWorkstation(4L, null).getLastEventId()).isEqualTo(feed.eventId(2));
+    }
+
+    @Test
+    @DisplayName("Should drop closed orders after the horizon and keep counting them")
+    void shouldDropClosedOrders() {
+        LocalDateTime now = LocalDateTime.now();
+        publishAt("ASSEMBLY_CONTROL", 10, "COMPLETED", now.minusHours(1), null, null, 6L);
+        publishAt("GEAR_ASSEMBLY", 1, "COMPLETED", now.minusHours(1), "ASSEMBLY_CONTROL", 10L, 4L);
+        publishAt("GEAR_ASSEMBLY", 2, "COMPLETED", now, null, null, 4L);
+        publishAt("GEAR_ASSEMBLY", 3, "PENDING", now.minusHours(1), null, null, 4L);
+        projection.seed(gearOrder(4, "COMPLETED", now.minusHours(1)));
+
+        projection.prune(now.minusSeconds(20));
+
+        assertThat(projection.getOrder("ASSEMBLY_CONTROL", 10L)).isEmpty();
+        assertThat(projection.getOrder("GEAR_ASSEMBLY", 1L)).isEmpty();
+        assertThat(projection.getOrder("GEAR_ASSEMBLY", 2L)).isPresent();
+        assertThat(projection.getOrder("GEAR_ASSEMBLY", 3L)).isPresent();
+        assertThat(projection.getOrder("GEAR_ASSEMBLY", 4L)).isEmpty();
+        assertThat(projection.size()).isEqualTo(2);
+        assertThat(projection.getWorkstation(4L, null).getStatusCounts())
+                .isEqualTo(Map.of("GEAR_ASSEMBLY", Map.of("COMPLETED", 3, "PENDING", 1)));
+    }
+
+    @Test
+    @DisplayName("Should ignore a change older than the state it already shows")
+    void shouldIgnoreStaleChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        publishAt("GEAR_ASSEMBLY", 1, "IN_PROGRESS", now, null, null, 4L);
+        publishAt("GEAR_ASSEMBLY", 1, "PENDING", now.minusSeconds(5), null, null, 4L);
+
+        assertThat(projection.getOrder("GEAR_ASSEMBLY", 1L).orElseThrow().getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(projection.getWorkstation(4L, null).getStatusCounts())
+                .isEqualTo(Map.of("GEAR_ASSEMBLY", Map.of("IN_PROGRESS", 1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should publish changes other instances made since the last poll")
+    void shouldPollChangesOfOtherInstances() {
+        LocalDateTime now = LocalDateTime.now();
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        TypedQuery<Object> gearQuery = mock(TypedQuery.class);
+        TypedQuery<Object> otherQuery = mock(TypedQuery.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(anyString(), any(Class.class))).thenReturn(otherQuery);
+        when(entityManager.createQuery(startsWith("SELECT o FROM GearAssemblyOrder"), any(Class.class)))
+                .thenReturn(gearQuery);
+        when(otherQuery.getResultStream()).thenAnswer(invocation -> Stream.empty());
+        when(gearQuery.setParameter(anyString(), any())).thenReturn(gearQuery);
+        when(otherQuery.setParameter(anyString(), any())).thenReturn(otherQuery);
+        when(gearQuery.getResultStream())
+                .thenReturn(Stream.of(gearOrder(1, "PENDING", now.minusSeconds(1)), gearOrder(2, "PENDING", now)))
+                .thenReturn(Stream.of(gearOrder(1, "IN_PROGRESS", now), gearOrder(2, "IN_PROGRESS", now.plusSeconds(1)),
+                        gearOrder(3, "PENDING", now.plusSeconds(1))));
+
+        projection = new OrderDashboardProjection(entityManagerFactory, feed, 10_000);
+        projection.subscribe();
+        projection.load();
+        publishAt("GEAR_ASSEMBLY", 1, "IN_PROGRESS", now, null, null, 4L);
+
+        projection.pollChanges();
+
+        WorkstationDashboardDTO dashboard = projection.getWorkstation(4L, null);
+        assertThat(dashboard.getLastEventId()).isEqualTo(feed.eventId(3));
+        assertThat(dashboard.getOpenOrders())
+                .extracting(OrderDashboardRowDTO::getOrderId, OrderDashboardRowDTO::getStatus)
+                .containsExactlyInAnyOrder(tuple(1L, "IN_PROGRESS"), tuple(2L, "IN_PROGRESS"), tuple(3L, "PENDING"));
+        verify(gearQuery, atLeastOnce()).setParameter(eq("since"), any(LocalDateTime.class));
+    }
+}
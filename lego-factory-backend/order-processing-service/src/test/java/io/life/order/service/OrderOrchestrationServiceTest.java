@@ -68,22 +68,7 @@ class OrderOrchestrationServiceTest {
     private FinalAssemblyOrderService finalAssemblyOrderService;
     
     @Mock
-    private InjectionMoldingOrderRepository injectionMoldingOrderRepository;
-    
-    @Mock
-    private PartPreProductionOrderRepository partPreProductionOrderRepository;
-    
-    @Mock
-    private PartFinishingOrderRepository partFinishingOrderRepository;
-    
-    @Mock
-    private GearAssemblyOrderRepository gearAssemblyOrderRepository;
-    
-    @Mock
-    private MotorAssemblyOrderRepository motorAssemblyOrderRepository;
-    
-    @Mock
-    private FinalAssemblyOrderRepository finalAssemblyOrderRepository;
+    private DomainEventOutbox domainEventOutbox;
     
     @InjectMocks
     private OrderOrchestrationService orchestrationService;
@@ -131,6 +116,10 @@ class OrderOrchestrationServiceTest {
         testProductionOrder.setProductionOrderNumber("PRO-TEST001");
         testProductionOrder.setStatus("IN_PROGRESS");
         testProductionOrder.setSourceWarehouseOrderId(WAREHOUSE_ORDER_ID);
+        lenient().when(productionControlOrderRepository.transitionStatus(anyLong(), anyString(), eq("COMPLETED")))
+                .thenReturn(1);
+        lenient().when(assemblyControlOrderRepository.transitionStatus(anyLong(), anyString(), eq("COMPLETED")))
+                .thenReturn(1);
         
         // Setup test Warehouse Order
         testWarehouseOrder = new WarehouseOrder();
@@ -169,6 +158,20 @@ class OrderOrchestrationServiceTest {
         testCustomerOrder.setOrderItems(List.of(customerItem));
     }
 
+    private static ChildCounters counters(int total, int completed) {
+        return new ChildCounters() {
+            @Override
+            public int getTotal() {
+                return total;
+            }
+
+            @Override
+            public int getCompleted() {
+                return completed;
+            }
+        };
+    }
+
     // ========================
     // WORKSTATION ORDER COMPLETION TESTS
     // ========================
@@ -181,12 +184,10 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-001: Complete InjectionMolding order updates control order progress")
         void testNotifyWorkstationOrderComplete_InjectionMolding_UpdatesProgress() {
             // Given
-            List<InjectionMoldingOrder> orders = List.of(new InjectionMoldingOrder(), new InjectionMoldingOrder());
-            when(injectionMoldingOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(orders);
-            when(injectionMoldingOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L); // 1 of 2 complete
+            when(productionControlOrderRepository.incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(1);
+            when(productionControlOrderRepository.findChildCountersById(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1))); // 1 of 2 complete
             
             // When
             orchestrationService.notifyWorkstationOrderComplete(
@@ -194,9 +195,7 @@ class OrderOrchestrationServiceTest {
                     PRODUCTION_CONTROL_ORDER_ID);
             
             // Then
-            verify(injectionMoldingOrderRepository).findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID);
-            verify(injectionMoldingOrderRepository).countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED");
+            verify(productionControlOrderRepository).incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID);
             // Should NOT complete control order (only 1 of 2)
             verify(productionControlOrderRepository, never()).findById(any());
         }
@@ -205,21 +204,18 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-002: Complete last workstation order completes control order")
         void testNotifyWorkstationOrderComplete_LastInChain_CompletesControlOrder() {
             // Given
-            List<InjectionMoldingOrder> orders = List.of(new InjectionMoldingOrder(), new InjectionMoldingOrder());
-            when(injectionMoldingOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(orders);
-            when(injectionMoldingOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(2L); // All 2 complete
+            when(productionControlOrderRepository.incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(1);
+            when(productionControlOrderRepository.findChildCountersById(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 2))); // All 2 complete
             when(productionControlOrderRepository.findById(PRODUCTION_CONTROL_ORDER_ID))
                     .thenReturn(Optional.of(testProductionControlOrder));
             when(productionControlOrderRepository.save(any())).thenReturn(testProductionControlOrder);
             
-            // Setup for control order completion check
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testProductionControlOrder));
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(Collections.emptyList());
+            // Setup for production order completion check
+            when(productionOrderRepository.incrementCompletedChildren(PRODUCTION_ORDER_ID)).thenReturn(1);
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             orchestrationService.notifyWorkstationOrderComplete(
@@ -238,12 +234,10 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-003: Complete GearAssembly order updates assembly control progress")
         void testNotifyWorkstationOrderComplete_GearAssembly_UpdatesAssemblyProgress() {
             // Given
-            List<GearAssemblyOrder> orders = List.of(new GearAssemblyOrder(), new GearAssemblyOrder());
-            when(gearAssemblyOrderRepository.findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID))
-                    .thenReturn(orders);
-            when(gearAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L); // 1 of 2 complete
+            when(assemblyControlOrderRepository.incrementCompletedChildren(ASSEMBLY_CONTROL_ORDER_ID))
+                    .thenReturn(1);
+            when(assemblyControlOrderRepository.findChildCountersById(ASSEMBLY_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1))); // 1 of 2 complete
             
             // When
             orchestrationService.notifyWorkstationOrderComplete(
@@ -251,21 +245,20 @@ class OrderOrchestrationServiceTest {
                     ASSEMBLY_CONTROL_ORDER_ID);
             
             // Then
-            verify(gearAssemblyOrderRepository).findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID);
-            verify(gearAssemblyOrderRepository).countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED");
+            verify(assemblyControlOrderRepository).incrementCompletedChildren(ASSEMBLY_CONTROL_ORDER_ID);
+            verify(assemblyControlOrderRepository, never()).findById(any());
+            verify(domainEventOutbox).publish(DomainEvent.EventType.WORKSTATION_ORDER_COMPLETED,
+                    OrderOrchestrationService.AGGREGATE_ASSEMBLY_CONTROL, ASSEMBLY_CONTROL_ORDER_ID, "GEAR_ASSEMBLY");
         }
         
         @Test
         @DisplayName("OOS-004: Complete PartFinishing order checks correct repository")
         void testNotifyWorkstationOrderComplete_PartFinishing_ChecksCorrectRepository() {
             // Given
-            List<PartFinishingOrder> orders = List.of(new PartFinishingOrder());
-            when(partFinishingOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(orders);
-            when(partFinishingOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(0L);
+            when(productionControlOrderRepository.incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(1);
+            when(productionControlOrderRepository.findChildCountersById(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(3, 1)));
             
             // When
             orchestrationService.notifyWorkstationOrderComplete(
@@ -273,21 +266,18 @@ class OrderOrchestrationServiceTest {
                     PRODUCTION_CONTROL_ORDER_ID);
             
             // Then
-            verify(partFinishingOrderRepository).findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID);
-            verify(injectionMoldingOrderRepository, never()).findByProductionControlOrderId(any());
-            verify(gearAssemblyOrderRepository, never()).findByAssemblyControlOrderId(any());
+            verify(productionControlOrderRepository).incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID);
+            verify(assemblyControlOrderRepository, never()).incrementCompletedChildren(any());
         }
         
         @Test
         @DisplayName("OOS-005: Complete FinalAssembly order checks assembly control")
         void testNotifyWorkstationOrderComplete_FinalAssembly_ChecksAssemblyControl() {
             // Given
-            List<FinalAssemblyOrder> orders = List.of(new FinalAssemblyOrder());
-            when(finalAssemblyOrderRepository.findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID))
-                    .thenReturn(orders);
-            when(finalAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(0L);
+            when(assemblyControlOrderRepository.incrementCompletedChildren(ASSEMBLY_CONTROL_ORDER_ID))
+                    .thenReturn(1);
+            when(assemblyControlOrderRepository.findChildCountersById(ASSEMBLY_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             orchestrationService.notifyWorkstationOrderComplete(
@@ -295,7 +285,24 @@ class OrderOrchestrationServiceTest {
                     ASSEMBLY_CONTROL_ORDER_ID);
             
             // Then
-            verify(finalAssemblyOrderRepository).findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID);
+            verify(assemblyControlOrderRepository).incrementCompletedChildren(ASSEMBLY_CONTROL_ORDER_ID);
+            verify(productionControlOrderRepository, never()).findById(any());
+        }
+        
+        @Test
+        @DisplayName("OOS-031: Completion beyond the known total is ignored")
+        void testNotifyWorkstationOrderComplete_CounterAlreadyFull_IsIgnored() {
+            // Given - guarded increment matched no row (duplicate or late notification)
+            when(productionControlOrderRepository.incrementCompletedChildren(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(0);
+            
+            // When
+            orchestrationService.notifyWorkstationOrderComplete(
+                    OrderOrchestrationService.WorkstationOrderType.INJECTION_MOLDING,
+                    PRODUCTION_CONTROL_ORDER_ID);
+            
+            // Then
+            verify(productionControlOrderRepository, never()).findChildCountersById(any());
             verify(productionControlOrderRepository, never()).findById(any());
         }
     }
@@ -315,10 +322,9 @@ class OrderOrchestrationServiceTest {
             when(productionControlOrderRepository.findById(PRODUCTION_CONTROL_ORDER_ID))
                     .thenReturn(Optional.of(testProductionControlOrder));
             when(productionControlOrderRepository.save(any())).thenReturn(testProductionControlOrder);
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testProductionControlOrder));
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(Collections.emptyList());
+            when(productionOrderRepository.incrementCompletedChildren(PRODUCTION_ORDER_ID)).thenReturn(1);
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             orchestrationService.completeProductionControlOrder(PRODUCTION_CONTROL_ORDER_ID);
@@ -327,6 +333,9 @@ class OrderOrchestrationServiceTest {
             verify(productionControlOrderRepository).save(argThat(order ->
                     "COMPLETED".equals(order.getStatus())
             ));
+            verify(productionOrderRepository).incrementCompletedChildren(PRODUCTION_ORDER_ID);
+            verify(domainEventOutbox).publish(eq(DomainEvent.EventType.CONTROL_ORDER_COMPLETED),
+                    eq(OrderOrchestrationService.AGGREGATE_PRODUCTION_CONTROL), eq(PRODUCTION_CONTROL_ORDER_ID), any());
         }
         
         @Test
@@ -343,6 +352,23 @@ class OrderOrchestrationServiceTest {
             // Then
             verify(productionControlOrderRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Control order completed concurrently is not counted twice")
+        void testCompleteProductionControlOrder_CompletedConcurrently_Skips() {
+            // Given
+            when(productionControlOrderRepository.findById(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(testProductionControlOrder));
+            when(productionControlOrderRepository.transitionStatus(PRODUCTION_CONTROL_ORDER_ID, "IN_PROGRESS", "COMPLETED"))
+                    .thenReturn(0);
+
+            // When
+            orchestrationService.completeProductionControlOrder(PRODUCTION_CONTROL_ORDER_ID);
+
+            // Then
+            verify(productionControlOrderRepository, never()).save(any());
+            verify(productionOrderRepository, never()).incrementCompletedChildren(any());
+        }
         
         @Test
         @DisplayName("OOS-008: Complete AssemblyControlOrder sets actualFinishTime")
@@ -351,10 +377,9 @@ class OrderOrchestrationServiceTest {
             when(assemblyControlOrderRepository.findById(ASSEMBLY_CONTROL_ORDER_ID))
                     .thenReturn(Optional.of(testAssemblyControlOrder));
             when(assemblyControlOrderRepository.save(any())).thenReturn(testAssemblyControlOrder);
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(Collections.emptyList());
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testAssemblyControlOrder));
+            when(productionOrderRepository.incrementCompletedChildren(PRODUCTION_ORDER_ID)).thenReturn(1);
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             orchestrationService.completeAssemblyControlOrder(ASSEMBLY_CONTROL_ORDER_ID);
@@ -380,7 +405,7 @@ class OrderOrchestrationServiceTest {
             // Then
             verify(productionControlOrderRepository).save(any());
             // Should not check for production order completion
-            verify(productionControlOrderRepository, never()).findBySourceProductionOrderId(any());
+            verify(productionOrderRepository, never()).incrementCompletedChildren(any());
         }
     }
 
@@ -396,23 +421,12 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-010: All control orders complete triggers production completion")
         void testNotifyControlOrderComplete_AllComplete_TriggersProductionCompletion() {
             // Given - all control orders completed
-            testProductionControlOrder.setStatus("COMPLETED");
-            testAssemblyControlOrder.setStatus("COMPLETED");
-            
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testProductionControlOrder));
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testAssemblyControlOrder));
+            when(productionOrderRepository.incrementCompletedChildren(PRODUCTION_ORDER_ID)).thenReturn(1);
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 2)));
             when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
                     .thenReturn(Optional.of(testProductionOrder));
             when(productionOrderRepository.save(any())).thenReturn(testProductionOrder);
-            when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
-                    .thenReturn(Optional.of(testWarehouseOrder));
-            when(warehouseOrderRepository.save(any())).thenReturn(testWarehouseOrder);
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
-            when(config.getWorkstations()).thenReturn(workstationsConfig);
-            when(workstationsConfig.getModulesSupermarket()).thenReturn(WS_MODULES_SUPERMARKET);
             
             // When
             orchestrationService.notifyControlOrderComplete(
@@ -429,13 +443,9 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-011: Partial control order completion does not trigger production completion")
         void testNotifyControlOrderComplete_PartialComplete_NoProductionCompletion() {
             // Given - only one control order completed
-            testProductionControlOrder.setStatus("COMPLETED");
-            testAssemblyControlOrder.setStatus("IN_PROGRESS");
-            
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testProductionControlOrder));
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testAssemblyControlOrder));
+            when(productionOrderRepository.incrementCompletedChildren(PRODUCTION_ORDER_ID)).thenReturn(1);
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             orchestrationService.notifyControlOrderComplete(
@@ -448,23 +458,22 @@ class OrderOrchestrationServiceTest {
         }
         
         @Test
-        @DisplayName("OOS-012: Production completion auto-submits for Scenario 3")
-        void testCompleteProductionOrder_Scenario3_CreditsModulesSupermarket() {
+        @DisplayName("OOS-012: Production submission credits Modules Supermarket for Scenario 3")
+        void testSubmitProductionOrderCompletion_Scenario3_CreditsModulesSupermarket() {
             // Given
-            testProductionOrder.setStatus("IN_PROGRESS");
+            testProductionOrder.setStatus("COMPLETED");
             when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
                     .thenReturn(Optional.of(testProductionOrder));
-            when(productionOrderRepository.save(any())).thenReturn(testProductionOrder);
             when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
                     .thenReturn(Optional.of(testWarehouseOrder));
             when(warehouseOrderRepository.save(any())).thenReturn(testWarehouseOrder);
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
             when(config.getWorkstations()).thenReturn(workstationsConfig);
             when(workstationsConfig.getModulesSupermarket()).thenReturn(WS_MODULES_SUPERMARKET);
+            when(productionOrderRepository.claimDownstreamProcessing(eq(PRODUCTION_ORDER_ID), any()))
+                    .thenReturn(1);
             
             // When
-            orchestrationService.completeProductionOrder(PRODUCTION_ORDER_ID);
+            orchestrationService.submitProductionOrderCompletion(PRODUCTION_ORDER_ID);
             
             // Then
             // Verify inventory credit for modules
@@ -479,23 +488,24 @@ class OrderOrchestrationServiceTest {
         }
         
         @Test
-        @DisplayName("OOS-013: Production completion auto-submits for Scenario 4")
-        void testCompleteProductionOrder_Scenario4_CreditsFinalAssembly() {
+        @DisplayName("OOS-013: Production submission credits Final Assembly for Scenario 4")
+        void testSubmitProductionOrderCompletion_Scenario4_CreditsFinalAssembly() {
             // Given - Scenario 4: Direct from customer order
             testProductionOrder.setSourceWarehouseOrderId(null);
             testProductionOrder.setSourceCustomerOrderId(CUSTOMER_ORDER_ID);
-            testProductionOrder.setStatus("IN_PROGRESS");
+            testProductionOrder.setStatus("COMPLETED");
             
             when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
                     .thenReturn(Optional.of(testProductionOrder));
-            when(productionOrderRepository.save(any())).thenReturn(testProductionOrder);
             when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
                     .thenReturn(Optional.of(testCustomerOrder));
             when(config.getWorkstations()).thenReturn(workstationsConfig);
             when(workstationsConfig.getFinalAssembly()).thenReturn(WS_FINAL_ASSEMBLY);
+            when(productionOrderRepository.claimDownstreamProcessing(eq(PRODUCTION_ORDER_ID), any()))
+                    .thenReturn(1);
             
             // When
-            orchestrationService.completeProductionOrder(PRODUCTION_ORDER_ID);
+            orchestrationService.submitProductionOrderCompletion(PRODUCTION_ORDER_ID);
             
             // Then
             // Verify inventory credit for final assembly
@@ -515,6 +525,53 @@ class OrderOrchestrationServiceTest {
             );
         }
         
+        @Test
+        @DisplayName("OOS-033: Redelivered production completion credits stock and creates Final Assembly orders once")
+        void testSubmitProductionOrderCompletion_Redelivered_ProcessesOnce() {
+            // Given - the relay delivers PRODUCTION_ORDER_COMPLETED twice
+            testProductionOrder.setSourceWarehouseOrderId(null);
+            testProductionOrder.setSourceCustomerOrderId(CUSTOMER_ORDER_ID);
+            testProductionOrder.setStatus("COMPLETED");
+            
+            when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(testProductionOrder));
+            when(productionOrderRepository.claimDownstreamProcessing(eq(PRODUCTION_ORDER_ID), any()))
+                    .thenReturn(1, 0);
+            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
+                    .thenReturn(Optional.of(testCustomerOrder));
+            when(config.getWorkstations()).thenReturn(workstationsConfig);
+            when(workstationsConfig.getFinalAssembly()).thenReturn(WS_FINAL_ASSEMBLY);
+            
+            // When
+            orchestrationService.submitProductionOrderCompletion(PRODUCTION_ORDER_ID);
+            orchestrationService.submitProductionOrderCompletion(PRODUCTION_ORDER_ID);
+            
+            // Then - one credit per produced module and one Final Assembly order
+            verify(inventoryClient, times(testProductionOrder.getProductionOrderItems().size())).creditStock(
+                    eq(WS_FINAL_ASSEMBLY), anyString(), anyLong(), anyInt(), anyString(), anyString());
+            verify(finalAssemblyOrderService, times(1)).createFromProductionOrder(
+                    eq(testProductionOrder), eq(1L), eq(5));
+        }
+        
+        @Test
+        @DisplayName("OOS-032: Production completion queues downstream processing instead of running it")
+        void testCompleteProductionOrder_QueuesDownstreamProcessing() {
+            // Given
+            testProductionOrder.setStatus("IN_PROGRESS");
+            when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(testProductionOrder));
+            when(productionOrderRepository.save(any())).thenReturn(testProductionOrder);
+            
+            // When
+            orchestrationService.completeProductionOrder(PRODUCTION_ORDER_ID);
+            
+            // Then
+            verify(domainEventOutbox).publish(DomainEvent.EventType.PRODUCTION_ORDER_COMPLETED,
+                    OrderOrchestrationService.AGGREGATE_PRODUCTION_ORDER, PRODUCTION_ORDER_ID, null);
+            verifyNoInteractions(inventoryClient, finalAssemblyOrderService);
+            verify(warehouseOrderRepository, never()).save(any());
+        }
+        
         @Test
         @DisplayName("OOS-014: Already completed production order skips processing")
         void testCompleteProductionOrder_AlreadyCompleted_Skips() {
@@ -529,6 +586,7 @@ class OrderOrchestrationServiceTest {
             // Then
             verify(productionOrderRepository, never()).save(any());
             verify(inventoryClient, never()).creditStock(anyLong(), anyString(), anyLong(), anyInt(), anyString(), anyString());
+            verifyNoInteractions(domainEventOutbox);
         }
         
         @Test
@@ -560,25 +618,8 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-016: Get production control order progress calculates correctly")
         void testGetProductionControlOrderProgress_CalculatesCorrectly() {
             // Given
-            List<InjectionMoldingOrder> injectionOrders = List.of(new InjectionMoldingOrder(), new InjectionMoldingOrder());
-            List<PartPreProductionOrder> preProductionOrders = List.of(new PartPreProductionOrder());
-            List<PartFinishingOrder> finishingOrders = List.of(new PartFinishingOrder());
-            
-            when(injectionMoldingOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(injectionOrders);
-            when(injectionMoldingOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(2L);
-            when(partPreProductionOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(preProductionOrders);
-            when(partPreProductionOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L);
-            when(partFinishingOrderRepository.findByProductionControlOrderId(PRODUCTION_CONTROL_ORDER_ID))
-                    .thenReturn(finishingOrders);
-            when(partFinishingOrderRepository.countByProductionControlOrderIdAndStatus(
-                    PRODUCTION_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(0L);
+            when(productionControlOrderRepository.findChildCountersById(PRODUCTION_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(4, 3)));
             
             // When
             OrderOrchestrationService.OrderProgress progress = 
@@ -595,25 +636,8 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-017: Get assembly control order progress calculates correctly")
         void testGetAssemblyControlOrderProgress_CalculatesCorrectly() {
             // Given
-            List<GearAssemblyOrder> gearOrders = List.of(new GearAssemblyOrder());
-            List<MotorAssemblyOrder> motorOrders = List.of(new MotorAssemblyOrder());
-            List<FinalAssemblyOrder> finalOrders = List.of(new FinalAssemblyOrder());
-            
-            when(gearAssemblyOrderRepository.findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID))
-                    .thenReturn(gearOrders);
-            when(gearAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L);
-            when(motorAssemblyOrderRepository.findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID))
-                    .thenReturn(motorOrders);
-            when(motorAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L);
-            when(finalAssemblyOrderRepository.findByAssemblyControlOrderId(ASSEMBLY_CONTROL_ORDER_ID))
-                    .thenReturn(finalOrders);
-            when(finalAssemblyOrderRepository.countByAssemblyControlOrderIdAndStatus(
-                    ASSEMBLY_CONTROL_ORDER_ID, "COMPLETED"))
-                    .thenReturn(1L);
+            when(assemblyControlOrderRepository.findChildCountersById(ASSEMBLY_CONTROL_ORDER_ID))
+                    .thenReturn(Optional.of(counters(3, 3)));
             
             // When
             OrderOrchestrationService.OrderProgress progress = 
@@ -630,13 +654,8 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-018: Get production order progress aggregates control orders")
         void testGetProductionOrderProgress_AggregatesControlOrders() {
             // Given
-            testProductionControlOrder.setStatus("COMPLETED");
-            testAssemblyControlOrder.setStatus("IN_PROGRESS");
-            
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testProductionControlOrder));
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(List.of(testAssemblyControlOrder));
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(2, 1)));
             
             // When
             OrderOrchestrationService.OrderProgress progress = 
@@ -653,10 +672,8 @@ class OrderOrchestrationServiceTest {
         @DisplayName("OOS-019: Empty orders returns zero progress")
         void testGetProgress_NoOrders_ReturnsZero() {
             // Given
-            when(productionControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(Collections.emptyList());
-            when(assemblyControlOrderRepository.findBySourceProductionOrderId(PRODUCTION_ORDER_ID))
-                    .thenReturn(Collections.emptyList());
+            when(productionOrderRepository.findChildCountersById(PRODUCTION_ORDER_ID))
+                    .thenReturn(Optional.of(counters(0, 0)));
             
             // When
             OrderOrchestrationService.OrderProgress progress = 
@@ -685,8 +702,6 @@ class OrderOrchestrationServiceTest {
             when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
                     .thenReturn(Optional.of(testWarehouseOrder));
             when(warehouseOrderRepository.save(any())).thenReturn(testWarehouseOrder);
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
             
             // When
             orchestrationService.notifyProductionOrderComplete(WAREHOUSE_ORDER_ID);
@@ -696,6 +711,11 @@ class OrderOrchestrationServiceTest {
                     "CONFIRMED".equals(order.getStatus()) &&
                     "DIRECT_FULFILLMENT".equals(order.getTriggerScenario())
             ));
+            // Customer order notification runs after commit
+            verify(domainEventOutbox).publish(DomainEvent.EventType.WAREHOUSE_ORDER_READY,
+                    OrderOrchestrationService.AGGREGATE_WAREHOUSE_ORDER, WAREHOUSE_ORDER_ID,
+                    CUSTOMER_ORDER_ID.toString());
+            verify(customerOrderRepository, never()).findById(any());
         }
         
         @Test
@@ -706,8 +726,6 @@ class OrderOrchestrationServiceTest {
             when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
                     .thenReturn(Optional.of(testWarehouseOrder));
             when(warehouseOrderRepository.save(any())).thenReturn(testWarehouseOrder);
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
             
             // When
             orchestrationService.notifyProductionOrderComplete(WAREHOUSE_ORDER_ID);
@@ -726,8 +744,6 @@ class OrderOrchestrationServiceTest {
             when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
                     .thenReturn(Optional.of(testWarehouseOrder));
             when(warehouseOrderRepository.save(any())).thenReturn(testWarehouseOrder);
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
             
             // When
             orchestrationService.notifyProductionOrderComplete(WAREHOUSE_ORDER_ID);
@@ -743,8 +759,6 @@ class OrderOrchestrationServiceTest {
             testWarehouseOrder.setStatus("COMPLETED"); // Unexpected status
             when(warehouseOrderRepository.findById(WAREHOUSE_ORDER_ID))
                     .thenReturn(Optional.of(testWarehouseOrder));
-            when(customerOrderRepository.findById(CUSTOMER_ORDER_ID))
-                    .thenReturn(Optional.of(testCustomerOrder));
             
             // When
             orchestrationService.notifyProductionOrderComplete(WAREHOUSE_ORDER_ID);
@@ -810,6 +824,8 @@ class OrderOrchestrationServiceTest {
             testProductionOrder.setSourceCustomerOrderId(null);
             when(productionOrderRepository.findById(PRODUCTION_ORDER_ID))
                     .thenReturn(Optional.of(testProductionOrder));
+            when(productionOrderRepository.claimDownstreamProcessing(eq(PRODUCTION_ORDER_ID), any()))
+                    .thenReturn(1);
             
             // When/Then
             RuntimeException exception = assertThrows(RuntimeException.class, () ->
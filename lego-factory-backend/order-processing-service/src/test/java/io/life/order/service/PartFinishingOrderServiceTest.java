@@ -44,7 +44,7 @@ class PartFinishingOrderServiceTest {
     private InventoryClient inventoryClient;
 
     @Mock
-    private SimalClient simalClient;
+    private SimalTaskStatusOutbox simalTaskStatusOutbox;
 
     @Mock
     private OrderOrchestrationService orchestrationService;
@@ -179,7 +179,7 @@ class PartFinishingOrderServiceTest {
 
             assertThat(result.getStatus()).isEqualTo("IN_PROGRESS");
             assertThat(result.getActualStartTime()).isNotNull();
-            verify(simalClient).updateTaskStatus(anyString(), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("IN_PROGRESS"));
         }
 
         @Test
@@ -222,7 +222,7 @@ class PartFinishingOrderServiceTest {
             partFinishingOrderService.startOrder(1L);
 
             String expectedTaskId = SimalClient.generateTaskId(3L, "PFO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("IN_PROGRESS"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("IN_PROGRESS"));
         }
     }
 
@@ -230,6 +230,26 @@ class PartFinishingOrderServiceTest {
     @DisplayName("completeOrder")
     class CompleteOrder {
 
+        @BeforeEach
+        void allowTransition() {
+            lenient().when(partFinishingOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(1);
+        }
+
+        @Test
+        @DisplayName("Should not credit or propagate when a concurrent completion changed the status first")
+        void shouldRejectConcurrentCompletion() {
+            testOrder.setStatus("IN_PROGRESS");
+            when(partFinishingOrderRepository.findById(1L))
+                    .thenReturn(Optional.of(testOrder));
+            when(partFinishingOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(0);
+
+            assertThatThrownBy(() -> partFinishingOrderService.completeOrder(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("concurrently");
+            verifyNoInteractions(orchestrationService);
+            verify(partFinishingOrderRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should complete IN_PROGRESS order and credit inventory")
         void shouldCompleteOrderAndCreditInventory() {
@@ -265,7 +285,7 @@ class PartFinishingOrderServiceTest {
             partFinishingOrderService.completeOrder(1L);
 
             String expectedTaskId = SimalClient.generateTaskId(3L, "PFO-001");
-            verify(simalClient).updateTaskStatus(eq(expectedTaskId), eq("COMPLETED"));
+            verify(simalTaskStatusOutbox).enqueue(eq(expectedTaskId), eq("COMPLETED"));
         }
 
         @Test
@@ -314,7 +334,7 @@ class PartFinishingOrderServiceTest {
             PartFinishingOrder result = partFinishingOrderService.haltOrder(1L);
 
             assertThat(result.getStatus()).isEqualTo("HALTED");
-            verify(simalClient).updateTaskStatus(anyString(), eq("HALTED"));
+            verify(simalTaskStatusOutbox).enqueue(anyString(), eq("HALTED"));
         }
 
         @Test
@@ -221,6 +221,26 @@ class PartPreProductionOrderServiceTest {
     @DisplayName("completeOrder")
     class CompleteOrder {
 
+        @BeforeEach
+        void allowTransition() {
+            lenient().when(partPreProductionOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(1);
+        }
+
+        @Test
+        @DisplayName("Should not credit or propagate when a concurrent completion changed the status first")
+        void shouldRejectConcurrentCompletion() {
+            testOrder.setStatus("IN_PROGRESS");
+            when(partPreProductionOrderRepository.findById(1L))
+                    .thenReturn(Optional.of(testOrder));
+            when(partPreProductionOrderRepository.transitionStatus(1L, "IN_PROGRESS", "COMPLETED")).thenReturn(0);
+
+            assertThatThrownBy(() -> partPreProductionOrderService.completeOrder(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("concurrently");
+            verifyNoInteractions(orchestrationService);
+            verify(partPreProductionOrderRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should complete IN_PROGRESS order and credit inventory")
         void shouldCompleteOrderAndCreditInventory() {
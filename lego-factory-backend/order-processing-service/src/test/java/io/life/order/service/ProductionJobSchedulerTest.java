@@ -0,0 +1,154 @@
+package io.life.order.service;
+
+import io.life.order.entity.AsyncOperation;
+import io.life.order.exception.JobQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ProductionJobScheduler
+ *
+ * Each lane has one worker and room for two queued jobs. Tests cover:
+ * - Priority ordering of queued jobs
+ * - Rejection with a retry hint when a lane is full
+ * - Independence of lanes
+ * - Queue metrics
+ */
+@DisplayName("ProductionJobScheduler Tests")
+class ProductionJobSchedulerTest {
+
+    private static final String DISPATCH = AsyncOperation.TYPE_DISPATCH_CONTROL_ORDERS;
+    private static final String SCHEDULE = AsyncOperation.TYPE_SCHEDULE_PRODUCTION;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductionJobScheduler scheduler;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ProductionJobScheduler(meterRegistry, 1, 2, 1, 2);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    /**
+     * Occupy the lane's only worker until release is counted down.
+     */
+    private void blockWorker(String lane) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        scheduler.submit(lane, null, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("ordering")
+    class Ordering {
+
+        @Test
+        @DisplayName("Should run URGENT jobs before lower priorities")
+        void shouldRunUrgentFirst() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler = new ProductionJobScheduler(new SimpleMeterRegistry(), 1, 10, 1, 10);
+            blockWorker(DISPATCH);
+            List<String> ran = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(4);
+            for (String priority : List.of("LOW", "NORMAL", "URGENT", "HIGH")) {
+                scheduler.submit(DISPATCH, priority, () -> {
+                    ran.add(priority);
+                    done.countDown();
+                });
+            }
+
+            release.countDown();
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ran).containsExactly("URGENT", "HIGH", "NORMAL", "LOW");
+        }
+
+        @Test
+        @DisplayName("Should rank unknown and missing priorities as NORMAL")
+        void shouldRankUnknownAsNormal() {
+            assertThat(ProductionJobScheduler.rank(null)).isEqualTo(ProductionJobScheduler.rank("NORMAL"));
+            assertThat(ProductionJobScheduler.rank("MEDIUM")).isEqualTo(ProductionJobScheduler.rank("NORMAL"));
+            assertThat(ProductionJobScheduler.rank("urgent")).isLessThan(ProductionJobScheduler.rank("HIGH"));
+        }
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class Admission {
+
+        @Test
+        @DisplayName("Should reject jobs with a retry hint when the lane is full")
+        void shouldRejectWhenFull() throws InterruptedException {
+            blockWorker(DISPATCH);
+            scheduler.submit(DISPATCH, "LOW", () -> { });
+            scheduler.submit(DISPATCH, "LOW", () -> { });
+
+            assertThatThrownBy(() -> scheduler.submit(DISPATCH, "URGENT", () -> { }))
+                    .isInstanceOf(JobQueueFullException.class)
+                    .satisfies(e -> assertThat(((JobQueueFullException) e).getRetryAfterSeconds()).isPositive());
+            assertThat(meterRegistry.counter("production.jobs.rejected", "lane", "dispatch_control_orders").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should keep accepting jobs in other lanes")
+        void shouldIsolateLanes() throws InterruptedException {
+            blockWorker(DISPATCH);
+            scheduler.submit(DISPATCH, null, () -> { });
+            scheduler.submit(DISPATCH, null, () -> { });
+
+            CountDownLatch ran = new CountDownLatch(1);
+            scheduler.submit(SCHEDULE, null, ran::countDown);
+
+            assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should report the queue depth")
+        void shouldReportQueueDepth() throws InterruptedException {
+            blockWorker(DISPATCH);
+            scheduler.submit(DISPATCH, null, () -> { });
+
+            assertThat(scheduler.queueDepth(DISPATCH)).isEqualTo(1);
+            assertThat(meterRegistry.get("production.jobs.queue.depth").tag("lane", "dispatch_control_orders")
+                    .gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should refuse unknown operation types")
+        void shouldRefuseUnknownType() {
+            assertThatThrownBy(() -> scheduler.submit("UNKNOWN", null, () -> { }))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
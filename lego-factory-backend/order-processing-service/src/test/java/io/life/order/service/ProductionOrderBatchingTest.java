@@ -0,0 +1,141 @@
+package io.life.order.service;
+
+import io.life.order.client.MasterdataClient;
+import io.life.order.dto.ProductionOrderDTO;
+import io.life.order.dto.masterdata.BomEntryDTO;
+import io.life.order.dto.masterdata.ModuleDTO;
+import io.life.order.entity.CustomerOrder;
+import io.life.order.entity.OrderItem;
+import io.life.order.repository.CustomerOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Statement-count regression test for ProductionOrderService.createFromCustomerOrder
+ *
+ * A customer order for two products explodes into 30 module items. With
+ * sequence-generated IDs and JDBC batching the rows go out in one batch per
+ * table; with IDENTITY columns every row would be its own statement.
+ */
+@DataJpaTest
+@Import(ProductionOrderService.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("ProductionOrderService Batching Tests")
+class ProductionOrderBatchingTest {
+
+    private static final int MODULES_PER_PRODUCT = 15;
+
+    @Autowired
+    private ProductionOrderService productionOrderService;
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private ProductionControlOrderService productionControlOrderService;
+
+    @MockBean
+    private AssemblyControlOrderService assemblyControlOrderService;
+
+    @MockBean
+    private InventoryService inventoryService;
+
+    @MockBean
+    private MasterdataClient masterdataClient;
+
+    @MockBean
+    private OrderSequenceAllocator orderSequences;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        when(orderSequences.next(anyString())).thenReturn(1L);
+        when(masterdataClient.getModulesForProduct(anyLong())).thenAnswer(inv -> {
+            long productId = inv.getArgument(0);
+            return LongStream.range(0, MODULES_PER_PRODUCT)
+                    .mapToObj(i -> BomEntryDTO.builder()
+                            .componentId(productId * 100 + i)
+                            .componentType("MODULE")
+                            .quantity(2)
+                            .build())
+                    .toList();
+        });
+        when(masterdataClient.getModuleById(anyLong())).thenAnswer(inv -> {
+            long moduleId = inv.getArgument(0);
+            return Optional.of(ModuleDTO.builder()
+                    .id(moduleId)
+                    .name("Module " + moduleId)
+                    .productionWorkstationId((int) (moduleId % 5) + 1)
+                    .build());
+        });
+    }
+
+    @Test
+    @DisplayName("Should insert the exploded items in batches instead of one statement per row")
+    void shouldBatchItemInserts() {
+        Long customerOrderId = saveCustomerOrder(1L, 2L);
+        statistics.clear();
+
+        ProductionOrderDTO created = productionOrderService.createFromCustomerOrder(
+                customerOrderId, "HIGH", null, null, 7L);
+        entityManager.flush();
+
+        assertThat(created.getProductionOrderItems()).hasSize(2 * MODULES_PER_PRODUCT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + 2 * MODULES_PER_PRODUCT);
+        // Customer order lookup, sequence reads (the pooled optimizer reads twice
+        // on first use), one insert per table and the two status updates -
+        // independent of the number of items
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    private Long saveCustomerOrder(Long... productIds) {
+        CustomerOrder order = new CustomerOrder();
+        order.setOrderNumber("ORD-1001");
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus("CONFIRMED");
+        order.setWorkstationId(7L);
+        List<OrderItem> items = new ArrayList<>();
+        for (Long productId : productIds) {
+            OrderItem item = new OrderItem();
+            item.setCustomerOrder(order);
+            item.setItemType("PRODUCT");
+            item.setItemId(productId);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        order.setOrderItems(items);
+        Long id = customerOrderRepository.saveAndFlush(order).getId();
+        entityManager.clear();
+        return id;
+    }
+}
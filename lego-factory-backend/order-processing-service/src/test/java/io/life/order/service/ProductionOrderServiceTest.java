@@ -13,6 +13,7 @@ import io.life.order.entity.WarehouseOrderItem;
 import io.life.order.repository.CustomerOrderRepository;
 import io.life.order.repository.ProductionOrderRepository;
 import io.life.order.repository.WarehouseOrderRepository;
+import io.life.order.util.OrderSequenceAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -71,6 +72,9 @@ class ProductionOrderServiceTest {
     @Mock
     private MasterdataClient masterdataClient;
 
+    @Mock
+    private OrderSequenceAllocator orderSequences;
+
     @InjectMocks
     private ProductionOrderService productionOrderService;
 
@@ -173,7 +177,7 @@ class ProductionOrderServiceTest {
         @DisplayName("getProductionOrderById returns order when found")
         void getProductionOrderById_Found_ReturnsOrder() {
             // Given
-            when(productionOrderRepository.findById(1L)).thenReturn(Optional.of(testProductionOrder));
+            when(productionOrderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testProductionOrder));
 
             // When
             Optional<ProductionOrderDTO> result = productionOrderService.getProductionOrderById(1L);
@@ -187,7 +191,7 @@ class ProductionOrderServiceTest {
         @DisplayName("getProductionOrderById returns empty when not found")
         void getProductionOrderById_NotFound_ReturnsEmpty() {
             // Given
-            when(productionOrderRepository.findById(999L)).thenReturn(Optional.empty());
+            when(productionOrderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
             // When
             Optional<ProductionOrderDTO> result = productionOrderService.getProductionOrderById(999L);
@@ -280,7 +284,7 @@ class ProductionOrderServiceTest {
         @DisplayName("POS-001: Create from CustomerOrder creates production order")
         void createFromCustomerOrder_Success() {
             // Given
-            when(customerOrderRepository.findById(100L)).thenReturn(Optional.of(testCustomerOrder));
+            when(customerOrderRepository.findWithItemsById(100L)).thenReturn(Optional.of(testCustomerOrder));
             when(masterdataClient.getModulesForProduct(1L)).thenReturn(List.of(testBomEntry));
             when(masterdataClient.getModuleById(10L)).thenReturn(Optional.of(testModule));
             when(productionOrderRepository.save(any(ProductionOrder.class)))
@@ -305,7 +309,7 @@ class ProductionOrderServiceTest {
         @DisplayName("POS-002: Create from CustomerOrder with no modules handles gracefully")
         void createFromCustomerOrder_NoModules_HandlesGracefully() {
             // Given
-            when(customerOrderRepository.findById(100L)).thenReturn(Optional.of(testCustomerOrder));
+            when(customerOrderRepository.findWithItemsById(100L)).thenReturn(Optional.of(testCustomerOrder));
             when(masterdataClient.getModulesForProduct(1L)).thenReturn(Collections.emptyList());
             when(productionOrderRepository.save(any(ProductionOrder.class)))
                     .thenAnswer(inv -> {
@@ -327,7 +331,7 @@ class ProductionOrderServiceTest {
         @DisplayName("POS-003: Create from CustomerOrder updates customer order status")
         void createFromCustomerOrder_UpdatesCustomerOrderStatus() {
             // Given
-            when(customerOrderRepository.findById(100L)).thenReturn(Optional.of(testCustomerOrder));
+            when(customerOrderRepository.findWithItemsById(100L)).thenReturn(Optional.of(testCustomerOrder));
             when(masterdataClient.getModulesForProduct(1L)).thenReturn(List.of(testBomEntry));
             when(masterdataClient.getModuleById(10L)).thenReturn(Optional.of(testModule));
             when(productionOrderRepository.save(any(ProductionOrder.class)))
@@ -350,7 +354,7 @@ class ProductionOrderServiceTest {
         @DisplayName("POS-004: Create from non-existent CustomerOrder throws exception")
         void createFromCustomerOrder_NotFound_ThrowsException() {
             // Given
-            when(customerOrderRepository.findById(999L)).thenReturn(Optional.empty());
+            when(customerOrderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> productionOrderService.createFromCustomerOrder(
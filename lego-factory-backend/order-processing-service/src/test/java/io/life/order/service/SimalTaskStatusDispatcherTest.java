@@ -0,0 +1,159 @@
+package io.life.order.service;
+
+import io.life.order.client.SimalClient;
+import io.life.order.dto.simal.TaskStatusUpdateRequest;
+import io.life.order.dto.simal.TaskStatusUpdateResponse;
+import io.life.order.entity.SimalTaskStatusUpdate;
+import io.life.order.repository.SimalTaskStatusUpdateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SimalTaskStatusDispatcher
+ * 
+ * Tests draining of the SimAL task status outbox:
+ * - Coalescing to the latest status per task
+ * - Deletion of delivered rows
+ * - Retention and attempt tracking on delivery failure
+ * - Isolation of updates rejected by SimAL
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SimalTaskStatusDispatcher Tests")
+class SimalTaskStatusDispatcherTest {
+
+    @Mock
+    private SimalTaskStatusUpdateRepository outboxRepository;
+
+    @Mock
+    private SimalClient simalClient;
+
+    private SimalTaskStatusDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new SimalTaskStatusDispatcher(outboxRepository, simalClient, true, 100, 10);
+    }
+
+    private SimalTaskStatusUpdate row(long id, String taskId, String status) {
+        return SimalTaskStatusUpdate.builder().id(id).taskId(taskId).status(status).build();
+    }
+
+    @Nested
+    @DisplayName("coalesce")
+    class Coalesce {
+
+        @Test
+        @DisplayName("Should keep only the latest status per task")
+        void shouldKeepLatestStatusPerTask() {
+            List<TaskStatusUpdateRequest> result = SimalTaskStatusDispatcher.coalesce(List.of(
+                    row(1L, "workstation-1-IMO-001", "IN_PROGRESS"),
+                    row(2L, "workstation-4-GAO-001", "IN_PROGRESS"),
+                    row(3L, "workstation-1-IMO-001", "COMPLETED")));
+
+            assertThat(result).containsExactly(
+                    new TaskStatusUpdateRequest("workstation-4-GAO-001", "IN_PROGRESS"),
+                    new TaskStatusUpdateRequest("workstation-1-IMO-001", "COMPLETED"));
+        }
+    }
+
+    @Nested
+    @DisplayName("dispatchPending")
+    class DispatchPending {
+
+        @Test
+        @DisplayName("Should send one bulk request and delete delivered rows")
+        @SuppressWarnings("unchecked")
+        void shouldSendBulkAndDeleteRows() {
+            when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of(
+                    row(1L, "workstation-1-IMO-001", "IN_PROGRESS"),
+                    row(2L, "workstation-1-IMO-001", "HALTED")));
+            when(simalClient.updateTaskStatuses(anyList()))
+                    .thenReturn(TaskStatusUpdateResponse.builder().updated(1).build());
+
+            dispatcher.dispatchPending();
+
+            ArgumentCaptor<List<TaskStatusUpdateRequest>> captor = ArgumentCaptor.forClass(List.class);
+            verify(simalClient, times(1)).updateTaskStatuses(captor.capture());
+            assertThat(captor.getValue()).containsExactly(
+                    new TaskStatusUpdateRequest("workstation-1-IMO-001", "HALTED"));
+            verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("Should do nothing when outbox is empty")
+        void shouldDoNothingWhenEmpty() {
+            when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of());
+
+            dispatcher.dispatchPending();
+
+            verifyNoInteractions(simalClient);
+        }
+
+        @Test
+        @DisplayName("Should keep rows and record attempt when SimAL is unavailable")
+        void shouldKeepRowsOnFailure() {
+            when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of(
+                    row(5L, "workstation-3-PFO-001", "COMPLETED")));
+            when(simalClient.updateTaskStatuses(anyList()))
+                    .thenThrow(new ResourceAccessException("Connection refused"));
+
+            dispatcher.dispatchPending();
+
+            verify(outboxRepository).markFailed(List.of(5L), "Connection refused");
+            verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        }
+
+        @Test
+        @DisplayName("Should only read updates that have attempts left")
+        void shouldSkipUpdatesWithoutAttemptsLeft() {
+            new SimalTaskStatusDispatcher(outboxRepository, simalClient, true, 100, 3).dispatchPending();
+
+            verify(outboxRepository).findByAttemptsLessThanOrderByIdAsc(eq(3), any(Pageable.class));
+            verifyNoInteractions(simalClient);
+        }
+
+        @Test
+        @DisplayName("Should resend a rejected batch per task so one bad update does not block the others")
+        void shouldIsolateRejectedUpdate() {
+            when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(10), any(Pageable.class))).thenReturn(List.of(
+                    row(1L, "workstation-1-IMO-001", "COMPLETED"),
+                    row(2L, "workstation-4-GAO-001", "BOGUS"),
+                    row(3L, "workstation-1-IMO-001", "COMPLETED")));
+            HttpClientErrorException rejected = HttpClientErrorException.create(
+                    HttpStatus.BAD_REQUEST, "Invalid status", null, null, null);
+            when(simalClient.updateTaskStatuses(anyList())).thenThrow(rejected);
+            doReturn(TaskStatusUpdateResponse.builder().updated(1).build()).when(simalClient).updateTaskStatuses(
+                    List.of(new TaskStatusUpdateRequest("workstation-1-IMO-001", "COMPLETED")));
+
+            dispatcher.dispatchPending();
+
+            verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+            verify(outboxRepository).markFailed(List.of(2L), rejected.getMessage());
+            verify(outboxRepository, never()).markFailed(eq(List.of(1L, 2L, 3L)), any());
+        }
+
+        @Test
+        @DisplayName("Should not dispatch when disabled")
+        void shouldNotDispatchWhenDisabled() {
+            new SimalTaskStatusDispatcher(outboxRepository, simalClient, false, 100, 10).dispatchPending();
+
+            verifyNoInteractions(outboxRepository, simalClient);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package io.life.order.service;
+
+import io.life.order.entity.WebhookDelivery;
+import io.life.order.entity.WebhookSubscription;
+import io.life.order.repository.WebhookDeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WebhookDeliveryEngine
+ *
+ * Workers run inline on the polling thread. Tests cover:
+ * - Single and batched delivery
+ * - Backoff and dead-lettering on failure
+ * - Deliveries for removed subscriptions
+ * - Claims shared with other instances
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookDeliveryEngine Tests")
+class WebhookDeliveryEngineTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private WebhookDeliveryRepository deliveryRepository;
+
+    @Mock
+    private WebhookSubscriptionIndex subscriptionIndex;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private WebhookDeliveryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = engine(true);
+    }
+
+    private WebhookDeliveryEngine engine(boolean enabled) {
+        return new WebhookDeliveryEngine(deliveryRepository, subscriptionIndex, restTemplate, Runnable::run,
+                enabled, 200, 100, 2, 20, MAX_ATTEMPTS, 1000, 10_000, 60_000);
+    }
+
+    private WebhookSubscription subscription(long id, boolean batch) {
+        WebhookSubscription sub = new WebhookSubscription();
+        sub.setId(id);
+        sub.setEventType("ANY");
+        sub.setTargetUrl("http://subscriber-" + id + "/hook");
+        sub.setSecret("s3cret");
+        sub.setActive(true);
+        sub.setBatchDelivery(batch);
+        return sub;
+    }
+
+    private WebhookDelivery delivery(long id, long subscriptionId, int attempts) {
+        return WebhookDelivery.builder()
+                .id(id)
+                .subscriptionId(subscriptionId)
+                .eventKey("CUSTOMER.COMPLETED")
+                .payload("{\"orderId\":" + id + "}")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void givenDue(WebhookDelivery... deliveries) {
+        when(deliveryRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(WebhookDelivery.STATUS_PENDING), any(), any())).thenReturn(List.of(deliveries));
+        when(deliveryRepository.claim(anyList(), anyString(), any(), any())).thenReturn(deliveries.length);
+        when(deliveryRepository.findByIdInAndClaimedByAndStatusOrderByIdAsc(anyList(), anyString(),
+                eq(WebhookDelivery.STATUS_PENDING))).thenReturn(List.of(deliveries));
+        lenient().when(deliveryRepository.renewClaim(anyList(), anyString(), any()))
+                .thenAnswer(inv -> inv.<List<Long>>getArgument(0).size());
+    }
+
+    @Nested
+    @DisplayName("delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("Should POST each event separately and mark it delivered")
+        @SuppressWarnings("unchecked")
+        void shouldDeliverSingleEvents() {
+            givenDue(delivery(1, 10, 0), delivery(2, 10, 0));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, false));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenReturn(ResponseEntity.ok("ok"));
+
+            engine.pollDue();
+
+            ArgumentCaptor<HttpEntity<String>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(2)).postForEntity(eq("http://subscriber-10/hook"), captor.capture(), eq(String.class));
+            assertThat(captor.getAllValues()).extracting(HttpEntity::getBody)
+                    .containsExactly("{\"orderId\":1}", "{\"orderId\":2}");
+            assertThat(captor.getValue().getHeaders().getFirst("X-Webhook-Secret")).isEqualTo("s3cret");
+            assertThat(captor.getValue().getHeaders().getFirst("X-Webhook-Event")).isEqualTo("CUSTOMER.COMPLETED");
+            verify(deliveryRepository).markDelivered(eq(List.of(1L)), any());
+            verify(deliveryRepository).markDelivered(eq(List.of(2L)), any());
+        }
+
+        @Test
+        @DisplayName("Should send a JSON array to batch subscribers")
+        @SuppressWarnings("unchecked")
+        void shouldBatchEvents() {
+            givenDue(delivery(1, 10, 0), delivery(2, 10, 0), delivery(3, 10, 0));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, true));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenReturn(ResponseEntity.ok("ok"));
+
+            engine.pollDue();
+
+            ArgumentCaptor<HttpEntity<String>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(1)).postForEntity(anyString(), captor.capture(), eq(String.class));
+            assertThat(captor.getValue().getBody())
+                    .isEqualTo("[{\"orderId\":1},{\"orderId\":2},{\"orderId\":3}]");
+            assertThat(captor.getValue().getHeaders().getFirst("X-Webhook-Batch-Size")).isEqualTo("3");
+            verify(deliveryRepository).markDelivered(eq(List.of(1L, 2L, 3L)), any());
+        }
+
+        @Test
+        @DisplayName("Should keep subscribers separate")
+        void shouldDeliverPerSubscriber() {
+            givenDue(delivery(1, 10, 0), delivery(2, 20, 0));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, false));
+            when(subscriptionIndex.get(20L)).thenReturn(subscription(20, false));
+            when(restTemplate.postForEntity(eq("http://subscriber-10/hook"), any(), eq(String.class)))
+                    .thenThrow(new ResourceAccessException("Read timed out"));
+            when(restTemplate.postForEntity(eq("http://subscriber-20/hook"), any(), eq(String.class)))
+                    .thenReturn(ResponseEntity.ok("ok"));
+
+            engine.pollDue();
+
+            verify(deliveryRepository).markDelivered(eq(List.of(2L)), any());
+            verify(deliveryRepository).recordFailure(eq(1L), eq(WebhookDelivery.STATUS_PENDING), eq(1), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldDoNothingWhenDisabled() {
+            engine(false).pollDue();
+
+            verifyNoInteractions(deliveryRepository, restTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("failure")
+    class Failure {
+
+        @Test
+        @DisplayName("Should reschedule a failed delivery with backoff")
+        void shouldRescheduleWithBackoff() {
+            givenDue(delivery(1, 10, 1));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, false));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class)))
+                    .thenThrow(new ResourceAccessException("Connection refused"));
+            LocalDateTime before = LocalDateTime.now();
+
+            engine.pollDue();
+
+            ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(deliveryRepository).recordFailure(eq(1L), eq(WebhookDelivery.STATUS_PENDING), eq(2),
+                    next.capture(), eq("Connection refused"));
+            assertThat(next.getValue()).isAfterOrEqualTo(before.plusSeconds(2));
+            verify(deliveryRepository, never()).markDelivered(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should mark a delivery dead after the last attempt")
+        void shouldDeadLetterAfterMaxAttempts() {
+            givenDue(delivery(1, 10, MAX_ATTEMPTS - 1));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, false));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class)))
+                    .thenThrow(new ResourceAccessException("Connection refused"));
+
+            engine.pollDue();
+
+            verify(deliveryRepository).recordFailure(eq(1L), eq(WebhookDelivery.STATUS_DEAD), eq(MAX_ATTEMPTS),
+                    any(), eq("Connection refused"));
+        }
+
+        @Test
+        @DisplayName("Should mark deliveries for a removed subscription dead without calling out")
+        void shouldDeadLetterRemovedSubscription() {
+            givenDue(delivery(1, 10, 0));
+            when(subscriptionIndex.get(10L)).thenReturn(null);
+
+            engine.pollDue();
+
+            verify(deliveryRepository).recordFailure(eq(1L), eq(WebhookDelivery.STATUS_DEAD), eq(0), any(), anyString());
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        @DisplayName("Should double the backoff per attempt up to the maximum")
+        void shouldCapBackoff() {
+            assertThat(engine.backoffMs(1)).isEqualTo(1000);
+            assertThat(engine.backoffMs(2)).isEqualTo(2000);
+            assertThat(engine.backoffMs(4)).isEqualTo(8000);
+            assertThat(engine.backoffMs(5)).isEqualTo(10_000);
+            assertThat(engine.backoffMs(60)).isEqualTo(10_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("claims")
+    class Claims {
+
+        @Test
+        @DisplayName("Should claim due deliveries with a lease before queueing them")
+        void shouldClaimWithLease() {
+            givenDue(delivery(1, 10, 0));
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, false));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenReturn(ResponseEntity.ok("ok"));
+            LocalDateTime before = LocalDateTime.now();
+
+            engine.pollDue();
+
+            ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(deliveryRepository).claim(eq(List.of(1L)), anyString(), any(), leaseUntil.capture());
+            assertThat(leaseUntil.getValue()).isAfterOrEqualTo(before.plusSeconds(60));
+            verify(deliveryRepository).renewClaim(eq(List.of(1L)), anyString(), any());
+            verify(deliveryRepository).markDelivered(eq(List.of(1L)), any());
+        }
+
+        @Test
+        @DisplayName("Should not send deliveries claimed by another instance")
+        void shouldSkipDeliveriesClaimedElsewhere() {
+            when(deliveryRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    eq(WebhookDelivery.STATUS_PENDING), any(), any())).thenReturn(List.of(delivery(1, 10, 0)));
+            when(deliveryRepository.claim(anyList(), anyString(), any(), any())).thenReturn(0);
+
+            engine.pollDue();
+
+            verifyNoInteractions(restTemplate);
+            verify(deliveryRepository, never()).markDelivered(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should send only the deliveries this instance still holds when renewing the lease")
+        void shouldDropDeliveriesTakenOverBeforeSending() {
+            WebhookDelivery first = delivery(1, 10, 0);
+            WebhookDelivery second = delivery(2, 10, 0);
+            when(deliveryRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    eq(WebhookDelivery.STATUS_PENDING), any(), any())).thenReturn(List.of(first, second));
+            when(deliveryRepository.claim(anyList(), anyString(), any(), any())).thenReturn(2);
+            when(deliveryRepository.findByIdInAndClaimedByAndStatusOrderByIdAsc(anyList(), anyString(),
+                    eq(WebhookDelivery.STATUS_PENDING)))
+                    .thenReturn(List.of(first, second))
+                    .thenReturn(List.of(second));
+            when(deliveryRepository.renewClaim(anyList(), anyString(), any())).thenReturn(1, 1);
+            when(subscriptionIndex.get(10L)).thenReturn(subscription(10, true));
+            when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenReturn(ResponseEntity.ok("ok"));
+
+            engine.pollDue();
+
+            verify(restTemplate).postForEntity(anyString(), argThat((HttpEntity<?> e) ->
+                    "[{\"orderId\":2}]".equals(e.getBody())), eq(String.class));
+            verify(deliveryRepository).markDelivered(eq(List.of(2L)), any());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.life.order.util;
+
+import io.life.order.config.OrderProcessingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OrderSequenceAllocator
+ *
+ * Tests hi/lo allocation:
+ * - Numbers are handed out from memory until the block is used up
+ * - Concurrent callers never receive the same number
+ * - Instances sharing one sequence table never overlap
+ * - New sequences start after the numbers already stored
+ */
+@DisplayName("OrderSequenceAllocator Tests")
+class OrderSequenceAllocatorTest {
+
+    @Nested
+    @DisplayName("block allocation")
+    class BlockAllocation {
+
+        private final AtomicInteger reservations = new AtomicInteger();
+        private final AtomicLong nextValue = new AtomicLong(1001);
+        private OrderSequenceAllocator allocator;
+
+        @BeforeEach
+        void setUp() {
+            allocator = new OrderSequenceAllocator((name, size) -> {
+                reservations.incrementAndGet();
+                return nextValue.getAndAdd(size);
+            }, 10);
+        }
+
+        @Test
+        @DisplayName("Should reserve one block per block-size numbers")
+        void shouldReserveOncePerBlock() {
+            List<Long> numbers = IntStream.range(0, 25).mapToObj(i -> allocator.next("WAREHOUSE_ORDER")).toList();
+
+            assertThat(numbers).first().isEqualTo(1001L);
+            assertThat(numbers).last().isEqualTo(1025L);
+            assertThat(numbers).isSorted().doesNotHaveDuplicates();
+            assertThat(reservations.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should keep separate blocks per sequence")
+        void shouldSeparateSequences() {
+            long warehouse = allocator.next("WAREHOUSE_ORDER");
+            long customer = allocator.next("CUSTOMER_ORDER");
+
+            assertThat(allocator.next("WAREHOUSE_ORDER")).isEqualTo(warehouse + 1);
+            assertThat(allocator.next("CUSTOMER_ORDER")).isEqualTo(customer + 1);
+            assertThat(reservations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not hand out a number twice under concurrency")
+        void shouldBeUniqueUnderConcurrency() throws Exception {
+            Set<Long> seen = ConcurrentHashMap.newKeySet();
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    futures.add(pool.submit(() -> {
+                        for (int i = 0; i < 500; i++) {
+                            assertThat(seen.add(allocator.next("PRODUCTION_ORDER"))).isTrue();
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            assertThat(seen).hasSize(4000);
+            assertThat(reservations.get()).isEqualTo(400);
+        }
+
+        @Test
+        @DisplayName("Should refuse a non-positive block size")
+        void shouldRefuseInvalidBlockSize() {
+            assertThatThrownBy(() -> new OrderSequenceAllocator((name, size) -> 1, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence table")
+    class SequenceTable {
+
+        private JdbcTemplate jdbcTemplate;
+        private DataSourceTransactionManager transactionManager;
+        private OrderProcessingConfig config;
+
+        @BeforeEach
+        void setUp() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:sequences-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE order_number_sequences "
+                    + "(sequence_name VARCHAR(50) PRIMARY KEY, next_value BIGINT NOT NULL)");
+            transactionManager = new DataSourceTransactionManager(dataSource);
+            config = new OrderProcessingConfig();
+            config.getOrderNumbers().setBlockSize(100);
+        }
+
+        @Test
+        @DisplayName("Should create the sequence on first use and advance it by one block")
+        void shouldCreateSequence() {
+            OrderSequenceAllocator allocator = new OrderSequenceAllocator(jdbcTemplate, transactionManager, config);
+
+            assertThat(allocator.next("WAREHOUSE_ORDER")).isEqualTo(1001L);
+            assertThat(allocator.next("WAREHOUSE_ORDER")).isEqualTo(1002L);
+            assertThat(jdbcTemplate.queryForObject(OrderSequenceAllocator.SELECT_SQL, Long.class, "WAREHOUSE_ORDER"))
+                    .isEqualTo(1101L);
+        }
+
+        @Test
+        @DisplayName("Should give each instance its own block")
+        void shouldNotOverlapAcrossInstances() {
+            OrderSequenceAllocator first = new OrderSequenceAllocator(jdbcTemplate, transactionManager, config);
+            OrderSequenceAllocator second = new OrderSequenceAllocator(jdbcTemplate, transactionManager, config);
+
+            long fromFirst = first.next("CUSTOMER_ORDER");
+            long fromSecond = second.next("CUSTOMER_ORDER");
+
+            assertThat(fromFirst).isEqualTo(1001L);
+            assertThat(fromSecond).isEqualTo(1101L);
+        }
+
+        @Test
+        @DisplayName("Should start a new sequence after the highest existing order number")
+        void shouldSeedFromExistingNumbers() {
+            // Control order numbers used to be derived from the row count
+            jdbcTemplate.execute("CREATE TABLE production_control_orders (control_order_number VARCHAR(255))");
+            jdbcTemplate.batchUpdate("INSERT INTO production_control_orders VALUES (?)",
+                    List.of(new Object[] {"PCO-0007"}, new Object[] {"PCO-1204"}, new Object[] {"PCO-A1B2"}));
+            OrderSequenceAllocator allocator = new OrderSequenceAllocator(jdbcTemplate, transactionManager, config);
+
+            assertThat(allocator.next("PRODUCTION_CONTROL_ORDER")).isEqualTo(1205L);
+            assertThat(allocator.next("ASSEMBLY_CONTROL_ORDER")).isEqualTo(1001L);
+        }
+
+        @Test
+        @DisplayName("Should read the number after the last dash")
+        void shouldParseOrderNumbers() {
+            jdbcTemplate.execute("CREATE TABLE warehouse_orders (order_number VARCHAR(255))");
+            jdbcTemplate.update("INSERT INTO warehouse_orders VALUES ('PCO-0042')");
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "WAREHOUSE_ORDER")).isEqualTo(42L);
+            jdbcTemplate.update("INSERT INTO warehouse_orders VALUES ('ORD-20261018-1500')");
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "WAREHOUSE_ORDER")).isEqualTo(1500L);
+            jdbcTemplate.update("INSERT INTO warehouse_orders VALUES ('1234')");
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "WAREHOUSE_ORDER")).isEqualTo(1500L);
+
+            jdbcTemplate.update("DELETE FROM warehouse_orders");
+            jdbcTemplate.update("INSERT INTO warehouse_orders VALUES ('1234'), ('WO-1A2B3C'), ('PO-'), (NULL)");
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "WAREHOUSE_ORDER")).isEqualTo(1234L);
+            jdbcTemplate.update("DELETE FROM warehouse_orders WHERE order_number = '1234'");
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "WAREHOUSE_ORDER")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should skip order tables that do not exist without a failing statement")
+        void shouldSkipMissingTables() {
+            assertThat(OrderSequenceAllocator.highestExisting(jdbcTemplate, "MANUFACTURING_ORDER")).isZero();
+        }
+    }
+}
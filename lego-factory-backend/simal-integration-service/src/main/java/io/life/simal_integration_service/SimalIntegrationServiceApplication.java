@@ -1,20 +1,27 @@
 package io.life.simal_integration_service;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
+@EnableScheduling
 public class SimalIntegrationServiceApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(SimalIntegrationServiceApplication.class, args);
 	}
 
+	// Observed so calls carry the W3C traceparent header
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(ObjectProvider<ObservationRegistry> observationRegistry) {
+		RestTemplate restTemplate = new RestTemplate();
+		observationRegistry.ifAvailable(restTemplate::setObservationRegistry);
+		return restTemplate;
 	}
 
 }
@@ -1,11 +1,16 @@
 package io.life.simal_integration_service.controller;
 
 import io.life.simal_integration_service.dto.*;
+import io.life.simal_integration_service.dto.masterdata.ModuleDTO;
+import io.life.simal_integration_service.dto.masterdata.PartDTO;
+import io.life.simal_integration_service.dto.masterdata.ProductDTO;
+import io.life.simal_integration_service.dto.masterdata.WorkstationDTO;
 import io.life.simal_integration_service.entity.ScheduledOrder;
 import io.life.simal_integration_service.entity.ScheduledTask;
 import io.life.simal_integration_service.repository.ScheduledOrderRepository;
 import io.life.simal_integration_service.repository.ScheduledTaskRepository;
 import io.life.simal_integration_service.service.ControlOrderIntegrationService;
+import io.life.simal_integration_service.service.MasterdataCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,11 +18,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
@@ -44,19 +47,16 @@ public class SimalController {
     private final ControlOrderIntegrationService controlOrderIntegrationService;
     private final ScheduledOrderRepository scheduledOrderRepository;
     private final ScheduledTaskRepository scheduledTaskRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${masterdata.api.base-url:http://masterdata-service:8013/api}")
-    private String masterdataApiBaseUrl;
+    private final MasterdataCache masterdataCache;
 
     public SimalController(ControlOrderIntegrationService controlOrderIntegrationService,
                           ScheduledOrderRepository scheduledOrderRepository,
                           ScheduledTaskRepository scheduledTaskRepository,
-                          RestTemplate restTemplate) {
+                          MasterdataCache masterdataCache) {
         this.controlOrderIntegrationService = controlOrderIntegrationService;
         this.scheduledOrderRepository = scheduledOrderRepository;
         this.scheduledTaskRepository = scheduledTaskRepository;
-        this.restTemplate = restTemplate;
+        this.masterdataCache = masterdataCache;
     }
 
     @Operation(summary = "Submit production order for scheduling",
@@ -93,12 +93,8 @@ public class SimalController {
                 .totalDuration(totalDuration)
                 .build();
 
-        // Save order first to get ID
-        ScheduledOrder savedOrder = scheduledOrderRepository.save(orderEntity);
-        log.info("Saved scheduled order to database: {}", scheduleId);
-
-        // Convert DTOs to entities and set the saved order reference (use final reference for lambda)
-        final ScheduledOrder finalSavedOrder = savedOrder;
+        // Attach the tasks and save once: IDs come from sequences, so the order
+        // and its tasks are inserted as JDBC batches on flush
         List<ScheduledTask> taskEntities = taskDtos.stream()
                 .map(taskDto -> ScheduledTask.builder()
                         .taskId(taskDto.getTaskId())
@@ -112,15 +108,13 @@ public class SimalController {
                         .duration(taskDto.getDuration())
                         .status(taskDto.getStatus())
                         .sequence(taskDto.getSequence())
-                        .scheduledOrder(finalSavedOrder)
+                        .scheduledOrder(orderEntity)
                         .build())
                 .collect(Collectors.toList());
+        orderEntity.getScheduledTasks().addAll(taskEntities);
 
-        savedOrder.getScheduledTasks().addAll(taskEntities);
-
-        // Save again to persist tasks
-        savedOrder = scheduledOrderRepository.save(savedOrder);
-        log.info("Saved {} tasks for schedule: {}", taskEntities.size(), scheduleId);
+        scheduledOrderRepository.save(orderEntity);
+        log.info("Saved scheduled order {} with {} tasks", scheduleId, taskEntities.size());
 
         // Build response
         SimalScheduledOrderResponse response = SimalScheduledOrderResponse.builder()
@@ -280,30 +274,23 @@ public class SimalController {
             for (SimalProductionOrderRequest.OrderLineItem item : request.getLineItems()) {
                 int duration = item.getEstimatedDuration() != null ? item.getEstimatedDuration() : 30;
 
-                // Fetch module details from masterdata to get productionWorkstationId
+                // Look up the module's productionWorkstationId in the local masterdata cache
+                Integer productionWorkstationId = parseId(item.getItemId())
+                        .flatMap(masterdataCache::getModule)
+                        .map(ModuleDTO::getProductionWorkstationId)
+                        .orElse(null);
+
                 String workstationId;
-                try {
-                    String moduleUrl = masterdataApiBaseUrl + "/masterdata/modules/" + item.getItemId();
-                    Map<String, Object> moduleData = restTemplate.getForObject(moduleUrl, Map.class);
-                    
-                    if (moduleData != null && moduleData.containsKey("productionWorkstationId")) {
-                        Integer wsId = (Integer) moduleData.get("productionWorkstationId");
-                        workstationId = "WS-" + wsId;
-                        log.debug("Module {} assigned to {}", item.getItemName(), workstationId);
-                    } else {
-                        // Fallback to workstationType-based assignment
-                        String workstationType = item.getWorkstationType() != null ? 
-                                item.getWorkstationType() : "MANUFACTURING";
-                        workstationId = assignWorkstation(workstationType, sequence);
-                        log.warn("Module {} has no productionWorkstationId, using workstationType: {} -> {}",
-                                item.getItemName(), workstationType, workstationId);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to fetch module data for {}: {}", item.getItemId(), e.getMessage());
+                if (productionWorkstationId != null) {
+                    workstationId = "WS-" + productionWorkstationId;
+                    log.debug("Module {} assigned to {}", item.getItemName(), workstationId);
+                } else {
                     // Fallback to workstationType-based assignment
                     String workstationType = item.getWorkstationType() != null ? 
                             item.getWorkstationType() : "MANUFACTURING";
                     workstationId = assignWorkstation(workstationType, sequence);
+                    log.warn("Module {} has no productionWorkstationId, using workstationType: {} -> {}",
+                            item.getItemName(), workstationType, workstationId);
                 }
 
                 SimalScheduledOrderResponse.ScheduledTask task = 
@@ -349,31 +336,35 @@ public class SimalController {
     }
 
     /**
-     * Helper method to get workstation name from masterdata-service.
+     * Helper method to get workstation name from the local masterdata cache.
      */
     private String getWorkstationName(String workstationId) {
+        // Parse workstation ID (e.g., "WS-1" -> 1)
+        return Optional.ofNullable(workstationId)
+                .flatMap(id -> parseId(id.replace("WS-", "")))
+                .flatMap(masterdataCache::getWorkstation)
+                .map(WorkstationDTO::getName)
+                // Fallback to generic name if lookup fails
+                .orElse("Workstation " + workstationId);
+    }
+
+    /**
+     * Parse a numeric masterdata ID, empty if missing or non-numeric.
+     */
+    private Optional<Long> parseId(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
         try {
-            // Parse workstation ID (e.g., "WS-1" -> 1)
-            Long id = Long.parseLong(workstationId.replace("WS-", ""));
-            
-            // Fetch workstation from masterdata-service
-            String url = masterdataApiBaseUrl + "/masterdata/workstations/" + id;
-            Map<String, Object> workstation = restTemplate.getForObject(url, Map.class);
-            
-            if (workstation != null && workstation.containsKey("name")) {
-                return (String) workstation.get("name");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch workstation name for {}: {}", workstationId, e.getMessage());
+            return Optional.of(Long.parseLong(id.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
         }
-        
-        // Fallback to generic name if fetch fails
-        return "Workstation " + workstationId;
     }
 
     /**
-     * Helper method to get item name from masterdata-service.
-     * Fetches the actual part/module name based on itemId and itemType.
+     * Helper method to get item name from the local masterdata cache.
+     * Resolves the actual part/module/product name based on itemId and itemType.
      *
      * @param itemId The ID of the item
      * @param itemType The type of item ("MODULE", "PART", or "PRODUCT")
@@ -384,28 +375,15 @@ public class SimalController {
             return "Unknown Item";
         }
 
-        try {
-            String endpoint = switch (itemType.toUpperCase()) {
-                case "MODULE" -> "/masterdata/modules/" + itemId;
-                case "PART" -> "/masterdata/parts/" + itemId;
-                case "PRODUCT" -> "/masterdata/products/" + itemId;
-                default -> null;
-            };
-
-            if (endpoint != null) {
-                String url = masterdataApiBaseUrl + endpoint;
-                Map<String, Object> item = restTemplate.getForObject(url, Map.class);
-
-                if (item != null && item.containsKey("name")) {
-                    return (String) item.get("name");
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch item name for {} (type: {}): {}", itemId, itemType, e.getMessage());
-        }
+        Optional<String> name = switch (itemType.toUpperCase()) {
+            case "MODULE" -> masterdataCache.getModule(itemId).map(ModuleDTO::getName);
+            case "PART" -> masterdataCache.getPart(itemId).map(PartDTO::getName);
+            case "PRODUCT" -> masterdataCache.getProduct(itemId).map(ProductDTO::getName);
+            default -> Optional.empty();
+        };
 
-        // Fallback to generic name if fetch fails
-        return itemType + " #" + itemId;
+        // Fallback to generic name if lookup fails
+        return name.orElse(itemType + " #" + itemId);
     }
 
     /**
@@ -801,8 +779,12 @@ public class SimalController {
         ScheduledTask savedTask = scheduledTaskRepository.save(task);
         log.info("Task {} rescheduled successfully", taskId);
         
-        // Update parent order status if needed
-        ScheduledOrder order = task.getScheduledOrder();
+        // Update parent order status if needed (reloaded with its tasks, which are lazy)
+        ScheduledOrder order = scheduledOrderRepository.findWithTasksById(task.getScheduledOrder().getId())
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Schedule not found for task: " + taskId
+                ));
         updateOrderStatusFromTasks(order);
         scheduledOrderRepository.save(order);
         
@@ -861,6 +843,50 @@ public class SimalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Bulk update of scheduled task statuses.
+     * Called by order-processing-service's task status outbox dispatcher, which
+     * coalesces workstation order status changes and sends them in batches.
+     * Unknown task IDs are reported in the response instead of failing the batch.
+     *
+     * @param updates Status updates (one per task)
+     * @return Number of updated tasks and the task IDs that were not found
+     */
+    @Operation(summary = "Bulk update task status",
+               description = "Update the status of several scheduled tasks in one request")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Tasks updated"),
+        @ApiResponse(responseCode = "400", description = "Missing task ID or status")
+    })
+    @PatchMapping("/tasks/status")
+    public ResponseEntity<TaskStatusUpdateResponse> updateTaskStatuses(
+            @RequestBody List<TaskStatusUpdateRequest> updates) {
+
+        Map<String, String> statusByTask = new LinkedHashMap<>();
+        for (TaskStatusUpdateRequest update : updates) {
+            if (update.getTaskId() == null || update.getStatus() == null || update.getStatus().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task ID and status are required");
+            }
+            statusByTask.put(update.getTaskId(), update.getStatus());
+        }
+
+        List<ScheduledTask> tasks = scheduledTaskRepository.findByTaskIdIn(statusByTask.keySet());
+        tasks.forEach(task -> task.setStatus(statusByTask.get(task.getTaskId())));
+        scheduledTaskRepository.saveAll(tasks);
+
+        Set<String> found = tasks.stream().map(ScheduledTask::getTaskId).collect(Collectors.toSet());
+        List<String> notFound = statusByTask.keySet().stream()
+                .filter(taskId -> !found.contains(taskId))
+                .collect(Collectors.toList());
+
+        log.info("✓ Bulk updated {} task statuses ({} not found)", tasks.size(), notFound.size());
+
+        return ResponseEntity.ok(TaskStatusUpdateResponse.builder()
+                .updated(tasks.size())
+                .notFound(notFound)
+                .build());
+    }
+
     // ========================================================================
     // Helper Methods
     // ========================================================================
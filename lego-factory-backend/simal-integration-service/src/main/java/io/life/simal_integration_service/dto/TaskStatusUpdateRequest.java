@@ -0,0 +1,19 @@
+package io.life.simal_integration_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * TaskStatusUpdateRequest - One entry of a bulk task status update
+ * sent by order-processing-service's task status outbox dispatcher.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateRequest {
+    private String taskId;
+    private String status;
+}
@@ -0,0 +1,24 @@
+package io.life.simal_integration_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskStatusUpdateResponse - Result of a bulk task status update.
+ * Unknown task IDs are reported rather than failing the whole batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateResponse {
+    private int updated;
+
+    @Builder.Default
+    private List<String> notFound = new ArrayList<>();
+}
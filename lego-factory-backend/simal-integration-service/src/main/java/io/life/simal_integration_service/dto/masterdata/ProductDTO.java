@@ -0,0 +1,36 @@
+package io.life.simal_integration_service.dto.masterdata;
+
+import io.life.simal_integration_service.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ProductDTO - Typed representation of Product from masterdata-service.
+ * 
+ * Held by MasterdataCache so scheduling can resolve item names
+ * without Map<String, Object> responses or per-item HTTP calls.
+ * 
+ * API Contract: Cross-service contract with masterdata-service.
+ * Field names MUST match io.life.masterdata.dto.ProductDto exactly.
+ * 
+ * @see io.life.masterdata.dto.ProductDto (masterdata-service origin)
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "masterdata-service",
+    description = "Product master data from masterdata-service"
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDTO {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Double price;
+    private Integer estimatedTimeMinutes;
+}
@@ -0,0 +1,36 @@
+package io.life.simal_integration_service.dto.masterdata;
+
+import io.life.simal_integration_service.annotation.ApiContract;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WorkstationDTO - Typed representation of Workstation from masterdata-service.
+ * 
+ * Held by MasterdataCache so scheduling can resolve workstation names
+ * without Map<String, Object> responses or per-item HTTP calls.
+ * 
+ * API Contract: Cross-service contract with masterdata-service.
+ * Field names MUST match io.life.masterdata.dto.WorkstationDto exactly.
+ * 
+ * @see io.life.masterdata.dto.WorkstationDto (masterdata-service origin)
+ */
+@ApiContract(
+    version = "v1",
+    externalSource = "masterdata-service",
+    description = "Workstation master data from masterdata-service"
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkstationDTO {
+
+    private Long id;
+    private String name;
+    private String workstationType;
+    private String description;
+    private Boolean active;
+}
@@ -7,15 +7,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "scheduled_orders")
+@NamedEntityGraph(name = ScheduledOrder.WITH_TASKS, attributeNodes = @NamedAttributeNode("scheduledTasks"))
+@Table(name = "scheduled_orders",
+       indexes = {
+           @Index(name = "idx_scheduled_orders_status", columnList = "status"),
+           @Index(name = "idx_scheduled_orders_order_number", columnList = "order_number"),
+           @Index(name = "idx_scheduled_orders_created", columnList = "created_at")
+       })
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ScheduledOrder {
+
+    /** Entity graph that fetches the order together with its tasks */
+    public static final String WITH_TASKS = "ScheduledOrder.scheduledTasks";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scheduled_order_seq")
+    @SequenceGenerator(name = "scheduled_order_seq", sequenceName = "scheduled_order_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -26,7 +36,7 @@ public class ScheduledOrder {
     private LocalDateTime estimatedCompletionTime;
     private Integer totalDuration; // in minutes
     
-    @OneToMany(mappedBy = "scheduledOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "scheduledOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<ScheduledTask> scheduledTasks = new ArrayList<>();
     
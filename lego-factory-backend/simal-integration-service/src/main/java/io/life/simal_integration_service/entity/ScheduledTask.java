@@ -5,7 +5,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scheduled_tasks")
+@Table(name = "scheduled_tasks",
+       indexes = {
+           @Index(name = "idx_scheduled_tasks_order", columnList = "scheduled_order_id"),
+           @Index(name = "idx_scheduled_tasks_workstation", columnList = "workstation_id"),
+           @Index(name = "idx_scheduled_tasks_status", columnList = "status"),
+           @Index(name = "idx_scheduled_tasks_adjusted", columnList = "manually_adjusted")
+       })
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,7 +19,8 @@ import java.time.LocalDateTime;
 public class ScheduledTask {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scheduled_task_seq")
+    @SequenceGenerator(name = "scheduled_task_seq", sequenceName = "scheduled_task_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -1,16 +1,30 @@
 package io.life.simal_integration_service.repository;
 
 import io.life.simal_integration_service.entity.ScheduledOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Scheduled orders. Tasks are lazy; the finders whose results are returned with
+ * their tasks fetch them in the same query.
+ */
 @Repository
 public interface ScheduledOrderRepository extends JpaRepository<ScheduledOrder, Long> {
+    @EntityGraph(ScheduledOrder.WITH_TASKS)
+    Optional<ScheduledOrder> findWithTasksById(Long id);
+
+    @EntityGraph(ScheduledOrder.WITH_TASKS)
     Optional<ScheduledOrder> findByScheduleId(String scheduleId);
+
     List<ScheduledOrder> findByStatus(String status);
+
+    @EntityGraph(ScheduledOrder.WITH_TASKS)
     Optional<ScheduledOrder> findByOrderNumber(String orderNumber);
+
+    @EntityGraph(ScheduledOrder.WITH_TASKS)
     List<ScheduledOrder> findAllByOrderByCreatedAtDesc();
 }
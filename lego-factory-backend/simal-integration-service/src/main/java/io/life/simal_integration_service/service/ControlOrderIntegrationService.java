@@ -3,6 +3,7 @@ package io.life.simal_integration_service.service;
 import io.life.simal_integration_service.dto.SimalAssemblyControlOrderRequest;
 import io.life.simal_integration_service.dto.SimalProductionControlOrderRequest;
 import io.life.simal_integration_service.dto.SimalScheduledOrderResponse;
+import io.life.simal_integration_service.exception.SimalException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -45,10 +46,16 @@ public class ControlOrderIntegrationService {
     /**
      * Process a SimAL production schedule and create corresponding control orders.
      * Segregates tasks by workstation type and creates appropriate control orders.
+     * 
+     * All production control orders of the schedule are sent in one bulk request, and
+     * all assembly control orders in another. Each bulk request is persisted atomically
+     * by order-processing-service and is idempotent per schedule and workstation, so a
+     * failed dispatch can be retried without creating duplicates.
      *
      * @param schedule The SimAL scheduled order response
      * @param productionOrderId The production order ID in order-processing-service
      * @return Map of control order numbers created, keyed by workstation ID
+     * @throws SimalException if order-processing-service rejects or cannot be reached for a bulk request
      */
     public Map<String, String> createControlOrdersFromSchedule(
             SimalScheduledOrderResponse schedule,
@@ -56,7 +63,7 @@ public class ControlOrderIntegrationService {
 
         log.info("Creating control orders from SimAL schedule: {}", schedule.getScheduleId());
 
-        Map<String, String> createdControlOrders = new HashMap<>();
+        Map<String, String> createdControlOrders = new LinkedHashMap<>();
 
         if (schedule.getScheduledTasks() == null || schedule.getScheduledTasks().isEmpty()) {
             log.warn("Schedule has no tasks: {}", schedule.getScheduleId());
@@ -67,71 +74,50 @@ public class ControlOrderIntegrationService {
         Map<String, List<SimalScheduledOrderResponse.ScheduledTask>> tasksByWorkstation =
                 groupTasksByWorkstation(schedule.getScheduledTasks());
 
-        // Create control orders for each workstation
+        List<SimalProductionControlOrderRequest> productionRequests = new ArrayList<>();
+        List<SimalAssemblyControlOrderRequest> assemblyRequests = new ArrayList<>();
+
         for (Map.Entry<String, List<SimalScheduledOrderResponse.ScheduledTask>> entry :
                 tasksByWorkstation.entrySet()) {
 
             String workstationId = entry.getKey();
-            List<SimalScheduledOrderResponse.ScheduledTask> tasks = entry.getValue();
-
-            try {
-                String controlOrderType = determineControlOrderType(workstationId);
-
-                if ("PRODUCTION".equals(controlOrderType)) {
-                    String controlOrderNumber = createProductionControlOrder(
-                            productionOrderId,
-                            workstationId,
-                            schedule,
-                            tasks
-                    );
-                    createdControlOrders.put(workstationId, controlOrderNumber);
-                    log.info("Created ProductionControlOrder: {} for workstation: {}",
-                            controlOrderNumber, workstationId);
-
-                } else if ("ASSEMBLY".equals(controlOrderType)) {
-                    String controlOrderNumber = createAssemblyControlOrder(
-                            productionOrderId,
-                            workstationId,
-                            schedule,
-                            tasks
-                    );
-                    createdControlOrders.put(workstationId, controlOrderNumber);
-                    log.info("Created AssemblyControlOrder: {} for workstation: {}",
-                            controlOrderNumber, workstationId);
-                }
-
-            } catch (RestClientException e) {
-                log.error("Failed to create control order for workstation: {}", workstationId, e);
+            String controlOrderType = determineControlOrderType(workstationId);
+
+            if ("PRODUCTION".equals(controlOrderType)) {
+                productionRequests.add(buildProductionControlOrderRequest(
+                        productionOrderId, workstationId, schedule, entry.getValue()));
+            } else if ("ASSEMBLY".equals(controlOrderType)) {
+                assemblyRequests.add(buildAssemblyControlOrderRequest(
+                        productionOrderId, workstationId, schedule, entry.getValue()));
             }
         }
 
+        if (!productionRequests.isEmpty()) {
+            createdControlOrders.putAll(postBulk("/production-control-orders/bulk", productionRequests, schedule));
+        }
+        if (!assemblyRequests.isEmpty()) {
+            createdControlOrders.putAll(postBulk("/assembly-control-orders/bulk", assemblyRequests, schedule));
+        }
+
+        createdControlOrders.forEach((workstationId, controlOrderNumber) ->
+                log.info("Created control order: {} for workstation: {}", controlOrderNumber, workstationId));
+
         return createdControlOrders;
     }
 
     /**
-     * Create a ProductionControlOrder in the order-processing-service.
+     * Build a ProductionControlOrder request for one workstation.
      * Uses typed SimalProductionControlOrderRequest DTO for compile-time safety.
      */
-    private String createProductionControlOrder(
+    private SimalProductionControlOrderRequest buildProductionControlOrderRequest(
             Long productionOrderId,
             String workstationId,
             SimalScheduledOrderResponse schedule,
             List<SimalScheduledOrderResponse.ScheduledTask> tasks) {
 
         SimalScheduledOrderResponse.ScheduledTask firstTask = tasks.get(0);
-        
-        // Parse itemId safely
-        Long itemId = null;
-        if (firstTask.getItemId() != null) {
-            try {
-                itemId = Long.parseLong(firstTask.getItemId());
-            } catch (NumberFormatException e) {
-                log.warn("Could not parse itemId: {}", firstTask.getItemId());
-            }
-        }
 
-        // Build typed request DTO
-        SimalProductionControlOrderRequest request = SimalProductionControlOrderRequest.builder()
+        return SimalProductionControlOrderRequest.builder()
                 .sourceProductionOrderId(productionOrderId)
                 .assignedWorkstationId(parseWorkstationId(workstationId))
                 .simalScheduleId(schedule.getScheduleId())
@@ -140,55 +126,25 @@ public class ControlOrderIntegrationService {
                 .priority(determinePriority(schedule.getOrderNumber()))
                 .productionInstructions(buildProductionInstructions(tasks))
                 .qualityCheckpoints(buildQualityCheckpoints(tasks))
-                .itemId(itemId)
+                .itemId(parseItemId(firstTask.getItemId()))
                 .itemType("PART") // Manufacturing workstations produce PARTs
                 .quantity(firstTask.getQuantity())
                 .build();
-
-        String url = orderProcessingApiBaseUrl + "/production-control-orders";
-        log.debug("Posting ProductionControlOrder to: {}", url);
-
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<SimalProductionControlOrderRequest> entity = new HttpEntity<>(request, headers);
-            Map<String, Object> response = restTemplate.postForObject(url, entity, Map.class);
-
-            if (response != null && response.containsKey("controlOrderNumber")) {
-                return response.get("controlOrderNumber").toString();
-            }
-        } catch (Exception e) {
-            log.error("Error creating ProductionControlOrder", e);
-        }
-
-        return "PCO-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
     /**
-     * Create an AssemblyControlOrder in the order-processing-service.
+     * Build an AssemblyControlOrder request for one workstation.
      * Uses typed SimalAssemblyControlOrderRequest DTO for compile-time safety.
      */
-    private String createAssemblyControlOrder(
+    private SimalAssemblyControlOrderRequest buildAssemblyControlOrderRequest(
             Long productionOrderId,
             String workstationId,
             SimalScheduledOrderResponse schedule,
             List<SimalScheduledOrderResponse.ScheduledTask> tasks) {
 
         SimalScheduledOrderResponse.ScheduledTask firstTask = tasks.get(0);
-        
-        // Parse itemId safely
-        Long itemId = null;
-        if (firstTask.getItemId() != null) {
-            try {
-                itemId = Long.parseLong(firstTask.getItemId());
-            } catch (NumberFormatException e) {
-                log.warn("Could not parse itemId: {}", firstTask.getItemId());
-            }
-        }
 
-        // Build typed request DTO
-        SimalAssemblyControlOrderRequest request = SimalAssemblyControlOrderRequest.builder()
+        return SimalAssemblyControlOrderRequest.builder()
                 .sourceProductionOrderId(productionOrderId)
                 .assignedWorkstationId(parseWorkstationId(workstationId))
                 .simalScheduleId(schedule.getScheduleId())
@@ -197,29 +153,64 @@ public class ControlOrderIntegrationService {
                 .priority(determinePriority(schedule.getOrderNumber()))
                 .assemblyInstructions(buildAssemblyInstructions(tasks))
                 .qualityCheckpoints(buildQualityStandards(tasks))
-                .itemId(itemId)
+                .itemId(parseItemId(firstTask.getItemId()))
                 .itemType("MODULE") // Assembly workstations produce MODULEs
                 .quantity(firstTask.getQuantity())
                 .build();
+    }
 
-        String url = orderProcessingApiBaseUrl + "/assembly-control-orders";
-        log.debug("Posting AssemblyControlOrder to: {}", url);
+    /**
+     * Post all control orders of one type to a bulk endpoint of order-processing-service.
+     *
+     * @return Control order numbers keyed by workstation ID (e.g. "WS-1")
+     * @throws SimalException if the request fails or the response is incomplete
+     */
+    private Map<String, String> postBulk(String path, List<?> requests, SimalScheduledOrderResponse schedule) {
+        String url = orderProcessingApiBaseUrl + path;
+        log.debug("Posting {} control orders to: {}", requests.size(), url);
 
+        Map<?, ?>[] response;
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
-            HttpEntity<SimalAssemblyControlOrderRequest> entity = new HttpEntity<>(request, headers);
-            Map<String, Object> response = restTemplate.postForObject(url, entity, Map.class);
+            HttpEntity<List<?>> entity = new HttpEntity<>(requests, headers);
+            response = restTemplate.postForObject(url, entity, Map[].class);
+        } catch (RestClientException e) {
+            throw new SimalException(
+                    "Failed to create control orders for schedule " + schedule.getScheduleId() + ": " + e.getMessage(),
+                    e, "SIMAL_CONTROL_ORDER_DISPATCH_FAILED",
+                    Map.of("scheduleId", schedule.getScheduleId(), "endpoint", path));
+        }
 
-            if (response != null && response.containsKey("controlOrderNumber")) {
-                return response.get("controlOrderNumber").toString();
-            }
-        } catch (Exception e) {
-            log.error("Error creating AssemblyControlOrder", e);
+        if (response == null || response.length != requests.size()) {
+            throw new SimalException(
+                    "Unexpected response creating control orders for schedule " + schedule.getScheduleId(),
+                    "SIMAL_CONTROL_ORDER_DISPATCH_FAILED",
+                    Map.of("scheduleId", schedule.getScheduleId(), "endpoint", path,
+                           "expected", requests.size(), "received", response == null ? 0 : response.length));
         }
 
-        return "ACO-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        Map<String, String> created = new LinkedHashMap<>();
+        for (Map<?, ?> order : response) {
+            created.put("WS-" + order.get("assignedWorkstationId"), String.valueOf(order.get("controlOrderNumber")));
+        }
+        return created;
+    }
+
+    /**
+     * Parse itemId safely (null if missing or non-numeric).
+     */
+    private Long parseItemId(String itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(itemId);
+        } catch (NumberFormatException e) {
+            log.warn("Could not parse itemId: {}", itemId);
+            return null;
+        }
     }
 
     /**
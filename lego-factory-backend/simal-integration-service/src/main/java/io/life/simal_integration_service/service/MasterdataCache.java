@@ -0,0 +1,198 @@
+package io.life.simal_integration_service.service;
+
+import io.life.simal_integration_service.dto.masterdata.ModuleDTO;
+import io.life.simal_integration_service.dto.masterdata.PartDTO;
+import io.life.simal_integration_service.dto.masterdata.ProductDTO;
+import io.life.simal_integration_service.dto.masterdata.WorkstationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Local read-through cache of masterdata-service modules, parts, products and workstations.
+ *
+ * Scheduling needs a module's productionWorkstationId plus workstation and item names for
+ * every line item. Instead of two HTTP round trips per line item, all four collections are
+ * loaded in bulk shortly after startup and reloaded in the background, so lookups on the
+ * scheduling path are in-memory.
+ *
+ * Each entry expires after the configured TTL. A lookup that misses or finds an expired
+ * entry falls back to a single GET by ID; if that fails, an expired entry is still served
+ * (masterdata changes rarely, and a stale name beats a generic fallback). Each collection
+ * holds at most max-entries items.
+ */
+@Service
+@Slf4j
+public class MasterdataCache {
+
+    private final RestTemplate restTemplate;
+    private final String masterdataApiBaseUrl;
+    private final boolean bulkLoadEnabled;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final Section<ModuleDTO> modules;
+    private final Section<PartDTO> parts;
+    private final Section<ProductDTO> products;
+    private final Section<WorkstationDTO> workstations;
+
+    @Autowired
+    public MasterdataCache(
+            RestTemplate restTemplate,
+            @Value("${masterdata.api.base-url:http://masterdata-service:8013/api}") String masterdataApiBaseUrl,
+            @Value("${simal.masterdata-cache.bulk-load-enabled:true}") boolean bulkLoadEnabled,
+            @Value("${simal.masterdata-cache.ttl-ms:900000}") long ttlMs,
+            @Value("${simal.masterdata-cache.max-entries:10000}") int maxEntries) {
+        this(restTemplate, masterdataApiBaseUrl, bulkLoadEnabled, Duration.ofMillis(ttlMs), maxEntries,
+                Clock.systemUTC());
+    }
+
+    MasterdataCache(RestTemplate restTemplate, String masterdataApiBaseUrl, boolean bulkLoadEnabled,
+                    Duration ttl, int maxEntries, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.masterdataApiBaseUrl = masterdataApiBaseUrl;
+        this.bulkLoadEnabled = bulkLoadEnabled;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.modules = new Section<>("modules", ModuleDTO.class,
+                new ParameterizedTypeReference<List<ModuleDTO>>() {}, ModuleDTO::getId);
+        this.parts = new Section<>("parts", PartDTO.class,
+                new ParameterizedTypeReference<List<PartDTO>>() {}, PartDTO::getId);
+        this.products = new Section<>("products", ProductDTO.class,
+                new ParameterizedTypeReference<List<ProductDTO>>() {}, ProductDTO::getId);
+        this.workstations = new Section<>("workstations", WorkstationDTO.class,
+                new ParameterizedTypeReference<List<WorkstationDTO>>() {}, WorkstationDTO::getId);
+    }
+
+    public Optional<ModuleDTO> getModule(Long id) {
+        return modules.get(id);
+    }
+
+    public Optional<PartDTO> getPart(Long id) {
+        return parts.get(id);
+    }
+
+    public Optional<ProductDTO> getProduct(Long id) {
+        return products.get(id);
+    }
+
+    public Optional<WorkstationDTO> getWorkstation(Long id) {
+        return workstations.get(id);
+    }
+
+    /**
+     * Bulk-load all four collections. Runs on the scheduler thread right after startup
+     * and then every refresh interval, so startup never blocks on masterdata-service.
+     * A collection that fails to load keeps its current entries.
+     */
+    @Scheduled(initialDelayString = "${simal.masterdata-cache.initial-delay-ms:0}",
+               fixedDelayString = "${simal.masterdata-cache.refresh-interval-ms:300000}")
+    public void refreshAll() {
+        if (!bulkLoadEnabled) {
+            return;
+        }
+        modules.reload();
+        parts.reload();
+        products.reload();
+        workstations.reload();
+    }
+
+    private record Entry<T>(T value, Instant expiresAt) {
+    }
+
+    /**
+     * One cached masterdata collection, e.g. all modules keyed by ID.
+     */
+    private final class Section<T> {
+
+        private final String path;
+        private final Class<T> type;
+        private final ParameterizedTypeReference<List<T>> listType;
+        private final Function<T, Long> idOf;
+
+        // Replaced wholesale on bulk reload; individual misses are added in place
+        private volatile Map<Long, Entry<T>> entries = new ConcurrentHashMap<>();
+
+        private Section(String path, Class<T> type, ParameterizedTypeReference<List<T>> listType,
+                        Function<T, Long> idOf) {
+            this.path = path;
+            this.type = type;
+            this.listType = listType;
+            this.idOf = idOf;
+        }
+
+        Optional<T> get(Long id) {
+            if (id == null) {
+                return Optional.empty();
+            }
+            Entry<T> cached = entries.get(id);
+            if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+                return Optional.of(cached.value());
+            }
+
+            T loaded = fetchOne(id);
+            if (loaded != null) {
+                Map<Long, Entry<T>> current = entries;
+                if (current.containsKey(id) || current.size() < maxEntries) {
+                    current.put(id, new Entry<>(loaded, clock.instant().plus(ttl)));
+                }
+                return Optional.of(loaded);
+            }
+            return cached != null ? Optional.of(cached.value()) : Optional.empty();
+        }
+
+        void reload() {
+            List<T> all;
+            try {
+                all = restTemplate.exchange(masterdataApiBaseUrl + "/masterdata/" + path,
+                        HttpMethod.GET, null, listType).getBody();
+            } catch (RestClientException e) {
+                log.warn("Failed to bulk-load masterdata {}: {}", path, e.getMessage());
+                return;
+            }
+            if (all == null) {
+                return;
+            }
+            if (all.size() > maxEntries) {
+                log.warn("Masterdata {} has {} entries, caching only the first {}", path, all.size(), maxEntries);
+            }
+
+            Instant expiresAt = clock.instant().plus(ttl);
+            Map<Long, Entry<T>> loaded = new ConcurrentHashMap<>();
+            for (T item : all) {
+                Long id = idOf.apply(item);
+                if (id != null && loaded.size() < maxEntries) {
+                    loaded.put(id, new Entry<>(item, expiresAt));
+                }
+            }
+            entries = loaded;
+            log.debug("Loaded {} masterdata {}", loaded.size(), path);
+        }
+
+        private T fetchOne(Long id) {
+            try {
+                return restTemplate.getForObject(masterdataApiBaseUrl + "/masterdata/" + path + "/" + id, type);
+            } catch (RestClientException e) {
+                log.warn("Failed to fetch masterdata {} {}: {}", path, id, e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+-- Baseline schema, matching the JPA entity mappings.
+-- Applied by Flyway in the postgres profile; later changes go into new V<n>__ scripts.
+
+create table scheduled_orders (
+    total_duration integer,
+    created_at timestamp(6) not null,
+    estimated_completion_time timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    order_number varchar(255),
+    schedule_id varchar(255) not null unique,
+    status varchar(255),
+    primary key (id)
+);
+
+create table scheduled_tasks (
+    duration integer,
+    manually_adjusted boolean not null,
+    quantity integer,
+    sequence integer,
+    adjusted_at timestamp(6),
+    created_at timestamp(6) not null,
+    end_time timestamp(6),
+    id bigint generated by default as identity,
+    scheduled_order_id bigint not null,
+    start_time timestamp(6),
+    updated_at timestamp(6) not null,
+    adjustment_reason varchar(500),
+    adjusted_by varchar(255),
+    item_id varchar(255),
+    item_name varchar(255),
+    status varchar(255),
+    task_id varchar(255) not null unique,
+    workstation_id varchar(255),
+    workstation_name varchar(255),
+    primary key (id)
+);
+
+-- Indexes for the repository finders
+create index idx_scheduled_orders_status on scheduled_orders (status);
+create index idx_scheduled_orders_order_number on scheduled_orders (order_number);
+create index idx_scheduled_orders_created on scheduled_orders (created_at);
+create index idx_scheduled_tasks_order on scheduled_tasks (scheduled_order_id);
+create index idx_scheduled_tasks_workstation on scheduled_tasks (workstation_id);
+create index idx_scheduled_tasks_status on scheduled_tasks (status);
+create index idx_scheduled_tasks_adjusted on scheduled_tasks (manually_adjusted);
+
+alter table scheduled_tasks
+    add constraint fk_scheduled_tasks_scheduled_orders
+    foreign key (scheduled_order_id) references scheduled_orders;
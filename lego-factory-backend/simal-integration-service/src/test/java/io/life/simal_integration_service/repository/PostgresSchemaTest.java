@@ -0,0 +1,112 @@
+package io.life.simal_integration_service.repository;
+
+import io.life.simal_integration_service.entity.ScheduledOrder;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the postgres persistence profile.
+ *
+ * Runs the Flyway migrations on H2 in PostgreSQL mode with the profile's
+ * settings (ddl-auto=validate, dedicated schema), so a migration that does not
+ * match the entity mappings fails here rather than at deployment. Only the
+ * connection settings are swapped for H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:simal_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS simal",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("PostgreSQL Schema Tests")
+class PostgresSchemaTest {
+
+    private static final String SCHEMA = "simal";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduledOrderRepository scheduledOrderRepository;
+
+    @Test
+    @DisplayName("Should apply all migrations into the service schema")
+    void shouldApplyMigrations() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.getConfiguration().getSchemas()).containsExactly(SCHEMA);
+    }
+
+    @Test
+    @DisplayName("Should index the repository finders")
+    void shouldIndexRepositoryFinders() throws SQLException {
+        assertThat(indexNames("scheduled_orders"))
+                .contains("idx_scheduled_orders_status", "idx_scheduled_orders_order_number", "idx_scheduled_orders_created");
+        assertThat(indexNames("scheduled_tasks"))
+                .contains("idx_scheduled_tasks_order", "idx_scheduled_tasks_workstation",
+                        "idx_scheduled_tasks_status", "idx_scheduled_tasks_adjusted");
+    }
+
+    @Test
+    @DisplayName("Should look up tasks by workstation through the index")
+    void shouldUseWorkstationIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM scheduled_tasks WHERE workstation_id = 'WS-1'", String.class);
+
+        assertThat(plan).contains("idx_scheduled_tasks_workstation");
+    }
+
+    @Test
+    @DisplayName("Should read and write through the repositories")
+    void shouldRoundTripThroughRepository() {
+        scheduledOrderRepository.saveAndFlush(ScheduledOrder.builder()
+                .scheduleId("SCH-1")
+                .orderNumber("PO-0001")
+                .status("SCHEDULED")
+                .build());
+
+        assertThat(scheduledOrderRepository.findByStatus("SCHEDULED"))
+                .singleElement().extracting(ScheduledOrder::getScheduleId).isEqualTo("SCH-1");
+    }
+
+    private Set<String> indexNames(String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet indexes = connection.getMetaData().getIndexInfo(null, SCHEMA, table, false, false)) {
+            while (indexes.next()) {
+                names.add(indexes.getString("INDEX_NAME"));
+            }
+        }
+        return names;
+    }
+}
@@ -1,7 +1,10 @@
 package io.life.simal_integration_service.service;
 
+import io.life.simal_integration_service.dto.SimalAssemblyControlOrderRequest;
+import io.life.simal_integration_service.dto.SimalProductionControlOrderRequest;
 import io.life.simal_integration_service.dto.SimalScheduledOrderResponse;
 import io.life.simal_integration_service.dto.SimalScheduledOrderResponse.ScheduledTask;
+import io.life.simal_integration_service.exception.SimalException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +45,8 @@ class ControlOrderIntegrationServiceTest {
 
     private static final String ORDER_PROCESSING_API_URL = "http://localhost:8015/api";
     private static final Long PRODUCTION_ORDER_ID = 100L;
+    private static final String PRODUCTION_BULK_URL = ORDER_PROCESSING_API_URL + "/production-control-orders/bulk";
+    private static final String ASSEMBLY_BULK_URL = ORDER_PROCESSING_API_URL + "/assembly-control-orders/bulk";
 
     @BeforeEach
     void setUp() {
@@ -56,6 +61,16 @@ class ControlOrderIntegrationServiceTest {
 
     // ==================== Test Data Builders ====================
 
+    private static Map<String, Object> createdOrder(long workstationId, String controlOrderNumber) {
+        return Map.of("assignedWorkstationId", workstationId, "controlOrderNumber", controlOrderNumber);
+    }
+
+    @SafeVarargs
+    private void stubBulk(String url, Map<String, Object>... createdOrders) {
+        when(restTemplate.postForObject(eq(url), any(HttpEntity.class), eq(Map[].class)))
+                .thenReturn(createdOrders);
+    }
+
     private SimalScheduledOrderResponse createSchedule(String scheduleId, List<ScheduledTask> tasks) {
         return SimalScheduledOrderResponse.builder()
                 .scheduleId(scheduleId)
@@ -117,25 +132,13 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Injection Part A", 5);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-001", List.of(task));
             
-            // Mock successful order creation
-            Map<String, Object> response = Map.of("controlOrderNumber", "PCO-12345678");
-            when(restTemplate.postForObject(
-                    eq(ORDER_PROCESSING_API_URL + "/production-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-0001"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            assertThat(result).containsKey("WS-1");
-            assertThat(result.get("WS-1")).isEqualTo("PCO-12345678");
-            
-            verify(restTemplate).postForObject(
-                    eq(ORDER_PROCESSING_API_URL + "/production-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            );
+            assertThat(result).containsEntry("WS-1", "PCO-0001");
+            verify(restTemplate).postForObject(eq(PRODUCTION_BULK_URL), any(HttpEntity.class), eq(Map[].class));
         }
 
         @Test
@@ -144,18 +147,12 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-2", "WS-2", "102", "Pre-production Part", 3);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-002", List.of(task));
             
-            Map<String, Object> response = Map.of("controlOrderNumber", "PCO-ABCD1234");
-            when(restTemplate.postForObject(
-                    contains("/production-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(2L, "PCO-0002"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            assertThat(result).containsKey("WS-2");
-            assertThat(result.get("WS-2")).isEqualTo("PCO-ABCD1234");
+            assertThat(result).containsEntry("WS-2", "PCO-0002");
         }
 
         @Test
@@ -164,12 +161,7 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-3", "WS-3", "103", "Finishing Part", 10);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-003", List.of(task));
             
-            Map<String, Object> response = Map.of("controlOrderNumber", "PCO-FINISH01");
-            when(restTemplate.postForObject(
-                    contains("/production-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(3L, "PCO-0003"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
@@ -183,24 +175,13 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-4", "WS-4", "201", "Gear Module", 2);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-004", List.of(task));
             
-            Map<String, Object> response = Map.of("controlOrderNumber", "ACO-GEAR0001");
-            when(restTemplate.postForObject(
-                    eq(ORDER_PROCESSING_API_URL + "/assembly-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(4L, "ACO-0001"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            assertThat(result).containsKey("WS-4");
-            assertThat(result.get("WS-4")).isEqualTo("ACO-GEAR0001");
-            
-            verify(restTemplate).postForObject(
-                    eq(ORDER_PROCESSING_API_URL + "/assembly-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            );
+            assertThat(result).containsEntry("WS-4", "ACO-0001");
+            verify(restTemplate).postForObject(eq(ASSEMBLY_BULK_URL), any(HttpEntity.class), eq(Map[].class));
         }
 
         @Test
@@ -209,18 +190,12 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-5", "WS-5", "202", "Motor Module", 4);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-005", List.of(task));
             
-            Map<String, Object> response = Map.of("controlOrderNumber", "ACO-MOTOR001");
-            when(restTemplate.postForObject(
-                    contains("/assembly-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(5L, "ACO-0005"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            assertThat(result).containsKey("WS-5");
-            assertThat(result.get("WS-5")).isEqualTo("ACO-MOTOR001");
+            assertThat(result).containsEntry("WS-5", "ACO-0005");
         }
 
         @Test
@@ -229,12 +204,7 @@ class ControlOrderIntegrationServiceTest {
             ScheduledTask task = createTask("TASK-6", "WS-6", "203", "Final Assembly", 1);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-006", List.of(task));
             
-            Map<String, Object> response = Map.of("controlOrderNumber", "ACO-FINAL001");
-            when(restTemplate.postForObject(
-                    contains("/assembly-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(response);
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(6L, "ACO-0006"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
@@ -243,71 +213,75 @@ class ControlOrderIntegrationServiceTest {
         }
 
         @Test
-        @DisplayName("Should group tasks by workstation and create multiple control orders")
-        void shouldGroupTasksByWorkstationAndCreateMultipleControlOrders() {
+        @DisplayName("Should send one bulk request per control order type")
+        void shouldSendOneBulkRequestPerControlOrderType() {
             List<ScheduledTask> tasks = List.of(
                     createTask("TASK-1", "WS-1", "101", "Part A", 5),
                     createTask("TASK-2", "WS-1", "102", "Part B", 3),
-                    createTask("TASK-3", "WS-4", "201", "Module A", 2),
-                    createTask("TASK-4", "WS-5", "202", "Module B", 2)
+                    createTask("TASK-3", "WS-2", "103", "Part C", 3),
+                    createTask("TASK-4", "WS-4", "201", "Module A", 2),
+                    createTask("TASK-5", "WS-5", "202", "Module B", 2)
             );
             SimalScheduledOrderResponse schedule = createSchedule("SCH-MULTI", tasks);
             
-            // Mock responses for production and assembly control orders
-            when(restTemplate.postForObject(
-                    contains("/production-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(Map.of("controlOrderNumber", "PCO-WS1"));
-            
-            when(restTemplate.postForObject(
-                    contains("/assembly-control-orders"),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            )).thenReturn(
-                    Map.of("controlOrderNumber", "ACO-WS4"),
-                    Map.of("controlOrderNumber", "ACO-WS5")
-            );
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-0001"), createdOrder(2L, "PCO-0002"));
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(4L, "ACO-0001"), createdOrder(5L, "ACO-0002"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            // Should have 3 control orders: 1 for WS-1 (grouped), 1 for WS-4, 1 for WS-5
-            assertThat(result).hasSize(3);
-            assertThat(result).containsKeys("WS-1", "WS-4", "WS-5");
+            // WS-1 tasks are grouped into a single control order
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    "WS-1", "PCO-0001", "WS-2", "PCO-0002",
+                    "WS-4", "ACO-0001", "WS-5", "ACO-0002"));
+            verify(restTemplate, times(1)).postForObject(eq(PRODUCTION_BULK_URL), any(HttpEntity.class), eq(Map[].class));
+            verify(restTemplate, times(1)).postForObject(eq(ASSEMBLY_BULK_URL), any(HttpEntity.class), eq(Map[].class));
         }
 
         @Test
-        @DisplayName("Should handle RestClientException gracefully and continue")
-        void shouldHandleRestClientExceptionGracefully() {
+        @DisplayName("Should propagate RestClientException as SimalException")
+        void shouldPropagateRestClientException() {
             ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Part A", 5);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-ERR", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
+            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map[].class)))
                     .thenThrow(new RestClientException("Connection refused"));
             
-            // Should not throw exception - gracefully handle the error
-            assertThatCode(() -> controlOrderIntegrationService
+            assertThatThrownBy(() -> controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID))
-                    .doesNotThrowAnyException();
+                    .isInstanceOf(SimalException.class)
+                    .hasCauseInstanceOf(RestClientException.class)
+                    .extracting("errorCode").isEqualTo("SIMAL_CONTROL_ORDER_DISPATCH_FAILED");
         }
 
         @Test
-        @DisplayName("Should generate fallback control order number when response missing number")
-        void shouldGenerateFallbackControlOrderNumber() {
-            ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Part A", 5);
-            SimalScheduledOrderResponse schedule = createSchedule("SCH-FALLBACK", List.of(task));
+        @DisplayName("Should fail when bulk response does not cover every request")
+        void shouldFailOnIncompleteBulkResponse() {
+            List<ScheduledTask> tasks = List.of(
+                    createTask("TASK-1", "WS-1", "101", "Part", 1),
+                    createTask("TASK-2", "WS-2", "102", "Part", 1)
+            );
+            SimalScheduledOrderResponse schedule = createSchedule("SCH-PARTIAL", tasks);
             
-            // Return response without controlOrderNumber
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("id", 123));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-0001"));
             
-            Map<String, String> result = controlOrderIntegrationService
-                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
+            assertThatThrownBy(() -> controlOrderIntegrationService
+                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID))
+                    .isInstanceOf(SimalException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail on null response from REST call")
+        void shouldFailOnNullResponse() {
+            ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Part", 1);
+            SimalScheduledOrderResponse schedule = createSchedule("SCH-NULLRESP", List.of(task));
             
-            // Should get fallback UUID-based number
-            assertThat(result).containsKey("WS-1");
-            assertThat(result.get("WS-1")).startsWith("PCO-");
+            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map[].class)))
+                    .thenReturn(null);
+            
+            assertThatThrownBy(() -> controlOrderIntegrationService
+                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID))
+                    .isInstanceOf(SimalException.class);
         }
 
         @Test
@@ -324,7 +298,7 @@ class ControlOrderIntegrationServiceTest {
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
             // Warehouse workstations should not create control orders
-            assertThat(result).doesNotContainKeys("WS-7", "WS-8", "WS-9");
+            assertThat(result).isEmpty();
             verify(restTemplate, never()).postForObject(anyString(), any(), any());
         }
     }
@@ -336,44 +310,49 @@ class ControlOrderIntegrationServiceTest {
     class RequestDTOBuildingTests {
 
         @Test
-        @DisplayName("Should send correct data in ProductionControlOrder request")
+        @DisplayName("Should send correct data in ProductionControlOrder bulk request")
         void shouldSendCorrectDataInProductionControlOrderRequest() {
             ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Test Part", 5);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-001", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "PCO-TEST"));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-TEST"));
             
             controlOrderIntegrationService.createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
             ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
-            verify(restTemplate).postForObject(anyString(), captor.capture(), eq(Map.class));
+            verify(restTemplate).postForObject(eq(PRODUCTION_BULK_URL), captor.capture(), eq(Map[].class));
             
             HttpEntity<?> entity = captor.getValue();
-            assertThat(entity).isNotNull();
             assertThat(entity.getHeaders().getContentType().toString()).contains("application/json");
+            assertThat((List<?>) entity.getBody()).singleElement()
+                    .isInstanceOfSatisfying(SimalProductionControlOrderRequest.class, request -> {
+                        assertThat(request.getAssignedWorkstationId()).isEqualTo(1L);
+                        assertThat(request.getSimalScheduleId()).isEqualTo("SCH-001");
+                        assertThat(request.getSourceProductionOrderId()).isEqualTo(PRODUCTION_ORDER_ID);
+                        assertThat(request.getItemId()).isEqualTo(101L);
+                        assertThat(request.getItemType()).isEqualTo("PART");
+                    });
         }
 
         @Test
-        @DisplayName("Should send correct data in AssemblyControlOrder request")
+        @DisplayName("Should send correct data in AssemblyControlOrder bulk request")
         void shouldSendCorrectDataInAssemblyControlOrderRequest() {
             ScheduledTask task = createTask("TASK-4", "WS-4", "201", "Test Module", 3);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-002", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "ACO-TEST"));
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(4L, "ACO-TEST"));
             
             controlOrderIntegrationService.createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
             ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
-            verify(restTemplate).postForObject(
-                    eq(ORDER_PROCESSING_API_URL + "/assembly-control-orders"),
-                    captor.capture(),
-                    eq(Map.class)
-            );
-            
-            HttpEntity<?> entity = captor.getValue();
-            assertThat(entity).isNotNull();
+            verify(restTemplate).postForObject(eq(ASSEMBLY_BULK_URL), captor.capture(), eq(Map[].class));
+            
+            assertThat((List<?>) captor.getValue().getBody()).singleElement()
+                    .isInstanceOfSatisfying(SimalAssemblyControlOrderRequest.class, request -> {
+                        assertThat(request.getAssignedWorkstationId()).isEqualTo(4L);
+                        assertThat(request.getItemType()).isEqualTo("MODULE");
+                        assertThat(request.getQuantity()).isEqualTo(3);
+                    });
         }
     }
 
@@ -385,52 +364,46 @@ class ControlOrderIntegrationServiceTest {
 
         @ParameterizedTest
         @CsvSource({
-            "WS-1, production-control-orders",
-            "WS-2, production-control-orders",
-            "WS-3, production-control-orders"
+            "WS-1, 1",
+            "WS-2, 2",
+            "WS-3, 3"
         })
         @DisplayName("Manufacturing workstations should create ProductionControlOrder")
         void manufacturingWorkstationsShouldCreateProductionControlOrder(
-                String workstationId, String expectedEndpoint) {
+                String workstationId, long numericId) {
             
             ScheduledTask task = createTask("TASK-1", workstationId, "101", "Part", 1);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-MFG", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "PCO-TEST"));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(numericId, "PCO-TEST"));
             
-            controlOrderIntegrationService.createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
+            Map<String, String> result = controlOrderIntegrationService
+                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            verify(restTemplate).postForObject(
-                    contains(expectedEndpoint),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            );
+            assertThat(result).containsEntry(workstationId, "PCO-TEST");
+            verify(restTemplate, never()).postForObject(eq(ASSEMBLY_BULK_URL), any(), any());
         }
 
         @ParameterizedTest
         @CsvSource({
-            "WS-4, assembly-control-orders",
-            "WS-5, assembly-control-orders",
-            "WS-6, assembly-control-orders"
+            "WS-4, 4",
+            "WS-5, 5",
+            "WS-6, 6"
         })
         @DisplayName("Assembly workstations should create AssemblyControlOrder")
         void assemblyWorkstationsShouldCreateAssemblyControlOrder(
-                String workstationId, String expectedEndpoint) {
+                String workstationId, long numericId) {
             
             ScheduledTask task = createTask("TASK-1", workstationId, "201", "Module", 1);
             SimalScheduledOrderResponse schedule = createSchedule("SCH-ASM", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "ACO-TEST"));
+            stubBulk(ASSEMBLY_BULK_URL, createdOrder(numericId, "ACO-TEST"));
             
-            controlOrderIntegrationService.createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
+            Map<String, String> result = controlOrderIntegrationService
+                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
             
-            verify(restTemplate).postForObject(
-                    contains(expectedEndpoint),
-                    any(HttpEntity.class),
-                    eq(Map.class)
-            );
+            assertThat(result).containsEntry(workstationId, "ACO-TEST");
+            verify(restTemplate, never()).postForObject(eq(PRODUCTION_BULK_URL), any(), any());
         }
     }
 
@@ -450,8 +423,7 @@ class ControlOrderIntegrationServiceTest {
             );
             SimalScheduledOrderResponse schedule = createSchedule("SCH-GROUP", tasks);
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "PCO-GROUPED"));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-GROUPED"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
@@ -460,8 +432,9 @@ class ControlOrderIntegrationServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result).containsKey("WS-1");
             
-            // Only 1 API call should be made
-            verify(restTemplate, times(1)).postForObject(anyString(), any(HttpEntity.class), eq(Map.class));
+            ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(1)).postForObject(anyString(), captor.capture(), eq(Map[].class));
+            assertThat((List<?>) captor.getValue().getBody()).hasSize(1);
         }
 
         @Test
@@ -474,12 +447,8 @@ class ControlOrderIntegrationServiceTest {
             );
             SimalScheduledOrderResponse schedule = createSchedule("SCH-MULTI", tasks);
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(
-                            Map.of("controlOrderNumber", "PCO-WS1"),
-                            Map.of("controlOrderNumber", "PCO-WS2"),
-                            Map.of("controlOrderNumber", "PCO-WS3")
-                    );
+            stubBulk(PRODUCTION_BULK_URL,
+                    createdOrder(1L, "PCO-WS1"), createdOrder(2L, "PCO-WS2"), createdOrder(3L, "PCO-WS3"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
@@ -487,7 +456,10 @@ class ControlOrderIntegrationServiceTest {
             assertThat(result).hasSize(3);
             assertThat(result).containsKeys("WS-1", "WS-2", "WS-3");
             
-            verify(restTemplate, times(3)).postForObject(anyString(), any(HttpEntity.class), eq(Map.class));
+            // All three control orders travel in one bulk request
+            ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(1)).postForObject(anyString(), captor.capture(), eq(Map[].class));
+            assertThat((List<?>) captor.getValue().getBody()).hasSize(3);
         }
     }
 
@@ -511,8 +483,7 @@ class ControlOrderIntegrationServiceTest {
                     .build();
             SimalScheduledOrderResponse schedule = createSchedule("SCH-NULL", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "PCO-NULL"));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-NULL"));
             
             Map<String, String> result = controlOrderIntegrationService
                     .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
@@ -534,8 +505,7 @@ class ControlOrderIntegrationServiceTest {
                     .build();
             SimalScheduledOrderResponse schedule = createSchedule("SCH-NAN", List.of(task));
             
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(Map.of("controlOrderNumber", "PCO-NAN"));
+            stubBulk(PRODUCTION_BULK_URL, createdOrder(1L, "PCO-NAN"));
             
             // Should not throw exception
             Map<String, String> result = controlOrderIntegrationService
@@ -543,22 +513,5 @@ class ControlOrderIntegrationServiceTest {
             
             assertThat(result).containsKey("WS-1");
         }
-
-        @Test
-        @DisplayName("Should handle null response from REST call")
-        void shouldHandleNullResponseFromRestCall() {
-            ScheduledTask task = createTask("TASK-1", "WS-1", "101", "Part", 1);
-            SimalScheduledOrderResponse schedule = createSchedule("SCH-NULLRESP", List.of(task));
-            
-            when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(Map.class)))
-                    .thenReturn(null);
-            
-            Map<String, String> result = controlOrderIntegrationService
-                    .createControlOrdersFromSchedule(schedule, PRODUCTION_ORDER_ID);
-            
-            // Should get fallback UUID-based number
-            assertThat(result).containsKey("WS-1");
-            assertThat(result.get("WS-1")).startsWith("PCO-");
-        }
     }
 }
@@ -0,0 +1,216 @@
+package io.life.simal_integration_service.service;
+
+import io.life.simal_integration_service.dto.masterdata.ModuleDTO;
+import io.life.simal_integration_service.dto.masterdata.PartDTO;
+import io.life.simal_integration_service.dto.masterdata.WorkstationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MasterdataCache.
+ *
+ * Tests bulk loading, TTL expiry, per-item fallback and capacity bounds.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MasterdataCache Tests")
+class MasterdataCacheTest {
+
+    private static final String BASE_URL = "http://masterdata:8013/api";
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private MutableClock clock;
+    private MasterdataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-02-03T09:00:00Z"));
+        cache = new MasterdataCache(restTemplate, BASE_URL, true, TTL, 100, clock);
+    }
+
+    private void stubBulkLoad(List<ModuleDTO> modules, List<WorkstationDTO> workstations) {
+        when(restTemplate.exchange(eq(BASE_URL + "/masterdata/modules"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(modules));
+        when(restTemplate.exchange(eq(BASE_URL + "/masterdata/parts"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(List.of()));
+        when(restTemplate.exchange(eq(BASE_URL + "/masterdata/products"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(List.of()));
+        when(restTemplate.exchange(eq(BASE_URL + "/masterdata/workstations"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(workstations));
+    }
+
+    private static ModuleDTO module(long id, String name, int workstationId) {
+        return ModuleDTO.builder().id(id).name(name).productionWorkstationId(workstationId).build();
+    }
+
+    @Nested
+    @DisplayName("refreshAll()")
+    class RefreshAllTests {
+
+        @Test
+        @DisplayName("Should serve bulk-loaded entries without per-item calls")
+        void shouldServeBulkLoadedEntriesWithoutPerItemCalls() {
+            stubBulkLoad(
+                    List.of(module(7L, "Gear Module", 4)),
+                    List.of(WorkstationDTO.builder().id(4L).name("Gear Assembly").build()));
+
+            cache.refreshAll();
+
+            assertThat(cache.getModule(7L)).get()
+                    .extracting(ModuleDTO::getProductionWorkstationId).isEqualTo(4);
+            assertThat(cache.getWorkstation(4L)).get()
+                    .extracting(WorkstationDTO::getName).isEqualTo("Gear Assembly");
+            verify(restTemplate, never()).getForObject(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep existing entries when a reload fails")
+        void shouldKeepExistingEntriesWhenReloadFails() {
+            stubBulkLoad(List.of(module(7L, "Gear Module", 4)), List.of());
+            cache.refreshAll();
+
+            when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(),
+                    any(ParameterizedTypeReference.class)))
+                    .thenThrow(new RestClientException("Connection refused"));
+            cache.refreshAll();
+
+            assertThat(cache.getModule(7L)).get().extracting(ModuleDTO::getName).isEqualTo("Gear Module");
+        }
+
+        @Test
+        @DisplayName("Should skip bulk loading when disabled")
+        void shouldSkipBulkLoadingWhenDisabled() {
+            MasterdataCache disabled = new MasterdataCache(restTemplate, BASE_URL, false, TTL, 100, clock);
+
+            disabled.refreshAll();
+
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        @DisplayName("Should cache at most max-entries items per collection")
+        void shouldCacheAtMostMaxEntries() {
+            MasterdataCache small = new MasterdataCache(restTemplate, BASE_URL, true, TTL, 1, clock);
+            stubBulkLoad(List.of(module(1L, "A", 1), module(2L, "B", 2)), List.of());
+            when(restTemplate.getForObject(BASE_URL + "/masterdata/modules/2", ModuleDTO.class))
+                    .thenReturn(module(2L, "B", 2));
+
+            small.refreshAll();
+            small.getModule(2L);
+            small.getModule(2L);
+
+            // Module 2 did not fit, so every lookup goes to masterdata-service
+            verify(restTemplate, times(2)).getForObject(BASE_URL + "/masterdata/modules/2", ModuleDTO.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should fetch and cache a missing entry")
+        void shouldFetchAndCacheMissingEntry() {
+            when(restTemplate.getForObject(BASE_URL + "/masterdata/modules/9", ModuleDTO.class))
+                    .thenReturn(module(9L, "Motor Module", 5));
+
+            assertThat(cache.getModule(9L)).isPresent();
+            assertThat(cache.getModule(9L)).isPresent();
+
+            verify(restTemplate, times(1)).getForObject(BASE_URL + "/masterdata/modules/9", ModuleDTO.class);
+        }
+
+        @Test
+        @DisplayName("Should refetch an entry after its TTL expires")
+        void shouldRefetchAfterTtlExpires() {
+            when(restTemplate.getForObject(BASE_URL + "/masterdata/modules/9", ModuleDTO.class))
+                    .thenReturn(module(9L, "Motor Module", 5), module(9L, "Motor Module v2", 5));
+
+            cache.getModule(9L);
+            clock.advance(TTL.plusSeconds(1));
+
+            assertThat(cache.getModule(9L)).get().extracting(ModuleDTO::getName).isEqualTo("Motor Module v2");
+        }
+
+        @Test
+        @DisplayName("Should serve an expired entry when masterdata-service is unavailable")
+        void shouldServeExpiredEntryWhenUnavailable() {
+            when(restTemplate.getForObject(BASE_URL + "/masterdata/modules/9", ModuleDTO.class))
+                    .thenReturn(module(9L, "Motor Module", 5))
+                    .thenThrow(new RestClientException("Connection refused"));
+
+            cache.getModule(9L);
+            clock.advance(TTL.plusSeconds(1));
+
+            assertThat(cache.getModule(9L)).get().extracting(ModuleDTO::getName).isEqualTo("Motor Module");
+        }
+
+        @Test
+        @DisplayName("Should return empty for unknown or null IDs")
+        void shouldReturnEmptyForUnknownOrNullIds() {
+            when(restTemplate.getForObject(BASE_URL + "/masterdata/parts/404", PartDTO.class))
+                    .thenThrow(new RestClientException("404 Not Found"));
+
+            assertThat(cache.getPart(404L)).isEmpty();
+            assertThat(cache.getProduct(null)).isEmpty();
+        }
+    }
+
+    /**
+     * Clock whose time can be moved forward to exercise TTL expiry.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.life.user_service.security;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.life.user_service.entity.UserRole;
+import io.life.user_service.security.JwtTokenProvider.TokenClaims;
+
+/**
+ * Principal of a request authenticated from token claims alone.
+ *
+ * Authorities are ROLE_&lt;role&gt; (as CustomUserDetailsService grants) and, for users bound
+ * to a workstation, WORKSTATION_&lt;id&gt;.
+ */
+public record AuthenticatedUser(String username, Long userId, UserRole role, Long workstationId) implements Principal {
+
+    public static AuthenticatedUser from(TokenClaims claims) {
+        return new AuthenticatedUser(claims.username(), claims.userId(), claims.role(), claims.workstationId());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        if (role != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        }
+        if (workstationId != null) {
+            authorities.add(new SimpleGrantedAuthority("WORKSTATION_" + workstationId));
+        }
+        return authorities;
+    }
+}
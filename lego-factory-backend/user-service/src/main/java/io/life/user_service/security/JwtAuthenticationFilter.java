@@ -13,11 +13,19 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.life.user_service.security.JwtTokenProvider.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Authenticates requests with a Bearer token.
+ *
+ * The token is parsed once. In CLAIMS mode (default) the principal and authorities are built
+ * from its claims, checked against {@link UserStatusCache} for deleted users and changed roles;
+ * in DATABASE mode the user is loaded with the UserDetailsService on every request.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -26,10 +34,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final JwtProperties properties;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService,
+                                   UserStatusCache userStatusCache, JwtProperties properties) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.userStatusCache = userStatusCache;
+        this.properties = properties;
     }
 
     @Override
@@ -43,14 +56,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         throws ServletException, IOException {
 
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (header != null && header.startsWith(BEARER_PREFIX)) {
+        if (header != null && header.startsWith(BEARER_PREFIX)
+            && SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = header.substring(BEARER_PREFIX.length());
             try {
-                if (tokenProvider.isTokenValid(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    String username = tokenProvider.extractUsername(token);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                TokenClaims claims = tokenProvider.parseToken(token);
+                UsernamePasswordAuthenticationToken authentication =
+                    properties.getAuthenticationMode() == JwtProperties.AuthenticationMode.DATABASE
+                        ? fromDatabase(claims)
+                        : fromClaims(claims);
+                if (authentication != null) {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
@@ -61,4 +76,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UsernamePasswordAuthenticationToken fromClaims(TokenClaims claims) {
+        if (!userStatusCache.isCurrent(claims)) {
+            log.debug("Rejecting token of {}: user was deleted or changed since it was issued", claims.username());
+            return null;
+        }
+        AuthenticatedUser user = AuthenticatedUser.from(claims);
+        return new UsernamePasswordAuthenticationToken(user, null, user.authorities());
+    }
+
+    private UsernamePasswordAuthenticationToken fromDatabase(TokenClaims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.username());
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -20,6 +20,28 @@ public class JwtProperties {
     @NotNull
     private Duration expiration = Duration.ofHours(1);
 
+    /**
+     * How requests with a valid token are authenticated.
+     */
+    @NotNull
+    private AuthenticationMode authenticationMode = AuthenticationMode.CLAIMS;
+
+    /**
+     * In CLAIMS mode, how long a user's database record is trusted before it is read again to
+     * catch deleted users and changed roles. Zero trusts the token alone until it expires.
+     */
+    @NotNull
+    private Duration userCacheTtl = Duration.ofSeconds(30);
+
+    private long userCacheSize = 1_000;
+
+    public enum AuthenticationMode {
+        /** Authorities come from the role and workstationId claims; no database read per request. */
+        CLAIMS,
+        /** Every request loads the user from the database. */
+        DATABASE
+    }
+
     public String getSecret() {
         return secret;
     }
@@ -35,4 +57,28 @@ public class JwtProperties {
     public void setExpiration(Duration expiration) {
         this.expiration = expiration;
     }
+
+    public AuthenticationMode getAuthenticationMode() {
+        return authenticationMode;
+    }
+
+    public void setAuthenticationMode(AuthenticationMode authenticationMode) {
+        this.authenticationMode = authenticationMode;
+    }
+
+    public Duration getUserCacheTtl() {
+        return userCacheTtl;
+    }
+
+    public void setUserCacheTtl(Duration userCacheTtl) {
+        this.userCacheTtl = userCacheTtl;
+    }
+
+    public long getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    public void setUserCacheSize(long userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -25,10 +27,14 @@ public class JwtTokenProvider {
 
     private final JwtProperties properties;
     private final SecretKey signingKey;
+    private final JwtParser parser;
 
     public JwtTokenProvider(JwtProperties properties) {
         this.properties = properties;
         this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
     }
 
     public JwtToken createToken(User user) {
@@ -48,6 +54,22 @@ public class JwtTokenProvider {
         return new JwtToken(tokenValue, expiresAt);
     }
 
+    /**
+     * Verify the token and read all claims used for authentication in a single parse.
+     *
+     * @throws JwtException if the token is malformed, expired or not signed with our key
+     * @throws IllegalArgumentException if the token is empty or has an unknown role
+     */
+    public TokenClaims parseToken(String token) {
+        Claims claims = parseClaims(token).getPayload();
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return new TokenClaims(
+            claims.getSubject(),
+            toLong(claims.get(USER_ID_CLAIM)),
+            role != null ? UserRole.valueOf(role) : null,
+            toLong(claims.get(WORKSTATION_ID_CLAIM)));
+    }
+
     public boolean isTokenValid(String token) {
         try {
             parseClaims(token);
@@ -67,20 +89,23 @@ public class JwtTokenProvider {
     }
 
     public Long extractWorkstationId(String token) {
-        Object workstationId = parseClaims(token).getBody().get(WORKSTATION_ID_CLAIM);
-        if (workstationId instanceof Number) {
-            return ((Number) workstationId).longValue();
-        }
-        return null;
+        return toLong(parseClaims(token).getBody().get(WORKSTATION_ID_CLAIM));
     }
 
     private Jws<Claims> parseClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(signingKey)
-            .build()
-            .parseClaimsJws(token);
+        return parser.parseSignedClaims(token);
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
     }
 
     public record JwtToken(String token, Instant expiresAt) {
     }
+
+    /**
+     * Identity carried by a verified token.
+     */
+    public record TokenClaims(String username, Long userId, UserRole role, Long workstationId) {
+    }
 }
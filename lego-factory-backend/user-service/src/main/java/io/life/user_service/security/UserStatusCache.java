@@ -0,0 +1,55 @@
+package io.life.user_service.security;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.life.user_service.entity.UserRole;
+import io.life.user_service.repository.UserRepository;
+import io.life.user_service.security.JwtTokenProvider.TokenClaims;
+
+/**
+ * Revocation check for claims-based authentication: a token is only accepted while its user
+ * still exists with the role and workstation the token was issued for.
+ *
+ * User records are read at most once per security.jwt.user-cache-ttl per user, so deleting a
+ * user or changing their role takes effect within that time instead of at token expiry. A TTL of
+ * zero disables the check.
+ */
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<UserStatus>> cache;
+
+    public UserStatusCache(UserRepository userRepository, JwtProperties properties) {
+        this.userRepository = userRepository;
+        this.cache = properties.getUserCacheTtl().isZero()
+            ? null
+            : Caffeine.newBuilder()
+                .maximumSize(properties.getUserCacheSize())
+                .expireAfterWrite(properties.getUserCacheTtl())
+                .build();
+    }
+
+    private record UserStatus(UserRole role, Long workstationId) {
+    }
+
+    /**
+     * @return true if the token's claims still match the user's record
+     */
+    public boolean isCurrent(TokenClaims claims) {
+        if (cache == null) {
+            return true;
+        }
+        Optional<UserStatus> status = cache.get(claims.username(), username -> userRepository.findByUsername(username)
+            .map(user -> new UserStatus(user.getRole(), user.getWorkstationId())));
+        return status.isPresent()
+            && status.get().role() == claims.role()
+            && Objects.equals(status.get().workstationId(), claims.workstationId());
+    }
+}
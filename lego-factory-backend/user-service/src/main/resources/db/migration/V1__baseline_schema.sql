@@ -0,0 +1,11 @@
+-- Baseline schema, matching the JPA entity mappings.
+-- Applied by Flyway in the postgres profile; later changes go into new V<n>__ scripts.
+
+create table users (
+    id bigint generated by default as identity,
+    workstation_id bigint,
+    role varchar(60) not null check (role in ('ADMIN','PLANT_WAREHOUSE','MODULES_SUPERMARKET','PRODUCTION_PLANNING','PRODUCTION_CONTROL','ASSEMBLY_CONTROL','PARTS_SUPPLY','MANUFACTURING','VIEWER')),
+    username varchar(120) not null unique,
+    password_hash varchar(255) not null,
+    primary key (id)
+);
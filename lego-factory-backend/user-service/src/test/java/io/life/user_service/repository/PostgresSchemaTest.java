@@ -0,0 +1,81 @@
+package io.life.user_service.repository;
+
+import io.life.user_service.entity.User;
+import io.life.user_service.entity.UserRole;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the postgres persistence profile.
+ *
+ * Runs the Flyway migrations on H2 in PostgreSQL mode with the profile's
+ * settings (ddl-auto=validate, dedicated schema), so a migration that does not
+ * match the entity mappings fails here rather than at deployment. Only the
+ * connection settings are swapped for H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lego_factory_auth_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS auth",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("PostgreSQL Schema Tests")
+class PostgresSchemaTest {
+
+    private static final String SCHEMA = "auth";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should apply all migrations into the service schema")
+    void shouldApplyMigrations() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.getConfiguration().getSchemas()).containsExactly(SCHEMA);
+    }
+
+    @Test
+    @DisplayName("Should read and write through the repositories")
+    void shouldRoundTripThroughRepository() {
+        userRepository.saveAndFlush(new User("planner", "hash", UserRole.PRODUCTION_PLANNING, null));
+
+        assertThat(userRepository.findByUsername("planner"))
+                .get().extracting(User::getRole).isEqualTo(UserRole.PRODUCTION_PLANNING);
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate usernames in the database")
+    void shouldRejectDuplicateUsernames() {
+        userRepository.saveAndFlush(new User("planner", "hash", UserRole.PRODUCTION_PLANNING, null));
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO users (username, password_hash, role) VALUES ('planner', 'hash', 'VIEWER')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
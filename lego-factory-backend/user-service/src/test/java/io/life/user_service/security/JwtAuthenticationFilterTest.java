@@ -0,0 +1,172 @@
+package io.life.user_service.security;
+
+import io.life.user_service.entity.User;
+import io.life.user_service.entity.UserRole;
+import io.life.user_service.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtAuthenticationFilter in CLAIMS and DATABASE mode.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String TEST_SECRET = "test-secret-key-that-is-at-least-32-bytes-long-for-hs256";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtProperties properties;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(TEST_SECRET);
+        tokenProvider = new JwtTokenProvider(properties);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user(String username, UserRole role, Long workstationId) {
+        User user = new User(username, "password-hash", role, workstationId);
+        ReflectionTestUtils.setField(user, "id", 5L);
+        return user;
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private JwtAuthenticationFilter filter() {
+        return new JwtAuthenticationFilter(tokenProvider, userDetailsService,
+            new UserStatusCache(userRepository, properties), properties);
+    }
+
+    @Nested
+    @DisplayName("CLAIMS mode")
+    class ClaimsModeTests {
+
+        @Test
+        @DisplayName("Should build principal and authorities from claims")
+        void shouldAuthenticateFromClaims() throws Exception {
+            User operator = user("gear_operator", UserRole.MANUFACTURING, 4L);
+            when(userRepository.findByUsername("gear_operator")).thenReturn(Optional.of(operator));
+
+            Authentication authentication = authenticate(filter(), tokenProvider.createToken(operator).token());
+
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getName()).isEqualTo("gear_operator");
+            assertThat(authentication.getPrincipal()).isInstanceOf(AuthenticatedUser.class);
+            assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_MANUFACTURING", "WORKSTATION_4");
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("Should read the user record once per cache TTL")
+        void shouldCacheUserRecord() throws Exception {
+            User operator = user("gear_operator", UserRole.MANUFACTURING, 4L);
+            when(userRepository.findByUsername("gear_operator")).thenReturn(Optional.of(operator));
+            JwtAuthenticationFilter filter = filter();
+            String token = tokenProvider.createToken(operator).token();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(authenticate(filter, token)).isNotNull();
+            }
+
+            verify(userRepository, times(1)).findByUsername("gear_operator");
+        }
+
+        @Test
+        @DisplayName("Should reject tokens of deleted users")
+        void shouldRejectDeletedUser() throws Exception {
+            User operator = user("gear_operator", UserRole.MANUFACTURING, 4L);
+            when(userRepository.findByUsername("gear_operator")).thenReturn(Optional.empty());
+
+            assertThat(authenticate(filter(), tokenProvider.createToken(operator).token())).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens issued before a role change")
+        void shouldRejectChangedRole() throws Exception {
+            User before = user("gear_operator", UserRole.MANUFACTURING, 4L);
+            String token = tokenProvider.createToken(before).token();
+            when(userRepository.findByUsername("gear_operator"))
+                .thenReturn(Optional.of(user("gear_operator", UserRole.VIEWER, null)));
+
+            assertThat(authenticate(filter(), token)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should trust claims alone when the user cache TTL is zero")
+        void shouldSkipCheckWhenDisabled() throws Exception {
+            properties.setUserCacheTtl(Duration.ZERO);
+            User operator = user("gear_operator", UserRole.MANUFACTURING, 4L);
+
+            assertThat(authenticate(filter(), tokenProvider.createToken(operator).token())).isNotNull();
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should ignore invalid tokens")
+        void shouldIgnoreInvalidToken() throws Exception {
+            assertThat(authenticate(filter(), "invalid.token")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("DATABASE mode")
+    class DatabaseModeTests {
+
+        @Test
+        @DisplayName("Should load the user on every request")
+        void shouldLoadUser() throws Exception {
+            properties.setAuthenticationMode(JwtProperties.AuthenticationMode.DATABASE);
+            User admin = user("admin", UserRole.ADMIN, null);
+            when(userDetailsService.loadUserByUsername("admin")).thenReturn(
+                org.springframework.security.core.userdetails.User.withUsername("admin")
+                    .password("password-hash").roles("ADMIN").build());
+
+            Authentication authentication = authenticate(filter(), tokenProvider.createToken(admin).token());
+
+            assertThat(authentication.getName()).isEqualTo("admin");
+            assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+            verifyNoInteractions(userRepository);
+        }
+    }
+}
@@ -324,6 +324,34 @@ class JwtTokenProviderTest {
         }
     }
 
+    // ==================== parseToken Tests ====================
+
+    @Nested
+    @DisplayName("parseToken()")
+    class ParseTokenTests {
+
+        @Test
+        @DisplayName("Should read all identity claims in one parse")
+        void shouldReadAllClaims() {
+            User user = createTestUser("gear_operator", UserRole.MANUFACTURING, 4L);
+            JwtTokenProvider.JwtToken token = jwtTokenProvider.createToken(user);
+
+            JwtTokenProvider.TokenClaims claims = jwtTokenProvider.parseToken(token.token());
+
+            assertThat(claims.username()).isEqualTo("gear_operator");
+            assertThat(claims.userId()).isEqualTo(1L);
+            assertThat(claims.role()).isEqualTo(UserRole.MANUFACTURING);
+            assertThat(claims.workstationId()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid token")
+        void shouldThrowForInvalidToken() {
+            assertThatThrownBy(() -> jwtTokenProvider.parseToken("invalid.token"))
+                .isInstanceOf(Exception.class);
+        }
+    }
+
     // ==================== Token Round-Trip Tests ====================
     
     @Nested
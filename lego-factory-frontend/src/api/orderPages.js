@@ -0,0 +1,30 @@
+import api from './api';
+
+// Largest page the paged order endpoints return (OrderQuery.MAX_SIZE)
+export const ORDER_PAGE_SIZE = 200;
+
+/**
+ * getOrderPage - Fetch the newest orders of one order type from its paged endpoint
+ *
+ * The plain list endpoints (e.g. GET /production-orders) return every order ever
+ * created, so dashboards read GET {endpoint}/page instead: newest first, at most
+ * ORDER_PAGE_SIZE orders, filtered in the database.
+ *
+ * Resolves like api.get with response.data set to the page content, so callers can
+ * keep treating it as an array. The page envelope is available as response.page
+ * (page.hasNext is true when older orders were left out).
+ *
+ * @param {string} endpoint - Order resource, e.g. '/production-control-orders'
+ * @param {Object} params - Query filters: workstationId, status (string or array), priority, from, to
+ * @returns {Promise<Object>} Axios response with data = orders of the page
+ */
+export async function getOrderPage(endpoint, params = {}) {
+  const response = await api.get(`${endpoint}/page`, {
+    params: { size: ORDER_PAGE_SIZE, ...params },
+    // status=A&status=B, as Spring binds it to OrderQuery.status
+    paramsSerializer: { indexes: null },
+  });
+  return { ...response, page: response.data, data: response.data?.content || [] };
+}
+
+export default getOrderPage;
@@ -12,7 +12,7 @@
  */
 
 import { useState, useEffect, useCallback } from "react";
-import api from "../api/api";
+import { getOrderPage } from "../api/orderPages";
 import { 
   ACTIVITY_TYPES, 
   WORKSTATIONS,
@@ -99,10 +99,10 @@ function AdminActivityLog({ maxItems = 25, showStationBadge = true }) {
   const fetchLogs = useCallback(async () => {
     try {
       const [custRes, whRes, prodRes, supplyRes] = await Promise.allSettled([
-        api.get("/customer-orders"),
-        api.get("/warehouse-orders"),
-        api.get("/production-control-orders"),
-        api.get("/supply-orders/warehouse"),
+        getOrderPage("/customer-orders"),
+        getOrderPage("/warehouse-orders"),
+        getOrderPage("/production-control-orders"),
+        getOrderPage("/supply-orders"),
       ]);
 
       const extract = (res) => res.status === 'fulfilled' ? res.value.data || [] : [];
@@ -1,5 +1,6 @@
 import { useState, useEffect, useCallback } from 'react';
 import api from '../api/api';
+import { getOrderPage } from '../api/orderPages';
 import { getWorkstationConfig, calculateOrderStats } from '../config/workstationConfig';
 import { 
   ACTIVITY_TYPES, 
@@ -116,7 +117,7 @@ export function useWorkstationOrders(workstationId, options = {}) {
       if (isInitialLoad || showLoading) {
         setLoading(true);
       }
-      const response = await api.get(`${apiEndpoint}/workstation/${workstationId}`);
+      const response = await getOrderPage(apiEndpoint, { workstationId });
       const data = response.data;
       if (Array.isArray(data)) {
         setOrders(data);
@@ -141,7 +142,7 @@ export function useWorkstationOrders(workstationId, options = {}) {
   // Refresh orders without showing loading state (for background updates)
   const refreshOrders = useCallback(async () => {
     try {
-      const response = await api.get(`${apiEndpoint}/workstation/${workstationId}`);
+      const response = await getOrderPage(apiEndpoint, { workstationId });
       const data = response.data;
       if (Array.isArray(data)) {
         setOrders(data);
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import api from '../api/api';
+import { getOrderPage } from '../api/orderPages';
 import GanttChart from '../components/GanttChart';
 import { Button } from '../components';
 import { useAuth } from '../context/AuthContext';
@@ -49,7 +50,7 @@ function ManualSchedulerPage() {
   // Fetch production orders
   const fetchProductionOrders = async () => {
     try {
-      const response = await api.get('/production-orders');
+      const response = await getOrderPage('/production-orders');
       setProductionOrders(response.data || []);
     } catch (err) {
       console.error('Failed to fetch production orders:', err);
@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import api from '../api/api';
+import { getOrderPage } from '../api/orderPages';
 import { 
   StatCard, 
   Card, 
@@ -51,8 +51,8 @@ function ManufacturingOverviewPage() {
       setError(null);
 
       const [productionOrders, assemblyOrders] = await Promise.all([
-        api.get('/production-orders').catch(() => ({ data: [] })),
-        api.get('/assembly-control-orders').catch(() => ({ data: [] })),
+        getOrderPage('/production-orders').catch(() => ({ data: [] })),
+        getOrderPage('/assembly-control-orders').catch(() => ({ data: [] })),
       ]);
 
       const productionData = Array.isArray(productionOrders.data) ? productionOrders.data : [];
@@ -1,6 +1,7 @@
 import { useState, useEffect, useMemo } from "react";
 import { useAuth } from "../context/AuthContext";
 import api from "../api/api";
+import { getOrderPage } from "../api/orderPages";
 import "../styles/StandardPage.css";
 import "../styles/DashboardStandard.css";
 
@@ -58,7 +59,7 @@ function ProductionPlanningPage() {
 
     try {
       // Fetch production control orders from the API
-      const response = await api.get("/production-control-orders");
+      const response = await getOrderPage("/production-control-orders");
       setProductionOrders(Array.isArray(response.data) ? response.data : []);
     } catch (err) {
       setError(
@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
 import api from '../api/api';
+import { getOrderPage } from '../api/orderPages';
 import { 
   StatCard, 
   Card, 
@@ -51,8 +52,8 @@ function WarehouseOverviewPage() {
       setError(null);
 
       const [warehouseOrders, supplyOrders, inventory] = await Promise.all([
-        api.get('/warehouse-orders').catch(() => ({ data: [] })),
-        api.get('/supply-orders').catch(() => ({ data: [] })),
+        getOrderPage('/warehouse-orders').catch(() => ({ data: [] })),
+        getOrderPage('/supply-orders').catch(() => ({ data: [] })),
         api.get('/inventory').catch(() => ({ data: [] })),
       ]);
 
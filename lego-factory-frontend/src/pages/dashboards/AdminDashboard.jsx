@@ -7,6 +7,7 @@
 
 import { useState, useEffect, useCallback } from "react";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { CompactScheduleTimeline, Footer } from "../../components";
 import DashboardHeader from "../../components/dashboard/DashboardHeader";
 import AdminActivityLog from "../../components/AdminActivityLog";
@@ -68,20 +69,20 @@ function AdminDashboard() {
         api.get("/masterdata/workstations"),
         api.get("/users"),
         api.get("/masterdata/products"),
-        api.get("/customer-orders"),
-        api.get("/production-control-orders"),
-        api.get("/assembly-control-orders"),
-        api.get("/supply-orders/warehouse"),
+        getOrderPage("/customer-orders"),
+        getOrderPage("/production-control-orders"),
+        getOrderPage("/assembly-control-orders"),
+        getOrderPage("/supply-orders"),
         api.get("/stock/alerts/low"),
         api.get("/simal/scheduled-orders"),
-        api.get("/warehouse-orders"),
+        getOrderPage("/warehouse-orders"),
         // Workstation order endpoints
-        api.get("/injection-molding-orders"),
-        api.get("/part-preproduction-orders"),
-        api.get("/part-finishing-orders"),
-        api.get("/gear-assembly-orders"),
-        api.get("/motor-assembly-orders"),
-        api.get("/final-assembly-orders"),
+        getOrderPage("/injection-molding-orders"),
+        getOrderPage("/part-preproduction-orders"),
+        getOrderPage("/part-finishing-orders"),
+        getOrderPage("/gear-assembly-orders"),
+        getOrderPage("/motor-assembly-orders"),
+        getOrderPage("/final-assembly-orders"),
         // All stock
         api.get("/stock"),
       ]);
@@ -1,6 +1,7 @@
 import { useState, useEffect, useCallback } from "react";
 import { useAuth } from "../../context/AuthContext";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   OrdersGrid,
@@ -91,7 +92,7 @@ function AssemblyControlDashboard() {
 
     try {
       // Assembly Control manages ALL assembly orders (not workstation-specific)
-      const response = await api.get('/assembly-control-orders');
+      const response = await getOrderPage('/assembly-control-orders');
       const ordersList = Array.isArray(response.data) ? response.data : [];
       
       // Enrich orders with supply order status for button logic
@@ -149,7 +150,7 @@ function AssemblyControlDashboard() {
     }
 
     try {
-      const response = await api.get(`/supply-orders/workstation/${workstationId}`);
+      const response = await getOrderPage('/supply-orders', { workstationId });
       setSupplyOrders(Array.isArray(response.data) ? response.data : []);
     } catch (err) {
       console.error("Failed to load supply orders:", err);
@@ -11,6 +11,7 @@
 import { useState, useEffect, useCallback } from 'react';
 import { useAuth } from "../../context/AuthContext";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   WarehouseDashboard,
@@ -89,7 +90,7 @@ function ModulesSupermarketDashboard() {
   const fetchWarehouseOrders = useCallback(async () => {
     try {
       const workstationId = session?.user?.workstationId || WORKSTATION_ID;
-      const response = await api.get(`/warehouse-orders/workstation/${workstationId}`);
+      const response = await getOrderPage('/warehouse-orders', { workstationId });
       const data = response.data;
       if (Array.isArray(data)) {
         setWarehouseOrders(data);
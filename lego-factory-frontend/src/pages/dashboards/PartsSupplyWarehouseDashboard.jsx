@@ -11,6 +11,7 @@
 import { useState, useEffect, useCallback } from 'react';
 import { useAuth } from "../../context/AuthContext";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   WarehouseDashboard,
@@ -88,7 +89,7 @@ function PartsSupplyWarehouseDashboard() {
   const fetchSupplyOrders = useCallback(async () => {
     setLoading(true);
     try {
-      const response = await api.get("/supply-orders/warehouse");
+      const response = await getOrderPage("/supply-orders");
       const ordersList = Array.isArray(response.data) ? response.data : [];
       setSupplyOrders(ordersList);
       setError(null);
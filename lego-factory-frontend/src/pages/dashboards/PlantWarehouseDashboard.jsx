@@ -12,6 +12,7 @@ import { useState, useEffect, useCallback } from 'react';
 import { useAuth } from "../../context/AuthContext";
 import { useDashboardRefresh } from "../../context/DashboardRefreshContext";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   WarehouseDashboard,
@@ -101,7 +102,7 @@ function PlantWarehouseDashboard() {
   const fetchOrders = useCallback(async () => {
     const workstationId = session?.user?.workstationId || WORKSTATION_ID;
     try {
-      const response = await api.get(`/customer-orders/workstation/${workstationId}`);
+      const response = await getOrderPage('/customer-orders', { workstationId });
       const ordersList = Array.isArray(response.data) ? response.data : [];
       
       // Dynamically check current trigger scenario for CONFIRMED orders
@@ -1,6 +1,7 @@
 import { useState, useEffect, useCallback } from "react";
 import { useAuth } from "../../context/AuthContext";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   OrdersGrid,
@@ -90,7 +91,7 @@ function ProductionControlDashboard() {
     setError(null);
 
     try {
-      const response = await api.get('/production-control-orders');
+      const response = await getOrderPage('/production-control-orders');
       const ordersList = Array.isArray(response.data) ? response.data : [];
       
       // Enrich orders with supply order status for button logic
@@ -148,7 +149,7 @@ function ProductionControlDashboard() {
     }
 
     try {
-      const response = await api.get(`/supply-orders/workstation/${workstationId}`);
+      const response = await getOrderPage('/supply-orders', { workstationId });
       setSupplyOrders(Array.isArray(response.data) ? response.data : []);;
     } catch (err) {
       console.error("Failed to load supply orders:", err);
@@ -1,5 +1,6 @@
 import { useState, useEffect, useCallback } from "react";
 import api from "../../api/api";
+import { getOrderPage } from "../../api/orderPages";
 import { logger } from "../../utils/logger";
 import { 
   CompactScheduleTimeline, 
@@ -128,7 +129,7 @@ function ProductionPlanningDashboard() {
     setLoading(true);
     setError(null);
     try {
-      const response = await api.get("/production-orders");
+      const response = await getOrderPage("/production-orders");
       const orders = Array.isArray(response.data) ? response.data : [];
       setProductionOrders(orders);
     } catch (err) {